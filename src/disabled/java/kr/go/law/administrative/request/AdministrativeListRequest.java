@@ -30,7 +30,7 @@ import lombok.Getter;
  * }
  * </pre>
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class AdministrativeListRequest implements PageableRequest {
 
@@ -134,6 +134,11 @@ public class AdministrativeListRequest implements PageableRequest {
     return TARGET;
   }
 
+  @Override
+  public AdministrativeListRequest withPage(int page) {
+    return toBuilder().page(page).build();
+  }
+
   @Override
   public Map<String, String> toQueryParameters() {
     Map<String, String> params = new LinkedHashMap<>();
@@ -31,7 +31,7 @@ import lombok.Getter;
  * </pre>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ConstitutionalListRequest implements PageableRequest {
 
   private static final String TARGET = "detc";
@@ -118,6 +118,11 @@ public class ConstitutionalListRequest implements PageableRequest {
     return TARGET;
   }
 
+  @Override
+  public ConstitutionalListRequest withPage(int page) {
+    return toBuilder().page(page).build();
+  }
+
   @Override
   public Map<String, String> toQueryParameters() {
     Map<String, String> params = new LinkedHashMap<>();
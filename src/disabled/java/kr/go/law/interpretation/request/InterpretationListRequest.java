@@ -31,7 +31,7 @@ import lombok.Getter;
  * </pre>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class InterpretationListRequest implements PageableRequest {
 
     private static final String TARGET = "expc";
@@ -117,6 +117,11 @@ public class InterpretationListRequest implements PageableRequest {
         return TARGET;
     }
 
+    @Override
+    public InterpretationListRequest withPage(int page) {
+        return toBuilder().page(page).build();
+    }
+
     @Override
     public Map<String, String> toQueryParameters() {
         Map<String, String> params = new LinkedHashMap<>();
@@ -27,7 +27,7 @@ import lombok.Getter;
  * </pre>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class TermListRequest implements PageableRequest {
 
     private static final String TARGET = "lstrm";
@@ -80,6 +80,11 @@ public class TermListRequest implements PageableRequest {
         return TARGET;
     }
 
+    @Override
+    public TermListRequest withPage(int page) {
+        return toBuilder().page(page).build();
+    }
+
     @Override
     public Map<String, String> toQueryParameters() {
         Map<String, String> params = new LinkedHashMap<>();
@@ -1,7 +1,8 @@
 package kr.go.law;
 
-import java.io.IOException;
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -9,7 +10,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 // import kr.go.law.administrative.api.AdministrativeApiClient;
 // import kr.go.law.committee.api.CommitteeApiClient;
+import kr.go.law.common.cache.ContentCache;
+import kr.go.law.common.cache.TieredContentCache;
+import kr.go.law.common.client.BulkExecutor;
+import kr.go.law.common.client.RawDataSink;
+import kr.go.law.common.http.AdaptiveConcurrencyLimiter;
+import kr.go.law.common.http.RateLimitInterceptor;
+import kr.go.law.common.http.RetryInterceptor;
+import kr.go.law.common.http.RetryPolicy;
 import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.ParseMode;
+import kr.go.law.config.RateLimitMode;
+import kr.go.law.config.RawDataRetention;
 // import kr.go.law.constitutional.api.ConstitutionalApiClient;
 // import kr.go.law.interpretation.api.InterpretationApiClient;
 import kr.go.law.precedent.api.PrecedentApiClient;
@@ -18,10 +30,8 @@ import kr.go.law.statute.api.StatuteApiClient;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ConnectionPool;
-import okhttp3.Interceptor;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
 /**
  * Law Open Data API 통합 클라이언트
@@ -43,7 +53,7 @@ import okhttp3.Response;
  * </pre>
  */
 @Slf4j
-public class LawOpenDataClient {
+public class LawOpenDataClient implements AutoCloseable {
 
     private final LawOpenDataProperties properties;
     private final ObjectMapper objectMapper;
@@ -55,6 +65,8 @@ public class LawOpenDataClient {
     @Getter
     private final PrecedentApiClient precedent;
 
+    private final BulkExecutor bulk;
+
     // @Getter
     // private final TermApiClient term;
 
@@ -79,11 +91,13 @@ public class LawOpenDataClient {
      */
     public LawOpenDataClient(LawOpenDataProperties properties, ObjectMapper objectMapper,
             OkHttpClient okHttpClient) {
+        properties = withSharedContentCache(properties);
         this.properties = properties;
         this.objectMapper = objectMapper;
         this.okHttpClient = okHttpClient;
         this.statute = new StatuteApiClient(properties, objectMapper, okHttpClient);
         this.precedent = new PrecedentApiClient(properties, objectMapper, okHttpClient);
+        this.bulk = new BulkExecutor(properties.getMaxConnection());
         // this.term = new TermApiClient(properties, objectMapper, okHttpClient);
         // this.constitutional = new ConstitutionalApiClient(properties, objectMapper, okHttpClient);
         // this.interpretation = new InterpretationApiClient(properties, objectMapper, okHttpClient);
@@ -109,6 +123,20 @@ public class LawOpenDataClient {
         this(LawOpenDataProperties.builder().oc(oc).build());
     }
 
+    /**
+     * 법령/판례 클라이언트가 하나의 본문 캐시를 공유하도록 캐시 설정으로 만든 캐시를 프로퍼티에 지정
+     *
+     * @param properties API 설정 프로퍼티
+     * @return 공유 캐시가 지정된 프로퍼티 (캐시를 사용하지 않으면 그대로 반환)
+     */
+    private static LawOpenDataProperties withSharedContentCache(LawOpenDataProperties properties) {
+        if (properties.getContentCache() != null) {
+            return properties;
+        }
+        ContentCache cache = TieredContentCache.from(properties);
+        return cache != null ? properties.toBuilder().contentCache(cache).build() : properties;
+    }
+
     /**
      * 기본 ObjectMapper 생성
      *
@@ -129,12 +157,30 @@ public class LawOpenDataClient {
      * @return OkHttpClient
      */
     private static OkHttpClient createOkHttpClient(LawOpenDataProperties properties) {
-        return new OkHttpClient.Builder()
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
                 .connectionPool(new ConnectionPool(
                         properties.getMaxConnection(),
                         properties.getKeepAliveDuration().toMillis(),
                         TimeUnit.MILLISECONDS))
-                .addInterceptor(new RetryInterceptor(properties.getMaxRetries(), properties.getRetryDelay()))
+                .addInterceptor(new RetryInterceptor(RetryPolicy.from(properties)));
+
+        // 재시도 요청도 토큰을 소비하도록 RetryInterceptor 뒤에 등록
+        RateLimitInterceptor rateLimitInterceptor = RateLimitInterceptor.from(properties);
+        if (rateLimitInterceptor.isEnabled()) {
+            builder.addInterceptor(rateLimitInterceptor);
+        }
+
+        // 동시 요청 한도는 적응형 제한이 호스트별로 관리하므로 Dispatcher 호스트별 제한을 최대값으로 맞춤
+        // (전체 제한은 한 호스트의 대기 요청이 다른 호스트 요청을 막지 않도록 여유 있게 둠)
+        if (properties.isAdaptiveConcurrency()) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), properties.getMaxConcurrency() * 4));
+            dispatcher.setMaxRequestsPerHost(properties.getMaxConcurrency());
+            builder.dispatcher(dispatcher)
+                    .addInterceptor(AdaptiveConcurrencyLimiter.from(properties));
+        }
+
+        return builder
                 .connectTimeout(properties.getConnectionTimeout().toMillis(), TimeUnit.MILLISECONDS)
                 .readTimeout(properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
                 .followRedirects(false)
@@ -158,6 +204,8 @@ public class LawOpenDataClient {
         private final LawOpenDataProperties.LawOpenDataPropertiesBuilder propertiesBuilder = LawOpenDataProperties
                 .builder();
 
+        private final Map<String, Double> hostRateLimits = new HashMap<>();
+
         private ObjectMapper objectMapper;
         private OkHttpClient okHttpClient;
 
@@ -238,6 +286,195 @@ public class LawOpenDataClient {
             return this;
         }
 
+        /**
+         * 호스트별 초당 요청 수 제한 설정
+         *
+         * @param rateLimitPerSecond 초당 요청 수 (0 이하이면 제한 없음)
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rateLimitPerSecond(double rateLimitPerSecond) {
+            propertiesBuilder.rateLimitPerSecond(rateLimitPerSecond);
+            return this;
+        }
+
+        /**
+         * 요청 속도 제한의 버스트 허용량 설정
+         *
+         * @param rateLimitBurst 버스트 허용량
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rateLimitBurst(int rateLimitBurst) {
+            propertiesBuilder.rateLimitBurst(rateLimitBurst);
+            return this;
+        }
+
+        /**
+         * 특정 호스트의 초당 요청 수 제한 설정
+         *
+         * @param host               호스트명 (예: "taxlaw.nts.go.kr")
+         * @param rateLimitPerSecond 초당 요청 수
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder hostRateLimit(String host, double rateLimitPerSecond) {
+            hostRateLimits.put(host, rateLimitPerSecond);
+            propertiesBuilder.hostRateLimits(Map.copyOf(hostRateLimits));
+            return this;
+        }
+
+        /**
+         * 요청 속도 제한 초과 시 동작 방식 설정
+         *
+         * @param rateLimitMode 동작 방식 (WAIT, FAIL_FAST)
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rateLimitMode(RateLimitMode rateLimitMode) {
+            propertiesBuilder.rateLimitMode(rateLimitMode);
+            return this;
+        }
+
+        /**
+         * WAIT 모드의 최대 대기 시간 설정
+         *
+         * @param rateLimitMaxWait 최대 대기 시간
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rateLimitMaxWait(java.time.Duration rateLimitMaxWait) {
+            propertiesBuilder.rateLimitMaxWait(rateLimitMaxWait);
+            return this;
+        }
+
+        /**
+         * 적응형 동시 요청 수 제한 사용 여부 설정
+         *
+         * @param adaptiveConcurrency 사용 여부
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder adaptiveConcurrency(boolean adaptiveConcurrency) {
+            propertiesBuilder.adaptiveConcurrency(adaptiveConcurrency);
+            return this;
+        }
+
+        /**
+         * 적응형 제한의 최소/최대 동시 요청 수 설정
+         *
+         * @param minConcurrency 최소 동시 요청 수
+         * @param maxConcurrency 최대 동시 요청 수
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder concurrencyRange(int minConcurrency, int maxConcurrency) {
+            propertiesBuilder.minConcurrency(minConcurrency);
+            propertiesBuilder.maxConcurrency(maxConcurrency);
+            return this;
+        }
+
+        /**
+         * 동일 URL 동시 조회 요청 병합 사용 여부 설정
+         *
+         * @param requestCoalescing 사용 여부
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder requestCoalescing(boolean requestCoalescing) {
+            propertiesBuilder.requestCoalescing(requestCoalescing);
+            return this;
+        }
+
+        /**
+         * 응답 파싱 방식 설정
+         *
+         * @param parseMode BUFFERED(기본) 또는 STREAMING
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder parseMode(ParseMode parseMode) {
+            propertiesBuilder.parseMode(parseMode);
+            return this;
+        }
+
+        /**
+         * STREAMING 모드에서 응답 원문을 복사해 둘 대상 설정
+         *
+         * @param rawDataSink 원문 복사 대상
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rawDataSink(RawDataSink rawDataSink) {
+            propertiesBuilder.rawDataSink(rawDataSink);
+            return this;
+        }
+
+        /**
+         * 성공 결과의 원문(rawData) 보관 방식 설정
+         *
+         * @param rawDataRetention FULL(기본), NONE, COMPRESSED, OFF_HEAP
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder rawDataRetention(RawDataRetention rawDataRetention) {
+            propertiesBuilder.rawDataRetention(rawDataRetention);
+            return this;
+        }
+
+        /**
+         * 본문 조회 결과 캐시 설정 (메모리 LRU + 디스크)
+         *
+         * @param maxBytes  메모리 계층 최대 추정 크기 (바이트, 0 이하이면 메모리 계층 없음)
+         * @param ttl       항목 유지 시간
+         * @param directory 디스크 계층 디렉터리 (null이면 디스크 계층 없음)
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder contentCache(long maxBytes, java.time.Duration ttl,
+                java.nio.file.Path directory) {
+            propertiesBuilder.cacheMaxBytes(maxBytes);
+            propertiesBuilder.cacheTtl(ttl);
+            propertiesBuilder.cacheDirectory(directory);
+            return this;
+        }
+
+        /**
+         * 커스텀 본문 조회 결과 캐시 설정
+         *
+         * @param contentCache 캐시 구현체
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder contentCache(ContentCache contentCache) {
+            propertiesBuilder.contentCache(contentCache);
+            return this;
+        }
+
+        /**
+         * 판례별 본문 조회 경로 메모 설정
+         *
+         * @param file 경로 메모 파일 (null이면 메모리에만 보관)
+         * @param ttl  경로 유지 시간
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder precedentRouteMemo(java.nio.file.Path file, java.time.Duration ttl) {
+            propertiesBuilder.precedentRouteFile(file);
+            propertiesBuilder.precedentRouteTtl(ttl);
+            return this;
+        }
+
+        /**
+         * 판례 본문 조회 시 호스트(law.go.kr, NTS, COMWEL)별 최대 동시 호출 수 설정
+         *
+         * @param maxConcurrentCallsPerHost 호스트별 최대 동시 호출 수 (0 이하이면 제한 없음)
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder maxConcurrentCallsPerHost(int maxConcurrentCallsPerHost) {
+            propertiesBuilder.maxConcurrentCallsPerHost(maxConcurrentCallsPerHost);
+            return this;
+        }
+
+        /**
+         * 판례 Fallback 경로(law.go.kr HTML, NTS, COMWEL)의 호스트별 서킷 브레이커 설정
+         *
+         * @param failureThreshold 회로를 여는 연속 실패 횟수 (0 이하이면 비활성)
+         * @param openDuration     회로가 열린 뒤 호출을 차단하는 시간
+         * @return Builder
+         */
+        public LawOpenDataClientBuilder circuitBreaker(int failureThreshold, java.time.Duration openDuration) {
+            propertiesBuilder.circuitBreakerFailureThreshold(failureThreshold);
+            propertiesBuilder.circuitBreakerOpenDuration(openDuration);
+            return this;
+        }
+
         /**
          * 커스텀 ObjectMapper 설정
          *
@@ -281,95 +518,68 @@ public class LawOpenDataClient {
     }
 
     /**
-     * 리트라이 로직용 OkHttpClient 인터셉터
+     * 대량 요청 실행기 반환
+     * <p>
+     * Java 21 이상에서는 요청마다 가상 스레드를, Java 17에서는 제한된 스레드 풀을 사용하며
+     * 동시 실행 수는 {@code maxConnection}으로 제한됩니다.
+     * </p>
+     *
+     * <pre>
+     * client.bulk().fetchAll(requests, client.getStatute()::getContent);
+     * </pre>
      *
-     * 재시도하는 경우:
-     * - 서버 에러 (5xx status codes)
-     * - 요청 제한 발생 (429 status code)
-     * - 네트워크 오류 (IOException)
+     * @return BulkExecutor
      */
-    @Slf4j
-    private static class RetryInterceptor implements Interceptor {
-
-        private final int maxRetries;
-        private final Duration retryDelay;
-
-        /**
-         * RetryInterceptor 생성자
-         *
-         * @param maxRetries 최대 재시도 횟수
-         * @param retryDelay 재시도 대기 시간
-         */
-        public RetryInterceptor(int maxRetries, Duration retryDelay) {
-            this.maxRetries = maxRetries;
-            this.retryDelay = retryDelay;
-        }
+    public BulkExecutor bulk() {
+        return bulk;
+    }
 
-        @Override
-        public Response intercept(Chain chain) throws IOException {
-            Request request = chain.request();
-
-            IOException lastException = null;
-            int attempt = 0;
-
-            while (attempt <= maxRetries) {
-                attempt++;
-
-                try {
-                    Response response = chain.proceed(request);
-                    int statusCode = response.code();
-
-                    if (response.isSuccessful() || (statusCode < 500 && statusCode != 429)) {
-                        return response;
-                    } else {
-                        log.warn("Request failed with status {}, attempt {}/{}: {}",
-                                statusCode, attempt, maxRetries + 1, request.url());
-
-                        response.close();
-
-                        if (attempt <= maxRetries) {
-                            Duration properDelay = (statusCode == 429)
-                                    ? retryDelay.multipliedBy(2)
-                                    : retryDelay;
-                            waitBeforeRetry(attempt, properDelay);
-                        } else {
-                            throw new IOException(String.format(
-                                    "Request failed after %d attempts with status %d: %s",
-                                    maxRetries + 1, statusCode, request.url()));
-                        }
-                    }
-
-                } catch (IOException e) {
-                    lastException = e;
-                    log.warn("Request failed with IOException, attempt {}/{}: {} - {}",
-                            attempt, maxRetries + 1, request.url(), e.getMessage());
-
-                    if (attempt <= maxRetries) {
-                        waitBeforeRetry(attempt, retryDelay);
-                    } else {
-                        throw new IOException(String.format(
-                                "Request failed after %d attempts: %s",
-                                maxRetries + 1, request.url()), e);
-                    }
-                }
-            }
-            throw lastException == null
-                    ? new IOException("Request failed after " + (maxRetries + 1) + " attempts")
-                    : lastException;
+    /**
+     * 판례 경로 메모의 남은 변경을 저장하고 이 클라이언트가 만든 실행기 종료
+     * <p>
+     * 외부에서 전달한 OkHttpClient는 종료하지 않습니다.
+     * </p>
+     *
+     * <pre>
+     * try (LawOpenDataClient client = LawOpenDataClient.builder().oc("YOUR_API_KEY").build()) {
+     *     client.getPrecedent().getContents(...);
+     * }
+     * </pre>
+     */
+    @Override
+    public void close() {
+        try {
+            precedent.close();
+        } finally {
+            bulk.close();
         }
+    }
 
-        private void waitBeforeRetry(int attempt, Duration delay) {
-            long waitMs = delay.toMillis() * attempt;
-
-            log.debug("Waiting {}ms before retry attempt {}", waitMs, attempt + 1);
+    /**
+     * 적응형 동시 요청 수 제한기 반환
+     * <p>
+     * {@link AdaptiveConcurrencyLimiter#getLimits()}로 호스트별 현재 한도를 메트릭으로 노출할 수 있습니다.
+     * </p>
+     *
+     * @return 적응형 제한이 등록되어 있지 않으면 Optional.empty()
+     */
+    public Optional<AdaptiveConcurrencyLimiter> getConcurrencyLimiter() {
+        return okHttpClient.interceptors().stream()
+                .filter(AdaptiveConcurrencyLimiter.class::isInstance)
+                .map(AdaptiveConcurrencyLimiter.class::cast)
+                .findFirst();
+    }
 
-            try {
-                Thread.sleep(waitMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("Retry wait interrupted", e);
-            }
-        }
+    /**
+     * 본문 조회 결과 캐시 반환
+     * <p>
+     * {@link ContentCache#stats()}로 적중/미스/제거 수를 메트릭으로 노출할 수 있습니다.
+     * </p>
+     *
+     * @return 캐시를 사용하지 않으면 Optional.empty()
+     */
+    public Optional<ContentCache> getContentCache() {
+        return Optional.ofNullable(properties.getContentCache());
     }
 
     /**
@@ -0,0 +1,35 @@
+package kr.go.law.common.cache;
+
+/**
+ * 본문 캐시 통계
+ *
+ * @param hitCount      메모리 계층 적중 수
+ * @param diskHitCount  디스크 계층 적중 수 (메모리 미스 후 디스크에서 찾은 수)
+ * @param missCount     두 계층 모두 미스한 수
+ * @param evictionCount 용량 초과로 메모리에서 밀려난 수
+ * @param expiredCount  TTL이 지나 제거된 수
+ * @param entryCount    메모리 계층의 항목 수
+ * @param weightedSize  메모리 계층의 추정 크기 (바이트)
+ * @param maxWeight     메모리 계층의 최대 크기 (바이트)
+ */
+public record CacheStats(
+    long hitCount,
+    long diskHitCount,
+    long missCount,
+    long evictionCount,
+    long expiredCount,
+    long entryCount,
+    long weightedSize,
+    long maxWeight) {
+
+  /** 조회 수 (메모리 적중 + 디스크 적중 + 미스) */
+  public long requestCount() {
+    return hitCount + diskHitCount + missCount;
+  }
+
+  /** 적중률 (메모리·디스크 적중 합계, 조회가 없으면 0) */
+  public double hitRate() {
+    long requests = requestCount();
+    return requests == 0 ? 0 : (double) (hitCount + diskHitCount) / requests;
+  }
+}
@@ -0,0 +1,77 @@
+package kr.go.law.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import kr.go.law.common.response.ContentApiResult;
+
+/**
+ * 본문 조회 결과 캐시
+ * <p>
+ * {@code BaseApiClient}가 본문 조회 전에 조회하고, 성공한 결과를 저장합니다.
+ * 키는 API 이름, 응답 투영, API 경로와 정렬된 요청 파라미터(OC 제외)로 만든 문자열입니다.
+ * 캐시된 결과는 여러 호출자가 공유하므로 결과(DTO 포함)를 수정하지 않아야 합니다.
+ * </p>
+ *
+ * @see TieredContentCache
+ */
+public interface ContentCache {
+
+  /**
+   * 캐시된 결과 조회
+   *
+   * @param <T>       본문 타입
+   * @param key       캐시 키
+   * @param rawParser 원문만 보관된 경우(디스크 등) 결과로 변환하는 함수
+   * @return 캐시된 결과 (없거나 만료되었으면 null)
+   */
+  <T> ContentApiResult<T> get(String key, Function<String, ContentApiResult<T>> rawParser);
+
+  /**
+   * 캐시된 결과 비동기 조회
+   * <p>
+   * 기본 구현은 {@link #get(String, Function)} 전체를 executor에서 실행합니다. 구현체는 메모리처럼 빠른 조회는
+   * 호출 스레드에서 바로 끝내고, 디스크 읽기와 원문 파싱만 executor에서 수행하도록 재정의할 수 있습니다.
+   * </p>
+   *
+   * @param <T>       본문 타입
+   * @param key       캐시 키
+   * @param rawParser 원문만 보관된 경우(디스크 등) 결과로 변환하는 함수
+   * @param executor  디스크 읽기와 원문 파싱을 수행할 Executor
+   * @return 캐시된 결과 Future (없거나 만료되었으면 null로 완료)
+   */
+  default <T> CompletableFuture<ContentApiResult<T>> getAsync(String key,
+      Function<String, ContentApiResult<T>> rawParser, Executor executor) {
+    return CompletableFuture.supplyAsync(() -> get(key, rawParser), executor);
+  }
+
+  /**
+   * 결과 저장
+   *
+   * @param key     캐시 키
+   * @param result  본문 조회 결과 (내용이 있는 성공 결과)
+   * @param rawJson 응답 원문 JSON (원문을 보관하는 계층에서만 호출됨)
+   */
+  void put(String key, ContentApiResult<?> result, Supplier<String> rawJson);
+
+  /**
+   * 키에 해당하는 결과 제거
+   *
+   * @param key 캐시 키
+   */
+  void invalidate(String key);
+
+  /**
+   * 모든 결과 제거
+   */
+  void invalidateAll();
+
+  /**
+   * 캐시 통계 반환
+   *
+   * @return 통계
+   */
+  CacheStats stats();
+}
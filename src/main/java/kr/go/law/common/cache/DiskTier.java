@@ -0,0 +1,131 @@
+package kr.go.law.common.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응답 원문 JSON을 파일로 보관하는 디스크 계층
+ * <p>
+ * 파일명은 캐시 키의 SHA-256 해시이며, 파일 수정 시각 기준으로 TTL을 적용합니다.
+ * 읽기/쓰기 오류는 로그만 남기고 미스로 처리합니다.
+ * </p>
+ */
+@Slf4j
+class DiskTier {
+
+  private static final String SUFFIX = ".json";
+
+  private final Path directory;
+  private final Duration ttl;
+
+  /**
+   * @param directory 원문을 저장할 디렉터리 (없으면 생성)
+   * @param ttl       항목 유지 시간 (null 또는 0 이하이면 만료 없음)
+   */
+  DiskTier(Path directory, Duration ttl) {
+    this.directory = directory;
+    this.ttl = ttl == null || ttl.isZero() || ttl.isNegative() ? null : ttl;
+  }
+
+  /**
+   * 원문 조회
+   *
+   * @return 원문과 남은 유지 시간 (없거나 만료되었으면 null)
+   */
+  Hit get(String key) {
+    Path file = fileOf(key);
+    try {
+      long remainingNanos = Long.MAX_VALUE;
+      if (ttl != null) {
+        long remainingMillis = Files.getLastModifiedTime(file).toMillis() + ttl.toMillis()
+            - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+          Files.deleteIfExists(file);
+          return null;
+        }
+        remainingNanos = TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+      }
+      return new Hit(Files.readString(file, StandardCharsets.UTF_8), remainingNanos);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      log.warn("Failed to read content cache file: file={}, error={}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 원문 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+   */
+  void put(String key, String rawJson) {
+    Path file = fileOf(key);
+    try {
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try {
+        Files.writeString(temp, rawJson, StandardCharsets.UTF_8);
+        try {
+          Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      log.warn("Failed to write content cache file: file={}, error={}", file, e.getMessage());
+    }
+  }
+
+  void remove(String key) {
+    try {
+      Files.deleteIfExists(fileOf(key));
+    } catch (IOException e) {
+      log.warn("Failed to delete content cache file: key={}, error={}", key, e.getMessage());
+    }
+  }
+
+  void clear() {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      log.warn("Failed to clear content cache directory: directory={}, error={}", directory, e.getMessage());
+    }
+  }
+
+  Path fileOf(String key) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+      return directory.resolve(HexFormat.of().formatHex(hash) + SUFFIX);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * 디스크 조회 결과
+   *
+   * @param rawJson        원문
+   * @param remainingNanos 파일 수정 시각 기준 남은 유지 시간 (만료 없음이면 Long.MAX_VALUE)
+   */
+  record Hit(String rawJson, long remainingNanos) {
+  }
+}
@@ -0,0 +1,140 @@
+package kr.go.law.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import kr.go.law.common.response.ContentApiResult;
+
+/**
+ * 크기 가중치와 TTL을 적용한 LRU 메모리 계층
+ * <p>
+ * 접근 순서 {@link LinkedHashMap}을 사용하며, 추정 크기 합계가 maxWeight를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * </p>
+ */
+class MemoryTier {
+
+  private final long maxWeight;
+  private final long ttlNanos;
+
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long weightedSize;
+  private long evictionCount;
+  private long expiredCount;
+
+  /**
+   * @param maxWeight 최대 추정 크기 (바이트)
+   * @param ttl       항목 유지 시간 (null 또는 0 이하이면 만료 없음)
+   */
+  MemoryTier(long maxWeight, Duration ttl) {
+    this.maxWeight = maxWeight;
+    this.ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : ttl.toNanos();
+  }
+
+  synchronized ContentApiResult<?> get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      remove(key);
+      expiredCount++;
+      return null;
+    }
+    return entry.result();
+  }
+
+  /**
+   * 항목 저장 (단일 항목이 maxWeight보다 크면 저장하지 않음)
+   *
+   * @return 저장 여부
+   */
+  boolean put(String key, ContentApiResult<?> result, long weight) {
+    return put(key, result, weight, Long.MAX_VALUE);
+  }
+
+  /**
+   * 남은 유지 시간을 지정해 항목 저장 (하위 계층에서 올린 항목이 원래 만료 시각을 넘기지 않도록 함)
+   *
+   * @param remainingNanos 남은 유지 시간 (계층 TTL보다 길면 계층 TTL 적용, Long.MAX_VALUE이면 계층 TTL만 적용)
+   * @return 저장 여부
+   */
+  synchronized boolean put(String key, ContentApiResult<?> result, long weight, long remainingNanos) {
+    if (weight > maxWeight || remainingNanos <= 0) {
+      remove(key);
+      return false;
+    }
+    long ttl = ttlNanos > 0 ? Math.min(ttlNanos, remainingNanos) : remainingNanos;
+    long expiresAt = ttl != Long.MAX_VALUE ? System.nanoTime() + ttl : Long.MAX_VALUE;
+    Entry previous = entries.put(key, new Entry(result, weight, expiresAt));
+    if (previous != null) {
+      weightedSize -= previous.weight();
+    }
+    weightedSize += weight;
+    evict();
+    return true;
+  }
+
+  synchronized void remove(String key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      weightedSize -= removed.weight();
+    }
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    weightedSize = 0;
+  }
+
+  synchronized long size() {
+    return entries.size();
+  }
+
+  synchronized long weightedSize() {
+    return weightedSize;
+  }
+
+  synchronized long evictionCount() {
+    return evictionCount;
+  }
+
+  synchronized long expiredCount() {
+    return expiredCount;
+  }
+
+  long maxWeight() {
+    return maxWeight;
+  }
+
+  /** 만료된 항목을 먼저 제거한 뒤, 용량을 넘으면 LRU 순으로 제거 */
+  private void evict() {
+    if (weightedSize <= maxWeight) {
+      return;
+    }
+    long now = System.nanoTime();
+    Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      Entry entry = it.next().getValue();
+      if (entry.isExpired(now)) {
+        it.remove();
+        weightedSize -= entry.weight();
+        expiredCount++;
+      }
+    }
+    it = entries.entrySet().iterator();
+    while (weightedSize > maxWeight && it.hasNext()) {
+      Entry entry = it.next().getValue();
+      it.remove();
+      weightedSize -= entry.weight();
+      evictionCount++;
+    }
+  }
+
+  private record Entry(ContentApiResult<?> result, long weight, long expiresAt) {
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0 && expiresAt != Long.MAX_VALUE;
+    }
+  }
+}
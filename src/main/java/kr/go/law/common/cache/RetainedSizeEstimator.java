@@ -0,0 +1,224 @@
+package kr.go.law.common.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import kr.go.law.common.response.RawData;
+import kr.go.law.config.RawDataRetention;
+import lombok.experimental.UtilityClass;
+
+/**
+ * DTO 트리의 힙 점유 크기(retained size) 추정기
+ * <p>
+ * 64비트 JVM·압축 참조(객체 헤더 12바이트, 참조 4바이트, 8바이트 정렬) 기준으로 객체 그래프를 따라가며 크기를 합산합니다.
+ * 라이브러리 클래스(DTO, 결과 레코드 등)는 리플렉션으로 필드를 따라가고, 클래스별 필드 구성은 한 번만 계산합니다.
+ * JDK 타입은 String, 박싱 타입, 배열, Optional, Collection, Map만 내부 구조를 근사하며 그 외는 헤더 크기로 계산합니다.
+ * 같은 객체를 여러 번 참조하면 한 번만 계산하고, enum·Boolean과 같이 공유되는 값은 0으로 계산합니다.
+ * </p>
+ *
+ * <pre>
+ * long bytes = RetainedSizeEstimator.estimate(result.content().get());
+ * </pre>
+ */
+@UtilityClass
+public class RetainedSizeEstimator {
+
+  private static final int OBJECT_HEADER = 12;
+  private static final int ARRAY_HEADER = 16;
+  private static final int REFERENCE = 4;
+
+  /** String 객체 (hash, coder, hashIsZero, value) */
+  private static final int STRING_SHALLOW = 24;
+  /** ArrayList 등 배열 기반 컬렉션 객체 */
+  private static final int COLLECTION_SHALLOW = 24;
+  /** HashMap 객체 */
+  private static final int MAP_SHALLOW = 48;
+  /** HashMap 기본 버킷 수 */
+  private static final int HASH_MAP_MIN_CAPACITY = 16;
+  /** HashMap.Node (hash, key, value, next) */
+  private static final int MAP_NODE = 32;
+  /** direct ByteBuffer 객체 */
+  private static final int BYTE_BUFFER_SHALLOW = 64;
+
+  private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+    @Override
+    protected Layout computeValue(Class<?> type) {
+      return Layout.of(type);
+    }
+  };
+
+  /**
+   * 객체 그래프의 추정 크기 계산
+   *
+   * @param root 시작 객체
+   * @return 추정 크기 (바이트, null이면 0)
+   */
+  public static long estimate(Object root) {
+    if (root == null) {
+      return 0;
+    }
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> pending = new ArrayDeque<>();
+    pending.push(root);
+
+    long size = 0;
+    while (!pending.isEmpty()) {
+      Object obj = pending.pop();
+      if (visited.add(obj)) {
+        size += shallowSize(obj, pending);
+      }
+    }
+    return size;
+  }
+
+  /**
+   * 객체 자체 크기 계산 후 따라갈 참조를 pending에 추가
+   */
+  private static long shallowSize(Object obj, Deque<Object> pending) {
+    if (obj instanceof String str) {
+      return STRING_SHALLOW + align(ARRAY_HEADER + (long) str.length() * (isLatin1(str) ? 1 : 2));
+    }
+    if (obj instanceof Boolean || obj instanceof Enum<?>) {
+      return 0;
+    }
+    if (obj instanceof Long || obj instanceof Double) {
+      return 24;
+    }
+    if (obj instanceof Number || obj instanceof Character) {
+      return 16;
+    }
+    if (obj instanceof RawData raw && raw.retention() == RawDataRetention.OFF_HEAP) {
+      return align(OBJECT_HEADER + REFERENCE) + BYTE_BUFFER_SHALLOW + raw.retainedSize();
+    }
+    if (obj instanceof Optional<?> optional) {
+      optional.ifPresent(pending::push);
+      return 16;
+    }
+
+    Class<?> type = obj.getClass();
+    if (type.isArray()) {
+      return arraySize(obj, type.getComponentType(), pending);
+    }
+    if (obj instanceof Collection<?> collection) {
+      pushAll(collection, pending);
+      return COLLECTION_SHALLOW + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+    }
+    if (obj instanceof Map<?, ?> map) {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        push(entry.getKey(), pending);
+        push(entry.getValue(), pending);
+      }
+      return MAP_SHALLOW + mapTableSize(map.size()) + (long) map.size() * MAP_NODE;
+    }
+
+    Layout layout = LAYOUTS.get(type);
+    for (Field field : layout.references()) {
+      try {
+        push(field.get(obj), pending);
+      } catch (IllegalAccessException e) {
+        // 접근할 수 없는 필드는 참조 크기만 계산
+      }
+    }
+    return layout.shallowSize();
+  }
+
+  private static long arraySize(Object array, Class<?> componentType, Deque<Object> pending) {
+    int length = Array.getLength(array);
+    if (!componentType.isPrimitive()) {
+      for (Object element : (Object[]) array) {
+        push(element, pending);
+      }
+      return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+    return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+  }
+
+  /**
+   * HashMap 버킷 배열 크기 (비어 있으면 배열 없음, 최소 16칸, 부하율 0.75를 넘지 않는 2의 거듭제곱 칸)
+   */
+  static long mapTableSize(int size) {
+    if (size == 0) {
+      return 0;
+    }
+    long needed = ((long) size * 4 + 2) / 3;
+    long capacity = Math.max(HASH_MAP_MIN_CAPACITY, Long.highestOneBit(Math.max(1, needed - 1)) << 1);
+    return align(ARRAY_HEADER + capacity * REFERENCE);
+  }
+
+  private static void pushAll(Iterable<?> values, Deque<Object> pending) {
+    for (Object value : values) {
+      push(value, pending);
+    }
+  }
+
+  private static void push(Object value, Deque<Object> pending) {
+    if (value != null) {
+      pending.push(value);
+    }
+  }
+
+  private static boolean isLatin1(String str) {
+    for (int i = 0; i < str.length(); i++) {
+      if (str.charAt(i) > 0xFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int primitiveSize(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    }
+    return 1;
+  }
+
+  private static long align(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  /**
+   * 클래스별 객체 크기와 따라갈 참조 필드
+   *
+   * @param shallowSize 객체 자체 크기 (정렬 포함)
+   * @param references  참조 타입 필드 (접근 불가능한 JDK 클래스는 빈 목록)
+   */
+  private record Layout(long shallowSize, List<Field> references) {
+
+    static Layout of(Class<?> type) {
+      long fieldsSize = 0;
+      List<Field> references = new ArrayList<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+          if (field.getType().isPrimitive()) {
+            fieldsSize += primitiveSize(field.getType());
+            continue;
+          }
+          fieldsSize += REFERENCE;
+          if (field.trySetAccessible()) {
+            references.add(field);
+          }
+        }
+      }
+      return new Layout(align(OBJECT_HEADER + fieldsSize), List.copyOf(references));
+    }
+  }
+}
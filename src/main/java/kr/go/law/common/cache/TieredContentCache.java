@@ -0,0 +1,240 @@
+package kr.go.law.common.cache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 LRU + 디스크 2계층 본문 캐시
+ * <p>
+ * 메모리 계층은 파싱된 결과를 추정 크기 합계가 maxBytes를 넘지 않도록 LRU로 보관하고,
+ * 디스크 계층은 응답 원문 JSON을 보관합니다.
+ * 메모리에서 밀려났거나 프로세스가 재시작된 뒤에는 디스크의 원문을 다시 파싱해 메모리로 올립니다.
+ * 두 계층 모두 cacheTtl이 지나면 만료되며, 디스크에서 올린 항목은 디스크 항목의 남은 유지 시간까지만 메모리에 남습니다.
+ * </p>
+ * <p>
+ * 추정 크기는 기본적으로 {@link RetainedSizeEstimator}로 계산한 결과 객체 그래프(DTO, 보관 중인 원문)와 키의 크기입니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * LawOpenDataClient client = LawOpenDataClient.builder()
+ *     .oc("YOUR_API_KEY")
+ *     .contentCache(256L * 1024 * 1024, Duration.ofDays(1), Path.of("cache/law"))
+ *     .build();
+ * }
+ * </pre>
+ */
+@Slf4j
+public class TieredContentCache implements ContentCache {
+
+  /** 메모리 계층 항목당 고정 비용 (LinkedHashMap.Entry + 보관 항목 객체) */
+  private static final long ENTRY_OVERHEAD = 64;
+
+  /** 메모리 계층 (maxBytes가 0 이하이면 null) */
+  private final MemoryTier memory;
+
+  /** 디스크 계층 (디렉터리를 지정하지 않으면 null) */
+  private final DiskTier disk;
+
+  private final Weigher weigher;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder diskHitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * @param maxBytes  메모리 계층 최대 추정 크기 (0 이하이면 메모리 계층 없음)
+   * @param ttl       항목 유지 시간 (null 또는 0 이하이면 만료 없음)
+   * @param directory 디스크 계층 디렉터리 (null이면 디스크 계층 없음)
+   */
+  public TieredContentCache(long maxBytes, Duration ttl, Path directory) {
+    this(maxBytes, ttl, directory, Weigher.RETAINED_SIZE);
+  }
+
+  /**
+   * @param maxBytes  메모리 계층 최대 추정 크기 (0 이하이면 메모리 계층 없음)
+   * @param ttl       항목 유지 시간 (null 또는 0 이하이면 만료 없음)
+   * @param directory 디스크 계층 디렉터리 (null이면 디스크 계층 없음)
+   * @param weigher   메모리 계층 항목 크기 추정 함수
+   */
+  public TieredContentCache(long maxBytes, Duration ttl, Path directory, Weigher weigher) {
+    this.memory = maxBytes > 0 ? new MemoryTier(maxBytes, ttl) : null;
+    this.disk = directory != null ? new DiskTier(directory, ttl) : null;
+    this.weigher = weigher;
+  }
+
+  /**
+   * 설정으로 캐시 생성
+   *
+   * @param properties 클라이언트 설정
+   * @return 캐시 (cacheMaxBytes와 cacheDirectory가 모두 없으면 null)
+   */
+  public static TieredContentCache from(LawOpenDataProperties properties) {
+    if (properties.getCacheMaxBytes() <= 0 && properties.getCacheDirectory() == null) {
+      return null;
+    }
+    return new TieredContentCache(properties.getCacheMaxBytes(), properties.getCacheTtl(),
+        properties.getCacheDirectory());
+  }
+
+  @Override
+  public <T> ContentApiResult<T> get(String key, Function<String, ContentApiResult<T>> rawParser) {
+    ContentApiResult<T> cached = getFromMemory(key);
+    return cached != null ? cached : getFromDisk(key, rawParser);
+  }
+
+  /**
+   * 메모리 계층은 호출 스레드에서 조회하고, 메모리 미스일 때만 디스크 읽기와 원문 파싱을 executor에서 수행
+   */
+  @Override
+  public <T> CompletableFuture<ContentApiResult<T>> getAsync(String key,
+      Function<String, ContentApiResult<T>> rawParser, Executor executor) {
+    ContentApiResult<T> cached = getFromMemory(key);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    if (disk == null) {
+      missCount.increment();
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.supplyAsync(() -> getFromDisk(key, rawParser), executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ContentApiResult<T> getFromMemory(String key) {
+    if (memory == null) {
+      return null;
+    }
+    ContentApiResult<?> cached = memory.get(key);
+    if (cached != null) {
+      hitCount.increment();
+    }
+    return (ContentApiResult<T>) cached;
+  }
+
+  /**
+   * 디스크 원문을 파싱해 메모리로 올림 (메모리 항목은 디스크 항목의 남은 유지 시간까지만 유지)
+   */
+  private <T> ContentApiResult<T> getFromDisk(String key, Function<String, ContentApiResult<T>> rawParser) {
+    if (disk != null) {
+      DiskTier.Hit hit = disk.get(key);
+      if (hit != null) {
+        ContentApiResult<T> result = rawParser.apply(hit.rawJson());
+        if (result != null && !result.hasError() && result.content().isPresent()) {
+          diskHitCount.increment();
+          if (memory != null) {
+            memory.put(key, result, weigh(key, result, hit::rawJson), hit.remainingNanos());
+          }
+          return result;
+        }
+        log.warn("Discarding unparseable content cache entry: key={}", key);
+        disk.remove(key);
+      }
+    }
+
+    missCount.increment();
+    return null;
+  }
+
+  @Override
+  public void put(String key, ContentApiResult<?> result, Supplier<String> rawJson) {
+    Supplier<String> raw = memoize(rawJson);
+    if (memory != null) {
+      memory.put(key, result, weigh(key, result, raw));
+    }
+    if (disk != null) {
+      String json = raw.get();
+      if (json != null) {
+        disk.put(key, json);
+      }
+    }
+  }
+
+  @Override
+  public void invalidate(String key) {
+    if (memory != null) {
+      memory.remove(key);
+    }
+    if (disk != null) {
+      disk.remove(key);
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    if (memory != null) {
+      memory.clear();
+    }
+    if (disk != null) {
+      disk.clear();
+    }
+  }
+
+  @Override
+  public CacheStats stats() {
+    return new CacheStats(
+        hitCount.sum(),
+        diskHitCount.sum(),
+        missCount.sum(),
+        memory != null ? memory.evictionCount() : 0,
+        memory != null ? memory.expiredCount() : 0,
+        memory != null ? memory.size() : 0,
+        memory != null ? memory.weightedSize() : 0,
+        memory != null ? memory.maxWeight() : 0);
+  }
+
+  private long weigh(String key, ContentApiResult<?> result, Supplier<String> rawJson) {
+    return weigher.weigh(result, rawJson) + RetainedSizeEstimator.estimate(key) + ENTRY_OVERHEAD;
+  }
+
+  private static Supplier<String> memoize(Supplier<String> supplier) {
+    return new Supplier<>() {
+      private boolean done;
+      private String value;
+
+      @Override
+      public String get() {
+        if (!done) {
+          value = supplier.get();
+          done = true;
+        }
+        return value;
+      }
+    };
+  }
+
+  /**
+   * 메모리 계층 항목 크기 추정 함수
+   */
+  @FunctionalInterface
+  public interface Weigher {
+
+    /** 결과 객체 그래프(DTO, 보관 중인 원문 포함)의 retained size로 추정 (기본값) */
+    Weigher RETAINED_SIZE = (result, rawJson) -> RetainedSizeEstimator.estimate(result);
+
+    /** 원문 JSON 문자 수 × 2 (UTF-16) 로 추정 (STREAMING 모드에서는 원문 직렬화 비용이 듦) */
+    Weigher RAW_JSON_LENGTH = (result, rawJson) -> {
+      String raw = rawJson.get();
+      return raw != null ? 2L * raw.length() : 0;
+    };
+
+    /**
+     * 항목 크기 추정
+     *
+     * @param result  저장할 결과
+     * @param rawJson 응답 원문 JSON
+     * @return 추정 크기 (바이트)
+     */
+    long weigh(ContentApiResult<?> result, Supplier<String> rawJson);
+  }
+}
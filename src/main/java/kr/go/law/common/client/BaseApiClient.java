@@ -1,22 +1,49 @@
 package kr.go.law.common.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.go.law.common.cache.ContentCache;
+import kr.go.law.common.cache.TieredContentCache;
+import kr.go.law.common.http.HttpStatusException;
+import kr.go.law.common.http.RateLimitExceededException;
+import kr.go.law.common.http.RateLimitInterceptor;
+import kr.go.law.common.http.RetryInterceptor;
+import kr.go.law.common.http.RetryPolicy;
+import kr.go.law.common.http.RetryScheduler;
+import kr.go.law.common.parser.JsonProjection;
 import kr.go.law.common.request.BaseRequest;
 import kr.go.law.common.request.PageableRequest;
 import kr.go.law.common.response.ContentApiResult;
 import kr.go.law.common.response.ListApiResult;
+import kr.go.law.common.response.RawData;
 import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.ParseMode;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * API 클라이언트 공통 베이스 클래스
@@ -27,14 +54,39 @@ import okhttp3.Response;
 @Slf4j
 public abstract class BaseApiClient {
 
+  /** 비동기 API에서 parseExecutor를 지정하지 않았을 때 사용하는 기본 Executor */
+  protected static final Executor DEFAULT_PARSE_EXECUTOR = ForkJoinPool.commonPool();
+
   protected final LawOpenDataProperties properties;
   protected final ObjectMapper objectMapper;
   protected final OkHttpClient client;
 
+  /** 비동기 요청 재시도 정책 (RetryInterceptor가 없으면 null) */
+  private final RetryPolicy retryPolicy;
+
+  /** 비동기 요청 속도 제한 (RateLimitInterceptor가 없으면 null) */
+  private final RateLimitInterceptor rateLimiter;
+
+  /** 동일 URL 동시 요청 병합 (requestCoalescing이 꺼져 있으면 null) */
+  private final SingleFlight singleFlight;
+
+  /** 목록/본문 조회 응답 파싱 방식 */
+  private final ParseMode parseMode;
+
+  /** 본문 조회 결과 캐시 (캐시를 설정하지 않으면 null) */
+  private final ContentCache contentCache;
+
   protected BaseApiClient(LawOpenDataProperties properties, ObjectMapper objectMapper, OkHttpClient client) {
     this.properties = properties;
     this.objectMapper = objectMapper;
     this.client = client;
+    this.retryPolicy = findRetryPolicy(client);
+    this.rateLimiter = findRateLimiter(client);
+    this.singleFlight = properties.isRequestCoalescing() ? new SingleFlight() : null;
+    this.parseMode = properties.getParseMode();
+    this.contentCache = properties.getContentCache() != null
+        ? properties.getContentCache()
+        : TieredContentCache.from(properties);
   }
 
   /**
@@ -47,12 +99,220 @@ public abstract class BaseApiClient {
   protected String executeRequest(Request request) throws IOException {
     try (Response response = client.newCall(request).execute()) {
       if (!response.isSuccessful()) {
-        throw new IOException("Response status=" + response.code());
+        throw new HttpStatusException(response.code());
       }
       return response.body() != null ? response.body().string() : null;
     }
   }
 
+  /**
+   * HTTP 요청 비동기 실행 및 응답 문자열 반환
+   * <p>
+   * OkHttp {@link Call#enqueue(Callback)}를 사용하므로 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+   * OkHttpClient에 {@link RetryInterceptor}가 등록되어 있으면 같은 {@link RetryPolicy}로 재시도하되,
+   * 재시도 대기는 {@link RetryScheduler}에 예약하므로 Dispatcher 스레드가 대기하지 않습니다.
+   * {@link RateLimitInterceptor}가 등록되어 있으면 시도마다 토큰을 먼저 예약하고, 토큰 시점까지 enqueue를 미룹니다.
+   * 반환된 Future를 취소하면 진행 중인 HTTP 호출도 취소됩니다.
+   * </p>
+   *
+   * @param request HTTP 요청
+   * @return 응답 문자열 Future (요청 실패 시 IOException, 성공이 아닌 응답 상태면 {@link HttpStatusException}으로 완료)
+   */
+  protected CompletableFuture<String> executeRequestAsync(Request request) {
+    return executeRequestAsync(request, (url, body) -> body.string());
+  }
+
+  /**
+   * HTTP 요청 비동기 실행 및 응답 본문 변환
+   *
+   * @param <T>    변환 결과 타입
+   * @param request HTTP 요청
+   * @param reader  성공 응답 본문 변환 함수 (OkHttp Dispatcher 스레드에서 실행하므로 파싱 등 CPU 작업은 피함)
+   * @return 변환 결과 Future
+   */
+  private <T> CompletableFuture<T> executeRequestAsync(Request request, BodyReader<T> reader) {
+    return executeResponseAsync(request, response -> {
+      if (!response.isSuccessful()) {
+        throw new HttpStatusException(response.code());
+      }
+      return response.body() != null ? reader.read(request.url(), response.body()) : null;
+    });
+  }
+
+  /**
+   * HTTP 요청 비동기 실행 및 응답 변환 (리다이렉트 등 성공이 아닌 응답도 직접 처리)
+   * <p>
+   * 재시도할 수 있는 응답 상태는 {@link #executeRequestAsync(Request)}와 같이 재시도하고,
+   * 그 외 응답은 상태와 관계없이 handler에 전달합니다.
+   * </p>
+   *
+   * @param <T>     변환 결과 타입
+   * @param request HTTP 요청
+   * @param handler 응답 변환 함수 (OkHttp Dispatcher 스레드에서 실행하므로 파싱 등 CPU 작업은 피함)
+   * @return 변환 결과 Future (handler가 던진 IOException으로 완료될 수 있음)
+   */
+  protected <T> CompletableFuture<T> executeResponseAsync(Request request, ResponseHandler<T> handler) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+
+    // 취소 리스너는 한 번만 등록하고, 취소 시점에 진행 중인 시도의 호출을 취소
+    final AtomicReference<Call> currentCall = new AtomicReference<>();
+    future.whenComplete((result, error) -> {
+      final Call call = currentCall.get();
+      if (future.isCancelled() && call != null) {
+        call.cancel();
+      }
+    });
+
+    if (retryPolicy == null) {
+      enqueueAttempt(request, handler, 1, future, currentCall);
+    } else {
+      retryPolicy.onRequest();
+      enqueueAttempt(request.newBuilder().tag(RetryInterceptor.AsyncAttempt.class,
+          RetryInterceptor.AsyncAttempt.INSTANCE).build(), handler, 1, future, currentCall);
+    }
+    return future;
+  }
+
+  /**
+   * 비동기 요청 1회 실행 (속도 제한 토큰을 예약하고, 대기가 필요하면 enqueue를 예약)
+   */
+  private <T> void enqueueAttempt(Request request, ResponseHandler<T> handler, int attempt,
+      CompletableFuture<T> future, AtomicReference<Call> currentCall) {
+    if (future.isDone()) {
+      return;
+    }
+    if (rateLimiter == null) {
+      sendAttempt(request, request, handler, attempt, future, currentCall);
+      return;
+    }
+
+    final long waitNanos;
+    try {
+      waitNanos = rateLimiter.reserve(request.url());
+    } catch (RateLimitExceededException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+    // 재시도는 원래 요청으로 다시 예약하도록 태그는 이번 시도의 요청에만 붙임
+    final Request reserved = request.newBuilder()
+        .tag(RateLimitInterceptor.Reserved.class, RateLimitInterceptor.Reserved.INSTANCE)
+        .build();
+    if (waitNanos <= 0) {
+      sendAttempt(request, reserved, handler, attempt, future, currentCall);
+      return;
+    }
+
+    log.trace("Rate limited, deferring async request {}ms: {}",
+        TimeUnit.NANOSECONDS.toMillis(waitNanos), request.url());
+    RetryScheduler.schedule(() -> {
+      try {
+        sendAttempt(request, reserved, handler, attempt, future, currentCall);
+      } catch (RuntimeException | Error e) {
+        future.completeExceptionally(e);
+      }
+    }, Duration.ofNanos(waitNanos));
+  }
+
+  /**
+   * 비동기 요청 1회 enqueue (실패 시 재시도 예약)
+   *
+   * @param request 재시도에 사용할 원래 요청
+   * @param send    이번 시도에 보낼 요청
+   */
+  private <T> void sendAttempt(Request request, Request send, ResponseHandler<T> handler, int attempt,
+      CompletableFuture<T> future, AtomicReference<Call> currentCall) {
+    if (future.isDone()) {
+      return;
+    }
+
+    final Call call = client.newCall(send);
+    currentCall.set(call);
+    // 호출 등록 직전에 취소되었으면 리스너가 이 호출을 보지 못했으므로 직접 취소
+    if (future.isCancelled()) {
+      call.cancel();
+      return;
+    }
+
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        try {
+          if (call.isCanceled() || (retryPolicy != null && !retryPolicy.isRetryable(e))) {
+            future.completeExceptionally(e);
+            return;
+          }
+          retryOrFail(request, handler, attempt, future, currentCall, 0, null, e);
+        } catch (RuntimeException | Error t) {
+          t.addSuppressed(e);
+          future.completeExceptionally(t);
+        }
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        // 핸들러나 재시도 예약에서 발생한 예외가 Dispatcher로 새어 나가면 Future가 완료되지 않으므로 모두 Future로 전달
+        try (response) {
+          if (!response.isSuccessful() && retryPolicy != null && retryPolicy.isRetryable(response.code())) {
+            retryOrFail(request, handler, attempt, future, currentCall, response.code(),
+                response.header("Retry-After"), new HttpStatusException(response.code()));
+          } else {
+            future.complete(handler.handle(response));
+          }
+        } catch (IOException | RuntimeException | Error e) {
+          future.completeExceptionally(e);
+        }
+      }
+    });
+  }
+
+  /**
+   * 재시도 정책에 따라 재시도를 예약하거나 Future를 실패로 완료
+   */
+  private <T> void retryOrFail(Request request, ResponseHandler<T> handler, int attempt, CompletableFuture<T> future,
+      AtomicReference<Call> currentCall, int statusCode, String retryAfter, IOException error) {
+    final Duration delay = retryPolicy != null ? retryPolicy.nextDelay(attempt, statusCode, retryAfter) : null;
+    if (delay == null) {
+      future.completeExceptionally(attempt > 1
+          ? new IOException(String.format("Request failed after %d attempts: %s", attempt, request.url()), error)
+          : error);
+      return;
+    }
+
+    log.warn("Async request failed ({}), attempt {}/{}, retrying in {}ms: {}",
+        error.getMessage(), attempt, retryPolicy.getMaxRetries() + 1, delay.toMillis(), request.url());
+    RetryScheduler.schedule(() -> {
+      try {
+        enqueueAttempt(request, handler, attempt + 1, future, currentCall);
+      } catch (RuntimeException | Error e) {
+        future.completeExceptionally(e);
+      }
+    }, delay);
+  }
+
+  /**
+   * OkHttpClient에 등록된 RetryInterceptor의 재시도 정책 조회
+   */
+  private static RetryPolicy findRetryPolicy(OkHttpClient client) {
+    for (Interceptor interceptor : client.interceptors()) {
+      if (interceptor instanceof RetryInterceptor retryInterceptor) {
+        return retryInterceptor.getPolicy();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * OkHttpClient에 등록된 RateLimitInterceptor 조회
+   */
+  private static RateLimitInterceptor findRateLimiter(OkHttpClient client) {
+    for (Interceptor interceptor : client.interceptors()) {
+      if (interceptor instanceof RateLimitInterceptor rateLimitInterceptor) {
+        return rateLimitInterceptor;
+      }
+    }
+    return null;
+  }
+
   /**
    * URL 빌드 헬퍼 메서드
    *
@@ -86,32 +346,87 @@ public abstract class BaseApiClient {
       String apiName) {
 
     HttpUrl url = buildUrl(path, request);
-    String responseString = null;
+    return coalesce(apiName, url, () -> {
+      Payload payload = null;
 
-    try {
-      responseString = executeRequest(new Request.Builder().url(url).get().build());
-
-      final JsonNode result;
-      if (responseString == null || responseString.isBlank()) {
-        log.warn("Empty response body for {}: request={}, url={}", apiName, request, url);
-        result = objectMapper.createObjectNode();
-      } else {
-        result = objectMapper.readTree(responseString);
-        log.debug("{} API call successful: url={}, responseSize={}",
-            apiName, url, responseString.length());
+      try {
+        payload = fetchPayload(new Request.Builder().url(url).get().build());
+        return toListApiResult(request, url, payload, itemsParser, totalCountParser, apiName);
+      } catch (Exception e) {
+        log.error("Failed to call {} API: url={}, error={}", apiName, url, e.getMessage());
+        return ListApiResult.error(payload != null ? payload.rawData() : null);
       }
+    });
+  }
+
+  /**
+   * 목록 조회 API 공통 비동기 실행 로직
+   * <p>
+   * HTTP 호출은 OkHttp Dispatcher에서 비동기로 수행되고, 응답 파싱은 parseExecutor에서 수행됩니다.
+   * 실패 시 예외 대신 {@link ListApiResult#error(String)}로 완료됩니다.
+   * </p>
+   *
+   * @param <T>              항목 타입
+   * @param request          페이지 가능한 요청
+   * @param path             API 경로
+   * @param itemsParser      항목 목록 파싱 함수
+   * @param totalCountParser 전체 건수 파싱 함수
+   * @param apiName          API 이름 (로깅용)
+   * @param parseExecutor    응답 파싱을 수행할 Executor
+   * @return ListApiResult Future
+   */
+  protected <T> CompletableFuture<ListApiResult<T>> executeListApiAsync(
+      PageableRequest request,
+      String path,
+      Function<JsonNode, java.util.List<T>> itemsParser,
+      ToIntFunction<JsonNode> totalCountParser,
+      String apiName,
+      Executor parseExecutor) {
+
+    HttpUrl url = buildUrl(path, request);
+
+    return coalesceAsync(apiName, url, () -> cancelling(executeRequestAsync(
+        new Request.Builder().url(url).get().build(), this::bufferPayload), call -> call
+        .thenApplyAsync(payload -> {
+          try {
+            return toListApiResult(request, url, payload, itemsParser, totalCountParser, apiName);
+          } catch (Exception e) {
+            log.error("Failed to parse {} API response: url={}, error={}", apiName, url, e.getMessage());
+            return ListApiResult.<T>error(payload != null ? payload.rawData() : null);
+          }
+        }, parseExecutor)
+        .exceptionally(e -> {
+          log.error("Failed to call {} API: url={}, error={}", apiName, url, rootMessage(e));
+          return ListApiResult.error(null);
+        })));
+  }
 
-      return ListApiResult.of(
-          responseString,
-          itemsParser.apply(result),
-          totalCountParser.applyAsInt(result),
-          request.getPage() != null ? request.getPage() : 1,
-          request.getDisplay() != null ? request.getDisplay() : 20);
+  /**
+   * 목록 조회 응답을 ListApiResult로 변환
+   */
+  private <T> ListApiResult<T> toListApiResult(
+      PageableRequest request,
+      HttpUrl url,
+      Payload payload,
+      Function<JsonNode, java.util.List<T>> itemsParser,
+      ToIntFunction<JsonNode> totalCountParser,
+      String apiName) throws IOException {
 
-    } catch (Exception e) {
-      log.error("Failed to call {} API: url={}, error={}", apiName, url, e.getMessage());
-      return ListApiResult.error(responseString);
+    JsonNode result = payload != null ? payload.toTree(objectMapper) : null;
+    if (result == null) {
+      log.warn("Empty response body for {}: request={}, url={}", apiName, request, url);
+      result = objectMapper.createObjectNode();
+    } else {
+      log.debug("{} API call successful: url={}, parseMode={}, responseSize={}",
+          apiName, url, parseMode, payload.size());
     }
+
+    return ListApiResult.retained(
+        retainRawData(payload != null ? payload.rawData() : null),
+        itemsParser.apply(result),
+        totalCountParser.applyAsInt(result),
+        request.getPage() != null ? request.getPage() : 1,
+        request.getDisplay() != null ? request.getDisplay() : 20);
   }
 
   /**
@@ -129,27 +444,511 @@ public abstract class BaseApiClient {
       String path,
       Function<JsonNode, T> contentParser,
       String apiName) {
+    return executeContentApi(request, path, null, contentParser, apiName);
+  }
+
+  /**
+   * 본문 조회 API 공통 실행 로직 (응답 JSON 중 투영된 부분만 트리로 읽음)
+   * <p>
+   * 투영이 다르면 같은 URL이라도 요청 병합과 본문 캐시에서 별도 항목으로 취급합니다.
+   * </p>
+   *
+   * @param <T>           본문 타입
+   * @param request       요청 객체
+   * @param path          API 경로
+   * @param projection    응답 JSON 투영 (null이면 전체)
+   * @param contentParser 본문 파싱 함수
+   * @param apiName       API 이름 (로깅용)
+   * @return ContentApiResult
+   */
+  protected <T> ContentApiResult<T> executeContentApi(
+      BaseRequest request,
+      String path,
+      JsonProjection projection,
+      Function<JsonNode, T> contentParser,
+      String apiName) {
 
     HttpUrl url = buildUrl(path, request);
-    String responseString = null;
+    String cacheKey = cacheKey(apiName, projection, path, request);
+    ContentApiResult<T> cached = getCached(cacheKey, request, url, projection, contentParser, apiName);
+    if (cached != null) {
+      return cached;
+    }
 
-    try {
-      responseString = executeRequest(new Request.Builder().url(url).get().build());
+    return coalesce(apiName, projection, url, () -> {
+      Payload payload = null;
+
+      try {
+        payload = fetchPayload(new Request.Builder().url(url).get().build(), projection);
+        return putCached(cacheKey, payload,
+            toContentApiResult(request, url, payload, projection, contentParser, apiName));
+      } catch (Exception e) {
+        log.error("Failed to call {} API: url={}, error={}", apiName, url, e.getMessage());
+        return ContentApiResult.error(payload != null ? payload.rawData() : null);
+      }
+    });
+  }
+
+  /**
+   * 본문 조회 API 공통 비동기 실행 로직
+   * <p>
+   * HTTP 호출은 OkHttp Dispatcher에서 비동기로 수행되고, 응답 파싱은 parseExecutor에서 수행됩니다.
+   * 실패 시 예외 대신 {@link ContentApiResult#error(String)}로 완료됩니다.
+   * </p>
+   *
+   * @param <T>           본문 타입
+   * @param request       요청 객체
+   * @param path          API 경로
+   * @param contentParser 본문 파싱 함수
+   * @param apiName       API 이름 (로깅용)
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   */
+  protected <T> CompletableFuture<ContentApiResult<T>> executeContentApiAsync(
+      BaseRequest request,
+      String path,
+      Function<JsonNode, T> contentParser,
+      String apiName,
+      Executor parseExecutor) {
+    return executeContentApiAsync(request, path, null, contentParser, apiName, parseExecutor);
+  }
+
+  /**
+   * 본문 조회 API 공통 비동기 실행 로직 (응답 JSON 중 투영된 부분만 트리로 읽음)
+   *
+   * @param <T>           본문 타입
+   * @param request       요청 객체
+   * @param path          API 경로
+   * @param projection    응답 JSON 투영 (null이면 전체)
+   * @param contentParser 본문 파싱 함수
+   * @param apiName       API 이름 (로깅용)
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   * @see #executeContentApi(BaseRequest, String, JsonProjection, Function, String)
+   */
+  protected <T> CompletableFuture<ContentApiResult<T>> executeContentApiAsync(
+      BaseRequest request,
+      String path,
+      JsonProjection projection,
+      Function<JsonNode, T> contentParser,
+      String apiName,
+      Executor parseExecutor) {
+
+    HttpUrl url = buildUrl(path, request);
+    String cacheKey = cacheKey(apiName, projection, path, request);
+    if (contentCache == null) {
+      return fetchContentAsync(cacheKey, request, url, projection, contentParser, apiName, parseExecutor);
+    }
+
+    // 메모리 계층은 호출 스레드에서 조회하고, 디스크 읽기와 원문 파싱은 parseExecutor에서 수행
+    CompletableFuture<ContentApiResult<T>> lookup = contentCache.getAsync(cacheKey,
+        cachedParser(cacheKey, request, url, projection, contentParser, apiName), parseExecutor);
+    if (lookup.isDone() && !lookup.isCompletedExceptionally()) {
+      ContentApiResult<T> cached = servedFromCache(lookup.join(), cacheKey, apiName);
+      return cached != null
+          ? CompletableFuture.completedFuture(cached)
+          : fetchContentAsync(cacheKey, request, url, projection, contentParser, apiName, parseExecutor);
+    }
+
+    CompletableFuture<ContentApiResult<T>> result = new CompletableFuture<>();
+    lookup.whenComplete((hit, error) -> {
+      if (error != null) {
+        log.warn("Failed to read {} content cache: key={}, error={}", apiName, cacheKey, rootMessage(error));
+      }
+      ContentApiResult<T> cached = error == null ? servedFromCache(hit, cacheKey, apiName) : null;
+      if (cached != null) {
+        result.complete(cached);
+        return;
+      }
+      if (result.isDone()) {
+        return;
+      }
+      CompletableFuture<ContentApiResult<T>> fetch =
+          fetchContentAsync(cacheKey, request, url, projection, contentParser, apiName, parseExecutor);
+      // 호출자가 취소하면 (병합된) HTTP 호출 구독도 해지
+      result.whenComplete((r, e) -> {
+        if (result.isCancelled()) {
+          fetch.cancel(true);
+        }
+      });
+      fetch.whenComplete((r, e) -> {
+        if (e != null) {
+          result.completeExceptionally(e);
+        } else {
+          result.complete(r);
+        }
+      });
+    });
+    return result;
+  }
+
+  /**
+   * 캐시 미스 시 본문 비동기 조회 (요청 병합 후 HTTP 호출, 파싱은 parseExecutor에서 수행)
+   */
+  private <T> CompletableFuture<ContentApiResult<T>> fetchContentAsync(String cacheKey, BaseRequest request,
+      HttpUrl url, JsonProjection projection, Function<JsonNode, T> contentParser, String apiName,
+      Executor parseExecutor) {
+    return coalesceAsync(apiName, projection, url,
+        () -> cancelling(executeRequestAsync(new Request.Builder().url(url).get().build(),
+            this::bufferPayload), call -> call
+        .thenApplyAsync(payload -> {
+          try {
+            return putCached(cacheKey, payload,
+                toContentApiResult(request, url, payload, projection, contentParser, apiName));
+          } catch (Exception e) {
+            log.error("Failed to parse {} API response: url={}, error={}", apiName, url, e.getMessage());
+            return ContentApiResult.<T>error(payload != null ? payload.rawData() : null);
+          }
+        }, parseExecutor)
+        .exceptionally(e -> {
+          log.error("Failed to call {} API: url={}, error={}", apiName, url, rootMessage(e));
+          return ContentApiResult.error(null);
+        })));
+  }
+
+  /**
+   * 본문 조회 응답을 ContentApiResult로 변환
+   */
+  private <T> ContentApiResult<T> toContentApiResult(
+      BaseRequest request,
+      HttpUrl url,
+      Payload payload,
+      JsonProjection projection,
+      Function<JsonNode, T> contentParser,
+      String apiName) throws IOException {
+
+    JsonNode result = payload != null ? payload.toTree(objectMapper, projection) : null;
+    if (result == null) {
+      log.warn("Empty response body for {}: request={}, url={}", apiName, request, url);
+      return ContentApiResult.empty();
+    }
+
+    log.debug("{} API call successful: url={}, parseMode={}, responseSize={}",
+        apiName, url, parseMode, payload.size());
+
+    return ContentApiResult.retained(retainRawData(payload.rawData()), contentParser.apply(result));
+  }
+
+  /**
+   * 본문 캐시 키 (API 이름 + 투영 + API 경로 + 이름순으로 정렬한 요청 파라미터, OC 제외)
+   * <p>
+   * 같은 URL이라도 파싱 결과 타입이나 투영이 다를 수 있으므로 API 이름과 투영으로 구분합니다.
+   * </p>
+   */
+  private String cacheKey(String apiName, JsonProjection projection, String path, BaseRequest request) {
+    if (contentCache == null) {
+      return null;
+    }
+    StringBuilder key = new StringBuilder(apiName);
+    if (projection != null) {
+      key.append('[').append(projection.key()).append(']');
+    }
+    key.append(' ').append(path);
+    char separator = '?';
+    for (Map.Entry<String, String> param : new TreeMap<>(request.toQueryParameters()).entrySet()) {
+      key.append(separator).append(param.getKey()).append('=').append(param.getValue());
+      separator = '&';
+    }
+    return key.toString();
+  }
+
+  /**
+   * 캐시된 본문 조회 (디스크 계층의 원문은 contentParser로 다시 파싱)
+   */
+  private <T> ContentApiResult<T> getCached(String cacheKey, BaseRequest request, HttpUrl url,
+      JsonProjection projection, Function<JsonNode, T> contentParser, String apiName) {
+    if (contentCache == null) {
+      return null;
+    }
+    return servedFromCache(contentCache.get(cacheKey,
+        cachedParser(cacheKey, request, url, projection, contentParser, apiName)), cacheKey, apiName);
+  }
+
+  /**
+   * 캐시에 원문만 보관된 경우(디스크 등) 결과로 변환하는 함수 (파싱 실패 시 null을 반환해 항목을 버리게 함)
+   */
+  private <T> Function<String, ContentApiResult<T>> cachedParser(String cacheKey, BaseRequest request,
+      HttpUrl url, JsonProjection projection, Function<JsonNode, T> contentParser, String apiName) {
+    return rawJson -> {
+      try {
+        Payload payload = parseMode == ParseMode.STREAMING
+            ? Payload.streamed(projection != null
+                ? projection.read(objectMapper, objectMapper.createParser(rawJson))
+                : objectMapper.readTree(rawJson), rawJson.length())
+            : Payload.buffered(rawJson);
+        return toContentApiResult(request, url, payload, projection, contentParser, apiName);
+      } catch (Exception e) {
+        log.warn("Failed to parse cached {} response: key={}, error={}", apiName, cacheKey, e.getMessage());
+        return null;
+      }
+    };
+  }
+
+  private static <T> ContentApiResult<T> servedFromCache(ContentApiResult<T> cached, String cacheKey,
+      String apiName) {
+    if (cached != null) {
+      log.debug("{} served from content cache: key={}", apiName, cacheKey);
+    }
+    return cached;
+  }
+
+  /**
+   * 내용이 있는 성공 결과만 캐시에 저장 (STREAMING 모드는 JSON 트리를 원문으로 직렬화)
+   */
+  private <T> ContentApiResult<T> putCached(String cacheKey, Payload payload, ContentApiResult<T> result) {
+    if (contentCache != null && !result.hasError() && result.content().isPresent()) {
+      contentCache.put(cacheKey, result,
+          payload::rawJson);
+    }
+    return result;
+  }
+
+  /**
+   * rawDataRetention 설정에 따라 성공 응답 원문 보관 (오류 결과의 원문은 항상 문자열로 보관)
+   *
+   * @param rawData 원문 문자열
+   * @return 보관할 RawData (보관하지 않으면 null)
+   */
+  protected RawData retainRawData(String rawData) {
+    return RawData.retain(rawData, properties.getRawDataRetention());
+  }
+
+  /**
+   * 목록/본문 조회 요청 동기 실행 (parseMode에 따라 문자열 또는 JSON 트리로 읽음)
+   */
+  private Payload fetchPayload(Request request) throws IOException {
+    return fetchPayload(request, null);
+  }
+
+  /**
+   * 목록/본문 조회 요청 동기 실행 (STREAMING 모드에서는 투영된 부분만 트리로 읽음)
+   */
+  private Payload fetchPayload(Request request, JsonProjection projection) throws IOException {
+    try (Response response = client.newCall(request).execute()) {
+      if (!response.isSuccessful()) {
+        throw new HttpStatusException(response.code());
+      }
+      return response.body() != null ? readPayload(request.url(), response.body(), projection) : null;
+    }
+  }
 
-      if (responseString == null || responseString.isBlank()) {
-        log.warn("Empty response body for {}: request={}, url={}", apiName, request, url);
-        return ContentApiResult.empty();
+  /**
+   * 응답 본문 읽기 (동기 조회용)
+   * <p>
+   * BUFFERED 모드는 본문 전체를 문자열로 읽고, STREAMING 모드는 바이트 스트림을 바로 JSON 트리로 파싱합니다.
+   * STREAMING 모드에서 투영이 있으면 제외된 부분은 트리를 만들지 않고 건너뛰며,
+   * {@link RawDataSink}가 설정되어 있으면 읽은 바이트를 그대로 복사합니다.
+   * </p>
+   */
+  private Payload readPayload(HttpUrl url, ResponseBody body, JsonProjection projection) throws IOException {
+    if (parseMode != ParseMode.STREAMING) {
+      return Payload.buffered(body.string());
+    }
+
+    InputStream in = body.byteStream();
+    RawDataSink sink = properties.getRawDataSink();
+    if (sink != null) {
+      try {
+        OutputStream out = sink.open(url);
+        if (out != null) {
+          in = new TeeInputStream(in, out);
+        }
+      } catch (IOException e) {
+        log.warn("Failed to open raw data sink: url={}, error={}", url, e.getMessage());
+      }
+    }
+
+    final long size = body.contentLength();
+    try (InputStream stream = in) {
+      return Payload.streamed(projection != null
+          ? projection.read(objectMapper, objectMapper.createParser(stream))
+          : objectMapper.readTree(stream), size);
+    }
+  }
+
+  /**
+   * 비동기 응답 본문 읽기 (OkHttp Dispatcher 스레드에서 실행)
+   * <p>
+   * BUFFERED 모드는 {@link #readPayload(HttpUrl, ResponseBody, JsonProjection)}와 같습니다. STREAMING 모드는 본문을 바이트 배열로만
+   * 읽어 두고 JSON 트리 생성은 parseExecutor에서 {@link Payload#toTree}로 수행하므로, 큰 본문을 파싱하는 동안
+   * Dispatcher 스레드를 점유하지 않습니다. 대신 동기 조회와 달리 파싱 전까지 본문 바이트 크기만큼 메모리를 더 사용합니다.
+   * </p>
+   */
+  private Payload bufferPayload(HttpUrl url, ResponseBody body) throws IOException {
+    if (parseMode != ParseMode.STREAMING) {
+      return Payload.buffered(body.string());
+    }
+
+    final byte[] bytes = body.bytes();
+    RawDataSink sink = properties.getRawDataSink();
+    if (sink != null) {
+      try (OutputStream out = sink.open(url)) {
+        if (out != null) {
+          out.write(bytes);
+        }
+      } catch (IOException e) {
+        log.warn("Failed to write raw data sink: url={}, error={}", url, e.getMessage());
       }
+    }
+    return Payload.bytes(bytes);
+  }
+
+  /** 응답 본문 변환 함수 */
+  @FunctionalInterface
+  private interface BodyReader<T> {
+    T read(HttpUrl url, ResponseBody body) throws IOException;
+  }
 
-      JsonNode result = objectMapper.readTree(responseString);
-      log.debug("{} API call successful: url={}, responseSize={}",
-          apiName, url, responseString.length());
+  /**
+   * 응답 변환 함수 (응답은 호출 후 닫힘)
+   *
+   * @param <T> 변환 결과 타입
+   */
+  @FunctionalInterface
+  protected interface ResponseHandler<T> {
+    T handle(Response response) throws IOException;
+  }
+
+  /**
+   * 읽은 응답 본문
+   *
+   * @param rawData 원문 (STREAMING 모드에서는 null)
+   * @param tree    파싱된 JSON 트리 (BUFFERED 모드와 비동기 STREAMING 모드에서는 null)
+   * @param bytes   파싱 전 본문 바이트 (비동기 STREAMING 모드에서만 사용, 그 외에는 null)
+   * @param size    본문 크기 (BUFFERED는 문자 수, STREAMING은 바이트 수 또는 Content-Length, 알 수 없으면 -1)
+   */
+  private record Payload(String rawData, JsonNode tree, byte[] bytes, long size) {
+
+    static Payload buffered(String rawData) {
+      return new Payload(rawData, null, null, rawData != null ? rawData.length() : 0);
+    }
+
+    static Payload streamed(JsonNode tree, long size) {
+      return new Payload(null, tree == null || tree.isMissingNode() ? null : tree, null, size);
+    }
+
+    static Payload bytes(byte[] bytes) {
+      return new Payload(null, null, bytes, bytes.length);
+    }
 
-      return ContentApiResult.of(responseString, contentParser.apply(result));
+    /**
+     * 캐시에 저장할 원문 JSON (STREAMING 모드는 본문 바이트 또는 JSON 트리를 문자열로 변환)
+     */
+    String rawJson() {
+      if (rawData != null) {
+        return rawData;
+      }
+      return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : tree.toString();
+    }
+
+    /**
+     * JSON 트리 반환 (본문이 비어 있으면 null)
+     */
+    JsonNode toTree(ObjectMapper objectMapper) throws IOException {
+      return toTree(objectMapper, null);
+    }
 
-    } catch (Exception e) {
-      log.error("Failed to call {} API: url={}, error={}", apiName, url, e.getMessage());
-      return ContentApiResult.error(responseString);
+    /**
+     * JSON 트리 반환 (원문에서 읽을 때는 투영 적용, 본문이 비어 있으면 null)
+     */
+    JsonNode toTree(ObjectMapper objectMapper, JsonProjection projection) throws IOException {
+      if (tree != null) {
+        return tree;
+      }
+      if (bytes != null) {
+        if (bytes.length == 0) {
+          return null;
+        }
+        JsonNode parsed = projection != null
+            ? projection.read(objectMapper, objectMapper.createParser(bytes))
+            : objectMapper.readTree(bytes);
+        return parsed == null || parsed.isMissingNode() ? null : parsed;
+      }
+      if (rawData == null || rawData.isBlank()) {
+        return null;
+      }
+      return projection != null
+          ? projection.read(objectMapper, objectMapper.createParser(rawData))
+          : objectMapper.readTree(rawData);
+    }
+  }
+
+  /**
+   * 동일 API·URL의 동시 동기 호출 병합
+   * <p>
+   * 병합된 호출자들은 같은 결과 객체(DTO 포함)를 공유하므로 결과를 수정하지 않아야 합니다.
+   * </p>
+   */
+  private <R> R coalesce(String apiName, HttpUrl url, Supplier<R> call) {
+    return coalesce(apiName, null, url, call);
+  }
+
+  /**
+   * 동일 API·투영·URL의 동시 동기 호출 병합
+   */
+  private <R> R coalesce(String apiName, JsonProjection projection, HttpUrl url, Supplier<R> call) {
+    if (singleFlight == null) {
+      return call.get();
+    }
+    return singleFlight.execute(FlightKey.of(apiName, projection, url), call);
+  }
+
+  /**
+   * 동일 API·URL의 동시 비동기 호출 병합
+   * <p>
+   * 병합된 호출자 중 일부가 반환된 Future를 취소해도 공유 중인 HTTP 호출은 계속되며,
+   * 모든 호출자가 취소하면 HTTP 호출도 취소합니다.
+   * </p>
+   */
+  private <R> CompletableFuture<R> coalesceAsync(String apiName, HttpUrl url,
+      Supplier<CompletableFuture<R>> call) {
+    return coalesceAsync(apiName, null, url, call);
+  }
+
+  /**
+   * 동일 API·투영·URL의 동시 비동기 호출 병합
+   */
+  private <R> CompletableFuture<R> coalesceAsync(String apiName, JsonProjection projection, HttpUrl url,
+      Supplier<CompletableFuture<R>> call) {
+    if (singleFlight == null) {
+      return call.get();
+    }
+    return singleFlight.executeAsync(FlightKey.of(apiName, projection, url), call);
+  }
+
+  /**
+   * HTTP 호출 Future에 후속 처리를 연결하고, 후속 Future가 취소되면 HTTP 호출도 취소
+   * <p>
+   * CompletableFuture의 후속 단계를 취소해도 앞 단계는 취소되지 않으므로 취소를 직접 전달합니다.
+   * </p>
+   */
+  private static <P, R> CompletableFuture<R> cancelling(CompletableFuture<P> call,
+      Function<CompletableFuture<P>, CompletableFuture<R>> then) {
+    CompletableFuture<R> downstream = then.apply(call);
+    downstream.whenComplete((result, error) -> {
+      if (downstream.isCancelled()) {
+        call.cancel(true);
+      }
+    });
+    return downstream;
+  }
+
+  /** 요청 병합 키 (같은 URL이라도 파싱 방식이나 투영이 다르면 별도 호출) */
+  private record FlightKey(String apiName, String projection, HttpUrl url) {
+
+    static FlightKey of(String apiName, JsonProjection projection, HttpUrl url) {
+      return new FlightKey(apiName, projection != null ? projection.key() : null, url);
+    }
+  }
+
+  /**
+   * CompletionException 등 래핑 예외를 벗겨낸 원인 메시지 반환
+   */
+  protected static String rootMessage(Throwable e) {
+    Throwable cause = e;
+    while (cause.getCause() != null && cause != cause.getCause()) {
+      cause = cause.getCause();
     }
+    return cause.getMessage();
   }
 }
@@ -0,0 +1,153 @@
+package kr.go.law.common.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 요청 실행기
+ * <p>
+ * 동기 API 호출을 여러 개 동시에 실행합니다. Java 21 이상에서는 요청마다 가상 스레드를 사용하고,
+ * Java 17에서는 maxConcurrency 크기의 스레드 풀을 사용합니다. 어느 경우든 동시에 진행되는 요청 수는
+ * maxConcurrency로 제한됩니다.
+ * </p>
+ * <p>
+ * 실행 중인 작업 안에서 같은 실행기에 {@link #submit(Supplier)}를 호출하면 새 작업을 큐에 넣지 않고
+ * 호출한 스레드에서 바로 실행합니다. 바깥 작업이 이미 동시 실행 한도를 차지하고 있으므로,
+ * 큐에 넣은 뒤 {@code join()}으로 기다리면 스레드 풀(Java 17)이나 세마포어(Java 21)가 고갈되어
+ * 교착 상태에 빠질 수 있기 때문입니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * List<StatuteContentRequest> requests = ...;
+ *
+ * List<ContentApiResult<StatuteContentDto>> results = client.bulk()
+ *     .fetchAll(requests, client.getStatute()::getContent);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class BulkExecutor implements AutoCloseable {
+
+  private final int maxConcurrency;
+  private final Semaphore permits;
+  private final ExecutorService executor;
+  /** 현재 스레드가 이 실행기의 작업을 실행 중인지 여부 */
+  private final ThreadLocal<Boolean> inTask = new ThreadLocal<>();
+
+  /**
+   * BulkExecutor 생성자
+   *
+   * @param maxConcurrency 최대 동시 실행 수 (1 이상)
+   */
+  public BulkExecutor(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    this.maxConcurrency = maxConcurrency;
+    this.permits = new Semaphore(maxConcurrency);
+    this.executor = BulkThreads.newExecutor(maxConcurrency);
+    log.debug("BulkExecutor created: maxConcurrency={}, virtualThreads={}", maxConcurrency, BulkThreads.isVirtual());
+  }
+
+  /**
+   * 단일 호출을 비동기로 실행
+   * <p>
+   * 이 실행기의 작업 안에서 호출하면 호출한 스레드에서 바로 실행하고 완료된 Future를 반환합니다.
+   * </p>
+   *
+   * @param <T>  결과 타입
+   * @param call 실행할 호출
+   * @return 결과 Future
+   */
+  public <T> CompletableFuture<T> submit(Supplier<? extends T> call) {
+    if (Boolean.TRUE.equals(inTask.get())) {
+      try {
+        return CompletableFuture.completedFuture(call.get());
+      } catch (RuntimeException | Error e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      permits.acquireUninterruptibly();
+      inTask.set(Boolean.TRUE);
+      try {
+        return call.get();
+      } finally {
+        inTask.remove();
+        permits.release();
+      }
+    }, executor);
+  }
+
+  /**
+   * 모든 요청을 비동기로 실행
+   *
+   * @param <R>      요청 타입
+   * @param <T>      결과 타입
+   * @param requests 요청 목록
+   * @param call     요청별 호출 함수 (예: {@code client.getStatute()::getContent})
+   * @return 요청 순서와 동일한 순서의 결과 Future 목록
+   */
+  public <R, T> List<CompletableFuture<T>> submitAll(Collection<? extends R> requests,
+      Function<? super R, ? extends T> call) {
+    final List<CompletableFuture<T>> futures = new ArrayList<>(requests.size());
+    for (R request : requests) {
+      futures.add(submit(() -> call.apply(request)));
+    }
+    return futures;
+  }
+
+  /**
+   * 모든 요청을 실행하고 완료될 때까지 대기
+   *
+   * @param <R>      요청 타입
+   * @param <T>      결과 타입
+   * @param requests 요청 목록
+   * @param call     요청별 호출 함수 (예: {@code client.getStatute()::getContent})
+   * @return 요청 순서와 동일한 순서의 결과 목록
+   */
+  public <R, T> List<T> fetchAll(Collection<? extends R> requests, Function<? super R, ? extends T> call) {
+    final List<CompletableFuture<T>> futures = submitAll(requests, call);
+    final List<T> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<T> future : futures) {
+      results.add(future.join());
+    }
+    return results;
+  }
+
+  /**
+   * 새 작업 접수를 중단하고 실행기 스레드를 정리 (이미 제출한 작업은 끝까지 실행)
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  /**
+   * 최대 동시 실행 수 반환
+   *
+   * @return 최대 동시 실행 수
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * 가상 스레드 사용 여부 반환
+   *
+   * @return Java 21 이상에서 실행 중이면 true
+   */
+  public boolean isVirtualThreads() {
+    return BulkThreads.isVirtual();
+  }
+}
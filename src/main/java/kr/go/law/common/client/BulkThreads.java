@@ -0,0 +1,54 @@
+package kr.go.law.common.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link BulkExecutor}용 Executor 생성 (Java 17 구현)
+ * <p>
+ * Multi-Release JAR의 기본 구현으로, Java 21 이상에서는
+ * {@code META-INF/versions/21}의 가상 스레드 구현으로 대체됩니다.
+ * Java 17에서는 maxConcurrency 크기로 제한된 데몬 스레드 풀을 사용합니다.
+ * </p>
+ */
+final class BulkThreads {
+
+  private BulkThreads() {
+  }
+
+  /**
+   * 대량 요청 실행용 Executor 생성
+   *
+   * @param maxConcurrency 최대 동시 실행 수
+   * @return ExecutorService
+   */
+  static ExecutorService newExecutor(int maxConcurrency) {
+    final AtomicInteger sequence = new AtomicInteger();
+    final ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "lawopendata-bulk-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        maxConcurrency, maxConcurrency,
+        60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * 가상 스레드 사용 여부
+   *
+   * @return Java 17 구현은 항상 false
+   */
+  static boolean isVirtual() {
+    return false;
+  }
+}
@@ -0,0 +1,11 @@
+package kr.go.law.common.client;
+
+/**
+ * 일괄 조회 결과 전달 순서
+ */
+public enum EmitOrder {
+  /** 요청 목록 순서대로 전달 (앞선 요청이 끝날 때까지 뒤의 결과는 대기) */
+  INPUT_ORDER,
+  /** 완료되는 순서대로 전달 */
+  COMPLETION_ORDER
+}
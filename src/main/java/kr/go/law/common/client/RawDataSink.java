@@ -0,0 +1,26 @@
+package kr.go.law.common.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import okhttp3.HttpUrl;
+
+/**
+ * STREAMING 파싱 모드에서 응답 원문을 복사해 둘 대상
+ * <p>
+ * 요청마다 {@link #open(HttpUrl)}이 호출되며, 반환한 스트림에는 응답 본문 바이트(UTF-8 JSON)가 그대로 기록됩니다.
+ * 스트림은 파싱이 끝나면 닫힙니다. 기록 중 오류가 나도 API 호출 결과에는 영향을 주지 않습니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface RawDataSink {
+
+  /**
+   * 응답 원문을 기록할 스트림 열기
+   *
+   * @param url 요청 URL
+   * @return 출력 스트림 (기록하지 않으려면 null)
+   * @throws IOException 스트림을 열지 못한 경우
+   */
+  OutputStream open(HttpUrl url) throws IOException;
+}
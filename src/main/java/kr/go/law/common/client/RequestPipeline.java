@@ -0,0 +1,214 @@
+package kr.go.law.common.client;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 요청 파이프라인
+ * <p>
+ * 요청 목록을 최대 window개까지 동시에 진행시키고, 하나가 끝날 때마다 다음 요청을 시작합니다.
+ * INPUT_ORDER에서는 아직 전달하지 못한 가장 앞 요청부터 window개 안에서만 시작해 보관하는 결과 수도 window개로 제한됩니다.
+ * 호출 스레드나 별도 스레드 풀을 점유하지 않으므로 HTTP 호출은 OkHttp Dispatcher와 keep-alive 연결 풀에서,
+ * 응답 파싱은 호출 함수가 지정한 Executor에서 수행됩니다.
+ * 결과는 {@link EmitOrder}에 따라 요청 순서 또는 완료 순서로, 한 번에 하나씩 callback에 전달됩니다.
+ * </p>
+ *
+ * @param <R> 요청 타입
+ * @param <T> 결과 타입
+ */
+@Slf4j
+public final class RequestPipeline<R, T> {
+
+  private final List<? extends R> requests;
+  private final int window;
+  private final EmitOrder order;
+  private final Function<? super R, CompletableFuture<T>> call;
+  private final BiConsumer<? super R, ? super T> callback;
+
+  private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+  /** INPUT_ORDER에서 먼저 완료된 결과 보관 */
+  private final Object[] completed;
+  private final boolean[] ready;
+
+  private int nextStart;
+  private int nextEmit;
+  private int emitted;
+  private int inFlight;
+  private boolean pumping;
+
+  private RequestPipeline(List<? extends R> requests, int window, EmitOrder order,
+      Function<? super R, CompletableFuture<T>> call, BiConsumer<? super R, ? super T> callback) {
+    this.requests = requests;
+    this.window = Math.max(1, window);
+    this.order = order;
+    this.call = call;
+    this.callback = callback;
+    this.completed = order == EmitOrder.INPUT_ORDER ? new Object[requests.size()] : null;
+    this.ready = order == EmitOrder.INPUT_ORDER ? new boolean[requests.size()] : null;
+  }
+
+  /**
+   * 파이프라인 실행
+   *
+   * @param <R>      요청 타입
+   * @param <T>      결과 타입
+   * @param requests 요청 목록
+   * @param window   동시에 진행할 최대 요청 수
+   * @param order    결과 전달 순서
+   * @param call     요청별 비동기 호출 (실패 없이 결과로 완료되어야 함)
+   * @param callback 결과 수신자 (요청, 결과)
+   * @return 모든 결과가 callback에 전달되면 완료되는 Future
+   *         (호출 또는 callback이 예외(Error 포함)를 던지면 그 예외로 완료되고 남은 요청은 시작하지 않음)
+   */
+  public static <R, T> CompletableFuture<Void> run(List<? extends R> requests, int window, EmitOrder order,
+      Function<? super R, CompletableFuture<T>> call, BiConsumer<? super R, ? super T> callback) {
+    RequestPipeline<R, T> pipeline = new RequestPipeline<>(requests, window, order, call, callback);
+    pipeline.start();
+    return pipeline.done;
+  }
+
+  private void start() {
+    if (requests.isEmpty()) {
+      done.complete(null);
+      return;
+    }
+    pump();
+  }
+
+  /**
+   * 시작할 수 있는 요청을 모두 시작
+   * <p>
+   * 한 번에 한 스레드만 요청을 시작하고, 다른 스레드의 완료 콜백은 상태만 갱신한 뒤 돌아갑니다.
+   * 이미 완료된 Future(캐시 등)는 콜백을 거치지 않고 반복문에서 바로 처리하므로, 요청 수가 많아도 호출 스택이 깊어지지 않습니다.
+   * </p>
+   */
+  private void pump() {
+    synchronized (this) {
+      if (pumping) {
+        return;
+      }
+      pumping = true;
+    }
+    try {
+      while (true) {
+        final int index;
+        synchronized (this) {
+          if (done.isDone() || !canStart()) {
+            pumping = false;
+            return;
+          }
+          index = nextStart++;
+          inFlight++;
+        }
+
+        final CompletableFuture<T> future;
+        try {
+          future = call.apply(requests.get(index));
+        } catch (RuntimeException e) {
+          onComplete(index, null, e);
+          continue;
+        }
+
+        if (!future.isDone()) {
+          future.whenComplete((result, error) -> guarded(() -> {
+            onComplete(index, result, error);
+            pump();
+          }));
+          continue;
+        }
+
+        T result = null;
+        Throwable error = null;
+        try {
+          result = future.join();
+        } catch (CompletionException e) {
+          error = e.getCause() != null ? e.getCause() : e;
+        } catch (CancellationException e) {
+          error = e;
+        }
+        onComplete(index, result, error);
+      }
+    } catch (Throwable t) {
+      synchronized (this) {
+        pumping = false;
+      }
+      fail(t);
+    }
+  }
+
+  /**
+   * 새 요청을 시작할 수 있는지 (lock을 보유한 상태에서 호출)
+   * <p>
+   * INPUT_ORDER에서는 아직 전달하지 못한 가장 앞 요청부터 window개 안에서만 시작하므로,
+   * 앞 요청 하나가 느려도 보관 중인 결과가 window개를 넘지 않습니다.
+   * </p>
+   */
+  private boolean canStart() {
+    if (nextStart >= requests.size() || inFlight >= window) {
+      return false;
+    }
+    return order != EmitOrder.INPUT_ORDER || nextStart < nextEmit + window;
+  }
+
+  private void onComplete(int index, T result, Throwable error) {
+    synchronized (this) {
+      inFlight--;
+    }
+    if (error != null) {
+      log.error("Pipeline request failed: index={}, error={}", index, error.getMessage());
+      fail(error);
+      return;
+    }
+    onResult(index, result);
+  }
+
+  /**
+   * 콜백에서 발생한 예외로 결과 Future가 완료되지 않는 일이 없도록 감싸서 실행
+   */
+  private void guarded(Runnable callback) {
+    try {
+      callback.run();
+    } catch (Throwable t) {
+      fail(t);
+    }
+  }
+
+  private void fail(Throwable error) {
+    done.completeExceptionally(error);
+  }
+
+  /** 결과 전달 (INPUT_ORDER는 앞선 결과가 모두 전달된 구간까지만) */
+  @SuppressWarnings("unchecked")
+  private synchronized void onResult(int index, T result) {
+    if (done.isDone()) {
+      return;
+    }
+    if (order == EmitOrder.COMPLETION_ORDER) {
+      emit(requests.get(index), result);
+    } else {
+      completed[index] = result;
+      ready[index] = true;
+      while (nextEmit < requests.size() && ready[nextEmit]) {
+        T value = (T) completed[nextEmit];
+        completed[nextEmit] = null;
+        emit(requests.get(nextEmit), value);
+        nextEmit++;
+      }
+    }
+    if (emitted == requests.size()) {
+      done.complete(null);
+    }
+  }
+
+  private void emit(R request, T result) {
+    callback.accept(request, result);
+    emitted++;
+  }
+}
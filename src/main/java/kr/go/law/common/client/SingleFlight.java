@@ -0,0 +1,178 @@
+package kr.go.law.common.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키로 동시에 들어온 호출을 하나로 합치는 single-flight 도우미
+ * <p>
+ * 같은 키의 호출이 진행 중이면 새 호출을 시작하지 않고 진행 중인 호출의 결과를 공유합니다.
+ * 호출이 끝나면 키를 제거하므로 결과를 캐시하지는 않습니다.
+ * </p>
+ * <p>
+ * 비동기 호출은 호출자마다 별도 Future를 반환하고 구독자 수를 셉니다. 한 호출자가 취소해도 다른 호출자에게는
+ * 영향이 없으며, 마지막 구독자가 취소하면 실제 호출 Future도 취소합니다.
+ * </p>
+ */
+final class SingleFlight {
+
+  private final Map<Object, Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 동기 호출 실행 (진행 중인 동일 호출이 있으면 그 결과를 기다려 반환)
+   *
+   * @param <T>  결과 타입
+   * @param key  호출 식별 키
+   * @param call 실제 호출
+   * @return 호출 결과
+   */
+  @SuppressWarnings("unchecked")
+  <T> T execute(Object key, Supplier<T> call) {
+    while (true) {
+      final Flight<T> flight = new Flight<>(key);
+      final Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(key, flight);
+      if (existing != null) {
+        // 동기 대기자는 취소하지 않는 구독자로 참여 (모든 구독자가 취소해 버려진 호출이면 다시 시도)
+        final CompletableFuture<T> shared = existing.subscribe();
+        if (shared == null) {
+          continue;
+        }
+        return shared.join();
+      }
+
+      try {
+        T result = call.get();
+        inFlight.remove(key, flight);
+        flight.shared.complete(result);
+        return result;
+      } catch (RuntimeException | Error e) {
+        inFlight.remove(key, flight);
+        flight.shared.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * 비동기 호출 실행 (진행 중인 동일 호출이 있으면 그 결과를 공유)
+   * <p>
+   * 반환된 Future를 취소하면 해당 호출자만 구독을 해지합니다. 모든 호출자가 취소하면 실제 호출 Future를 취소하고
+   * 키를 제거하므로, 이후 같은 키의 호출은 새로 시작합니다.
+   * </p>
+   *
+   * @param <T>  결과 타입
+   * @param key  호출 식별 키
+   * @param call 실제 호출 (반환한 Future를 취소하면 HTTP 호출도 취소되어야 함)
+   * @return 호출자 전용 결과 Future
+   */
+  @SuppressWarnings("unchecked")
+  <T> CompletableFuture<T> executeAsync(Object key, Supplier<CompletableFuture<T>> call) {
+    while (true) {
+      final Flight<T> flight = new Flight<>(key);
+      final Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(key, flight);
+      if (existing != null) {
+        final CompletableFuture<T> subscriber = existing.subscribe();
+        if (subscriber != null) {
+          return subscriber;
+        }
+        continue;
+      }
+
+      final CompletableFuture<T> subscriber = flight.subscribe();
+      CompletableFuture<T> source;
+      try {
+        source = call.get();
+      } catch (RuntimeException | Error e) {
+        source = CompletableFuture.failedFuture(e);
+      }
+      flight.start(source);
+      return subscriber;
+    }
+  }
+
+  /**
+   * 진행 중인 호출 수 반환
+   *
+   * @return 진행 중인 키 수
+   */
+  int size() {
+    return inFlight.size();
+  }
+
+  /**
+   * 진행 중인 호출 (공유 결과와 구독자 수)
+   *
+   * @param <T> 결과 타입
+   */
+  private final class Flight<T> {
+    private final Object key;
+    private final CompletableFuture<T> shared = new CompletableFuture<>();
+
+    private CompletableFuture<T> source;
+    private int subscribers;
+    private boolean abandoned;
+
+    private Flight(Object key) {
+      this.key = key;
+    }
+
+    /**
+     * 구독자 추가
+     *
+     * @return 구독자 전용 Future (모든 구독자가 취소해 버려진 호출이면 null)
+     */
+    synchronized CompletableFuture<T> subscribe() {
+      if (abandoned) {
+        return null;
+      }
+      subscribers++;
+      final CompletableFuture<T> subscriber = shared.copy();
+      subscriber.whenComplete((result, error) -> {
+        if (subscriber.isCancelled()) {
+          unsubscribe();
+        }
+      });
+      return subscriber;
+    }
+
+    /**
+     * 실제 호출 Future 연결 (결과를 모든 구독자에게 전달)
+     */
+    void start(CompletableFuture<T> source) {
+      final boolean cancel;
+      synchronized (this) {
+        this.source = source;
+        cancel = abandoned;
+      }
+      if (cancel) {
+        source.cancel(true);
+      }
+      source.whenComplete((result, error) -> {
+        inFlight.remove(key, this);
+        if (error != null) {
+          shared.completeExceptionally(error);
+        } else {
+          shared.complete(result);
+        }
+      });
+    }
+
+    private void unsubscribe() {
+      final CompletableFuture<T> toCancel;
+      synchronized (this) {
+        if (--subscribers > 0 || shared.isDone()) {
+          return;
+        }
+        abandoned = true;
+        inFlight.remove(key, this);
+        toCancel = source;
+      }
+      // lock 밖에서 취소 (취소 콜백이 공유 Future를 완료시키므로)
+      if (toCancel != null) {
+        toCancel.cancel(true);
+      }
+    }
+  }
+}
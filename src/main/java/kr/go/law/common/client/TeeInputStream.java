@@ -0,0 +1,109 @@
+package kr.go.law.common.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽은 바이트를 출력 스트림에도 기록하는 InputStream
+ * <p>
+ * 출력 스트림 오류는 로그만 남기고 이후 기록을 중단하므로 읽기에는 영향을 주지 않습니다.
+ * 닫을 때 남은 바이트를 모두 기록한 뒤 출력 스트림을 닫습니다.
+ * </p>
+ */
+@Slf4j
+final class TeeInputStream extends FilterInputStream {
+
+  private OutputStream sink;
+
+  TeeInputStream(InputStream in, OutputStream sink) {
+    super(in);
+    this.sink = sink;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b >= 0 && sink != null) {
+      try {
+        sink.write(b);
+      } catch (IOException e) {
+        abandonSink(e);
+      }
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    int n = super.read(buffer, offset, length);
+    if (n > 0 && sink != null) {
+      try {
+        sink.write(buffer, offset, n);
+      } catch (IOException e) {
+        abandonSink(e);
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // 건너뛴 바이트도 기록되도록 read로 처리
+    byte[] buffer = new byte[(int) Math.min(n, 8192)];
+    long skipped = 0;
+    while (skipped < n) {
+      int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+      if (read < 0) {
+        break;
+      }
+      skipped += read;
+    }
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (sink != null) {
+        // 파서가 끝까지 읽지 않은 나머지도 기록
+        byte[] buffer = new byte[8192];
+        while (read(buffer, 0, buffer.length) >= 0) {
+          // drain
+        }
+      }
+    } finally {
+      try {
+        super.close();
+      } finally {
+        closeSink();
+      }
+    }
+  }
+
+  private void abandonSink(IOException e) {
+    log.warn("Failed to write raw data to sink, disabling capture for this response: {}", e.getMessage());
+    closeSink();
+  }
+
+  private void closeSink() {
+    if (sink == null) {
+      return;
+    }
+    try {
+      sink.close();
+    } catch (IOException e) {
+      log.warn("Failed to close raw data sink: {}", e.getMessage());
+    } finally {
+      sink = null;
+    }
+  }
+}
@@ -8,7 +8,7 @@ import lombok.experimental.SuperBuilder;
 
 /** DTO 공통 추상 클래스 */
 @Data
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 public abstract class BaseDto {
   /** 파싱 시 예상치 못한 필드들을 저장 */
@@ -0,0 +1,297 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import kr.go.law.config.LawOpenDataProperties;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 기반 적응형 동시 요청 수 제한 인터셉터
+ * <p>
+ * 호스트별로 한도를 따로 관리하므로, 판례 Fallback 호스트(NTS, COMWEL)가 느려져도 law.go.kr 한도는 줄지 않습니다.
+ * 응답 지연이 기준 지연(EWMA) 대비 정상이면 동시 요청 한도를 한 RTT당 약 1씩 늘리고,
+ * 429, 5xx, 네트워크 오류, 지연 급증(기준 지연 × latencyTolerance 초과)이 발생하면
+ * 한도를 backoffRatio 배로 줄입니다. 감소는 기준 지연 시간(최소 {@value #MIN_DECREASE_INTERVAL_MILLIS}ms)당
+ * 최대 한 번만 적용됩니다.
+ * </p>
+ * <p>
+ * 느린 응답도 기준 지연에 반영하므로, 응답 크기나 업스트림 변화로 지연이 계속 높아지면 기준 지연이 따라 올라가
+ * 한도가 최소값에 고정되지 않습니다.
+ * </p>
+ * <p>
+ * 한도를 기다리는 요청은 호출 타임아웃(없으면 연결+읽기 타임아웃)까지만 대기하며, 호출이 취소되면 즉시 중단합니다.
+ * 현재 한도는 {@link #getLimit(String)}로 조회할 수 있어 메트릭으로 노출할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter implements Interceptor {
+
+  /** 기준 지연 EWMA 가중치 */
+  private static final double BASELINE_SMOOTHING = 0.1;
+
+  /** 기준 지연이 없거나 매우 짧을 때 적용하는 최소 감소 간격 */
+  static final long MIN_DECREASE_INTERVAL_MILLIS = 100;
+
+  /** 대기 중 호출 취소 여부를 확인하는 간격 */
+  private static final long CANCEL_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double latencyTolerance;
+
+  private final Map<String, HostLimit> hosts = new ConcurrentHashMap<>();
+
+  /**
+   * AdaptiveConcurrencyLimiter 생성자
+   *
+   * @param initialLimit     호스트별 초기 동시 요청 한도
+   * @param minLimit         최소 동시 요청 한도 (1 이상)
+   * @param maxLimit         최대 동시 요청 한도
+   * @param backoffRatio     감소 시 곱할 비율 (0 초과 1 미만)
+   * @param latencyTolerance 지연 급증으로 판단할 기준 지연 대비 배수 (1 초과)
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      double latencyTolerance) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("invalid limit range: min=" + minLimit + ", max=" + maxLimit);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+    }
+    if (latencyTolerance <= 1) {
+      throw new IllegalArgumentException("latencyTolerance must be greater than 1: " + latencyTolerance);
+    }
+    this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyTolerance = latencyTolerance;
+  }
+
+  /**
+   * 설정 프로퍼티로부터 생성 (초기 한도는 maxConnection)
+   *
+   * @param properties API 설정 프로퍼티
+   * @return AdaptiveConcurrencyLimiter
+   */
+  public static AdaptiveConcurrencyLimiter from(LawOpenDataProperties properties) {
+    return new AdaptiveConcurrencyLimiter(
+        properties.getMaxConnection(),
+        properties.getMinConcurrency(),
+        properties.getMaxConcurrency(),
+        properties.getConcurrencyBackoffRatio(),
+        properties.getLatencyTolerance());
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    final HostLimit host = hostLimit(request.url().host());
+    host.acquire(request, waitTimeoutNanos(chain), chain.call()::isCanceled);
+
+    final long start = System.nanoTime();
+    final Response response;
+    try {
+      response = chain.proceed(request);
+    } catch (IOException e) {
+      host.onDropped(request, "IOException");
+      throw e;
+    }
+
+    final int code = response.code();
+    if (code == 429 || code >= 500) {
+      host.onDropped(request, "status " + code);
+    } else {
+      host.onSuccess(request, System.nanoTime() - start);
+    }
+    return response;
+  }
+
+  /**
+   * 호스트의 현재 동시 요청 한도 반환
+   *
+   * @param host 호스트명
+   * @return 동시 요청 한도 (요청한 적 없는 호스트는 초기 한도)
+   */
+  public int getLimit(String host) {
+    final HostLimit limit = hosts.get(host);
+    return limit != null ? limit.getLimit() : initialLimit;
+  }
+
+  /**
+   * 요청한 적 있는 모든 호스트의 현재 동시 요청 한도 반환
+   *
+   * @return 호스트명 → 동시 요청 한도 (호스트명 순)
+   */
+  public Map<String, Integer> getLimits() {
+    final Map<String, Integer> limits = new TreeMap<>();
+    hosts.forEach((host, limit) -> limits.put(host, limit.getLimit()));
+    return limits;
+  }
+
+  /**
+   * 호스트의 현재 진행 중인 요청 수 반환
+   *
+   * @param host 호스트명
+   * @return 진행 중인 요청 수
+   */
+  public int getInFlight(String host) {
+    final HostLimit limit = hosts.get(host);
+    return limit != null ? limit.getInFlight() : 0;
+  }
+
+  /**
+   * 호스트의 현재 기준 지연(EWMA) 반환
+   *
+   * @param host 호스트명
+   * @return 기준 지연 (측정 전이면 Duration.ZERO)
+   */
+  public Duration getBaselineLatency(String host) {
+    final HostLimit limit = hosts.get(host);
+    return limit != null ? limit.getBaselineLatency() : Duration.ZERO;
+  }
+
+  HostLimit hostLimit(String host) {
+    return hosts.computeIfAbsent(host, h -> new HostLimit());
+  }
+
+  /**
+   * 한도 대기 시간 (호출 타임아웃, 없으면 연결+읽기 타임아웃, 둘 다 없으면 무제한)
+   */
+  private static long waitTimeoutNanos(Chain chain) {
+    final long callTimeout = chain.call().timeout().timeoutNanos();
+    if (callTimeout > 0) {
+      return callTimeout;
+    }
+    final long fallback = TimeUnit.MILLISECONDS.toNanos((long) chain.connectTimeoutMillis()
+        + chain.readTimeoutMillis());
+    return fallback > 0 ? fallback : Long.MAX_VALUE;
+  }
+
+  /** 호스트별 한도 상태 */
+  final class HostLimit {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private double limit = initialLimit;
+    private int inFlight;
+    private double baselineNanos;
+    private long lastDecreaseNanos;
+
+    int getLimit() {
+      lock.lock();
+      try {
+        return (int) limit;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int getInFlight() {
+      lock.lock();
+      try {
+        return inFlight;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    Duration getBaselineLatency() {
+      lock.lock();
+      try {
+        return Duration.ofNanos((long) baselineNanos);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * 한도 안에서 진행 권한 획득 (timeoutNanos까지 대기, 취소되면 중단)
+     */
+    void acquire(Request request, long timeoutNanos, BooleanSupplier canceled) throws IOException {
+      final long deadline = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeoutNanos;
+      lock.lock();
+      try {
+        while (inFlight >= (int) limit) {
+          if (canceled.getAsBoolean()) {
+            throw new IOException("Canceled while waiting for concurrency permit: " + request.url());
+          }
+          final long remaining = deadline == Long.MAX_VALUE ? CANCEL_CHECK_NANOS : deadline - System.nanoTime();
+          if (remaining <= 0) {
+            throw new InterruptedIOException("Timed out waiting for concurrency permit: " + request.url());
+          }
+          permitAvailable.awaitNanos(Math.min(remaining, CANCEL_CHECK_NANOS));
+        }
+        inFlight++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for concurrency permit: " + request.url());
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void onSuccess(Request request, long latencyNanos) {
+      lock.lock();
+      try {
+        inFlight--;
+        final boolean spike = baselineNanos > 0 && latencyNanos > baselineNanos * latencyTolerance;
+        // 느린 응답도 기준 지연에 반영해 지연 수준 변화에 적응
+        baselineNanos = baselineNanos == 0
+            ? latencyNanos
+            : baselineNanos + (latencyNanos - baselineNanos) * BASELINE_SMOOTHING;
+
+        if (spike) {
+          decrease(request, "latency " + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + "ms");
+          return;
+        }
+
+        // 한도를 충분히 사용하고 있을 때만 증가 (유휴 상태에서 한도가 무한정 커지는 것을 방지)
+        if (inFlight + 1 >= limit / 2) {
+          limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        permitAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void onDropped(Request request, String reason) {
+      lock.lock();
+      try {
+        inFlight--;
+        decrease(request, reason);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** lock을 보유한 상태에서 호출 */
+    private void decrease(Request request, String reason) {
+      final long now = System.nanoTime();
+      final double interval = Math.max(baselineNanos, TimeUnit.MILLISECONDS.toNanos(MIN_DECREASE_INTERVAL_MILLIS));
+      if (lastDecreaseNanos == 0 || now - lastDecreaseNanos > interval) {
+        final double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = now;
+        log.debug("Concurrency limit decreased {} -> {} ({}): {}", (int) previous, (int) limit, reason,
+            request.url());
+      }
+      permitAvailable.signalAll();
+    }
+  }
+}
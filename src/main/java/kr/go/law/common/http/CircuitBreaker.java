@@ -0,0 +1,211 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서킷 브레이커
+ * <p>
+ * 연속 실패가 failureThreshold에 도달하면 OPEN 상태가 되어 openDuration 동안 호출을 즉시 실패시킵니다.
+ * openDuration이 지나면 HALF_OPEN 상태에서 halfOpenMaxCalls개의 시험 호출을 허용하고,
+ * 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN으로 전환합니다.
+ * </p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  /** 서킷 브레이커 상태 */
+  public enum State {
+    /** 정상: 모든 호출 허용 */
+    CLOSED,
+    /** 차단: 모든 호출 즉시 실패 */
+    OPEN,
+    /** 시험: 제한된 수의 호출만 허용 */
+    HALF_OPEN
+  }
+
+  /**
+   * IOException을 던질 수 있는 호출
+   *
+   * @param <T> 결과 타입
+   */
+  @FunctionalInterface
+  public interface IOCall<T> {
+    T call() throws IOException;
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenMaxCalls;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private int halfOpenCalls;
+  private long openedAtNanos;
+
+  /**
+   * CircuitBreaker 생성자
+   *
+   * @param name             이름 (로깅용, 보통 호스트명)
+   * @param failureThreshold OPEN으로 전환할 연속 실패 횟수
+   * @param openDuration     OPEN 상태 유지 시간
+   * @param halfOpenMaxCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+   */
+  public CircuitBreaker(String name, int failureThreshold, Duration openDuration, int halfOpenMaxCalls) {
+    this.name = name;
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenMaxCalls = Math.max(1, halfOpenMaxCalls);
+  }
+
+  /**
+   * 서킷 브레이커를 거쳐 호출 실행
+   *
+   * @param <T>  결과 타입
+   * @param call 실행할 호출
+   * @return 호출 결과
+   * @throws CircuitOpenException 회로가 열려 있어 호출하지 않은 경우
+   * @throws IOException          호출이 실패한 경우
+   */
+  public <T> T execute(IOCall<T> call) throws IOException {
+    if (!tryAcquirePermission()) {
+      throw new CircuitOpenException(name);
+    }
+    try {
+      T result = call.call();
+      onSuccess();
+      return result;
+    } catch (IOException | RuntimeException e) {
+      onFailure();
+      throw e;
+    }
+  }
+
+  /**
+   * 서킷 브레이커를 거쳐 비동기 호출 실행
+   * <p>
+   * 반환된 Future가 완료될 때 성공/실패를 기록합니다. 호출 결과를 기다리지 않더라도 Future를 취소하지 않아야
+   * HALF_OPEN 시험 호출 결과가 기록됩니다.
+   * </p>
+   *
+   * @param <T>  결과 타입
+   * @param call 실행할 비동기 호출
+   * @return 호출 결과 Future (회로가 열려 있으면 {@link CircuitOpenException}으로 완료)
+   */
+  public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+    if (!tryAcquirePermission()) {
+      return CompletableFuture.failedFuture(new CircuitOpenException(name));
+    }
+    try {
+      return call.get().whenComplete((result, error) -> {
+        if (error == null) {
+          onSuccess();
+        } else {
+          onFailure();
+        }
+      });
+    } catch (RuntimeException e) {
+      onFailure();
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 호출 허용 여부 확인 (허용 시 HALF_OPEN 시험 호출 수 증가)
+   *
+   * @return 호출이 허용되면 true
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenCalls >= halfOpenMaxCalls) {
+        return false;
+      }
+      halfOpenCalls++;
+    }
+    return true;
+  }
+
+  /**
+   * 호출 성공 기록
+   */
+  public synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    if (state == State.HALF_OPEN) {
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  /**
+   * 호출 실패 기록
+   */
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  /**
+   * 현재 상태 반환 (OPEN 유지 시간이 지났으면 HALF_OPEN으로 보고)
+   *
+   * @return 상태
+   */
+  public synchronized State getState() {
+    if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * 현재 연속 실패 횟수 반환
+   *
+   * @return 연속 실패 횟수
+   */
+  public synchronized int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  /**
+   * 이름 반환
+   *
+   * @return 이름 (보통 호스트명)
+   */
+  public String getName() {
+    return name;
+  }
+
+  /** lock을 보유한 상태에서 호출 */
+  private void transitionTo(State next) {
+    if (state == next && next != State.OPEN) {
+      return;
+    }
+    if (next == State.OPEN) {
+      openedAtNanos = System.nanoTime();
+    }
+    if (next == State.CLOSED) {
+      consecutiveFailures = 0;
+    }
+    halfOpenCalls = 0;
+
+    if (state != next) {
+      if (next == State.OPEN) {
+        log.warn("Circuit breaker {} -> {}: name={}, consecutiveFailures={}", state, next, name, consecutiveFailures);
+      } else {
+        log.info("Circuit breaker {} -> {}: name={}", state, next, name);
+      }
+    }
+    state = next;
+  }
+}
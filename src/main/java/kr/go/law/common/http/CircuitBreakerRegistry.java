@@ -0,0 +1,113 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import kr.go.law.config.LawOpenDataProperties;
+
+/**
+ * 호스트별 서킷 브레이커 저장소
+ */
+public class CircuitBreakerRegistry {
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final int halfOpenMaxCalls;
+
+  private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * CircuitBreakerRegistry 생성자
+   *
+   * @param failureThreshold OPEN으로 전환할 연속 실패 횟수
+   * @param openDuration     OPEN 상태 유지 시간
+   * @param halfOpenMaxCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+   */
+  public CircuitBreakerRegistry(int failureThreshold, Duration openDuration, int halfOpenMaxCalls) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.halfOpenMaxCalls = halfOpenMaxCalls;
+  }
+
+  /**
+   * 설정 프로퍼티로부터 생성
+   *
+   * @param properties API 설정 프로퍼티
+   * @return CircuitBreakerRegistry
+   */
+  public static CircuitBreakerRegistry from(LawOpenDataProperties properties) {
+    return new CircuitBreakerRegistry(
+        properties.getCircuitBreakerFailureThreshold(),
+        properties.getCircuitBreakerOpenDuration(),
+        properties.getCircuitBreakerHalfOpenCalls());
+  }
+
+  /**
+   * 서킷 브레이커 사용 여부 (failureThreshold가 0 이하이면 비활성)
+   *
+   * @return 사용하면 true
+   */
+  public boolean isEnabled() {
+    return failureThreshold > 0;
+  }
+
+  /**
+   * 서킷 브레이커를 거쳐 호출 실행 (비활성이면 그대로 호출)
+   *
+   * @param <T>  결과 타입
+   * @param host 호스트명
+   * @param call 실행할 호출
+   * @return 호출 결과
+   * @throws CircuitOpenException 회로가 열려 있어 호출하지 않은 경우
+   * @throws IOException          호출이 실패한 경우
+   */
+  public <T> T execute(String host, CircuitBreaker.IOCall<T> call) throws IOException {
+    if (!isEnabled()) {
+      return call.call();
+    }
+    return forHost(host).execute(call);
+  }
+
+  /**
+   * 서킷 브레이커를 거쳐 비동기 호출 실행 (비활성이면 그대로 호출)
+   *
+   * @param <T>  결과 타입
+   * @param host 호스트명
+   * @param call 실행할 비동기 호출
+   * @return 호출 결과 Future (회로가 열려 있으면 {@link CircuitOpenException}으로 완료)
+   * @see CircuitBreaker#executeAsync(Supplier)
+   */
+  public <T> CompletableFuture<T> executeAsync(String host, Supplier<CompletableFuture<T>> call) {
+    if (!isEnabled()) {
+      return call.get();
+    }
+    return forHost(host).executeAsync(call);
+  }
+
+  /**
+   * 호스트의 서킷 브레이커 반환 (없으면 생성)
+   *
+   * @param host 호스트명
+   * @return CircuitBreaker
+   */
+  public CircuitBreaker forHost(String host) {
+    return breakers.computeIfAbsent(host,
+        key -> new CircuitBreaker(key, failureThreshold, openDuration, halfOpenMaxCalls));
+  }
+
+  /**
+   * 호스트별 현재 상태 반환
+   *
+   * @return 호스트명 → 상태 (호스트명 순 정렬)
+   */
+  public Map<String, CircuitBreaker.State> getStates() {
+    Map<String, CircuitBreaker.State> states = new TreeMap<>();
+    breakers.forEach((host, breaker) -> states.put(host, breaker.getState()));
+    return states;
+  }
+}
@@ -0,0 +1,28 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출하지 않았을 때 발생하는 예외
+ * <p>
+ * 기존 HTTP 호출 실패와 같은 경로로 처리되도록 {@link IOException}을 상속합니다.
+ * </p>
+ */
+public class CircuitOpenException extends IOException {
+
+  private final String name;
+
+  public CircuitOpenException(String name) {
+    super("Circuit breaker is open: " + name);
+    this.name = name;
+  }
+
+  /**
+   * 열린 서킷 브레이커 이름 반환
+   *
+   * @return 이름 (보통 호스트명)
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,253 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import kr.go.law.config.LawOpenDataProperties;
+
+/**
+ * 호스트별 동시 호출 수 제한 (bulkhead)
+ * <p>
+ * 호스트마다 maxConcurrentCalls개의 허가를 두고, 허가를 얻은 호출만 실행합니다.
+ * 한 호스트가 느려져도 그 호스트로 가는 호출만 대기하므로 다른 호스트 호출은 영향을 받지 않습니다.
+ * </p>
+ * <p>
+ * 동기 호출({@link #execute})은 허가를 얻을 때까지 스레드가 대기하고, 비동기 호출({@link #executeAsync})은
+ * 호스트별 대기열에 들어가 스레드를 점유하지 않고 기다립니다. 두 방식은 같은 허가를 나눠 씁니다.
+ * </p>
+ */
+public class HostBulkhead {
+
+  private final int maxConcurrentCalls;
+
+  private final Map<String, Permits> permits = new ConcurrentHashMap<>();
+
+  /**
+   * HostBulkhead 생성자
+   *
+   * @param maxConcurrentCalls 호스트별 최대 동시 호출 수 (0 이하이면 제한 없음)
+   */
+  public HostBulkhead(int maxConcurrentCalls) {
+    this.maxConcurrentCalls = maxConcurrentCalls;
+  }
+
+  /**
+   * 설정 프로퍼티로부터 생성
+   *
+   * @param properties API 설정 프로퍼티
+   * @return HostBulkhead
+   */
+  public static HostBulkhead from(LawOpenDataProperties properties) {
+    return new HostBulkhead(properties.getMaxConcurrentCallsPerHost());
+  }
+
+  /**
+   * 제한 사용 여부
+   *
+   * @return 호스트별 최대 동시 호출 수가 1 이상이면 true
+   */
+  public boolean isEnabled() {
+    return maxConcurrentCalls > 0;
+  }
+
+  /**
+   * 허가를 얻어 호출 실행 (허가를 얻을 때까지 대기)
+   *
+   * @param <T>  결과 타입
+   * @param host 호스트명
+   * @param call 실행할 호출
+   * @return 호출 결과
+   * @throws InterruptedIOException 허가를 기다리는 중 인터럽트된 경우
+   * @throws IOException            호출이 실패한 경우
+   */
+  public <T> T execute(String host, CircuitBreaker.IOCall<T> call) throws IOException {
+    if (!isEnabled()) {
+      return call.call();
+    }
+
+    Permits hostPermits = permitsOf(host);
+    try {
+      hostPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for bulkhead permit: " + host);
+    }
+    try {
+      return call.call();
+    } finally {
+      hostPermits.release();
+    }
+  }
+
+  /**
+   * 허가를 얻어 비동기 호출 실행 (허가를 기다리는 동안 스레드를 점유하지 않음)
+   * <p>
+   * 허가가 없으면 호스트별 대기열에 순서대로 들어가고, 앞선 호출이 끝나 허가가 반환되면 그 스레드에서 호출을 시작합니다.
+   * 반환된 Future를 취소하면 대기 중인 호출은 대기열에서 빠지고, 시작된 호출은 호출 Future를 취소합니다.
+   * </p>
+   *
+   * @param <T>  결과 타입
+   * @param host 호스트명
+   * @param call 실행할 비동기 호출 (빠르게 반환되어야 함)
+   * @return 호출 결과 Future
+   */
+  public <T> CompletableFuture<T> executeAsync(String host, Supplier<CompletableFuture<T>> call) {
+    if (!isEnabled()) {
+      return call.get();
+    }
+
+    Permits hostPermits = permitsOf(host);
+    CompletableFuture<Void> permit = hostPermits.acquireAsync();
+    AtomicReference<CompletableFuture<T>> started = new AtomicReference<>();
+    CompletableFuture<T> result = permit.thenCompose(granted -> {
+      CompletableFuture<T> source;
+      try {
+        source = call.get();
+      } catch (RuntimeException e) {
+        source = CompletableFuture.failedFuture(e);
+      }
+      started.set(source);
+      return source.whenComplete((value, error) -> hostPermits.release());
+    });
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        // 대기 중이면 대기열에서 빠지고, 시작했으면 호출을 취소 (허가는 호출 Future 완료 시 반환)
+        permit.cancel(false);
+        CompletableFuture<T> source = started.get();
+        if (source != null) {
+          source.cancel(true);
+        }
+      }
+    });
+    return result;
+  }
+
+  /**
+   * 호스트의 사용 가능한 허가 수 반환
+   *
+   * @param host 호스트명
+   * @return 사용 가능한 허가 수 (제한이 없으면 Integer.MAX_VALUE)
+   */
+  public int getAvailablePermits(String host) {
+    if (!isEnabled()) {
+      return Integer.MAX_VALUE;
+    }
+    Permits hostPermits = permits.get(host);
+    return hostPermits != null ? hostPermits.available() : maxConcurrentCalls;
+  }
+
+  /**
+   * 호스트별 최대 동시 호출 수 반환
+   *
+   * @return 최대 동시 호출 수 (0 이하이면 제한 없음)
+   */
+  public int getMaxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  private Permits permitsOf(String host) {
+    return permits.computeIfAbsent(host, key -> new Permits(maxConcurrentCalls));
+  }
+
+  /**
+   * 호스트 하나의 허가 (동기 대기자는 Condition, 비동기 대기자는 FIFO 대기열로 기다림)
+   */
+  private static final class Permits {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    /** 이 스레드에서 허가를 넘기는 중에 반환된 허가 수 (넘겨받은 호출이 바로 끝나도 재귀하지 않도록 함) */
+    private final ThreadLocal<int[]> deferred = new ThreadLocal<>();
+    private int available;
+
+    private Permits(int permits) {
+      this.available = permits;
+    }
+
+    void acquire() throws InterruptedException {
+      lock.lock();
+      try {
+        while (available == 0) {
+          permitAvailable.await();
+        }
+        available--;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    CompletableFuture<Void> acquireAsync() {
+      lock.lock();
+      try {
+        if (available > 0 && waiters.isEmpty()) {
+          available--;
+          return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void release() {
+      int[] pending = deferred.get();
+      if (pending != null) {
+        pending[0]++;
+        return;
+      }
+      pending = new int[] { 1 };
+      deferred.set(pending);
+      try {
+        while (pending[0] > 0) {
+          pending[0]--;
+          handOff();
+        }
+      } finally {
+        deferred.remove();
+      }
+    }
+
+    /** 비동기 대기자가 있으면 허가를 바로 넘기고, 없으면 반환 */
+    private void handOff() {
+      while (true) {
+        CompletableFuture<Void> next;
+        lock.lock();
+        try {
+          do {
+            next = waiters.poll();
+          } while (next != null && next.isDone());
+          if (next == null) {
+            available++;
+            permitAvailable.signal();
+            return;
+          }
+        } finally {
+          lock.unlock();
+        }
+        // lock 밖에서 완료 (대기자의 호출이 이 스레드에서 시작되므로). 그 사이 취소되었으면 다음 대기자에게 넘김
+        if (next.complete(null)) {
+          return;
+        }
+      }
+    }
+
+    int available() {
+      lock.lock();
+      try {
+        return available;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
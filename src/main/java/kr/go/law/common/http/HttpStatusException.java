@@ -0,0 +1,28 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+
+/**
+ * 성공이 아닌 HTTP 응답 상태로 요청이 실패했을 때 발생하는 예외
+ * <p>
+ * 호출자가 상태 코드에 따라 처리(예: 4xx는 결과 없음, 5xx는 서킷 브레이커 실패)를 나눌 수 있도록 상태 코드를 담습니다.
+ * </p>
+ */
+public class HttpStatusException extends IOException {
+
+  private final int statusCode;
+
+  public HttpStatusException(int statusCode) {
+    super("Response status=" + statusCode);
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * 응답 상태 코드 반환
+   *
+   * @return HTTP 상태 코드
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+}
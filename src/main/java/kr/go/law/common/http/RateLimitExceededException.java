@@ -0,0 +1,28 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 측 요청 속도 제한을 초과했을 때 발생하는 예외
+ * <p>
+ * OkHttp 호출 체인에서 전파되도록 {@link IOException}을 상속합니다.
+ * </p>
+ */
+public class RateLimitExceededException extends IOException {
+
+  private final String host;
+
+  public RateLimitExceededException(String host, String msg) {
+    super(msg);
+    this.host = host;
+  }
+
+  /**
+   * 제한에 걸린 호스트 반환
+   *
+   * @return 호스트명
+   */
+  public String getHost() {
+    return host;
+  }
+}
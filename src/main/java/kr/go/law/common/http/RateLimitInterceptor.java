@@ -0,0 +1,171 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.RateLimitMode;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 호스트별 토큰 버킷 요청 속도 제한 인터셉터
+ * <p>
+ * law.go.kr, taxlaw.nts.go.kr, sanjaecase.comwel.or.kr 등 호스트마다 별도의 토큰 버킷을 사용합니다.
+ * RetryInterceptor 뒤에 등록되므로 재시도 요청도 토큰을 소비합니다.
+ * </p>
+ * <ul>
+ * <li>{@link RateLimitMode#WAIT}: 토큰이 생길 때까지 대기 (rateLimitMaxWait 초과 시 실패)</li>
+ * <li>{@link RateLimitMode#FAIL_FAST}: 토큰이 없으면 즉시 {@link RateLimitExceededException}</li>
+ * </ul>
+ * <p>
+ * WAIT 모드의 대기는 호출 스레드에서 이루어지며, 대기 중에도 호출 취소 여부를 주기적으로 확인합니다.
+ * 비동기 호출은 Dispatcher 스레드가 대기하지 않도록 호출 측이 {@link #reserve(HttpUrl)}로 토큰을 먼저 예약하고
+ * {@link RetryScheduler}로 enqueue를 미룬 뒤 {@link Reserved} 태그를 붙여 보냅니다.
+ * </p>
+ */
+@Slf4j
+public class RateLimitInterceptor implements Interceptor {
+
+  /** 호출 측이 {@link #reserve(HttpUrl)}로 토큰을 이미 예약한 요청에 붙이는 태그 */
+  public enum Reserved {
+    INSTANCE
+  }
+
+  /** 대기 중 호출 취소 여부를 확인하는 간격 */
+  private static final long CANCEL_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final double defaultPermitsPerSecond;
+  private final int burst;
+  private final Map<String, Double> hostPermitsPerSecond;
+  private final RateLimitMode mode;
+  private final long maxWaitNanos;
+
+  /** 호스트별 토큰 버킷 (제한 없는 호스트는 Optional.empty()) */
+  private final Map<String, Optional<TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * RateLimitInterceptor 생성자
+   *
+   * @param defaultPermitsPerSecond 호스트별 초당 기본 요청 수 (0 이하이면 제한 없음)
+   * @param burst                   버스트 허용량
+   * @param hostPermitsPerSecond    호스트별 초당 요청 수 (기본값 대신 적용)
+   * @param mode                    제한 초과 시 동작 방식
+   * @param maxWait                 WAIT 모드의 최대 대기 시간
+   */
+  public RateLimitInterceptor(double defaultPermitsPerSecond, int burst, Map<String, Double> hostPermitsPerSecond,
+      RateLimitMode mode, Duration maxWait) {
+    this.defaultPermitsPerSecond = defaultPermitsPerSecond;
+    this.burst = burst;
+    this.hostPermitsPerSecond = hostPermitsPerSecond != null ? Map.copyOf(hostPermitsPerSecond) : Map.of();
+    this.mode = mode != null ? mode : RateLimitMode.WAIT;
+    this.maxWaitNanos = maxWait != null ? maxWait.toNanos() : Long.MAX_VALUE;
+  }
+
+  /**
+   * 설정 프로퍼티로부터 생성
+   *
+   * @param properties API 설정 프로퍼티
+   * @return RateLimitInterceptor
+   */
+  public static RateLimitInterceptor from(LawOpenDataProperties properties) {
+    return new RateLimitInterceptor(
+        properties.getRateLimitPerSecond(),
+        properties.getRateLimitBurst(),
+        properties.getHostRateLimits(),
+        properties.getRateLimitMode(),
+        properties.getRateLimitMaxWait());
+  }
+
+  /**
+   * 속도 제한이 설정되어 있는지 확인
+   *
+   * @return 기본값 또는 호스트별 제한이 하나라도 있으면 true
+   */
+  public boolean isEnabled() {
+    return defaultPermitsPerSecond > 0
+        || hostPermitsPerSecond.values().stream().anyMatch(rate -> rate != null && rate > 0);
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    if (request.tag(Reserved.class) == null) {
+      final long waitNanos = reserve(request.url());
+      if (waitNanos > 0) {
+        await(waitNanos, request.url().host(), chain.call()::isCanceled);
+      }
+    }
+    return chain.proceed(request);
+  }
+
+  /**
+   * 요청 1건의 토큰 예약
+   * <p>
+   * 대기하지 않고 예약만 하므로, 호출 측이 반환된 시간만큼 지난 뒤 {@link Reserved} 태그를 붙여 요청을 보내야 합니다.
+   * </p>
+   *
+   * @param url 요청 URL
+   * @return 요청 전에 대기해야 할 시간(ns, 제한이 없거나 토큰이 있으면 0)
+   * @throws RateLimitExceededException FAIL_FAST 모드에서 토큰이 없거나, WAIT 모드에서 대기 시간이 rateLimitMaxWait를 넘는 경우
+   */
+  public long reserve(HttpUrl url) throws RateLimitExceededException {
+    final String host = url.host();
+    final Optional<TokenBucket> bucket = buckets.computeIfAbsent(host, this::createBucket);
+    if (bucket.isEmpty()) {
+      return 0;
+    }
+
+    if (mode == RateLimitMode.FAIL_FAST) {
+      if (!bucket.get().tryAcquire()) {
+        throw new RateLimitExceededException(host, "Client-side rate limit exceeded: host=" + host);
+      }
+      return 0;
+    }
+
+    final long waitNanos = bucket.get().reserve(maxWaitNanos);
+    if (waitNanos < 0) {
+      throw new RateLimitExceededException(host, String.format(
+          "Client-side rate limit wait exceeds %dms: host=%s", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos), host));
+    }
+    return waitNanos;
+  }
+
+  /**
+   * 예약한 토큰 시점까지 대기 (취소되면 중단)
+   */
+  private static void await(long waitNanos, String host, BooleanSupplier canceled) throws IOException {
+    log.trace("Rate limited, waiting {}ms: host={}", TimeUnit.NANOSECONDS.toMillis(waitNanos), host);
+    final long deadline = System.nanoTime() + waitNanos;
+    try {
+      long remaining;
+      while ((remaining = deadline - System.nanoTime()) > 0) {
+        if (canceled.getAsBoolean()) {
+          throw new IOException("Canceled while waiting for rate limit: host=" + host);
+        }
+        TimeUnit.NANOSECONDS.sleep(Math.min(remaining, CANCEL_CHECK_NANOS));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Rate limit wait interrupted: host=" + host);
+    }
+  }
+
+  private Optional<TokenBucket> createBucket(String host) {
+    final Double rate = hostPermitsPerSecond.getOrDefault(host, defaultPermitsPerSecond);
+    if (rate == null || rate <= 0) {
+      return Optional.empty();
+    }
+    log.debug("Rate limiter created: host={}, permitsPerSecond={}, burst={}", host, rate, burst);
+    return Optional.of(new TokenBucket(rate, burst));
+  }
+}
@@ -0,0 +1,78 @@
+package kr.go.law.common.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전역 재시도 예산
+ * <p>
+ * 원 요청마다 ratio만큼, 그리고 초당 minPerSecond만큼 재시도 토큰이 적립되며 재시도마다 토큰 1개를 소비합니다.
+ * 상류 서버 장애 시 재시도가 원 요청의 일정 비율을 넘지 않도록 하여 재시도 폭주를 막습니다.
+ * </p>
+ */
+public class RetryBudget {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double ratio;
+  private final double minPerSecond;
+  private final double maxBalance;
+
+  private double balance;
+  private long lastRefillNanos;
+
+  /**
+   * RetryBudget 생성자
+   *
+   * @param ratio        원 요청 1건당 적립되는 재시도 토큰 (예: 0.2 → 원 요청의 20%까지 재시도)
+   * @param minPerSecond 요청량과 무관하게 초당 적립되는 재시도 토큰
+   * @param maxBalance   최대 적립 토큰 수
+   */
+  public RetryBudget(double ratio, double minPerSecond, double maxBalance) {
+    this.ratio = Math.max(0, ratio);
+    this.minPerSecond = Math.max(0, minPerSecond);
+    this.maxBalance = Math.max(1, maxBalance);
+    this.balance = this.maxBalance;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 원 요청 발생 기록 (토큰 적립)
+   */
+  public synchronized void onRequest() {
+    refill();
+    balance = Math.min(maxBalance, balance + ratio);
+  }
+
+  /**
+   * 재시도 토큰 소비 시도
+   *
+   * @return 예산이 남아 있어 재시도가 허용되면 true
+   */
+  public synchronized boolean tryWithdraw() {
+    refill();
+    if (balance >= 1) {
+      balance -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * 현재 남은 재시도 토큰 수 반환
+   *
+   * @return 재시도 토큰 수
+   */
+  public synchronized double getBalance() {
+    refill();
+    return balance;
+  }
+
+  private void refill() {
+    final long now = System.nanoTime();
+    final long elapsed = now - lastRefillNanos;
+    if (elapsed > 0) {
+      balance = Math.min(maxBalance, balance + elapsed * minPerSecond / NANOS_PER_SECOND);
+      lastRefillNanos = now;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 리트라이 로직용 OkHttpClient 인터셉터
+ *
+ * 재시도하는 경우:
+ * - 서버 에러 (5xx status codes)
+ * - 요청 제한 발생 (429 status code)
+ * - 네트워크 오류 (IOException, 단 {@link RateLimitExceededException}과 {@link CircuitOpenException} 제외)
+ * <p>
+ * {@link AsyncAttempt} 태그가 붙은 요청은 재시도하지 않고 한 번만 실행합니다. 이런 요청은 호출 측이
+ * {@link RetryScheduler}로 재시도를 예약하므로 OkHttp Dispatcher 스레드가 대기하지 않습니다.
+ * 태그가 없는 동기 요청은 호출 스레드에서 대기 후 재시도합니다.
+ * </p>
+ */
+@Slf4j
+public class RetryInterceptor implements Interceptor {
+
+  /** 비동기 재시도 대상 요청에 붙이는 태그 */
+  public enum AsyncAttempt {
+    INSTANCE
+  }
+
+  private final RetryPolicy policy;
+
+  /**
+   * RetryInterceptor 생성자
+   *
+   * @param policy 재시도 정책
+   */
+  public RetryInterceptor(RetryPolicy policy) {
+    this.policy = policy;
+  }
+
+  /**
+   * 재시도 정책 반환
+   *
+   * @return RetryPolicy
+   */
+  public RetryPolicy getPolicy() {
+    return policy;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+
+    if (request.tag(AsyncAttempt.class) != null) {
+      return chain.proceed(request);
+    }
+
+    policy.onRequest();
+    final int maxAttempts = policy.getMaxRetries() + 1;
+    int attempt = 0;
+
+    while (true) {
+      attempt++;
+      Duration delay;
+
+      try {
+        Response response = chain.proceed(request);
+        int statusCode = response.code();
+
+        if (response.isSuccessful() || !policy.isRetryable(statusCode)) {
+          return response;
+        }
+
+        log.warn("Request failed with status {}, attempt {}/{}: {}",
+            statusCode, attempt, maxAttempts, request.url());
+        delay = policy.nextDelay(attempt, statusCode, response.header("Retry-After"));
+        response.close();
+        if (delay == null) {
+          throw new IOException(String.format(
+              "Request failed after %d attempts with status %d: %s",
+              attempt, statusCode, request.url()));
+        }
+
+      } catch (IOException e) {
+        if (chain.call().isCanceled() || e instanceof InterruptedIOException || !policy.isRetryable(e)) {
+          throw e;
+        }
+        log.warn("Request failed with IOException, attempt {}/{}: {} - {}",
+            attempt, maxAttempts, request.url(), e.getMessage());
+        delay = policy.nextDelay(attempt, 0, null);
+        if (delay == null) {
+          throw new IOException(String.format(
+              "Request failed after %d attempts: %s", attempt, request.url()), e);
+        }
+      }
+
+      waitBeforeRetry(attempt, delay);
+    }
+  }
+
+  /**
+   * 동기 호출의 재시도 대기 (호출 스레드에서 대기)
+   */
+  private void waitBeforeRetry(int attempt, Duration delay) throws InterruptedIOException {
+    log.debug("Waiting {}ms before retry attempt {}", delay.toMillis(), attempt + 1);
+
+    try {
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Retry wait interrupted");
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package kr.go.law.common.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import kr.go.law.config.LawOpenDataProperties;
+
+/**
+ * 재시도 정책
+ * <p>
+ * 재시도 대상 판정과 대기 시간 계산을 담당합니다. 동기 호출({@link RetryInterceptor})과
+ * 비동기 호출({@link RetryScheduler})이 같은 정책과 재시도 예산을 공유합니다.
+ * </p>
+ * <ul>
+ * <li>지수 백오프 + full jitter: {@code random(0, min(maxDelay, baseDelay * 2^(attempt-1)))}</li>
+ * <li>429 응답은 baseDelay의 2배를 기준으로 계산</li>
+ * <li>{@code Retry-After} 헤더가 있으면 해당 시간(최대 maxDelay)을 우선 적용</li>
+ * <li>전역 {@link RetryBudget}이 소진되면 재시도하지 않음</li>
+ * </ul>
+ */
+public class RetryPolicy {
+
+  private final int maxRetries;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final RetryBudget budget;
+
+  /**
+   * RetryPolicy 생성자
+   *
+   * @param maxRetries 최대 재시도 횟수
+   * @param baseDelay  백오프 기준 대기 시간
+   * @param maxDelay   최대 대기 시간
+   * @param budget     전역 재시도 예산 (null이면 제한 없음)
+   */
+  public RetryPolicy(int maxRetries, Duration baseDelay, Duration maxDelay, RetryBudget budget) {
+    this.maxRetries = maxRetries;
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.budget = budget;
+  }
+
+  /**
+   * 설정 프로퍼티로부터 생성
+   *
+   * @param properties API 설정 프로퍼티
+   * @return RetryPolicy
+   */
+  public static RetryPolicy from(LawOpenDataProperties properties) {
+    return new RetryPolicy(
+        properties.getMaxRetries(),
+        properties.getRetryDelay(),
+        properties.getMaxRetryDelay(),
+        new RetryBudget(properties.getRetryBudgetRatio(), properties.getRetryBudgetMinPerSecond(),
+            Math.max(1, properties.getRetryBudgetMinPerSecond() * 10)));
+  }
+
+  /**
+   * 최대 재시도 횟수 반환
+   *
+   * @return 최대 재시도 횟수
+   */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * 전역 재시도 예산 반환
+   *
+   * @return RetryBudget (없으면 null)
+   */
+  public RetryBudget getBudget() {
+    return budget;
+  }
+
+  /**
+   * 원 요청 발생 기록
+   */
+  public void onRequest() {
+    if (budget != null) {
+      budget.onRequest();
+    }
+  }
+
+  /**
+   * 재시도 대상 응답 코드인지 확인
+   *
+   * @param statusCode HTTP 응답 코드
+   * @return 5xx 또는 429이면 true
+   */
+  public boolean isRetryable(int statusCode) {
+    return statusCode >= 500 || statusCode == 429;
+  }
+
+  /**
+   * 재시도 대상 예외인지 확인
+   * <p>
+   * 클라이언트 측 속도 제한({@link RateLimitExceededException})과 열린 서킷 브레이커({@link CircuitOpenException})는
+   * 호출 측에 즉시 알려야 하므로 재시도하지 않습니다.
+   * </p>
+   *
+   * @param error 요청 중 발생한 예외
+   * @return 재시도해야 하면 true
+   */
+  public boolean isRetryable(IOException error) {
+    return !(error instanceof RateLimitExceededException) && !(error instanceof CircuitOpenException);
+  }
+
+  /**
+   * 다음 재시도까지의 대기 시간 계산
+   * <p>
+   * 재시도가 허용되면 재시도 예산에서 토큰 하나를 소비합니다.
+   * </p>
+   *
+   * @param attempt    방금 실패한 시도 번호 (1부터 시작)
+   * @param statusCode 실패한 응답 코드 (네트워크 오류이면 0)
+   * @param retryAfter {@code Retry-After} 헤더 값 (없으면 null)
+   * @return 대기 시간, 재시도하지 않아야 하면 null
+   */
+  public Duration nextDelay(int attempt, int statusCode, String retryAfter) {
+    if (attempt > maxRetries) {
+      return null;
+    }
+    if (budget != null && !budget.tryWithdraw()) {
+      return null;
+    }
+
+    final Duration serverDelay = parseRetryAfter(retryAfter);
+    if (serverDelay != null) {
+      return serverDelay.compareTo(maxDelay) > 0 ? maxDelay : serverDelay;
+    }
+
+    final Duration base = (statusCode == 429) ? baseDelay.multipliedBy(2) : baseDelay;
+    final long capMs = Math.min(maxDelay.toMillis(), base.toMillis() << Math.min(attempt - 1, 20));
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMs + 1));
+  }
+
+  /**
+   * Retry-After 헤더 파싱 (초 단위 정수 또는 HTTP-date)
+   */
+  private Duration parseRetryAfter(String retryAfter) {
+    if (retryAfter == null || retryAfter.isBlank()) {
+      return null;
+    }
+    final String value = retryAfter.strip();
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+    } catch (NumberFormatException e) {
+      // HTTP-date 형식 시도
+    }
+    try {
+      final Instant until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      final Duration delay = Duration.between(Instant.now(), until);
+      return delay.isNegative() ? Duration.ZERO : delay;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
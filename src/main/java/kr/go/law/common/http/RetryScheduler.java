@@ -0,0 +1,35 @@
+package kr.go.law.common.http;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 비동기 재시도 스케줄러
+ * <p>
+ * 재시도 대기를 {@link ScheduledExecutorService}에 맡기므로 대기 중에는 어떤 스레드도 점유하지 않습니다.
+ * 예약된 작업은 요청을 다시 enqueue하는 일만 수행하므로 단일 데몬 스레드로 충분합니다.
+ * </p>
+ */
+@UtilityClass
+public class RetryScheduler {
+
+  private final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "lawopendata-retry");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * 지정한 시간 후에 작업 실행
+   *
+   * @param task  실행할 작업 (blocking 작업이면 안 됨)
+   * @param delay 대기 시간
+   */
+  public void schedule(Runnable task, Duration delay) {
+    SCHEDULER.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,91 @@
+package kr.go.law.common.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷
+ * <p>
+ * 초당 permitsPerSecond개의 토큰이 최대 capacity개까지 채워집니다.
+ * {@link #reserve(long)}는 토큰을 미리 예약하고 대기해야 할 시간을 반환하므로,
+ * 대기는 락 밖에서 이루어집니다.
+ * </p>
+ */
+final class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double permitsPerSecond;
+  private final double capacity;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  /**
+   * TokenBucket 생성자
+   *
+   * @param permitsPerSecond 초당 토큰 생성 수 (0보다 커야 함)
+   * @param capacity         최대 토큰 수 (버스트 허용량, 1 이상)
+   */
+  TokenBucket(double permitsPerSecond, int capacity) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+    }
+    this.permitsPerSecond = permitsPerSecond;
+    this.capacity = Math.max(1, capacity);
+    this.tokens = this.capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰이 있으면 즉시 소비
+   *
+   * @return 토큰을 소비했으면 true
+   */
+  synchronized boolean tryAcquire() {
+    refill();
+    if (tokens >= 1) {
+      tokens -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * 토큰 하나를 예약하고 대기 시간을 반환
+   *
+   * @param maxWaitNanos 허용하는 최대 대기 시간
+   * @return 대기해야 할 시간(ns), maxWaitNanos를 초과하면 예약하지 않고 -1 반환
+   */
+  synchronized long reserve(long maxWaitNanos) {
+    refill();
+    if (tokens >= 1) {
+      tokens -= 1;
+      return 0;
+    }
+    final long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * NANOS_PER_SECOND);
+    if (waitNanos > maxWaitNanos) {
+      return -1;
+    }
+    // 음수 토큰은 이미 예약된 대기열을 의미
+    tokens -= 1;
+    return waitNanos;
+  }
+
+  /**
+   * 초당 토큰 생성 수 반환
+   *
+   * @return permitsPerSecond
+   */
+  double getPermitsPerSecond() {
+    return permitsPerSecond;
+  }
+
+  private void refill() {
+    final long now = System.nanoTime();
+    final long elapsed = now - lastRefillNanos;
+    if (elapsed > 0) {
+      tokens = Math.min(capacity, tokens + elapsed * permitsPerSecond / NANOS_PER_SECOND);
+      lastRefillNanos = now;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package kr.go.law.common.paging;
+
+import kr.go.law.common.request.PageableRequest;
+
+/**
+ * 날짜 범위 분할 결과의 한 구간
+ *
+ * @param <R>        요청 타입
+ * @param request    구간 조회 요청 (1페이지, 날짜 범위 적용)
+ * @param from       구간 시작일 (YYYYMMDD, 포함)
+ * @param to         구간 종료일 (YYYYMMDD, 포함)
+ * @param totalCount 분할 시점의 구간 전체 건수
+ */
+public record DatePartition<R extends PageableRequest>(R request, int from, int to, int totalCount) {
+}
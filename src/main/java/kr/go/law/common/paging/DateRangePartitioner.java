@@ -0,0 +1,319 @@
+package kr.go.law.common.paging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import kr.go.law.common.request.DateRangeField;
+import kr.go.law.common.request.PageableRequest;
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.common.util.DateInts;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결과가 너무 많은 목록 조회를 날짜 범위로 나누는 분할기
+ * <p>
+ * 요청의 날짜 범위(선고일자, 공포일자, 시행일자 등)를 반으로 나누어 가며 각 구간의 totalCount를 확인하고,
+ * 모든 구간의 totalCount가 targetSize 이하가 될 때까지 재귀적으로 분할합니다. 하루짜리 구간은 더 나누지 않습니다.
+ * 분할된 구간({@link DatePartition})은 그대로 여러 노드에 나누어 처리하거나 {@link #crawl}로 병렬 조회할 수 있습니다.
+ * </p>
+ * <p>
+ * 분할 중 구간 건수 확인 요청은 병렬로 보내며, 동시 요청 수는 OkHttp Dispatcher와 요청 속도 제한 설정을 따릅니다.
+ * 요청에 시작일/종료일이 없으면 minDate/maxDate(기본: 19000101~오늘)를 사용합니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * DateRangePartitioner<PrecedentListRequest, PrecedentListDto> partitioner = new DateRangePartitioner<>(
+ *     client.getPrecedent()::searchAsync, PrecedentListRequest.DECISION_DATE, 5000);
+ *
+ * List<DatePartition<PrecedentListRequest>> partitions = partitioner.plan(request).join();
+ * ListApiResult<PrecedentListDto> all = partitioner.crawl(partitions, 4, PrecedentListDto::getPrecId).join();
+ * }
+ * </pre>
+ *
+ * @param <R> 요청 타입
+ * @param <T> 목록 항목 타입
+ */
+@Slf4j
+public class DateRangePartitioner<R extends PageableRequest, T> {
+
+  /** 요청에 시작일이 없을 때 사용하는 기본 시작일 */
+  public static final int DEFAULT_MIN_DATE = 19000101;
+
+  private final Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher;
+  private final DateRangeField<R> field;
+  private final int targetSize;
+  private final int minDate;
+  private final Integer maxDate;
+
+  /**
+   * DateRangePartitioner 생성자 (열린 범위는 19000101~오늘)
+   *
+   * @param fetcher    목록 비동기 조회 함수 (예: {@code client::searchAsync})
+   * @param field      분할할 날짜 범위 필드
+   * @param targetSize 구간당 최대 건수
+   */
+  public DateRangePartitioner(Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher,
+      DateRangeField<R> field, int targetSize) {
+    this(fetcher, field, targetSize, DEFAULT_MIN_DATE, null);
+  }
+
+  /**
+   * DateRangePartitioner 생성자
+   *
+   * @param fetcher    목록 비동기 조회 함수
+   * @param field      분할할 날짜 범위 필드
+   * @param targetSize 구간당 최대 건수
+   * @param minDate    요청에 시작일이 없을 때 사용할 시작일 (YYYYMMDD)
+   * @param maxDate    요청에 종료일이 없을 때 사용할 종료일 (YYYYMMDD, null이면 오늘)
+   */
+  public DateRangePartitioner(Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher,
+      DateRangeField<R> field, int targetSize, int minDate, Integer maxDate) {
+    this.fetcher = fetcher;
+    this.field = field;
+    this.targetSize = Math.max(1, targetSize);
+    this.minDate = minDate;
+    this.maxDate = maxDate;
+  }
+
+  /**
+   * 날짜 범위 분할
+   *
+   * @param request 원래 요청 (날짜 범위 외 조건은 그대로 유지)
+   * @return 날짜 순으로 정렬된 구간 목록 Future (건수 확인에 실패하면 {@link PageFetchException}으로 완료)
+   */
+  public CompletableFuture<List<DatePartition<R>>> plan(R request) {
+    int from = field.from(request) != null ? field.from(request) : minDate;
+    int to = field.to(request) != null ? field.to(request) : (maxDate != null ? maxDate : DateInts.today());
+
+    ConcurrentLinkedQueue<DatePartition<R>> partitions = new ConcurrentLinkedQueue<>();
+    return split(request, from, to, partitions).thenApply(ignored -> {
+      List<DatePartition<R>> sorted = new ArrayList<>(partitions);
+      sorted.sort(Comparator.comparingInt(DatePartition::from));
+      log.debug("Planned {} date partitions for {}~{} (targetSize={})", sorted.size(), from, to, targetSize);
+      return sorted;
+    });
+  }
+
+  /**
+   * 구간 건수를 확인하고 targetSize를 넘으면 반으로 나누어 재귀 분할
+   */
+  private CompletableFuture<Void> split(R template, int from, int to, ConcurrentLinkedQueue<DatePartition<R>> out) {
+    final R request = field.withRange(template, from, to);
+    final CompletableFuture<ListApiResult<T>> probe;
+    try {
+      probe = fetcher.apply(request);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return probe.thenCompose(result -> {
+      if (result.hasError()) {
+        throw new PageFetchException(1, result.rawData());
+      }
+      int totalCount = Math.max(0, result.totalCount());
+      if (totalCount == 0) {
+        return CompletableFuture.completedFuture(null);
+      }
+      if (totalCount <= targetSize || from >= to) {
+        if (totalCount > targetSize) {
+          log.warn("Single-day partition exceeds targetSize: date={}, totalCount={}", from, totalCount);
+        }
+        out.add(new DatePartition<>(request, from, to, totalCount));
+        return CompletableFuture.completedFuture(null);
+      }
+
+      int mid = DateInts.plusDays(from, DateInts.daysBetween(from, to) / 2);
+      return CompletableFuture.allOf(
+          split(template, from, mid, out),
+          split(template, DateInts.plusDays(mid, 1), to, out));
+    });
+  }
+
+  /**
+   * 구간들을 병렬로 조회해 하나의 결과로 합침
+   * <p>
+   * 최대 maxConcurrency개 구간을 동시에 조회하고(구간 안의 페이지는 순차 조회), 구간 순서대로 항목을 이어 붙인 뒤
+   * keyExtractor 기준으로 중복을 제거합니다. 한 구간이라도 실패하면 {@link ListApiResult#error(String)}로 완료되고,
+   * keyExtractor 등 결과를 합치는 중에 예기치 않은 예외를 던지면 그 예외로 예외 완료됩니다.
+   * 이미 완료된 Future를 돌려주는 fetcher(캐시 등)도 구간 수와 관계없이 호출 스택이 깊어지지 않습니다.
+   * </p>
+   *
+   * @param partitions     조회할 구간 목록
+   * @param maxConcurrency 동시에 조회할 최대 구간 수
+   * @param keyExtractor   중복 제거 키 추출 함수 (null이면 중복 제거하지 않음)
+   * @return 전체 항목 ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<T>> crawl(List<DatePartition<R>> partitions, int maxConcurrency,
+      Function<? super T, ?> keyExtractor) {
+    return new PartitionCrawl(partitions, maxConcurrency, keyExtractor).start();
+  }
+
+  /**
+   * 날짜 범위를 분할한 뒤 병렬 조회
+   *
+   * @param request        원래 요청
+   * @param maxConcurrency 동시에 조회할 최대 구간 수
+   * @param keyExtractor   중복 제거 키 추출 함수 (null이면 중복 제거하지 않음)
+   * @return 전체 항목 ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<T>> planAndCrawl(R request, int maxConcurrency,
+      Function<? super T, ?> keyExtractor) {
+    return plan(request)
+        .thenCompose(partitions -> crawl(partitions, maxConcurrency, keyExtractor))
+        .exceptionally(e -> {
+          log.error("Failed to plan date partitions: {}", e.getMessage());
+          return ListApiResult.error(e.getCause() instanceof PageFetchException p ? p.getRawData() : null);
+        });
+  }
+
+  /**
+   * 구간 병렬 조회 1회의 상태
+   * <p>
+   * {@link PageFanOut}과 같은 방식으로, 최대 maxConcurrency개의 작업자가 남은 구간을 하나씩 가져가 조회합니다.
+   * 이미 완료된 Future(캐시 등)는 콜백을 거치지 않고 반복문에서 바로 처리하므로 구간 수가 많아도 호출 스택이 깊어지지 않으며,
+   * 콜백에서 예기치 않은 예외가 발생하면 결과 Future를 그 예외로 완료합니다.
+   * </p>
+   */
+  private final class PartitionCrawl {
+
+    private final List<DatePartition<R>> partitions;
+    private final int maxConcurrency;
+    private final Function<? super T, ?> keyExtractor;
+
+    private final CompletableFuture<ListApiResult<T>> result = new CompletableFuture<>();
+    private final AtomicReferenceArray<List<T>> items;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+
+    PartitionCrawl(List<DatePartition<R>> partitions, int maxConcurrency, Function<? super T, ?> keyExtractor) {
+      this.partitions = partitions;
+      this.maxConcurrency = Math.max(1, maxConcurrency);
+      this.keyExtractor = keyExtractor;
+      this.items = new AtomicReferenceArray<>(partitions.size());
+      this.remaining = new AtomicInteger(partitions.size());
+    }
+
+    CompletableFuture<ListApiResult<T>> start() {
+      if (partitions.isEmpty()) {
+        result.complete(ListApiResult.of(null, List.of(), 0, 1, 0));
+        return result;
+      }
+      for (int i = 0; i < Math.min(maxConcurrency, partitions.size()); i++) {
+        guarded(this::runWorker);
+      }
+      return result;
+    }
+
+    /**
+     * 작업자 1개 실행 (남은 구간을 하나씩 가져가 조회)
+     */
+    private void runWorker() {
+      while (!result.isDone()) {
+        final int index = next.getAndIncrement();
+        if (index >= partitions.size()) {
+          return;
+        }
+
+        final CompletableFuture<ListApiResult<T>> future;
+        try {
+          future = Paging.fanOut(partitions.get(index).request(), fetcher, 1, null);
+        } catch (RuntimeException e) {
+          fail(index, null, e);
+          return;
+        }
+
+        if (!future.isDone()) {
+          future.whenComplete((partResult, error) -> guarded(() -> {
+            if (onPartition(index, partResult, error)) {
+              runWorker();
+            }
+          }));
+          return;
+        }
+
+        ListApiResult<T> partResult = null;
+        Throwable error = null;
+        try {
+          partResult = future.join();
+        } catch (CompletionException | CancellationException e) {
+          error = e;
+        }
+        if (!onPartition(index, partResult, error)) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * 구간 결과 반영
+     *
+     * @return 작업자가 다음 구간을 계속 조회해야 하면 true
+     */
+    private boolean onPartition(int index, ListApiResult<T> partResult, Throwable error) {
+      if (error != null || partResult.hasError()) {
+        fail(index, partResult, error);
+        return false;
+      }
+      items.set(index, Objects.requireNonNull(partResult.items(), "items"));
+      if (remaining.decrementAndGet() == 0) {
+        result.complete(merge());
+        return false;
+      }
+      return true;
+    }
+
+    /**
+     * 콜백에서 발생한 예외로 결과 Future가 완료되지 않는 일이 없도록 감싸서 실행
+     */
+    private void guarded(Runnable callback) {
+      try {
+        callback.run();
+      } catch (Throwable t) {
+        log.error("Unexpected error during date partition crawl: {}", t.toString());
+        result.completeExceptionally(t);
+      }
+    }
+
+    private void fail(int index, ListApiResult<T> partResult, Throwable error) {
+      if (result.isDone()) {
+        return;
+      }
+      DatePartition<R> partition = partitions.get(index);
+      if (error != null) {
+        log.error("Failed to crawl date partition {}~{}: {}", partition.from(), partition.to(), error.getMessage());
+      } else {
+        log.error("Failed to crawl date partition {}~{}", partition.from(), partition.to());
+      }
+      result.complete(ListApiResult.error(partResult != null ? partResult.rawData() : null));
+    }
+
+    private ListApiResult<T> merge() {
+      List<T> merged = new ArrayList<>();
+      Set<Object> seen = new HashSet<>();
+      int totalCount = 0;
+      for (int i = 0; i < items.length(); i++) {
+        totalCount += partitions.get(i).totalCount();
+        for (T item : items.get(i)) {
+          Object key = keyExtractor != null ? keyExtractor.apply(item) : null;
+          if (key == null || seen.add(key)) {
+            merged.add(item);
+          }
+        }
+      }
+      // 모든 항목을 한 페이지로 간주 (hasNextPage가 false가 되도록 display는 전체 건수 이상)
+      return ListApiResult.of(null, merged, totalCount, 1, Math.max(merged.size(), totalCount));
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package kr.go.law.common.paging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import kr.go.law.common.request.PageableRequest;
+import kr.go.law.common.response.ListApiResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첫 페이지로 전체 페이지 수를 확인한 뒤 나머지 페이지를 병렬로 조회
+ * <p>
+ * 최대 maxConcurrency개의 작업자가 남은 페이지 번호를 하나씩 가져가 조회하며,
+ * 결과는 페이지 순서대로 이어 붙이고 keyExtractor 기준으로 중복을 제거합니다.
+ * </p>
+ *
+ * @param <R> 요청 타입
+ * @param <T> 목록 항목 타입
+ */
+@Slf4j
+final class PageFanOut<R extends PageableRequest, T> {
+
+  private final R firstRequest;
+  private final Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher;
+  private final int maxConcurrency;
+  private final Function<? super T, ?> keyExtractor;
+
+  private final CompletableFuture<ListApiResult<T>> result = new CompletableFuture<>();
+
+  private int firstPage;
+  private int lastPage;
+  private int totalCount;
+  private int display;
+  private AtomicReferenceArray<List<T>> pages;
+  private final AtomicInteger nextPage = new AtomicInteger();
+  private final AtomicInteger remaining = new AtomicInteger();
+
+  PageFanOut(R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher,
+      int maxConcurrency, Function<? super T, ?> keyExtractor) {
+    this.firstRequest = firstRequest;
+    this.fetcher = fetcher;
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.keyExtractor = keyExtractor;
+  }
+
+  CompletableFuture<ListApiResult<T>> start() {
+    firstPage = firstRequest.getPage() != null ? firstRequest.getPage() : 1;
+    final CompletableFuture<ListApiResult<T>> first;
+    try {
+      first = fetcher.apply(firstRequest);
+    } catch (RuntimeException e) {
+      fail(firstPage, null, e);
+      return result;
+    }
+    first.whenComplete((firstResult, error) -> guarded(() -> {
+      if (error != null || firstResult.hasError()) {
+        fail(firstPage, firstResult, error);
+        return;
+      }
+      onFirstPage(firstResult);
+    }));
+    return result;
+  }
+
+  private void onFirstPage(ListApiResult<T> first) {
+    totalCount = first.totalCount();
+    display = first.display();
+    lastPage = first.items().isEmpty() || !first.hasNextPage()
+        ? firstPage
+        : Math.max(firstPage, first.totalPages());
+
+    pages = new AtomicReferenceArray<>(lastPage - firstPage + 1);
+    pages.set(0, first.items());
+
+    int rest = lastPage - firstPage;
+    if (rest == 0) {
+      complete();
+      return;
+    }
+
+    log.debug("Fanning out {} remaining pages (totalCount={}, maxConcurrency={})",
+        rest, totalCount, maxConcurrency);
+    nextPage.set(firstPage + 1);
+    remaining.set(rest);
+    for (int i = 0; i < Math.min(maxConcurrency, rest); i++) {
+      runWorker();
+    }
+  }
+
+  /**
+   * 작업자 1개 실행 (남은 페이지를 하나씩 가져가 조회)
+   * <p>
+   * 이미 완료된 Future(캐시 등)는 콜백을 거치지 않고 반복문에서 바로 처리하므로,
+   * 페이지 수가 많아도 호출 스택이 깊어지지 않습니다.
+   * </p>
+   */
+  @SuppressWarnings("unchecked")
+  private void runWorker() {
+    while (!result.isDone()) {
+      final int page = nextPage.getAndIncrement();
+      if (page > lastPage) {
+        return;
+      }
+
+      final CompletableFuture<ListApiResult<T>> future;
+      try {
+        future = fetcher.apply((R) firstRequest.withPage(page));
+      } catch (RuntimeException e) {
+        fail(page, null, e);
+        return;
+      }
+
+      if (!future.isDone()) {
+        future.whenComplete((pageResult, error) -> guarded(() -> {
+          if (onPage(page, pageResult, error)) {
+            runWorker();
+          }
+        }));
+        return;
+      }
+
+      ListApiResult<T> pageResult = null;
+      Throwable error = null;
+      try {
+        pageResult = future.join();
+      } catch (CompletionException | CancellationException e) {
+        error = e;
+      }
+      if (!onPage(page, pageResult, error)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 페이지 결과 반영
+   *
+   * @return 작업자가 다음 페이지를 계속 조회해야 하면 true
+   */
+  private boolean onPage(int page, ListApiResult<T> pageResult, Throwable error) {
+    if (error != null || pageResult.hasError()) {
+      fail(page, pageResult, error);
+      return false;
+    }
+    pages.set(page - firstPage, pageResult.items());
+    if (remaining.decrementAndGet() == 0) {
+      complete();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 콜백에서 발생한 예외로 결과 Future가 완료되지 않는 일이 없도록 감싸서 실행
+   */
+  private void guarded(Runnable callback) {
+    try {
+      callback.run();
+    } catch (Throwable t) {
+      log.error("Unexpected error during page fan-out: {}", t.toString());
+      result.completeExceptionally(t);
+    }
+  }
+
+  private void complete() {
+    List<T> items = new ArrayList<>();
+    Set<Object> seen = new HashSet<>();
+    int duplicates = 0;
+    for (int i = 0; i < pages.length(); i++) {
+      for (T item : pages.get(i)) {
+        Object key = keyExtractor != null ? keyExtractor.apply(item) : null;
+        if (key != null && !seen.add(key)) {
+          duplicates++;
+          continue;
+        }
+        items.add(item);
+      }
+    }
+    if (duplicates > 0) {
+      log.debug("Removed {} duplicate items across pages", duplicates);
+    }
+    result.complete(ListApiResult.of(null, items, totalCount, lastPage, display));
+  }
+
+  private void fail(int page, ListApiResult<T> pageResult, Throwable error) {
+    if (result.isDone()) {
+      return;
+    }
+    if (error != null) {
+      log.error("Failed to fetch page {} during fan-out: {}", page, error.getMessage());
+    } else {
+      log.error("Failed to fetch page {} during fan-out", page);
+    }
+    result.complete(ListApiResult.error(pageResult != null ? pageResult.rawData() : null));
+  }
+}
@@ -0,0 +1,40 @@
+package kr.go.law.common.paging;
+
+/**
+ * 페이지 순회 중 페이지 조회에 실패했을 때 발생하는 예외
+ */
+public class PageFetchException extends RuntimeException {
+
+  private final int page;
+  private final String rawData;
+
+  public PageFetchException(int page, String rawData) {
+    super("Failed to fetch page " + page);
+    this.page = page;
+    this.rawData = rawData;
+  }
+
+  public PageFetchException(int page, Throwable cause) {
+    super("Failed to fetch page " + page + ": " + cause.getMessage(), cause);
+    this.page = page;
+    this.rawData = null;
+  }
+
+  /**
+   * 실패한 페이지 번호 반환
+   *
+   * @return 페이지 번호 (1-based)
+   */
+  public int getPage() {
+    return page;
+  }
+
+  /**
+   * 실패한 응답 원문 반환
+   *
+   * @return 응답 원문 (없으면 null)
+   */
+  public String getRawData() {
+    return rawData;
+  }
+}
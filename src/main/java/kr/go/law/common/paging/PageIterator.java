@@ -0,0 +1,128 @@
+package kr.go.law.common.paging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import kr.go.law.common.request.PageableRequest;
+import kr.go.law.common.response.ListApiResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다음 페이지를 미리 요청하는 페이지 Iterator
+ * <p>
+ * 호출자가 N 페이지를 처리하는 동안 N+1 ~ N+prefetch 페이지를 비동기로 요청해 둡니다.
+ * 첫 페이지 응답의 totalCount로 마지막 페이지를 정하며, 빈 페이지를 받으면 순회를 끝냅니다.
+ * 오류 결과를 받으면 {@link PageFetchException}을 던집니다.
+ * 순회를 중간에 그만두면 {@link #close()}로 미리 요청한 페이지를 취소하세요.
+ * </p>
+ *
+ * @param <R> 요청 타입
+ * @param <T> 목록 항목 타입
+ */
+@Slf4j
+public class PageIterator<R extends PageableRequest, T> implements Iterator<ListApiResult<T>>, AutoCloseable {
+
+  private final R firstRequest;
+  private final Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher;
+  private final int prefetch;
+
+  private final Deque<Pending<T>> pending = new ArrayDeque<>();
+  private int nextPage;
+  private int lastPage;
+  private boolean closed;
+
+  /**
+   * PageIterator 생성자 (첫 페이지를 바로 요청)
+   *
+   * @param firstRequest 시작 페이지 요청 (page가 null이면 1페이지부터)
+   * @param fetcher      페이지 비동기 조회 함수 (예: {@code client::searchAsync})
+   * @param prefetch     현재 페이지보다 앞서 요청해 둘 페이지 수 (0이면 미리 요청하지 않음)
+   */
+  public PageIterator(R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher,
+      int prefetch) {
+    this.firstRequest = firstRequest;
+    this.fetcher = fetcher;
+    this.prefetch = Math.max(0, prefetch);
+    this.nextPage = firstRequest.getPage() != null ? firstRequest.getPage() : 1;
+    this.lastPage = nextPage;
+    fill(1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !closed && (!pending.isEmpty() || nextPage <= lastPage);
+  }
+
+  @Override
+  public ListApiResult<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    fill(1);
+
+    Pending<T> current = pending.poll();
+    ListApiResult<T> result;
+    try {
+      result = current.future().join();
+    } catch (CompletionException e) {
+      close();
+      throw new PageFetchException(current.page(), e.getCause() != null ? e.getCause() : e);
+    }
+    if (result.hasError()) {
+      close();
+      throw new PageFetchException(current.page(), result.rawData());
+    }
+
+    if (result.items().isEmpty() || !result.hasNextPage()) {
+      // 마지막 페이지: 미리 요청한 이후 페이지는 필요 없음
+      lastPage = current.page();
+      cancelPending();
+    } else {
+      lastPage = Math.max(lastPage, result.totalPages());
+      fill(prefetch);
+    }
+    return result;
+  }
+
+  /**
+   * 미리 요청한 페이지를 취소하고 순회 종료
+   */
+  @Override
+  public void close() {
+    closed = true;
+    cancelPending();
+  }
+
+  /**
+   * 요청 중인 페이지가 count개가 되도록 다음 페이지 요청
+   */
+  @SuppressWarnings("unchecked")
+  private void fill(int count) {
+    while (!closed && pending.size() < count && nextPage <= lastPage) {
+      final int page = nextPage++;
+      final R request = page == pageOf(firstRequest) ? firstRequest : (R) firstRequest.withPage(page);
+      log.debug("Requesting page {} (lastPage={}, pending={})", page, lastPage, pending.size());
+      pending.add(new Pending<>(page, fetcher.apply(request)));
+    }
+  }
+
+  private void cancelPending() {
+    Pending<T> p;
+    while ((p = pending.poll()) != null) {
+      p.future().cancel(true);
+    }
+    nextPage = lastPage + 1;
+  }
+
+  private static int pageOf(PageableRequest request) {
+    return request.getPage() != null ? request.getPage() : 1;
+  }
+
+  /** 요청 중인 페이지 */
+  private record Pending<T>(int page, CompletableFuture<ListApiResult<T>> future) {}
+}
@@ -0,0 +1,111 @@
+package kr.go.law.common.paging;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import kr.go.law.common.request.PageableRequest;
+import kr.go.law.common.response.ListApiResult;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 목록 조회 결과를 페이지 단위로 순회하는 도우미
+ * <p>
+ * 모든 {@link PageableRequest}(법령 목록, 판례 목록, 조문 개정 이력)에 사용할 수 있으며,
+ * 호출자가 현재 페이지를 처리하는 동안 다음 페이지를 미리 요청합니다.
+ * 반환된 Stream은 끝까지 소비하지 않을 경우 닫아야 미리 요청한 페이지가 취소됩니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * try (Stream<StatuteListDto> statutes = Paging.items(request, client.getStatute()::searchAsync, 2)) {
+ *   statutes.forEach(this::save);
+ * }
+ * }
+ * </pre>
+ */
+@UtilityClass
+public class Paging {
+
+  /** 기본 선요청 페이지 수 */
+  public static final int DEFAULT_PREFETCH = 1;
+
+  /**
+   * 페이지 Iterator 생성
+   *
+   * @param <R>          요청 타입
+   * @param <T>          목록 항목 타입
+   * @param firstRequest 시작 페이지 요청
+   * @param fetcher      페이지 비동기 조회 함수
+   * @param prefetch     미리 요청해 둘 페이지 수
+   * @return PageIterator
+   */
+  public static <R extends PageableRequest, T> PageIterator<R, T> iterator(
+      R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher, int prefetch) {
+    return new PageIterator<>(firstRequest, fetcher, prefetch);
+  }
+
+  /**
+   * 페이지 Stream 생성
+   *
+   * @param <R>          요청 타입
+   * @param <T>          목록 항목 타입
+   * @param firstRequest 시작 페이지 요청
+   * @param fetcher      페이지 비동기 조회 함수
+   * @param prefetch     미리 요청해 둘 페이지 수
+   * @return 페이지 Stream (페이지 순서 유지)
+   * @throws PageFetchException 소비 중 페이지 조회에 실패한 경우
+   */
+  public static <R extends PageableRequest, T> Stream<ListApiResult<T>> pages(
+      R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher, int prefetch) {
+    PageIterator<R, T> iterator = iterator(firstRequest, fetcher, prefetch);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * 항목 Stream 생성 (모든 페이지의 항목을 순서대로 이어 붙임)
+   *
+   * @param <R>          요청 타입
+   * @param <T>          목록 항목 타입
+   * @param firstRequest 시작 페이지 요청
+   * @param fetcher      페이지 비동기 조회 함수
+   * @param prefetch     미리 요청해 둘 페이지 수
+   * @return 항목 Stream
+   * @throws PageFetchException 소비 중 페이지 조회에 실패한 경우
+   */
+  public static <R extends PageableRequest, T> Stream<T> items(
+      R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher, int prefetch) {
+    return pages(firstRequest, fetcher, prefetch).flatMap(result -> result.items().stream());
+  }
+
+  /**
+   * 첫 페이지 이후 나머지 페이지를 병렬로 조회해 하나의 결과로 합침
+   * <p>
+   * 첫 페이지 응답의 totalCount로 전체 페이지 수를 정한 뒤, 남은 페이지를 최대 maxConcurrency개씩 동시에 요청합니다.
+   * 항목은 페이지 순서대로 이어 붙이며, keyExtractor가 같은 값을 돌려주는 항목은 처음 것만 남깁니다.
+   * 어느 한 페이지라도 실패하면 {@link ListApiResult#error(String)}로 완료되고, keyExtractor 등 결과를 합치는 중에 예기치 않은
+   * 예외를 던지면 그 예외로 예외 완료됩니다. 이미 완료된 Future를 돌려주는 fetcher(캐시 등)도 페이지 수와 관계없이
+   * 호출 스택이 깊어지지 않습니다.
+   * 결과의 page는 마지막 페이지 번호, display는 첫 페이지의 표시 건수이며 rawData는 보관하지 않습니다.
+   * </p>
+   *
+   * @param <R>            요청 타입
+   * @param <T>            목록 항목 타입
+   * @param firstRequest   시작 페이지 요청
+   * @param fetcher        페이지 비동기 조회 함수
+   * @param maxConcurrency 동시에 요청할 최대 페이지 수
+   * @param keyExtractor   중복 제거 키 추출 함수 (null이면 중복 제거하지 않음)
+   * @return 전체 항목 ListApiResult Future
+   */
+  public static <R extends PageableRequest, T> CompletableFuture<ListApiResult<T>> fanOut(
+      R firstRequest, Function<? super R, CompletableFuture<ListApiResult<T>>> fetcher,
+      int maxConcurrency, Function<? super T, ?> keyExtractor) {
+    return new PageFanOut<>(firstRequest, fetcher, maxConcurrency, keyExtractor).start();
+  }
+}
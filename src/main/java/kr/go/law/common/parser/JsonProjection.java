@@ -0,0 +1,105 @@
+package kr.go.law.common.parser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 응답 JSON 일부만 트리로 읽는 투영
+ * <p>
+ * 루트에서 path를 따라 내려간 객체의 하위 필드 중 제외 대상은 {@link JsonParser#skipChildren()}으로 건너뛰므로,
+ * 해당 부분은 JsonNode를 만들지 않습니다. 나머지 부분은 {@link ObjectMapper#readTree(JsonParser)}와 같은 트리를
+ * 만듭니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * // {"법령": {...}}에서 "별표", "부칙" 제외
+ * JsonProjection projection = JsonProjection.excluding(List.of("법령"), Set.of("별표", "부칙"));
+ * JsonNode tree = projection.read(objectMapper, objectMapper.createParser(json));
+ * }
+ * </pre>
+ */
+public final class JsonProjection {
+  private final String[] path;
+  private final Set<String> excluded;
+  private final String key;
+
+  private JsonProjection(List<String> path, Set<String> excluded) {
+    this.path = path.toArray(String[]::new);
+    this.excluded = Set.copyOf(excluded);
+    this.key = String.join(".", path) + "-" + String.join(",", new TreeSet<>(excluded));
+  }
+
+  /**
+   * path 위치 객체에서 지정한 하위 필드를 제외하는 투영
+   *
+   * @param path     제외할 필드를 가진 객체까지의 필드 경로 (빈 목록이면 루트 객체)
+   * @param excluded 제외할 하위 필드 이름
+   * @return JsonProjection
+   */
+  public static JsonProjection excluding(List<String> path, Set<String> excluded) {
+    return new JsonProjection(path, excluded);
+  }
+
+  /**
+   * 투영을 구분하는 키 (요청 병합·본문 캐시 키에 사용)
+   *
+   * @return path와 정렬된 제외 필드로 만든 문자열
+   */
+  public String key() {
+    return key;
+  }
+
+  /**
+   * 파서에서 투영된 JSON 트리 읽기 (파서는 닫음)
+   *
+   * @param objectMapper 트리 노드 생성에 사용할 ObjectMapper
+   * @param parser       읽기 전 상태의 JsonParser
+   * @return JSON 트리 (본문이 비어 있으면 null)
+   * @throws IOException JSON 읽기 실패 시
+   */
+  public JsonNode read(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+    try (JsonParser p = parser) {
+      final JsonToken token = p.nextToken();
+      if (token == null) {
+        return null;
+      }
+      return token == JsonToken.START_OBJECT ? readObject(objectMapper, p, 0) : objectMapper.readTree(p);
+    }
+  }
+
+  /**
+   * START_OBJECT에 위치한 객체 읽기 (depth는 path에서 현재 객체의 깊이)
+   */
+  private ObjectNode readObject(ObjectMapper objectMapper, JsonParser p, int depth) throws IOException {
+    final ObjectNode node = objectMapper.createObjectNode();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      final String name = p.currentName();
+      final JsonToken value = p.nextToken();
+      if (depth == path.length && excluded.contains(name)) {
+        p.skipChildren();
+      } else if (depth < path.length && path[depth].equals(name) && value == JsonToken.START_OBJECT) {
+        node.set(name, readObject(objectMapper, p, depth + 1));
+      } else {
+        final JsonNode child = objectMapper.readTree(p);
+        node.set(name, child != null ? child : NullNode.getInstance());
+      }
+    }
+    return node;
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+}
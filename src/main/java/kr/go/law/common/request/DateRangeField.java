@@ -0,0 +1,80 @@
+package kr.go.law.common.request;
+
+import java.util.function.Function;
+
+/**
+ * 요청의 날짜 범위 조건(YYYYMMDD 시작~종료) 접근자
+ * <p>
+ * 날짜 범위 분할({@link kr.go.law.common.paging.DateRangePartitioner})처럼 요청 종류와 무관하게
+ * 날짜 범위를 읽고 바꿔야 하는 기능에서 사용합니다. 각 요청 클래스가 상수로 제공합니다.
+ * </p>
+ *
+ * @param <R> 요청 타입
+ */
+public interface DateRangeField<R extends PageableRequest> {
+
+  /**
+   * 범위 시작일 반환
+   *
+   * @param request 요청
+   * @return 시작일 (YYYYMMDD, 없으면 null)
+   */
+  Integer from(R request);
+
+  /**
+   * 범위 종료일 반환
+   *
+   * @param request 요청
+   * @return 종료일 (YYYYMMDD, 없으면 null)
+   */
+  Integer to(R request);
+
+  /**
+   * 날짜 범위만 바꾼 새 요청 반환 (페이지는 1로 초기화)
+   *
+   * @param request 요청
+   * @param from    시작일 (YYYYMMDD, 포함)
+   * @param to      종료일 (YYYYMMDD, 포함)
+   * @return 새 요청
+   */
+  R withRange(R request, int from, int to);
+
+  /**
+   * 범위 변경 함수
+   *
+   * @param <R> 요청 타입
+   */
+  @FunctionalInterface
+  interface RangeSetter<R> {
+    R apply(R request, int from, int to);
+  }
+
+  /**
+   * 함수로 DateRangeField 생성
+   *
+   * @param <R>    요청 타입
+   * @param from   시작일 getter
+   * @param to     종료일 getter
+   * @param setter 범위 변경 함수
+   * @return DateRangeField
+   */
+  static <R extends PageableRequest> DateRangeField<R> of(
+      Function<R, Integer> from, Function<R, Integer> to, RangeSetter<R> setter) {
+    return new DateRangeField<>() {
+      @Override
+      public Integer from(R request) {
+        return from.apply(request);
+      }
+
+      @Override
+      public Integer to(R request) {
+        return to.apply(request);
+      }
+
+      @Override
+      public R withRange(R request, int rangeFrom, int rangeTo) {
+        return setter.apply(request, rangeFrom, rangeTo);
+      }
+    };
+  }
+}
@@ -21,4 +21,15 @@ public interface PageableRequest extends BaseRequest {
      * @return 표시 건수, null이면 기본값 20 (최대 100)
      */
     Integer getDisplay();
+
+    /**
+     * 페이지 번호만 바꾼 새 요청 반환
+     * <p>
+     * 나머지 조건은 그대로 유지합니다. 페이지 순회 기능({@link kr.go.law.common.paging.Paging})에서 사용합니다.
+     * </p>
+     *
+     * @param page 페이지 번호 (1-based)
+     * @return 새 요청 객체
+     */
+    PageableRequest withPage(int page);
 }
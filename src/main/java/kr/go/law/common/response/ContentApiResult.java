@@ -6,12 +6,24 @@ import java.util.Optional;
  * 본문 조회 API 공통 응답
  *
  * @param <T> 본문 타입
+ * @param raw      API 응답 원문 (보관하지 않으면 null)
+ * @param content  본문
+ * @param hasError 오류 여부
  */
 public record ContentApiResult<T>(
-        String rawData,
+        RawData raw,
         Optional<T> content,
         boolean hasError) {
 
+    /**
+     * API 응답 원문 문자열 반환
+     *
+     * @return 원문 문자열 (보관하지 않았으면 null)
+     */
+    public String rawData() {
+        return raw != null ? raw.asString() : null;
+    }
+
     /**
      * 빈 결과 생성
      */
@@ -23,13 +35,23 @@ public record ContentApiResult<T>(
      * 에러 결과 생성 (rawData만 포함)
      */
     public static <T> ContentApiResult<T> error(String rawData) {
-        return new ContentApiResult<>(rawData, Optional.empty(), true);
+        return new ContentApiResult<>(RawData.of(rawData), Optional.empty(), true);
     }
 
     /**
      * 성공 결과 생성
      */
     public static <T> ContentApiResult<T> of(String rawData, T content) {
-        return new ContentApiResult<>(rawData, Optional.ofNullable(content), false);
+        return new ContentApiResult<>(RawData.of(rawData), Optional.ofNullable(content), false);
+    }
+
+    /**
+     * 성공 결과 생성 (보관 방식이 적용된 원문)
+     * <p>
+     * {@link #of(String, Object)}와 이름을 달리해 {@code of(null, content)} 호출이 모호해지지 않도록 합니다.
+     * </p>
+     */
+    public static <T> ContentApiResult<T> retained(RawData raw, T content) {
+        return new ContentApiResult<>(raw, Optional.ofNullable(content), false);
     }
 }
@@ -6,20 +6,45 @@ import java.util.List;
  * 목록 조회 API 공통 응답
  *
  * @param <T> 목록 항목 타입
+ * @param raw        API 응답 원문 (보관하지 않으면 null)
+ * @param items      항목 목록
+ * @param totalCount 전체 건수
+ * @param page       페이지 번호
+ * @param display    페이지당 표시 건수
+ * @param hasError   오류 여부
  */
 public record ListApiResult<T>(
-    String rawData,
+    RawData raw,
     List<T> items,
     int totalCount,
     int page,
     int display,
     boolean hasError) implements PaginatedResponse<T> {
 
+  /**
+   * API 응답 원문 문자열 반환
+   *
+   * @return 원문 문자열 (보관하지 않았으면 null)
+   */
+  public String rawData() {
+    return raw != null ? raw.asString() : null;
+  }
+
   /**
    * 정상 결과 생성
    */
   public static <T> ListApiResult<T> of(String rawData, List<T> items, int totalCount, int page, int display) {
-    return new ListApiResult<>(rawData, items, totalCount, page, display, false);
+    return new ListApiResult<>(RawData.of(rawData), items, totalCount, page, display, false);
+  }
+
+  /**
+   * 정상 결과 생성 (보관 방식이 적용된 원문)
+   * <p>
+   * {@link #of(String, List, int, int, int)}와 이름을 달리해 {@code of(null, ...)} 호출이 모호해지지 않도록 합니다.
+   * </p>
+   */
+  public static <T> ListApiResult<T> retained(RawData raw, List<T> items, int totalCount, int page, int display) {
+    return new ListApiResult<>(raw, items, totalCount, page, display, false);
   }
 
   /**
@@ -33,6 +58,6 @@ public record ListApiResult<T>(
    * 에러 결과 생성 (rawData만 포함)
    */
   public static <T> ListApiResult<T> error(String rawData) {
-    return new ListApiResult<>(rawData, List.of(), 0, 1, 0, true);
+    return new ListApiResult<>(RawData.of(rawData), List.of(), 0, 1, 0, true);
   }
 }
@@ -0,0 +1,203 @@
+package kr.go.law.common.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import kr.go.law.config.RawDataRetention;
+
+/**
+ * 조회 결과에 보관되는 API 응답 원문
+ * <p>
+ * {@link RawDataRetention}에 따라 힙 문자열, GZIP 압축 byte[], 힙 밖 direct ByteBuffer 중 하나로 보관합니다.
+ * {@link #asString()}을 호출할 때마다 필요하면 복원하므로, 자주 읽는다면 FULL을 사용하세요.
+ * </p>
+ * <p>
+ * equals/hashCode는 복원하지 않고 보관 중인 값을 비교하므로, 같은 원문이라도 보관 방식이 다르면 같지 않습니다.
+ * </p>
+ */
+public abstract class RawData {
+
+  private RawData() {
+  }
+
+  /**
+   * 원문 문자열 반환
+   *
+   * @return 원문 문자열
+   */
+  public abstract String asString();
+
+  /**
+   * 보관 방식 반환
+   *
+   * @return 보관 방식
+   */
+  public abstract RawDataRetention retention();
+
+  /**
+   * 보관 중인 크기 반환
+   *
+   * @return FULL은 문자 수, 그 외에는 보관 중인 바이트 수
+   */
+  public abstract int retainedSize();
+
+  /**
+   * 원문 문자열을 그대로 보관
+   *
+   * @param rawData 원문 문자열
+   * @return RawData (rawData가 null이면 null)
+   */
+  public static RawData of(String rawData) {
+    return rawData != null ? new Heap(rawData) : null;
+  }
+
+  /**
+   * 보관 방식에 따라 원문 보관
+   *
+   * @param rawData   원문 문자열
+   * @param retention 보관 방식
+   * @return RawData (rawData가 null이거나 NONE이면 null)
+   */
+  public static RawData retain(String rawData, RawDataRetention retention) {
+    if (rawData == null || retention == null) {
+      return of(rawData);
+    }
+    return switch (retention) {
+      case FULL -> new Heap(rawData);
+      case NONE -> null;
+      case COMPRESSED -> new Compressed(gzip(rawData));
+      case OFF_HEAP -> new OffHeap(rawData);
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "RawData[" + retention() + ", " + retainedSize() + "]";
+  }
+
+  private static byte[] gzip(String rawData) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(rawData.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /** 힙 문자열 보관 */
+  private static final class Heap extends RawData {
+    private final String value;
+
+    Heap(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String asString() {
+      return value;
+    }
+
+    @Override
+    public RawDataRetention retention() {
+      return RawDataRetention.FULL;
+    }
+
+    @Override
+    public int retainedSize() {
+      return value.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Heap other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+
+  /** GZIP 압축 보관 */
+  private static final class Compressed extends RawData {
+    private final byte[] bytes;
+
+    Compressed(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public String asString() {
+      try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+        return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public RawDataRetention retention() {
+      return RawDataRetention.COMPRESSED;
+    }
+
+    @Override
+    public int retainedSize() {
+      return bytes.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Compressed other && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(bytes);
+    }
+  }
+
+  /** 힙 밖 direct ByteBuffer 보관 (ByteBuffer가 수거될 때 해제) */
+  private static final class OffHeap extends RawData {
+    private final ByteBuffer buffer;
+
+    OffHeap(String value) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      this.buffer = direct.asReadOnlyBuffer();
+    }
+
+    @Override
+    public String asString() {
+      return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+    }
+
+    @Override
+    public RawDataRetention retention() {
+      return RawDataRetention.OFF_HEAP;
+    }
+
+    @Override
+    public int retainedSize() {
+      return buffer.capacity();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OffHeap other && buffer.equals(other.buffer);
+    }
+
+    @Override
+    public int hashCode() {
+      return buffer.hashCode();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package kr.go.law.common.store;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상태 객체를 JSON 파일 하나에 저장하는 저장소
+ * <p>
+ * 크롤러 체크포인트, 동기화 상태처럼 재시작 후 이어서 작업하기 위한 상태를 저장합니다.
+ * 임시 파일에 먼저 쓴 뒤 원자적으로 교체하므로, 저장 도중 프로세스가 종료되어도 이전 상태가 남습니다.
+ * </p>
+ *
+ * @param <T> 상태 타입 (Jackson으로 직렬화 가능해야 함)
+ */
+@Slf4j
+public class JsonFileStore<T> {
+
+  private final Path path;
+  private final Class<T> type;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * JsonFileStore 생성자
+   *
+   * @param path         상태 파일 경로
+   * @param type         상태 타입
+   * @param objectMapper Jackson ObjectMapper
+   */
+  public JsonFileStore(Path path, Class<T> type, ObjectMapper objectMapper) {
+    this.path = path;
+    this.type = type;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 저장된 상태 읽기
+   *
+   * @return 상태 (파일이 없으면 empty)
+   * @throws IOException 파일을 읽거나 파싱하지 못한 경우
+   */
+  public Optional<T> load() throws IOException {
+    if (!Files.exists(path)) {
+      return Optional.empty();
+    }
+    return Optional.of(objectMapper.readValue(path.toFile(), type));
+  }
+
+  /**
+   * 상태 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+   *
+   * @param state 상태
+   * @throws IOException 파일을 쓰지 못한 경우
+   */
+  public synchronized void save(T state) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try {
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), state);
+      try {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        log.debug("Atomic move not supported, falling back to replace: {}", path);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * 상태 파일 경로 반환
+   *
+   * @return 경로
+   */
+  public Path getPath() {
+    return path;
+  }
+}
@@ -0,0 +1,68 @@
+package kr.go.law.common.util;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * YYYYMMDD 형태의 정수 날짜 도우미
+ * <p>
+ * 요청/DTO의 날짜 필드(공포일자, 시행일자, 선고일자, 개정일 등)는 모두 YYYYMMDD 정수이므로,
+ * 날짜 범위를 나누거나 하루씩 이동할 때 사용합니다.
+ * </p>
+ */
+@UtilityClass
+public class DateInts {
+
+  /**
+   * YYYYMMDD 정수를 LocalDate로 변환
+   *
+   * @param yyyymmdd YYYYMMDD 정수
+   * @return LocalDate
+   */
+  public static LocalDate toLocalDate(int yyyymmdd) {
+    return LocalDate.of(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100);
+  }
+
+  /**
+   * LocalDate를 YYYYMMDD 정수로 변환
+   *
+   * @param date LocalDate
+   * @return YYYYMMDD 정수
+   */
+  public static int toInt(LocalDate date) {
+    return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+  }
+
+  /**
+   * 날짜에 일수를 더함
+   *
+   * @param yyyymmdd YYYYMMDD 정수
+   * @param days     더할 일수 (음수 가능)
+   * @return YYYYMMDD 정수
+   */
+  public static int plusDays(int yyyymmdd, long days) {
+    return toInt(toLocalDate(yyyymmdd).plusDays(days));
+  }
+
+  /**
+   * 두 날짜 사이의 일수 (to - from)
+   *
+   * @param from 시작 YYYYMMDD 정수
+   * @param to   종료 YYYYMMDD 정수
+   * @return 일수
+   */
+  public static long daysBetween(int from, int to) {
+    return ChronoUnit.DAYS.between(toLocalDate(from), toLocalDate(to));
+  }
+
+  /**
+   * 오늘 날짜
+   *
+   * @return 오늘의 YYYYMMDD 정수
+   */
+  public static int today() {
+    return toInt(LocalDate.now());
+  }
+}
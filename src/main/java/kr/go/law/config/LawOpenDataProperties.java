@@ -1,12 +1,16 @@
 package kr.go.law.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Map;
 
+import kr.go.law.common.cache.ContentCache;
+import kr.go.law.common.client.RawDataSink;
 import lombok.Builder;
 import lombok.Getter;
 
 /** Law Open Data API 클라이언트 설정 */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class LawOpenDataProperties {
   public static final String BASE_URL = "http://www.law.go.kr/DRF";
@@ -23,9 +27,94 @@ public class LawOpenDataProperties {
   private final int maxRetries = 3;
   @Builder.Default
   private final Duration retryDelay = Duration.ofSeconds(1);
+  /** 재시도 대기 시간 상한 (지수 백오프 및 Retry-After에 적용) */
+  @Builder.Default
+  private final Duration maxRetryDelay = Duration.ofSeconds(30);
+  /** 원 요청 1건당 적립되는 전역 재시도 예산 (0.2 → 원 요청의 20%까지 재시도) */
+  @Builder.Default
+  private final double retryBudgetRatio = 0.2;
+  /** 요청량과 무관하게 초당 적립되는 전역 재시도 예산 */
+  @Builder.Default
+  private final double retryBudgetMinPerSecond = 1;
   @Builder.Default
   private final int maxConnection = 5;
   @Builder.Default
   private final Duration keepAliveDuration = Duration.ofMinutes(5);
 
+  /** 호스트별 초당 요청 수 제한 (0 이하이면 제한 없음) */
+  @Builder.Default
+  private final double rateLimitPerSecond = 0;
+  /** 요청 속도 제한의 버스트 허용량 */
+  @Builder.Default
+  private final int rateLimitBurst = 1;
+  /** 호스트별 초당 요청 수 제한 (key: 호스트명, rateLimitPerSecond 대신 적용) */
+  @Builder.Default
+  private final Map<String, Double> hostRateLimits = Map.of();
+  /** 요청 속도 제한 초과 시 동작 방식 */
+  @Builder.Default
+  private final RateLimitMode rateLimitMode = RateLimitMode.WAIT;
+  /** WAIT 모드에서 토큰을 기다리는 최대 시간 */
+  @Builder.Default
+  private final Duration rateLimitMaxWait = Duration.ofSeconds(30);
+
+  /** 429/5xx/지연 급증에 따라 동시 요청 수를 조절하는 적응형 제한 사용 여부 */
+  @Builder.Default
+  private final boolean adaptiveConcurrency = false;
+  /** 적응형 제한의 최소 동시 요청 수 */
+  @Builder.Default
+  private final int minConcurrency = 1;
+  /** 적응형 제한의 최대 동시 요청 수 */
+  @Builder.Default
+  private final int maxConcurrency = 20;
+  /** 적응형 제한 감소 시 곱할 비율 */
+  @Builder.Default
+  private final double concurrencyBackoffRatio = 0.7;
+  /** 기준 지연 대비 이 배수를 넘으면 지연 급증으로 판단 */
+  @Builder.Default
+  private final double latencyTolerance = 2.0;
+
+  /** 서킷 브레이커를 여는 호스트별 연속 실패 횟수 (0 이하이면 비활성) */
+  @Builder.Default
+  private final int circuitBreakerFailureThreshold = 5;
+  /** 서킷 브레이커가 열린 뒤 호출을 차단하는 시간 */
+  @Builder.Default
+  private final Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+  /** 차단 시간이 지난 뒤 허용하는 시험 호출 수 */
+  @Builder.Default
+  private final int circuitBreakerHalfOpenCalls = 1;
+
+  /** 판례 본문 조회 시 호스트(law.go.kr, NTS, COMWEL)별 최대 동시 호출 수 (0 이하이면 제한 없음) */
+  @Builder.Default
+  private final int maxConcurrentCallsPerHost = 5;
+
+  /** 동일 URL로 동시에 들어온 조회 요청을 하나의 HTTP 호출·파싱으로 병합할지 여부 */
+  @Builder.Default
+  private final boolean requestCoalescing = true;
+
+  /** 목록/본문 조회 응답 파싱 방식 (STREAMING이면 결과의 rawData는 null) */
+  @Builder.Default
+  private final ParseMode parseMode = ParseMode.BUFFERED;
+  /** STREAMING 모드에서 응답 원문을 복사해 둘 대상 (null이면 복사하지 않음) */
+  private final RawDataSink rawDataSink;
+  /** 성공 결과의 원문(rawData) 보관 방식 */
+  @Builder.Default
+  private final RawDataRetention rawDataRetention = RawDataRetention.FULL;
+
+  /** 본문 캐시 메모리 계층의 최대 추정 크기 (바이트, 0 이하이면 메모리 계층 없음) */
+  @Builder.Default
+  private final long cacheMaxBytes = 0;
+  /** 본문 캐시 항목 유지 시간 */
+  @Builder.Default
+  private final Duration cacheTtl = Duration.ofDays(1);
+  /** 본문 캐시 디스크 계층 디렉터리 (null이면 디스크 계층 없음) */
+  private final Path cacheDirectory;
+  /** cacheMaxBytes/cacheDirectory로 만드는 기본 캐시 대신 사용할 본문 캐시 */
+  private final ContentCache contentCache;
+
+  /** 판례별 본문 조회 경로 메모 파일 (null이면 메모리에만 보관) */
+  private final Path precedentRouteFile;
+  /** 판례별 본문 조회 경로 유지 시간 */
+  @Builder.Default
+  private final Duration precedentRouteTtl = Duration.ofDays(30);
+
 }
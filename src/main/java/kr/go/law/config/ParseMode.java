@@ -0,0 +1,17 @@
+package kr.go.law.config;
+
+/**
+ * API 응답 본문 파싱 방식
+ */
+public enum ParseMode {
+
+  /**
+   * 응답 본문 전체를 문자열로 읽은 뒤 파싱 (결과에 rawData 포함)
+   */
+  BUFFERED,
+
+  /**
+   * 응답 본문 바이트 스트림을 바로 Jackson으로 파싱 (rawData는 null, 필요하면 RawDataSink로 복사)
+   */
+  STREAMING
+}
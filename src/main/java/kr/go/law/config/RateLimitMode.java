@@ -0,0 +1,17 @@
+package kr.go.law.config;
+
+/**
+ * 클라이언트 측 요청 속도 제한 초과 시 동작 방식
+ */
+public enum RateLimitMode {
+
+  /**
+   * 토큰이 생길 때까지 대기 (최대 rateLimitMaxWait)
+   */
+  WAIT,
+
+  /**
+   * 대기하지 않고 즉시 실패
+   */
+  FAIL_FAST
+}
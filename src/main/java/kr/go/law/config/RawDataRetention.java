@@ -0,0 +1,27 @@
+package kr.go.law.config;
+
+/**
+ * 조회 결과의 원문(rawData) 보관 방식
+ */
+public enum RawDataRetention {
+
+  /**
+   * 원문 문자열을 그대로 보관
+   */
+  FULL,
+
+  /**
+   * 보관하지 않음 (rawData()는 null)
+   */
+  NONE,
+
+  /**
+   * GZIP으로 압축한 byte[]로 보관 (rawData() 호출 시 압축 해제)
+   */
+  COMPRESSED,
+
+  /**
+   * UTF-8 바이트를 힙 밖(direct ByteBuffer)에 보관
+   */
+  OFF_HEAP
+}
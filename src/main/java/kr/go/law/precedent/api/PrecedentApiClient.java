@@ -1,12 +1,25 @@
 package kr.go.law.precedent.api;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import kr.go.law.common.client.BaseApiClient;
+import kr.go.law.common.paging.Paging;
+import kr.go.law.common.http.CircuitBreaker;
+import kr.go.law.common.http.CircuitBreakerRegistry;
+import kr.go.law.common.http.HostBulkhead;
+import kr.go.law.common.http.HttpStatusException;
 import kr.go.law.common.response.ContentApiResult;
 import kr.go.law.common.response.ListApiResult;
 import kr.go.law.config.LawOpenDataProperties;
@@ -27,10 +40,11 @@ import okhttp3.Response;
 
 /** 판례 목록, 본문 조회 API를 호출 클라이언트 */
 @Slf4j
-public class PrecedentApiClient extends BaseApiClient {
+public class PrecedentApiClient extends BaseApiClient implements AutoCloseable {
 
   private static final String FALLBACK_URL = "https://www.law.go.kr/LSW/precInfoP.do";
   private static final String NTS_URL = "https://taxlaw.nts.go.kr/action.do";
+  private static final String API_HOST = HttpUrl.parse(LawOpenDataProperties.BASE_URL).host();
 
   // 데이터 출처명 상수
   private static final String DATA_SOURCE_NTS = "국세법령정보시스템";
@@ -41,6 +55,9 @@ public class PrecedentApiClient extends BaseApiClient {
   private static final String USER_AGENT_VALUE = "Mozilla/5.0";
 
   private final PrecedentParserFactory parserFactory;
+  private final CircuitBreakerRegistry circuitBreakers;
+  private final PrecedentRouteMemo routeMemo;
+  private final HostBulkhead bulkhead;
 
   /**
    * <strong>권장하지 않음:</strong> 직접 생성보다는 {@link kr.go.law.LawOpenDataClient}를
@@ -53,6 +70,43 @@ public class PrecedentApiClient extends BaseApiClient {
   public PrecedentApiClient(LawOpenDataProperties properties, ObjectMapper objectMapper, OkHttpClient client) {
     super(properties, objectMapper, client);
     this.parserFactory = new PrecedentParserFactory(objectMapper);
+    this.circuitBreakers = CircuitBreakerRegistry.from(properties);
+    this.routeMemo = new PrecedentRouteMemo(properties.getPrecedentRouteFile(), properties.getPrecedentRouteTtl(),
+        objectMapper);
+    this.bulkhead = HostBulkhead.from(properties);
+  }
+
+  /**
+   * 판례별 본문 조회 경로 메모 반환
+   * <p>
+   * 경로를 지우거나({@link PrecedentRouteMemo#invalidate(Integer)}) 파일에 저장({@link PrecedentRouteMemo#flush()})할 때 사용합니다.
+   * </p>
+   *
+   * @return 경로 메모
+   */
+  public PrecedentRouteMemo getRouteMemo() {
+    return routeMemo;
+  }
+
+  /**
+   * 경로 메모의 남은 변경 저장
+   */
+  @Override
+  public void close() {
+    try {
+      routeMemo.close();
+    } catch (UncheckedIOException e) {
+      log.warn("Failed to save precedent route memo on close: error={}", e.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Fallback 경로(law.go.kr HTML, NTS, COMWEL) 호스트별 서킷 브레이커 상태 반환
+   *
+   * @return 호스트명 → 상태
+   */
+  public Map<String, CircuitBreaker.State> getCircuitBreakerStates() {
+    return circuitBreakers.getStates();
   }
 
   /**
@@ -86,6 +140,90 @@ public class PrecedentApiClient extends BaseApiClient {
         "Precedent List");
   }
 
+  /**
+   * 판례 목록 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param request 판례 목록 조회 요청
+   * @return ListApiResult Future
+   * @see #searchAsync(PrecedentListRequest, Executor)
+   */
+  public CompletableFuture<ListApiResult<PrecedentListDto>> searchAsync(PrecedentListRequest request) {
+    return searchAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 판례 목록 비동기 조회
+   * <p>
+   * HTTP 응답 대기 중에는 스레드를 점유하지 않으며, 응답 파싱은 parseExecutor에서 수행됩니다.
+   * </p>
+   *
+   * @param request       판례 목록 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<PrecedentListDto>> searchAsync(PrecedentListRequest request,
+      Executor parseExecutor) {
+    return executeListApiAsync(
+        request,
+        LawOpenDataProperties.LIST_PATH,
+        parserFactory.getPrecedentListParser()::parseList,
+        parserFactory.getPrecedentListParser()::parseTotalCount,
+        "Precedent List",
+        parseExecutor);
+  }
+
+  /**
+   * 판례 목록 전체 페이지 항목 Stream 조회 (다음 1페이지를 미리 요청)
+   *
+   * @param request 시작 페이지 요청
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   * @see #searchStream(PrecedentListRequest, int)
+   */
+  public Stream<PrecedentListDto> searchStream(PrecedentListRequest request) {
+    return searchStream(request, Paging.DEFAULT_PREFETCH);
+  }
+
+  /**
+   * 판례 목록 전체 페이지 항목 Stream 조회
+   * <p>
+   * 호출자가 현재 페이지 항목을 처리하는 동안 다음 prefetch개 페이지를 미리 요청합니다.
+   * 페이지 조회에 실패하면 소비 중 {@link kr.go.law.common.paging.PageFetchException}이 발생합니다.
+   * </p>
+   *
+   * @param request  시작 페이지 요청
+   * @param prefetch 미리 요청해 둘 페이지 수
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   */
+  public Stream<PrecedentListDto> searchStream(PrecedentListRequest request, int prefetch) {
+    return Paging.items(request, this::searchAsync, prefetch);
+  }
+
+  /**
+   * 판례 목록 전체 페이지 조회 (남은 페이지를 maxConnection개씩 병렬 조회)
+   *
+   * @param request 시작 페이지 요청
+   * @return 전체 항목 ListApiResult (판례일련번호(precId) 기준 중복 제거)
+   * @see #searchAllAsync(PrecedentListRequest, int)
+   */
+  public ListApiResult<PrecedentListDto> searchAll(PrecedentListRequest request) {
+    return searchAllAsync(request, properties.getMaxConnection()).join();
+  }
+
+  /**
+   * 판례 목록 전체 페이지 비동기 조회
+   * <p>
+   * 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 최대 maxConcurrency개씩 동시에 요청하고,
+   * 페이지 순서대로 합친 뒤 판례일련번호(precId) 기준으로 중복을 제거합니다. 한 페이지라도 실패하면 에러 결과로 완료됩니다.
+   * </p>
+   *
+   * @param request        시작 페이지 요청
+   * @param maxConcurrency 동시에 요청할 최대 페이지 수
+   * @return 전체 항목 ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<PrecedentListDto>> searchAllAsync(PrecedentListRequest request, int maxConcurrency) {
+    return Paging.fanOut(request, this::searchAsync, maxConcurrency, PrecedentListDto::getPrecId);
+  }
+
   /**
    * 판례 본문 조회 (기본 API만 사용, dataSource 무시)
    *
@@ -100,6 +238,34 @@ public class PrecedentApiClient extends BaseApiClient {
         "Precedent Content");
   }
 
+  /**
+   * 판례 본문 비동기 조회 (기본 API만 사용, 기본 Executor에서 파싱)
+   *
+   * @param request 판례 본문 조회 요청
+   * @return ContentApiResult Future
+   * @see #getContentAsync(PrecedentContentRequest, Executor)
+   */
+  public CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentAsync(PrecedentContentRequest request) {
+    return getContentAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 판례 본문 비동기 조회 (기본 API만 사용)
+   *
+   * @param request       판례 본문 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   */
+  public CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentAsync(PrecedentContentRequest request,
+      Executor parseExecutor) {
+    return executeContentApiAsync(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        parserFactory.getPrecedentContentParser()::parseContent,
+        "Precedent Content",
+        parseExecutor);
+  }
+
   /**
    * 판례 본문 조회 (dataSource 기반 분기)
    *
@@ -118,20 +284,261 @@ public class PrecedentApiClient extends BaseApiClient {
   }
 
   /**
-   * 기본 API 호출 후 실패 시 fallback
+   * 판례 목록 조회 결과 여러 건의 본문 일괄 조회
+   * <p>
+   * 항목마다 {@link #getContentAsync(PrecedentListDto)}를 시작하고, 완료되는 순서대로 callback에 전달합니다.
+   * law.go.kr, NTS, COMWEL 호출은 호스트별 대기열에서 maxConcurrentCallsPerHost까지만 동시에 실행되며,
+   * 대기 중인 항목은 스레드를 점유하지 않으므로 느린 NTS 항목이 쌓여도 다른 호스트의 항목은 기다리지 않습니다.
+   * callback은 한 번에 하나씩 호출되며, 실패한 항목은 {@link ContentApiResult#error(String)}로 전달됩니다.
+   * </p>
+   *
+   * <pre>
+   * 사용 예시:
+   * {@code
+   * ListApiResult<PrecedentListDto> page = client.search(request);
+   * client.getContents(page.items(), (item, result) ->
+   *     result.content().ifPresent(repository::save)).join();
+   * }
+   * </pre>
+   *
+   * @param items    판례 목록 조회 결과 항목
+   * @param callback 항목별 결과 수신자 (항목, 결과)
+   * @return 모든 항목이 callback에 전달되면 완료되는 Future
    */
-  private ContentApiResult<PrecedentContentDto> getContentWithFallback(Integer precId) {
+  public CompletableFuture<Void> getContents(Collection<PrecedentListDto> items,
+      BiConsumer<PrecedentListDto, ContentApiResult<PrecedentContentDto>> callback) {
+    final Object callbackLock = new Object();
+    CompletableFuture<?>[] futures = items.stream()
+        .map(item -> getContentAsync(item)
+            .thenAccept(result -> {
+              synchronized (callbackLock) {
+                callback.accept(item, result);
+              }
+            }))
+        .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * 판례 목록 조회 결과로 본문 조회
+   * <p>
+   * 근로복지공단산재판례는 목록 결과에 이미 있는 사건번호·법원명으로 COMWEL 메타데이터 조회를
+   * 본문 조회와 동시에 시작해 본문 조회가 끝나면 병합합니다.
+   * 그 외 데이터 출처는 {@link #getContent(Integer, String)}와 같습니다.
+   * </p>
+   *
+   * @param item 판례 목록 조회 결과 항목
+   * @return ContentApiResult
+   */
+  public ContentApiResult<PrecedentContentDto> getContent(PrecedentListDto item) {
+    if (!DATA_SOURCE_COMWEL.equals(item.getDataSource())
+        || item.getCaseNumber() == null || item.getCourtName() == null) {
+      return getContent(item.getPrecId(), item.getDataSource());
+    }
+
+    Integer precId = item.getPrecId();
+    CompletableFuture<String> comwel = callComwelApiAsync(item.getCaseNumber(), item.getCourtName());
+
+    ContentApiResult<PrecedentContentDto> result = getContentWithFallback(precId);
+    if (result.content().isEmpty()) {
+      return result;
+    }
+
+    try {
+      return withComwelMetadata(precId, result, comwel.join());
+    } catch (Exception e) {
+      log.warn("Failed to supplement from COMWEL: precId={}, error={}", precId, rootMessage(e));
+      return result;
+    }
+  }
+
+  /**
+   * 판례 목록 조회 결과로 본문 비동기 조회
+   * <p>
+   * {@link #getContent(PrecedentListDto)}와 같은 흐름(경로 메모, JSON API, HTML, NTS, COMWEL 보완)으로 조회하되,
+   * 모든 HTTP 호출은 호스트별 비동기 허가를 얻어 실행하므로 허가나 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+   * HTML·NTS 응답 파싱은 기본 Executor에서 수행되며, 실패 시 {@link ContentApiResult#error(String)}로 완료됩니다.
+   * </p>
+   *
+   * @param item 판례 목록 조회 결과 항목
+   * @return ContentApiResult Future
+   */
+  public CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentAsync(PrecedentListDto item) {
+    Integer precId = item.getPrecId();
+    CompletableFuture<ContentApiResult<PrecedentContentDto>> result;
+    if (DATA_SOURCE_NTS.equals(item.getDataSource())) {
+      result = getContentByRouteAsync(precId).thenCompose(routed -> routed != null
+          ? CompletableFuture.completedFuture(routed)
+          : getContentFromFallbackAsync(precId));
+    } else if (DATA_SOURCE_COMWEL.equals(item.getDataSource())) {
+      result = getContentFromComwelAsync(item);
+    } else {
+      result = getContentWithFallbackAsync(precId);
+    }
+    return result.exceptionally(e -> {
+      log.error("Failed to fetch precedent content: precId={}, error={}", precId, rootMessage(e));
+      return ContentApiResult.error(null);
+    });
+  }
+
+  /**
+   * 기본 API 비동기 호출 후 실패 시 fallback
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentWithFallbackAsync(Integer precId) {
+    return getContentByRouteAsync(precId).thenCompose(routed -> {
+      if (routed != null) {
+        return CompletableFuture.completedFuture(routed);
+      }
+      return getContentFromApiAsync(precId).thenCompose(result -> {
+        if (result.content().isEmpty()) {
+          log.info("Empty content from API, falling back to HTML scraping: precId={}", precId);
+          return getContentFromFallbackAsync(precId);
+        }
+        routeMemo.learn(precId, PrecedentRouteMemo.Route.api());
+        return CompletableFuture.completedFuture(result);
+      });
+    });
+  }
+
+  /**
+   * 기본 API로 본문 비동기 조회 (law.go.kr 호스트 비동기 허가 적용)
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentFromApiAsync(Integer precId) {
     PrecedentContentRequest request = PrecedentContentRequest.builder()
         .id(precId)
         .build();
+    return bulkhead.executeAsync(API_HOST, () -> getContentAsync(request));
+  }
+
+  /**
+   * 경로 메모에 기억된 경로로 본문 비동기 조회
+   *
+   * @return 조회 결과 Future (기억된 경로가 없거나 조회에 실패하면 null로 완료, 실패한 경로는 메모에서 제거)
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentByRouteAsync(Integer precId) {
+    PrecedentRouteMemo.Route route = routeMemo.get(precId).orElse(null);
+    if (route == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    log.debug("Using memoized precedent route: precId={}, route={}", precId, route);
+    CompletableFuture<ContentApiResult<PrecedentContentDto>> routed = switch (route.source()) {
+      case API -> getContentFromApiAsync(precId);
+      case HTML -> getContentFromFallbackAsync(precId);
+      case NTS -> getContentFromNtsDocumentAsync(precId, route.ntstDcmId());
+    };
+
+    return routed.thenApply(result -> {
+      if (!result.hasError() && result.content().isPresent()) {
+        return result;
+      }
+      log.info("Memoized precedent route failed, retrying full flow: precId={}, route={}", precId, route);
+      routeMemo.invalidate(precId);
+      return null;
+    });
+  }
+
+  /**
+   * COMWEL(근로복지공단산재판례) 본문 비동기 조회
+   * <p>
+   * 목록 결과에 사건번호·법원명이 있으면 COMWEL 메타데이터 조회를 본문 조회와 동시에 시작합니다.
+   * </p>
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentFromComwelAsync(PrecedentListDto item) {
+    Integer precId = item.getPrecId();
+    CompletableFuture<String> listed = item.getCaseNumber() != null && item.getCourtName() != null
+        ? callComwelApiAsync(item.getCaseNumber(), item.getCourtName())
+        : null;
+
+    return getContentWithFallbackAsync(precId).thenCompose(result -> {
+      if (result.content().isEmpty()) {
+        return CompletableFuture.completedFuture(result);
+      }
+      PrecedentContentDto dto = result.content().get();
+      CompletableFuture<String> comwel = listed != null
+          ? listed
+          : callComwelApiAsync(dto.getCaseNumber(), dto.getCourtName());
+      return comwel
+          .thenApplyAsync(html -> {
+            try {
+              return withComwelMetadata(precId, result, html);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }, DEFAULT_PARSE_EXECUTOR)
+          .exceptionally(e -> {
+            log.warn("Failed to supplement from COMWEL: precId={}, error={}", precId, rootMessage(e));
+            return result;
+          });
+    });
+  }
+
+  /**
+   * Fallback 경로로 본문 비동기 조회 (HTML 또는 NTS 리다이렉트)
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentFromFallbackAsync(Integer precId) {
+    return callFallbackApiAsync(precId)
+        .thenCompose(fallback -> fallback.ntsDcmId != null
+            ? getContentFromNtsDocumentAsync(precId, fallback.ntsDcmId)
+            : CompletableFuture.supplyAsync(() -> {
+              try {
+                PrecedentContentDto dto = PrecedentHtmlParser.parseHtmlContent(fallback.html);
+                if (dto != null) {
+                  routeMemo.learn(precId, PrecedentRouteMemo.Route.html());
+                }
+                return ContentApiResult.retained(retainRawData(fallback.html), dto);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }, DEFAULT_PARSE_EXECUTOR))
+        .exceptionally(e -> {
+          log.error("Failed to get content from fallback: precId={}, error={}", precId, rootMessage(e));
+          return ContentApiResult.error(null);
+        });
+  }
+
+  /**
+   * NTS 문서 ID로 본문 비동기 조회
+   */
+  private CompletableFuture<ContentApiResult<PrecedentContentDto>> getContentFromNtsDocumentAsync(Integer precId,
+      String ntsDcmId) {
+    return callNtsApiAsync(ntsDcmId)
+        .thenApplyAsync(ntsResponse -> {
+          try {
+            PrecedentContentDto dto = parserFactory.getPrecedentNtsParser()
+                .parse(objectMapper.readTree(ntsResponse));
+            if (dto != null) {
+              routeMemo.learn(precId, PrecedentRouteMemo.Route.nts(ntsDcmId));
+            }
+            return ContentApiResult.retained(retainRawData(ntsResponse), dto);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }, DEFAULT_PARSE_EXECUTOR)
+        .exceptionally(e -> {
+          log.error("Failed to get content from NTS: precId={}, ntsDcmId={}, error={}", precId, ntsDcmId,
+              rootMessage(e));
+          return ContentApiResult.error(null);
+        });
+  }
+
+  /**
+   * 기본 API 호출 후 실패 시 fallback
+   */
+  private ContentApiResult<PrecedentContentDto> getContentWithFallback(Integer precId) {
+    ContentApiResult<PrecedentContentDto> routed = getContentByRoute(precId);
+    if (routed != null) {
+      return routed;
+    }
 
-    ContentApiResult<PrecedentContentDto> result = getContent(request);
+    ContentApiResult<PrecedentContentDto> result = getContentFromApi(precId);
 
     if (result.content().isEmpty()) {
       log.info("Empty content from API, falling back to HTML scraping: precId={}", precId);
       return getContentFromFallback(precId);
     }
 
+    routeMemo.learn(precId, PrecedentRouteMemo.Route.api());
     return result;
   }
 
@@ -139,10 +546,57 @@ public class PrecedentApiClient extends BaseApiClient {
    * NTS(국세법령정보시스템) 본문 조회
    */
   private ContentApiResult<PrecedentContentDto> getContentFromNts(Integer precId) {
+    ContentApiResult<PrecedentContentDto> routed = getContentByRoute(precId);
+    if (routed != null) {
+      return routed;
+    }
+
     log.info("NTS dataSource detected, using fallback flow: precId={}", precId);
     return getContentFromFallback(precId);
   }
 
+  /**
+   * 기본 API로 본문 조회 (law.go.kr 호스트 동시 호출 수 제한 적용)
+   */
+  private ContentApiResult<PrecedentContentDto> getContentFromApi(Integer precId) {
+    PrecedentContentRequest request = PrecedentContentRequest.builder()
+        .id(precId)
+        .build();
+    try {
+      return bulkhead.execute(API_HOST, () -> getContent(request));
+    } catch (IOException e) {
+      log.warn("Precedent API call interrupted: precId={}, error={}", precId, e.getMessage());
+      return ContentApiResult.error(null);
+    }
+  }
+
+  /**
+   * 경로 메모에 기억된 경로로 본문 조회
+   *
+   * @return 조회 결과 (기억된 경로가 없거나 조회에 실패하면 null, 실패한 경로는 메모에서 제거)
+   */
+  private ContentApiResult<PrecedentContentDto> getContentByRoute(Integer precId) {
+    PrecedentRouteMemo.Route route = routeMemo.get(precId).orElse(null);
+    if (route == null) {
+      return null;
+    }
+
+    log.debug("Using memoized precedent route: precId={}, route={}", precId, route);
+    ContentApiResult<PrecedentContentDto> result = switch (route.source()) {
+      case API -> getContentFromApi(precId);
+      case HTML -> getContentFromFallback(precId);
+      case NTS -> getContentFromNtsDocument(precId, route.ntstDcmId());
+    };
+
+    if (!result.hasError() && result.content().isPresent()) {
+      return result;
+    }
+
+    log.info("Memoized precedent route failed, retrying full flow: precId={}, route={}", precId, route);
+    routeMemo.invalidate(precId);
+    return null;
+  }
+
   /**
    * COMWEL(근로복지공단산재판례) 본문 조회
    */
@@ -163,17 +617,30 @@ public class PrecedentApiClient extends BaseApiClient {
 
     // COMWEL 사이트에서 메타데이터 조회 후 보완
     try {
-      String html = callComwelApi(caseNumber, courtName);
-      if (html != null) {
-        Map<String, String> metadata = PrecedentComwelParser.parseMetadata(html);
-        PrecedentComwelParser.mergeMetadata(dto, metadata);
-        log.debug("COMWEL metadata merged: precId={}", dto.getPrecId());
-      }
+      return withComwelMetadata(precId, result, callComwelApi(caseNumber, courtName));
     } catch (Exception e) {
       log.warn("Failed to supplement from COMWEL: precId={}, error={}", precId, e.getMessage());
+      return result;
     }
+  }
 
-    return result;
+  /**
+   * COMWEL 메타데이터를 병합한 결과 반환
+   * <p>
+   * 본문 캐시에 있는 DTO를 수정하지 않도록 병합된 사본으로 새 결과를 만듭니다.
+   * </p>
+   *
+   * @param html COMWEL HTML (null이면 원래 결과 반환)
+   */
+  private ContentApiResult<PrecedentContentDto> withComwelMetadata(Integer precId,
+      ContentApiResult<PrecedentContentDto> result, String html) throws IOException {
+    if (html == null) {
+      return result;
+    }
+    PrecedentContentDto dto = result.content().orElseThrow();
+    PrecedentContentDto merged = PrecedentComwelParser.mergeMetadata(dto, PrecedentComwelParser.parseMetadata(html));
+    log.debug("COMWEL metadata merged: precId={}", precId);
+    return merged == dto ? result : ContentApiResult.retained(result.raw(), merged);
   }
 
   /**
@@ -185,14 +652,14 @@ public class PrecedentApiClient extends BaseApiClient {
 
       if (fallback.ntsDcmId != null) {
         // NTS 리다이렉트
-        String ntsResponse = callNtsApi(fallback.ntsDcmId);
-        PrecedentContentDto dto = parserFactory.getPrecedentNtsParser()
-            .parse(objectMapper.readTree(ntsResponse));
-        return ContentApiResult.of(ntsResponse, dto);
+        return getContentFromNtsDocument(precId, fallback.ntsDcmId);
       } else {
         // HTML 파싱
         PrecedentContentDto dto = PrecedentHtmlParser.parseHtmlContent(fallback.html);
-        return ContentApiResult.of(fallback.html, dto);
+        if (dto != null) {
+          routeMemo.learn(precId, PrecedentRouteMemo.Route.html());
+        }
+        return ContentApiResult.retained(retainRawData(fallback.html), dto);
       }
     } catch (IOException e) {
       log.error("Failed to get content from fallback: precId={}, error={}", precId, e.getMessage());
@@ -200,6 +667,24 @@ public class PrecedentApiClient extends BaseApiClient {
     }
   }
 
+  /**
+   * NTS 문서 ID로 본문 조회
+   */
+  private ContentApiResult<PrecedentContentDto> getContentFromNtsDocument(Integer precId, String ntsDcmId) {
+    try {
+      String ntsResponse = callNtsApi(ntsDcmId);
+      PrecedentContentDto dto = parserFactory.getPrecedentNtsParser()
+          .parse(objectMapper.readTree(ntsResponse));
+      if (dto != null) {
+        routeMemo.learn(precId, PrecedentRouteMemo.Route.nts(ntsDcmId));
+      }
+      return ContentApiResult.retained(retainRawData(ntsResponse), dto);
+    } catch (IOException e) {
+      log.error("Failed to get content from NTS: precId={}, ntsDcmId={}, error={}", precId, ntsDcmId, e.getMessage());
+      return ContentApiResult.error(null);
+    }
+  }
+
   // ========== HTTP API 호출 메서드 ==========
 
   /**
@@ -208,34 +693,56 @@ public class PrecedentApiClient extends BaseApiClient {
    * @return FallbackResponse (HTML 또는 NTS 리다이렉트 정보)
    */
   private FallbackResponse callFallbackApi(Integer precId) throws IOException {
+    Request request = fallbackRequest(precId);
+    return guarded(request.url().host(), () -> {
+      try (Response response = client.newCall(request).execute()) {
+        return toFallbackResponse(response);
+      }
+    });
+  }
+
+  /**
+   * Fallback API 비동기 호출 (law.go.kr HTML 페이지)
+   *
+   * @return FallbackResponse Future (HTML 또는 NTS 리다이렉트 정보)
+   */
+  private CompletableFuture<FallbackResponse> callFallbackApiAsync(Integer precId) {
+    Request request = fallbackRequest(precId);
+    return guardedAsync(request.url().host(), () -> executeResponseAsync(request, this::toFallbackResponse));
+  }
+
+  private Request fallbackRequest(Integer precId) {
     HttpUrl url = HttpUrl.parse(FALLBACK_URL)
         .newBuilder()
         .addQueryParameter("precSeq", String.valueOf(precId))
         .addQueryParameter("mode", "print")
         .build();
 
-    Request request = new Request.Builder()
+    return new Request.Builder()
         .url(url)
         .header(HEADER_USER_AGENT, USER_AGENT_VALUE)
         .get()
         .build();
+  }
 
-    try (Response response = client.newCall(request).execute()) {
-      int code = response.code();
-
-      // 리다이렉트 체크 (NTS)
-      if (code == 301 || code == 302 || code == 303 || code == 307 || code == 308) {
-        String redirectUrl = response.header("Location");
-        String ntsDcmId = null;
-        if (redirectUrl != null && redirectUrl.contains("ntstDcmId=")) {
-          HttpUrl parsed = HttpUrl.parse(redirectUrl);
-          ntsDcmId = parsed != null ? parsed.queryParameter("ntstDcmId") : null;
-        }
-        return new FallbackResponse(null, ntsDcmId);
-      } else {
-        String html = response.body() != null ? response.body().string() : "";
-        return new FallbackResponse(html, null);
+  /**
+   * Fallback 응답 변환 (리다이렉트면 NTS 문서 ID, 아니면 HTML)
+   */
+  private FallbackResponse toFallbackResponse(Response response) throws IOException {
+    int code = response.code();
+
+    // 리다이렉트 체크 (NTS)
+    if (code == 301 || code == 302 || code == 303 || code == 307 || code == 308) {
+      String redirectUrl = response.header("Location");
+      String ntsDcmId = null;
+      if (redirectUrl != null && redirectUrl.contains("ntstDcmId=")) {
+        HttpUrl parsed = HttpUrl.parse(redirectUrl);
+        ntsDcmId = parsed != null ? parsed.queryParameter("ntstDcmId") : null;
       }
+      return new FallbackResponse(null, ntsDcmId);
+    } else {
+      String html = response.body() != null ? response.body().string() : "";
+      return new FallbackResponse(html, null);
     }
   }
 
@@ -246,6 +753,22 @@ public class PrecedentApiClient extends BaseApiClient {
    * @return JSON 응답 문자열
    */
   private String callNtsApi(String ntsDcmId) throws IOException {
+    Request request = ntsRequest(ntsDcmId);
+    return guarded(request.url().host(), () -> executeRequest(request));
+  }
+
+  /**
+   * NTS API 비동기 호출 (국세법령정보시스템)
+   *
+   * @param ntsDcmId NTS 문서 ID
+   * @return JSON 응답 문자열 Future
+   */
+  private CompletableFuture<String> callNtsApiAsync(String ntsDcmId) {
+    Request request = ntsRequest(ntsDcmId);
+    return guardedAsync(request.url().host(), () -> executeRequestAsync(request));
+  }
+
+  private Request ntsRequest(String ntsDcmId) {
     ObjectNode dcmDVO = objectMapper.createObjectNode();
     dcmDVO.put("ntstDcmId", ntsDcmId);
     ObjectNode paramDataJson = objectMapper.createObjectNode();
@@ -256,14 +779,12 @@ public class PrecedentApiClient extends BaseApiClient {
         .add("paramData", paramDataJson.toString())
         .build();
 
-    Request request = new Request.Builder()
+    return new Request.Builder()
         .url(NTS_URL)
         .post(formBody)
         .header(HEADER_USER_AGENT, USER_AGENT_VALUE)
         .header("Content-Type", "application/x-www-form-urlencoded")
         .build();
-
-    return executeRequest(request);
   }
 
   /**
@@ -285,13 +806,64 @@ public class PrecedentApiClient extends BaseApiClient {
         .get()
         .build();
 
-    try (Response response = client.newCall(request).execute()) {
-      if (!response.isSuccessful()) {
-        log.warn("COMWEL request failed: url={}, code={}", url, response.code());
-        return null;
+    return guarded(request.url().host(), () -> {
+      try (Response response = client.newCall(request).execute()) {
+        if (response.code() >= 500) {
+          // 서버 오류는 서킷 브레이커 실패로 기록
+          throw new IOException("COMWEL request failed with status " + response.code() + ": " + url);
+        }
+        if (!response.isSuccessful()) {
+          log.warn("COMWEL request failed: url={}, code={}", url, response.code());
+          return null;
+        }
+        return response.body() != null ? response.body().string() : null;
       }
-      return response.body() != null ? response.body().string() : null;
+    });
+  }
+
+  /**
+   * COMWEL API 비동기 호출 (근로복지공단 산재판례)
+   *
+   * @param caseNumber 사건번호
+   * @param courtName  법원명
+   * @return HTML 응답 문자열 Future (URL을 만들 수 없거나 5xx가 아닌 실패 응답이면 null로 완료)
+   */
+  private CompletableFuture<String> callComwelApiAsync(String caseNumber, String courtName) {
+    String url = PrecedentComwelParser.buildUrl(caseNumber, courtName);
+    if (url == null) {
+      return CompletableFuture.completedFuture(null);
     }
+
+    Request request = new Request.Builder()
+        .url(url)
+        .header(HEADER_USER_AGENT, USER_AGENT_VALUE)
+        .get()
+        .build();
+
+    // 4xx는 서킷 브레이커 실패로 기록하지 않고 결과 없음으로 처리 (동기 호출과 같음)
+    return guardedAsync(request.url().host(), () -> executeRequestAsync(request)
+        .exceptionallyCompose(e -> {
+          Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+          if (cause instanceof HttpStatusException status && status.getStatusCode() < 500) {
+            log.warn("COMWEL request failed: url={}, code={}", url, status.getStatusCode());
+            return CompletableFuture.completedFuture(null);
+          }
+          return CompletableFuture.failedFuture(cause);
+        }));
+  }
+
+  /**
+   * 호스트별 동시 호출 수 제한과 서킷 브레이커를 거쳐 호출 실행
+   */
+  private <T> T guarded(String host, CircuitBreaker.IOCall<T> call) throws IOException {
+    return bulkhead.execute(host, () -> circuitBreakers.execute(host, call));
+  }
+
+  /**
+   * 호스트별 비동기 허가와 서킷 브레이커를 거쳐 비동기 호출 실행 (허가를 기다리는 동안 스레드를 점유하지 않음)
+   */
+  private <T> CompletableFuture<T> guardedAsync(String host, Supplier<CompletableFuture<T>> call) {
+    return bulkhead.executeAsync(host, () -> circuitBreakers.executeAsync(host, call));
   }
 
   /** Fallback API 응답 래퍼 */
@@ -0,0 +1,222 @@
+package kr.go.law.precedent.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.store.JsonFileStore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판례 본문 조회 경로 메모
+ * <p>
+ * 판례일련번호별로 본문을 실제로 가져온 경로(JSON API, law.go.kr HTML, NTS 문서)를 기억해 두고,
+ * 다음 조회에서 빈 응답이 예상되는 JSON API 호출이나 NTS로 리다이렉트되는 HTML 호출을 건너뜁니다.
+ * 기억한 경로로 조회에 실패하면 경로를 지우고 전체 Fallback 흐름으로 다시 조회합니다.
+ * </p>
+ * <p>
+ * 파일을 지정하면 생성 시 읽어 오고, 변경이 {@value #SAVE_EVERY}건 쌓일 때마다 저장합니다.
+ * 종료 전에 {@link #close()}(또는 {@link #flush()})를 호출하면 남은 변경도 저장됩니다.
+ * </p>
+ */
+@Slf4j
+public class PrecedentRouteMemo implements AutoCloseable {
+
+  /** 자동 저장 간격 (변경 건수) */
+  static final int SAVE_EVERY = 100;
+
+  private final Map<Integer, Route> routes = new ConcurrentHashMap<>();
+
+  /** 경로 파일 저장소 (파일을 지정하지 않으면 null) */
+  private final JsonFileStore<Snapshot> store;
+
+  /** 경로 유지 시간 (null이면 만료 없음) */
+  private final Duration ttl;
+
+  private final AtomicInteger unsaved = new AtomicInteger();
+
+  /**
+   * PrecedentRouteMemo 생성자
+   *
+   * @param file         경로 파일 (null이면 메모리에만 보관)
+   * @param ttl          경로 유지 시간 (null 또는 0 이하이면 만료 없음)
+   * @param objectMapper Jackson ObjectMapper
+   */
+  public PrecedentRouteMemo(Path file, Duration ttl, ObjectMapper objectMapper) {
+    this.store = file != null ? new JsonFileStore<>(file, Snapshot.class, objectMapper) : null;
+    this.ttl = ttl == null || ttl.isZero() || ttl.isNegative() ? null : ttl;
+    load();
+  }
+
+  /**
+   * 기억한 경로 조회
+   *
+   * @param precId 판례일련번호
+   * @return 경로 (없거나 만료되었으면 empty)
+   */
+  public Optional<Route> get(Integer precId) {
+    Route route = routes.get(precId);
+    if (route == null) {
+      return Optional.empty();
+    }
+    if (route.source() == null || ttl != null && route.learnedAt() + ttl.toMillis() < System.currentTimeMillis()) {
+      invalidate(precId);
+      return Optional.empty();
+    }
+    return Optional.of(route);
+  }
+
+  /**
+   * 경로 기억 (같은 경로가 이미 있으면 기억한 시각만 갱신)
+   * <p>
+   * 경로로 조회에 성공할 때마다 호출되므로, 자주 쓰이는 경로는 TTL이 지나도 만료되지 않습니다.
+   * 만료가 없으면 시각 갱신은 저장할 변경으로 세지 않습니다.
+   * </p>
+   */
+  void learn(Integer precId, Route route) {
+    Route previous = routes.put(precId, route);
+    if (previous == null || !previous.sameTarget(route) || ttl != null) {
+      changed();
+    }
+  }
+
+  /**
+   * 판례 하나의 경로 제거
+   *
+   * @param precId 판례일련번호
+   */
+  public void invalidate(Integer precId) {
+    if (routes.remove(precId) != null) {
+      changed();
+    }
+  }
+
+  /**
+   * 모든 경로 제거
+   */
+  public void invalidateAll() {
+    routes.clear();
+    changed();
+  }
+
+  /**
+   * 기억 중인 경로 수
+   *
+   * @return 경로 수
+   */
+  public int size() {
+    return routes.size();
+  }
+
+  /**
+   * 경로 파일 저장 (파일을 지정하지 않았으면 무시)
+   *
+   * @throws UncheckedIOException 파일을 쓰지 못한 경우
+   */
+  public void flush() {
+    if (store == null) {
+      return;
+    }
+    unsaved.set(0);
+    try {
+      store.save(new Snapshot(new HashMap<>(routes)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save precedent route memo: " + store.getPath(), e);
+    }
+  }
+
+  /**
+   * 남은 변경을 파일에 저장 ({@link #flush()}와 같음)
+   *
+   * @throws UncheckedIOException 파일을 쓰지 못한 경우
+   */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private void changed() {
+    if (store != null && unsaved.incrementAndGet() >= SAVE_EVERY) {
+      try {
+        flush();
+      } catch (UncheckedIOException e) {
+        log.warn("Failed to save precedent route memo: error={}", e.getCause().getMessage());
+      }
+    }
+  }
+
+  private void load() {
+    if (store == null) {
+      return;
+    }
+    try {
+      store.load().ifPresent(snapshot -> {
+        if (snapshot.routes() != null) {
+          routes.putAll(snapshot.routes());
+        }
+      });
+      log.debug("Loaded precedent route memo: file={}, routes={}", store.getPath(), routes.size());
+    } catch (IOException e) {
+      // 경로 메모는 최적화 용도이므로 읽지 못하면 빈 상태로 시작
+      log.warn("Failed to load precedent route memo, starting empty: file={}, error={}",
+          store.getPath(), e.getMessage());
+    }
+  }
+
+  /** 본문 조회 경로 */
+  public enum Source {
+    /** law.go.kr JSON API */
+    API,
+    /** law.go.kr HTML 페이지 */
+    HTML,
+    /** 국세법령정보시스템 문서 */
+    NTS
+  }
+
+  /**
+   * 판례 하나의 본문 조회 경로
+   *
+   * @param source    경로
+   * @param ntstDcmId NTS 문서 ID (NTS 경로에서만 사용)
+   * @param learnedAt 경로를 기억한 시각 (epoch millis)
+   */
+  public record Route(Source source, String ntstDcmId, long learnedAt) {
+
+    static Route api() {
+      return new Route(Source.API, null, System.currentTimeMillis());
+    }
+
+    static Route html() {
+      return new Route(Source.HTML, null, System.currentTimeMillis());
+    }
+
+    static Route nts(String ntstDcmId) {
+      return new Route(Source.NTS, ntstDcmId, System.currentTimeMillis());
+    }
+
+    boolean sameTarget(Route other) {
+      return source == other.source && Objects.equals(ntstDcmId, other.ntstDcmId);
+    }
+
+    @Override
+    public String toString() {
+      return source == Source.NTS ? "nts:" + ntstDcmId : source.name().toLowerCase();
+    }
+  }
+
+  /**
+   * 경로 파일 형식
+   *
+   * @param routes 판례일련번호 → 경로
+   */
+  public record Snapshot(Map<Integer, Route> routes) {}
+}
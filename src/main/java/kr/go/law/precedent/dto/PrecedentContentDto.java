@@ -13,7 +13,7 @@ import lombok.experimental.SuperBuilder;
 /**
  * 판례 본문 DTO - Content API 응답용
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
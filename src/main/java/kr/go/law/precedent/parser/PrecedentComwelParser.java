@@ -82,22 +82,27 @@ public class PrecedentComwelParser {
 
   /**
    * 기존 DTO에 COMWEL에서 파싱한 메타데이터를 병합
+   * <p>
+   * 기존 DTO는 본문 캐시에서 여러 호출자가 공유할 수 있으므로 수정하지 않고, 바뀐 필드가 있으면 사본을 만들어 반환합니다.
+   * </p>
    *
    * @param dto      기존 DTO (law.go.kr API에서 수집한 데이터)
    * @param metadata COMWEL에서 파싱한 메타데이터
-   * @return 병합된 DTO
+   * @return 병합된 DTO (바뀐 필드가 없으면 기존 DTO)
    */
   public PrecedentContentDto mergeMetadata(PrecedentContentDto dto, Map<String, String> metadata) {
     if (dto == null || metadata == null || metadata.isEmpty()) {
       return dto;
     }
 
+    PrecedentContentDto merged = dto;
+
     // 판결선고 → decisionDate
     String decisionDateStr = metadata.get("판결선고");
     if (decisionDateStr != null && (dto.getDecisionDate() == null || dto.getDecisionDate() == 10101)) {
       Integer decisionDate = parseDateString(decisionDateStr);
       if (decisionDate != null) {
-        dto.setDecisionDate(decisionDate);
+        merged = dto.toBuilder().decisionDate(decisionDate).build();
         log.debug("COMWEL: decisionDate updated to {}", decisionDate);
       }
     }
@@ -114,7 +119,7 @@ public class PrecedentComwelParser {
       log.debug("COMWEL: priorJudgment found: {}", priorJudgment);
     }
 
-    return dto;
+    return merged;
   }
 
   /**
@@ -4,6 +4,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import kr.go.law.common.enums.SearchScope;
+import kr.go.law.common.request.DateRangeField;
 import kr.go.law.common.request.PageableRequest;
 import kr.go.law.precedent.enums.CourtType;
 import kr.go.law.precedent.enums.PrecedentSortOption;
@@ -33,11 +34,22 @@ import lombok.Getter;
  * </pre>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PrecedentListRequest implements PageableRequest {
 
   private static final String TARGET = "prec";
 
+  /** 선고일자 범위 (decisionDateFrom~decisionDateTo), 날짜 범위 분할에 사용 */
+  public static final DateRangeField<PrecedentListRequest> DECISION_DATE = DateRangeField.of(
+      PrecedentListRequest::getDecisionDateFrom,
+      PrecedentListRequest::getDecisionDateTo,
+      (request, from, to) -> request.toBuilder()
+          .page(1)
+          .decisionDate(null)
+          .decisionDateFrom(from)
+          .decisionDateTo(to)
+          .build());
+
   // ===== 페이지네이션 =====
 
   /** 페이지 번호 (1-based, API 기본값: 1) */
@@ -147,6 +159,11 @@ public class PrecedentListRequest implements PageableRequest {
     return TARGET;
   }
 
+  @Override
+  public PrecedentListRequest withPage(int page) {
+    return toBuilder().page(page).build();
+  }
+
   @Override
   public Map<String, String> toQueryParameters() {
     Map<String, String> params = new LinkedHashMap<>();
@@ -0,0 +1,282 @@
+package kr.go.law.precedent.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.client.BulkExecutor;
+import kr.go.law.common.paging.PageFetchException;
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.common.store.JsonFileStore;
+import kr.go.law.common.util.DateInts;
+import kr.go.law.precedent.api.PrecedentApiClient;
+import kr.go.law.precedent.dto.PrecedentContentDto;
+import kr.go.law.precedent.dto.PrecedentListDto;
+import kr.go.law.precedent.request.PrecedentListRequest;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 선고일자 워터마크 기반 판례 증분 동기화
+ * <p>
+ * 지금까지 반영한 가장 늦은 선고일자(워터마크)에서 lookBackDays만큼 앞선 날짜부터 오늘까지만 목록을 조회하고,
+ * 아직 반영하지 않은 판례일련번호만 본문을 조회해 이벤트로 전달합니다.
+ * 선고일자가 지난 뒤 늦게 등록되는 판례는 look-back 기간 안에 있으면 다음 동기화에서 잡힙니다.
+ * 상태(선고일자 워터마크, look-back 기간의 반영 목록, 재시도 대상)는 JSON 파일에 저장합니다.
+ * </p>
+ * <p>
+ * 목록은 페이지 단위로 받아 오며, 본문 조회는 페이지에서 새 판례가 확인되는 즉시 {@link BulkExecutor}로 병렬 실행됩니다.
+ * 이벤트는 호출 스레드에서 목록 순서대로, 본문 조회가 끝나는 대로 전달되며 아직 전달하지 않은 본문은 최대 maxConcurrency개만 보관하므로
+ * 이른 시작일로 첫 동기화를 해도 판례 본문 전체를 메모리에 쌓지 않습니다.
+ * 목록 조회에 실패하면 그때까지 전달한 판례만 반영하고 선고일자 워터마크는 올리지 않습니다.
+ * 본문 조회에 실패한 판례는 다음 동기화에서 다시 조회하며, listener가 예외를 던지면 상태를 저장하지 않습니다(at-least-once).
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * PrecedentSyncEngine engine = PrecedentSyncEngine.builder()
+ *     .client(client.getPrecedent())
+ *     .stateFile(Path.of("precedent-sync.json"))
+ *     .lookBackDays(30)
+ *     .build();
+ *
+ * PrecedentSyncResult result = engine.sync(event -> repository.save(event.content()));
+ * }
+ * </pre>
+ */
+@Slf4j
+@Builder
+public class PrecedentSyncEngine {
+
+  /** 판례 조회에 사용할 클라이언트 */
+  private final PrecedentApiClient client;
+
+  /** 동기화 상태 파일 경로 */
+  private final Path stateFile;
+
+  /** 목록 조회 조건 (선고일자 외 조건 유지, 기본: 페이지당 100건) */
+  @Builder.Default
+  private final PrecedentListRequest listRequest = PrecedentListRequest.builder().display(100).build();
+
+  /** 워터마크보다 앞서 다시 확인할 일수 (늦게 등록되는 판례 대비) */
+  @Builder.Default
+  private final int lookBackDays = 14;
+
+  /** 상태 파일이 없을 때 조회를 시작할 선고일자 (YYYYMMDD, null이면 오늘 - lookBackDays) */
+  private final Integer initialDecisionDate;
+
+  /** 목록 페이지와 본문을 동시에 조회할 최대 수 (전달 전 보관하는 본문 수의 상한) */
+  @Builder.Default
+  private final int maxConcurrency = 4;
+
+  /** 본문 조회 실행기 (null이면 동기화마다 maxConcurrency로 만들고 끝나면 닫음) */
+  private final BulkExecutor bulk;
+
+  /** 상태 직렬화에 사용할 ObjectMapper (null이면 기본 설정) */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 오늘까지 동기화
+   *
+   * @param listener 새 판례 이벤트 수신자
+   * @return 동기화 결과
+   * @throws UncheckedIOException 상태 파일을 읽거나 쓰지 못한 경우
+   */
+  public PrecedentSyncResult sync(Consumer<PrecedentSyncEvent> listener) {
+    final PrecedentSyncState state = loadState();
+    final int to = DateInts.today();
+    final int from = state.getDecisionDateWatermark() != null
+        ? DateInts.plusDays(state.getDecisionDateWatermark(), -lookBackDays)
+        : (initialDecisionDate != null ? initialDecisionDate : DateInts.plusDays(to, -lookBackDays));
+
+    final BulkExecutor owned = bulk == null ? new BulkExecutor(maxConcurrency) : null;
+    try {
+      return sync(listener, state, from, to, bulk != null ? bulk : owned);
+    } finally {
+      if (owned != null) {
+        owned.close();
+      }
+    }
+  }
+
+  private PrecedentSyncResult sync(Consumer<PrecedentSyncEvent> listener, PrecedentSyncState state, int from, int to,
+      BulkExecutor executor) {
+    final int window = Math.max(1, maxConcurrency);
+    final Deque<Pending> pending = new ArrayDeque<>();
+    final Progress progress = new Progress(listener, state, to);
+    boolean listFailed = false;
+    int listed = 0;
+    try {
+      // 이전 실행에서 실패한 판례 재조회
+      for (Map.Entry<Integer, String> entry : new ArrayList<>(state.getPendingPrecIds().entrySet())) {
+        Integer precId = entry.getKey();
+        String dataSource = entry.getValue();
+        pending.add(new Pending(precId, null, executor.submit(() -> client.getContent(precId, dataSource))));
+        deliverUntil(pending, window - 1, progress);
+      }
+
+      // 목록 페이지를 받는 대로 새 판례 본문을 조회하고, 목록 순서대로 전달 (같은 판례가 여러 페이지에 나오면 한 번만)
+      final Set<Integer> seen = new HashSet<>(state.getPendingPrecIds().keySet());
+      try (Stream<PrecedentListDto> items = client.searchStream(listRequest.toBuilder()
+          .decisionDate(null)
+          .decisionDateFrom(from)
+          .decisionDateTo(to)
+          .build(), maxConcurrency)) {
+        for (PrecedentListDto item : (Iterable<PrecedentListDto>) items::iterator) {
+          listed++;
+          Integer precId = item.getPrecId();
+          if (precId == null || isSynced(state, precId) || !seen.add(precId)) {
+            continue;
+          }
+          pending.add(new Pending(precId, item,
+              executor.submit(() -> client.getContent(precId, item.getDataSource()))));
+          deliverUntil(pending, window - 1, progress);
+        }
+      } catch (PageFetchException e) {
+        log.error("Failed to list precedents for sync: {}~{}, page={}", from, to, e.getPage());
+        listFailed = true;
+      }
+
+      // 이미 시작한 본문 조회는 목록 조회에 실패해도 전달
+      deliverUntil(pending, 0, progress);
+    } finally {
+      // listener 예외로 중단되면 미리 시작한 본문 조회 취소 (상태는 저장하지 않음)
+      pending.forEach(p -> p.future().cancel(false));
+    }
+    log.info("Precedent sync: {}~{}, listed={}, delivered={}", from, to, listed, progress.added);
+
+    // 목록을 끝까지 확인했을 때만 선고일자 워터마크를 올림 (확인하지 못한 판례를 건너뛰지 않도록)
+    if (!listFailed) {
+      if (progress.maxDecisionDate != null && (state.getDecisionDateWatermark() == null
+          || progress.maxDecisionDate > state.getDecisionDateWatermark())) {
+        state.setDecisionDateWatermark(progress.maxDecisionDate);
+      }
+      pruneRecent(state);
+    }
+    saveState(state);
+
+    PrecedentSyncResult syncResult = new PrecedentSyncResult(from, to, listed, progress.added, progress.failed,
+        listFailed);
+    log.info("Precedent sync finished: {}", syncResult);
+    return syncResult;
+  }
+
+  /**
+   * 조회 중인 판례가 keep개만 남을 때까지 앞에서부터 완료를 기다려 전달
+   */
+  private static void deliverUntil(Deque<Pending> pending, int keep, Progress progress) {
+    while (pending.size() > keep) {
+      progress.deliver(pending.peek());
+      pending.poll();
+    }
+  }
+
+  /**
+   * 저장된 동기화 상태 읽기
+   *
+   * @return 동기화 상태 (파일이 없으면 새 상태)
+   * @throws UncheckedIOException 상태 파일을 읽지 못한 경우
+   */
+  public PrecedentSyncState loadState() {
+    try {
+      return store().load().orElseGet(PrecedentSyncState::new);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load precedent sync state: " + stateFile, e);
+    }
+  }
+
+  private static boolean isSynced(PrecedentSyncState state, Integer precId) {
+    return state.getRecentPrecIds().containsKey(precId);
+  }
+
+  /** look-back 기간을 벗어난 반영 목록 제거 */
+  private void pruneRecent(PrecedentSyncState state) {
+    if (state.getDecisionDateWatermark() == null) {
+      return;
+    }
+    int cutoff = DateInts.plusDays(state.getDecisionDateWatermark(), -lookBackDays);
+    state.getRecentPrecIds().values().removeIf(decisionDate -> decisionDate < cutoff);
+  }
+
+  private void saveState(PrecedentSyncState state) {
+    try {
+      store().save(state);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save precedent sync state: " + stateFile, e);
+    }
+  }
+
+  private JsonFileStore<PrecedentSyncState> store() {
+    ObjectMapper mapper = objectMapper != null
+        ? objectMapper
+        : new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new JsonFileStore<>(stateFile, PrecedentSyncState.class, mapper);
+  }
+
+  /** 한 번의 동기화에서 전달한 결과 집계 */
+  private static final class Progress {
+
+    private final Consumer<PrecedentSyncEvent> listener;
+    private final PrecedentSyncState state;
+    private final int to;
+
+    private int added;
+    private final List<Integer> failed = new ArrayList<>();
+    /** 전달한 판례 중 가장 늦은 선고일자 (목록을 끝까지 확인하면 워터마크로 반영) */
+    private Integer maxDecisionDate;
+
+    Progress(Consumer<PrecedentSyncEvent> listener, PrecedentSyncState state, int to) {
+      this.listener = listener;
+      this.state = state;
+      this.to = to;
+    }
+
+    /**
+     * 본문 조회 완료를 기다려 이벤트 전달 후 반영 목록 기록
+     * <p>
+     * 선고일자를 알 수 없는 판례는 조회 종료일로 기록하고 선고일자 워터마크에는 반영하지 않습니다.
+     * </p>
+     */
+    void deliver(Pending p) {
+      ContentApiResult<PrecedentContentDto> result = p.future().join();
+      if (result.hasError() || result.content().isEmpty()) {
+        log.warn("Failed to fetch precedent content for sync: precId={}", p.precId());
+        failed.add(p.precId());
+        if (p.item() != null) {
+          state.getPendingPrecIds().put(p.precId(), p.item().getDataSource());
+        }
+        return;
+      }
+
+      PrecedentContentDto content = result.content().get();
+      listener.accept(new PrecedentSyncEvent(p.precId(), p.item(), content));
+      added++;
+      state.getPendingPrecIds().remove(p.precId());
+      Integer decisionDate = p.item() != null ? p.item().getDecisionDate() : content.getDecisionDate();
+      state.getRecentPrecIds().put(p.precId(), decisionDate != null ? decisionDate : to);
+      if (decisionDate != null && (maxDecisionDate == null || decisionDate > maxDecisionDate)) {
+        maxDecisionDate = decisionDate;
+      }
+    }
+  }
+
+  /** 본문 조회 중인 판례 */
+  private record Pending(
+      Integer precId,
+      PrecedentListDto item,
+      CompletableFuture<ContentApiResult<PrecedentContentDto>> future) {}
+}
@@ -0,0 +1,14 @@
+package kr.go.law.precedent.sync;
+
+import kr.go.law.precedent.dto.PrecedentContentDto;
+import kr.go.law.precedent.dto.PrecedentListDto;
+
+/**
+ * 새 판례 동기화 이벤트
+ *
+ * @param precId  판례일련번호
+ * @param item    목록 조회 결과 (이전 실행에서 실패해 다시 조회한 판례는 null)
+ * @param content 판례 본문
+ */
+public record PrecedentSyncEvent(Integer precId, PrecedentListDto item, PrecedentContentDto content) {
+}
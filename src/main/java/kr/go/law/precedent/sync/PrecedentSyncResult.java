@@ -0,0 +1,22 @@
+package kr.go.law.precedent.sync;
+
+import java.util.List;
+
+/**
+ * 판례 증분 동기화 결과
+ *
+ * @param decisionDateFrom 조회한 선고일자 시작 (YYYYMMDD, look-back 포함)
+ * @param decisionDateTo   조회한 선고일자 종료 (YYYYMMDD)
+ * @param listed           조회 기간의 목록 건수
+ * @param added            새로 반영한 판례 수
+ * @param failedPrecIds    본문 조회에 실패한 판례일련번호 (다음 동기화에서 다시 조회)
+ * @param hasError         목록 조회 실패 여부 (true이면 워터마크를 갱신하지 않음)
+ */
+public record PrecedentSyncResult(
+    int decisionDateFrom,
+    int decisionDateTo,
+    int listed,
+    int added,
+    List<Integer> failedPrecIds,
+    boolean hasError) {
+}
@@ -0,0 +1,32 @@
+package kr.go.law.precedent.sync;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 판례 증분 동기화 상태
+ * <p>
+ * {@link PrecedentSyncEngine}이 JSON 파일로 저장합니다. 이전 버전이 저장한 필드(precIdWatermark 등)는 읽을 때 무시합니다.
+ * </p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PrecedentSyncState {
+
+  /** 지금까지 반영한 판례 중 가장 늦은 선고일자 (YYYYMMDD) */
+  private Integer decisionDateWatermark;
+
+  /** look-back 기간 안에서 반영한 판례 (판례일련번호 → 선고일자), 늦게 등록된 판례의 중복 판별용 */
+  private Map<Integer, Integer> recentPrecIds = new HashMap<>();
+
+  /** 본문 조회에 실패해 다음 동기화에서 다시 조회할 판례 (판례일련번호 → 데이터출처명) */
+  private Map<Integer, String> pendingPrecIds = new HashMap<>();
+}
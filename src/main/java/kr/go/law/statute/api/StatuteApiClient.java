@@ -1,14 +1,28 @@
 package kr.go.law.statute.api;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import kr.go.law.common.client.BaseApiClient;
+import kr.go.law.common.client.EmitOrder;
+import kr.go.law.common.client.RequestPipeline;
+import kr.go.law.common.paging.Paging;
 import kr.go.law.common.response.ContentApiResult;
 import kr.go.law.common.response.ListApiResult;
 import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.dto.ArticleContentDto;
 import kr.go.law.statute.dto.StatuteContentDto;
 import kr.go.law.statute.dto.StatuteHistoryDto;
 import kr.go.law.statute.dto.StatuteListDto;
+import kr.go.law.statute.enums.StatuteSection;
+import kr.go.law.statute.parser.StatuteContentParser;
 import kr.go.law.statute.parser.StatuteParserFactory;
 import kr.go.law.statute.request.EfYdLawContentRequest;
 import kr.go.law.statute.request.StatuteContentRequest;
@@ -67,6 +81,90 @@ public class StatuteApiClient extends BaseApiClient {
         "Statute List");
   }
 
+  /**
+   * 법령 목록 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param request 법령 목록 조회 요청
+   * @return ListApiResult Future
+   * @see #searchAsync(StatuteListRequest, Executor)
+   */
+  public CompletableFuture<ListApiResult<StatuteListDto>> searchAsync(StatuteListRequest request) {
+    return searchAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 법령 목록 비동기 조회
+   * <p>
+   * HTTP 응답 대기 중에는 스레드를 점유하지 않으며, 응답 파싱은 parseExecutor에서 수행됩니다.
+   * </p>
+   *
+   * @param request       법령 목록 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<StatuteListDto>> searchAsync(StatuteListRequest request,
+      Executor parseExecutor) {
+    return executeListApiAsync(
+        request,
+        LawOpenDataProperties.LIST_PATH,
+        parserFactory.getStatuteListParser()::parseList,
+        result -> parserFactory.getStatuteListParser().parseTotalCount(result),
+        "Statute List",
+        parseExecutor);
+  }
+
+  /**
+   * 법령 목록 전체 페이지 항목 Stream 조회 (다음 1페이지를 미리 요청)
+   *
+   * @param request 시작 페이지 요청
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   * @see #searchStream(StatuteListRequest, int)
+   */
+  public Stream<StatuteListDto> searchStream(StatuteListRequest request) {
+    return searchStream(request, Paging.DEFAULT_PREFETCH);
+  }
+
+  /**
+   * 법령 목록 전체 페이지 항목 Stream 조회
+   * <p>
+   * 호출자가 현재 페이지 항목을 처리하는 동안 다음 prefetch개 페이지를 미리 요청합니다.
+   * 페이지 조회에 실패하면 소비 중 {@link kr.go.law.common.paging.PageFetchException}이 발생합니다.
+   * </p>
+   *
+   * @param request  시작 페이지 요청
+   * @param prefetch 미리 요청해 둘 페이지 수
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   */
+  public Stream<StatuteListDto> searchStream(StatuteListRequest request, int prefetch) {
+    return Paging.items(request, this::searchAsync, prefetch);
+  }
+
+  /**
+   * 법령 목록 전체 페이지 조회 (남은 페이지를 maxConnection개씩 병렬 조회)
+   *
+   * @param request 시작 페이지 요청
+   * @return 전체 항목 ListApiResult (법령일련번호(mst) 기준 중복 제거)
+   * @see #searchAllAsync(StatuteListRequest, int)
+   */
+  public ListApiResult<StatuteListDto> searchAll(StatuteListRequest request) {
+    return searchAllAsync(request, properties.getMaxConnection()).join();
+  }
+
+  /**
+   * 법령 목록 전체 페이지 비동기 조회
+   * <p>
+   * 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 최대 maxConcurrency개씩 동시에 요청하고,
+   * 페이지 순서대로 합친 뒤 법령일련번호(mst) 기준으로 중복을 제거합니다. 한 페이지라도 실패하면 에러 결과로 완료됩니다.
+   * </p>
+   *
+   * @param request        시작 페이지 요청
+   * @param maxConcurrency 동시에 요청할 최대 페이지 수
+   * @return 전체 항목 ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<StatuteListDto>> searchAllAsync(StatuteListRequest request, int maxConcurrency) {
+    return Paging.fanOut(request, this::searchAsync, maxConcurrency, StatuteListDto::getMst);
+  }
+
   /**
    * 조문 개정 이력 조회
    *
@@ -94,6 +192,61 @@ public class StatuteApiClient extends BaseApiClient {
         "Statute History");
   }
 
+  /**
+   * 조문 개정 이력 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param request 조문 개정 이력 조회 요청
+   * @return ListApiResult Future
+   * @see #searchHistoryAsync(StatuteHistoryRequest, Executor)
+   */
+  public CompletableFuture<ListApiResult<StatuteHistoryDto>> searchHistoryAsync(StatuteHistoryRequest request) {
+    return searchHistoryAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 조문 개정 이력 비동기 조회
+   *
+   * @param request       조문 개정 이력 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ListApiResult Future
+   */
+  public CompletableFuture<ListApiResult<StatuteHistoryDto>> searchHistoryAsync(StatuteHistoryRequest request,
+      Executor parseExecutor) {
+    return executeListApiAsync(
+        request,
+        LawOpenDataProperties.LIST_PATH,
+        parserFactory.getStatuteHistoryParser()::parseList,
+        result -> parserFactory.getStatuteHistoryParser().parseTotalCount(result),
+        "Statute History",
+        parseExecutor);
+  }
+
+  /**
+   * 조문 개정 이력 전체 페이지 항목 Stream 조회 (다음 1페이지를 미리 요청)
+   *
+   * @param request 시작 페이지 요청
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   * @see #searchHistoryStream(StatuteHistoryRequest, int)
+   */
+  public Stream<StatuteHistoryDto> searchHistoryStream(StatuteHistoryRequest request) {
+    return searchHistoryStream(request, Paging.DEFAULT_PREFETCH);
+  }
+
+  /**
+   * 조문 개정 이력 전체 페이지 항목 Stream 조회
+   * <p>
+   * 호출자가 현재 페이지 항목을 처리하는 동안 다음 prefetch개 페이지를 미리 요청합니다.
+   * 페이지 조회에 실패하면 소비 중 {@link kr.go.law.common.paging.PageFetchException}이 발생합니다.
+   * </p>
+   *
+   * @param request  시작 페이지 요청
+   * @param prefetch 미리 요청해 둘 페이지 수
+   * @return 항목 Stream (끝까지 소비하지 않으면 닫아야 함)
+   */
+  public Stream<StatuteHistoryDto> searchHistoryStream(StatuteHistoryRequest request, int prefetch) {
+    return Paging.items(request, this::searchHistoryAsync, prefetch);
+  }
+
   /**
    * 법령 본문 조회
    *
@@ -119,6 +272,85 @@ public class StatuteApiClient extends BaseApiClient {
         "Statute Content");
   }
 
+  /**
+   * 법령 본문 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param request 법령 본문 조회 요청
+   * @return ContentApiResult Future
+   * @see #getContentAsync(StatuteContentRequest, Executor)
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentAsync(StatuteContentRequest request) {
+    return getContentAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 법령 본문 비동기 조회
+   *
+   * @param request       법령 본문 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentAsync(StatuteContentRequest request,
+      Executor parseExecutor) {
+    return executeContentApiAsync(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        parserFactory.getStatuteContentParser()::parse,
+        "Statute Content",
+        parseExecutor);
+  }
+
+  /**
+   * 법령 본문 중 지정한 부분만 조회
+   * <p>
+   * 지정하지 않은 부분(예: 별표, 부칙)은 응답을 읽을 때 JSON 트리를 만들지 않고 건너뛰며, 결과 DTO에서 null입니다.
+   * 요청 병합과 본문 캐시는 지정한 부분 조합별로 따로 관리됩니다.
+   * </p>
+   *
+   * <pre>
+   * 사용 예시:
+   * {@code
+   * ContentApiResult<StatuteContentDto> result = client.getContent(request,
+   *     EnumSet.of(StatuteSection.BASIC_INFO, StatuteSection.ARTICLES));
+   * }
+   * </pre>
+   *
+   * @param request  법령 본문 조회 요청
+   * @param sections 조회할 부분
+   * @return ContentApiResult
+   */
+  public ContentApiResult<StatuteContentDto> getContent(StatuteContentRequest request,
+      Set<StatuteSection> sections) {
+    final Set<StatuteSection> selected = Set.copyOf(sections);
+    return executeContentApi(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        StatuteContentParser.projection(selected),
+        response -> parserFactory.getStatuteContentParser().parse(response, selected),
+        "Statute Content");
+  }
+
+  /**
+   * 법령 본문 중 지정한 부분만 비동기 조회
+   *
+   * @param request       법령 본문 조회 요청
+   * @param sections      조회할 부분
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   * @see #getContent(StatuteContentRequest, Set)
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentAsync(StatuteContentRequest request,
+      Set<StatuteSection> sections, Executor parseExecutor) {
+    final Set<StatuteSection> selected = Set.copyOf(sections);
+    return executeContentApiAsync(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        StatuteContentParser.projection(selected),
+        response -> parserFactory.getStatuteContentParser().parse(response, selected),
+        "Statute Content",
+        parseExecutor);
+  }
+
   /**
    * 시행일자 기준 법령 본문 조회
    *
@@ -144,4 +376,299 @@ public class StatuteApiClient extends BaseApiClient {
         parserFactory.getStatuteContentParser()::parse,
         "Statute Content (EfYd)");
   }
+
+  /**
+   * 시행일자 기준 법령 본문 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param request 시행일자 기준 법령 본문 조회 요청
+   * @return ContentApiResult Future
+   * @see #getContentByEfYdAsync(EfYdLawContentRequest, Executor)
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentByEfYdAsync(
+      EfYdLawContentRequest request) {
+    return getContentByEfYdAsync(request, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 비동기 조회
+   *
+   * @param request       시행일자 기준 법령 본문 조회 요청
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentByEfYdAsync(
+      EfYdLawContentRequest request, Executor parseExecutor) {
+    return executeContentApiAsync(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        parserFactory.getStatuteContentParser()::parse,
+        "Statute Content (EfYd)",
+        parseExecutor);
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 중 지정한 부분만 조회
+   *
+   * @param request  시행일자 기준 법령 본문 조회 요청
+   * @param sections 조회할 부분
+   * @return ContentApiResult
+   * @see #getContent(StatuteContentRequest, Set)
+   */
+  public ContentApiResult<StatuteContentDto> getContentByEfYd(EfYdLawContentRequest request,
+      Set<StatuteSection> sections) {
+    final Set<StatuteSection> selected = Set.copyOf(sections);
+    return executeContentApi(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        StatuteContentParser.projection(selected),
+        response -> parserFactory.getStatuteContentParser().parse(response, selected),
+        "Statute Content (EfYd)");
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 중 지정한 부분만 비동기 조회
+   *
+   * @param request       시행일자 기준 법령 본문 조회 요청
+   * @param sections      조회할 부분
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return ContentApiResult Future
+   * @see #getContent(StatuteContentRequest, Set)
+   */
+  public CompletableFuture<ContentApiResult<StatuteContentDto>> getContentByEfYdAsync(
+      EfYdLawContentRequest request, Set<StatuteSection> sections, Executor parseExecutor) {
+    final Set<StatuteSection> selected = Set.copyOf(sections);
+    return executeContentApiAsync(
+        request,
+        LawOpenDataProperties.CONTENT_PATH,
+        StatuteContentParser.projection(selected),
+        response -> parserFactory.getStatuteContentParser().parse(response, selected),
+        "Statute Content (EfYd)",
+        parseExecutor);
+  }
+
+  /**
+   * 조문 단위 조회
+   * <p>
+   * 조번호(JO) 파라미터로 해당 조문만 요청하고, 응답에서 조문만 {@link ArticleContentDto}로 파싱합니다.
+   * 본문 캐시가 설정되어 있으면 조문별로 캐시되므로, 큰 법령의 조문 하나를 볼 때 전체 본문을 내려받거나 파싱하지 않습니다.
+   * </p>
+   *
+   * <pre>
+   * 사용 예시:
+   * {@code
+   * // 제750조
+   * ContentApiResult<ArticleContentDto> result = client.getArticle(253527, 750, 0);
+   * }
+   * </pre>
+   *
+   * @param mst       법령일련번호
+   * @param articleNo 조문번호 (제N조의 N)
+   * @param branchNo  조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 ContentApiResult (해당 조문이 없으면 내용이 비어 있음)
+   */
+  public ContentApiResult<ArticleContentDto> getArticle(int mst, int articleNo, int branchNo) {
+    return executeContentApi(
+        StatuteContentRequest.builder().mst(mst).jo(jo(articleNo, branchNo)).build(),
+        LawOpenDataProperties.CONTENT_PATH,
+        response -> parserFactory.getArticleParser().parseArticle(response, articleNo, branchNo),
+        "Statute Article");
+  }
+
+  /**
+   * 조문 단위 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param mst       법령일련번호
+   * @param articleNo 조문번호 (제N조의 N)
+   * @param branchNo  조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 ContentApiResult Future
+   * @see #getArticle(int, int, int)
+   */
+  public CompletableFuture<ContentApiResult<ArticleContentDto>> getArticleAsync(int mst, int articleNo,
+      int branchNo) {
+    return getArticleAsync(mst, articleNo, branchNo, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 조문 단위 비동기 조회
+   *
+   * @param mst           법령일련번호
+   * @param articleNo     조문번호 (제N조의 N)
+   * @param branchNo      조문가지번호 (제N조의M의 M, 없으면 0)
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return 조문 ContentApiResult Future
+   * @see #getArticle(int, int, int)
+   */
+  public CompletableFuture<ContentApiResult<ArticleContentDto>> getArticleAsync(int mst, int articleNo,
+      int branchNo, Executor parseExecutor) {
+    return executeContentApiAsync(
+        StatuteContentRequest.builder().mst(mst).jo(jo(articleNo, branchNo)).build(),
+        LawOpenDataProperties.CONTENT_PATH,
+        response -> parserFactory.getArticleParser().parseArticle(response, articleNo, branchNo),
+        "Statute Article",
+        parseExecutor);
+  }
+
+  /**
+   * 시행일자 기준 조문 단위 조회
+   *
+   * @param mst       법령일련번호
+   * @param efYd      시행일자 (YYYYMMDD)
+   * @param articleNo 조문번호 (제N조의 N)
+   * @param branchNo  조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 ContentApiResult (해당 조문이 없으면 내용이 비어 있음)
+   * @see #getArticle(int, int, int)
+   */
+  public ContentApiResult<ArticleContentDto> getArticleByEfYd(int mst, int efYd, int articleNo, int branchNo) {
+    return executeContentApi(
+        EfYdLawContentRequest.builder().mst(mst).efYd(efYd).jo(jo(articleNo, branchNo)).build(),
+        LawOpenDataProperties.CONTENT_PATH,
+        response -> parserFactory.getArticleParser().parseArticle(response, articleNo, branchNo),
+        "Statute Article (EfYd)");
+  }
+
+  /**
+   * 시행일자 기준 조문 단위 비동기 조회 (기본 Executor에서 파싱)
+   *
+   * @param mst       법령일련번호
+   * @param efYd      시행일자 (YYYYMMDD)
+   * @param articleNo 조문번호 (제N조의 N)
+   * @param branchNo  조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 ContentApiResult Future
+   * @see #getArticleByEfYd(int, int, int, int)
+   */
+  public CompletableFuture<ContentApiResult<ArticleContentDto>> getArticleByEfYdAsync(int mst, int efYd,
+      int articleNo, int branchNo) {
+    return getArticleByEfYdAsync(mst, efYd, articleNo, branchNo, DEFAULT_PARSE_EXECUTOR);
+  }
+
+  /**
+   * 시행일자 기준 조문 단위 비동기 조회
+   *
+   * @param mst           법령일련번호
+   * @param efYd          시행일자 (YYYYMMDD)
+   * @param articleNo     조문번호 (제N조의 N)
+   * @param branchNo      조문가지번호 (제N조의M의 M, 없으면 0)
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @return 조문 ContentApiResult Future
+   * @see #getArticleByEfYd(int, int, int, int)
+   */
+  public CompletableFuture<ContentApiResult<ArticleContentDto>> getArticleByEfYdAsync(int mst, int efYd,
+      int articleNo, int branchNo, Executor parseExecutor) {
+    return executeContentApiAsync(
+        EfYdLawContentRequest.builder().mst(mst).efYd(efYd).jo(jo(articleNo, branchNo)).build(),
+        LawOpenDataProperties.CONTENT_PATH,
+        response -> parserFactory.getArticleParser().parseArticle(response, articleNo, branchNo),
+        "Statute Article (EfYd)",
+        parseExecutor);
+  }
+
+  /**
+   * 조번호(JO) 파라미터 값 (제N조의M → N*100+M)
+   */
+  private static int jo(int articleNo, int branchNo) {
+    if (articleNo <= 0 || branchNo < 0 || branchNo > 99) {
+      throw new IllegalArgumentException("invalid article number: " + articleNo + "의" + branchNo);
+    }
+    return articleNo * 100 + branchNo;
+  }
+
+  /**
+   * 법령 본문 일괄 조회 (요청 순서대로 결과 반환)
+   *
+   * @param requests 법령 본문 조회 요청 목록
+   * @return 요청 순서와 같은 순서의 결과 목록
+   * @see #getContents(List, EmitOrder, Executor, BiConsumer)
+   */
+  public List<ContentApiResult<StatuteContentDto>> getContents(List<StatuteContentRequest> requests) {
+    final List<ContentApiResult<StatuteContentDto>> results = new ArrayList<>(requests.size());
+    getContents(requests, EmitOrder.INPUT_ORDER, (request, result) -> results.add(result)).join();
+    return results;
+  }
+
+  /**
+   * 법령 본문 일괄 조회 (기본 Executor에서 파싱)
+   *
+   * @param requests 법령 본문 조회 요청 목록
+   * @param order    결과 전달 순서
+   * @param callback 결과 수신자 (요청, 결과)
+   * @return 모든 결과가 callback에 전달되면 완료되는 Future
+   * @see #getContents(List, EmitOrder, Executor, BiConsumer)
+   */
+  public CompletableFuture<Void> getContents(List<StatuteContentRequest> requests, EmitOrder order,
+      BiConsumer<StatuteContentRequest, ContentApiResult<StatuteContentDto>> callback) {
+    return getContents(requests, order, DEFAULT_PARSE_EXECUTOR, callback);
+  }
+
+  /**
+   * 법령 본문 일괄 조회
+   * <p>
+   * 최대 maxConnection개의 요청을 비동기로 동시에 진행시켜 keep-alive 연결 풀을 재사용하고,
+   * 하나가 끝날 때마다 다음 요청을 시작합니다. HTTP 호출은 OkHttp Dispatcher에서, 응답 파싱은 parseExecutor에서
+   * 수행되므로 두 작업이 같은 스레드를 두고 경쟁하지 않습니다.
+   * 결과는 order에 따라 요청 순서 또는 완료 순서로 한 번에 하나씩 callback에 전달되며,
+   * 실패한 요청은 {@link ContentApiResult#error(String)}로 전달됩니다.
+   * </p>
+   *
+   * <pre>
+   * 사용 예시:
+   * {@code
+   * client.getContents(requests, EmitOrder.COMPLETION_ORDER, parsePool,
+   *     (request, result) -> result.content().ifPresent(repository::save)).join();
+   * }
+   * </pre>
+   *
+   * @param requests      법령 본문 조회 요청 목록
+   * @param order         결과 전달 순서
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @param callback      결과 수신자 (요청, 결과)
+   * @return 모든 결과가 callback에 전달되면 완료되는 Future
+   */
+  public CompletableFuture<Void> getContents(List<StatuteContentRequest> requests, EmitOrder order,
+      Executor parseExecutor, BiConsumer<StatuteContentRequest, ContentApiResult<StatuteContentDto>> callback) {
+    return RequestPipeline.run(requests, properties.getMaxConnection(), order,
+        request -> getContentAsync(request, parseExecutor), callback);
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 일괄 조회 (요청 순서대로 결과 반환)
+   *
+   * @param requests 시행일자 기준 법령 본문 조회 요청 목록
+   * @return 요청 순서와 같은 순서의 결과 목록
+   * @see #getContents(List, EmitOrder, Executor, BiConsumer)
+   */
+  public List<ContentApiResult<StatuteContentDto>> getContentsByEfYd(List<EfYdLawContentRequest> requests) {
+    final List<ContentApiResult<StatuteContentDto>> results = new ArrayList<>(requests.size());
+    getContentsByEfYd(requests, EmitOrder.INPUT_ORDER, (request, result) -> results.add(result)).join();
+    return results;
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 일괄 조회 (기본 Executor에서 파싱)
+   *
+   * @param requests 시행일자 기준 법령 본문 조회 요청 목록
+   * @param order    결과 전달 순서
+   * @param callback 결과 수신자 (요청, 결과)
+   * @return 모든 결과가 callback에 전달되면 완료되는 Future
+   * @see #getContents(List, EmitOrder, Executor, BiConsumer)
+   */
+  public CompletableFuture<Void> getContentsByEfYd(List<EfYdLawContentRequest> requests, EmitOrder order,
+      BiConsumer<EfYdLawContentRequest, ContentApiResult<StatuteContentDto>> callback) {
+    return getContentsByEfYd(requests, order, DEFAULT_PARSE_EXECUTOR, callback);
+  }
+
+  /**
+   * 시행일자 기준 법령 본문 일괄 조회
+   *
+   * @param requests      시행일자 기준 법령 본문 조회 요청 목록
+   * @param order         결과 전달 순서
+   * @param parseExecutor 응답 파싱을 수행할 Executor
+   * @param callback      결과 수신자 (요청, 결과)
+   * @return 모든 결과가 callback에 전달되면 완료되는 Future
+   * @see #getContents(List, EmitOrder, Executor, BiConsumer)
+   */
+  public CompletableFuture<Void> getContentsByEfYd(List<EfYdLawContentRequest> requests, EmitOrder order,
+      Executor parseExecutor, BiConsumer<EfYdLawContentRequest, ContentApiResult<StatuteContentDto>> callback) {
+    return RequestPipeline.run(requests, properties.getMaxConnection(), order,
+        request -> getContentByEfYdAsync(request, parseExecutor), callback);
+  }
 }
@@ -0,0 +1,15 @@
+package kr.go.law.statute.crawler;
+
+/**
+ * 크롤링 중 조회에 실패했을 때 발생하는 예외
+ */
+public class CrawlException extends RuntimeException {
+
+  public CrawlException(String message) {
+    super(message);
+  }
+
+  public CrawlException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
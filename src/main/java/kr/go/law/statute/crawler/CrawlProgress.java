@@ -0,0 +1,32 @@
+package kr.go.law.statute.crawler;
+
+import java.time.Duration;
+
+/**
+ * 크롤링 진행 상황
+ *
+ * @param pagesDone         완료한 목록 페이지 수
+ * @param totalPages        전체 목록 페이지 수
+ * @param contentsDone      완료한 본문 수 (이전 실행 포함)
+ * @param failures          실패한 본문 수
+ * @param fetchedThisRun    이번 실행에서 조회·처리에 성공한 본문 수 (실패 제외)
+ * @param elapsed           이번 실행 경과 시간
+ */
+public record CrawlProgress(
+    int pagesDone,
+    int totalPages,
+    int contentsDone,
+    int failures,
+    long fetchedThisRun,
+    Duration elapsed) {
+
+  /**
+   * 이번 실행의 초당 본문 조회 성공 수
+   *
+   * @return 초당 성공 수
+   */
+  public double contentsPerSecond() {
+    long millis = elapsed.toMillis();
+    return millis > 0 ? fetchedThisRun * 1000.0 / millis : 0;
+  }
+}
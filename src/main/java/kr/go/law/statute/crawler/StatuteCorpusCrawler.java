@@ -0,0 +1,313 @@
+package kr.go.law.statute.crawler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.common.store.JsonFileStore;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.dto.StatuteListDto;
+import kr.go.law.statute.request.EfYdLawContentRequest;
+import kr.go.law.statute.request.StatuteListRequest;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 법령(eflaw) 전체 크롤러
+ * <p>
+ * 목록 페이지를 차례로 조회하면서 각 법령의 본문(mst + 시행일자)을 최대 maxConcurrency개씩 동시에 조회하고,
+ * 진행 상황(완료한 페이지, 완료한 본문, 실패한 본문)을 체크포인트 파일에 기록합니다.
+ * 중단 후 같은 체크포인트 파일로 다시 실행하면 완료한 페이지와 본문은 건너뛰고, 이전에 실패한 본문부터 다시 조회합니다.
+ * </p>
+ * <p>
+ * 목록은 페이지 번호로 순회하므로 크롤링 중 법령이 추가되면 페이지 경계가 밀릴 수 있습니다.
+ * 본문은 {@code mst@efYd} 키로 한 실행 안에서 한 번만 조회합니다(이전 실패 재조회 포함).
+ * handler는 여러 스레드에서 동시에 호출되므로 스레드 안전해야 하며, 예외를 던지면 해당 본문은 실패로 기록됩니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * StatuteCorpusCrawler crawler = StatuteCorpusCrawler.builder()
+ *     .client(client.getStatute())
+ *     .checkpointFile(Path.of("statute-crawl.json"))
+ *     .maxConcurrency(8)
+ *     .build();
+ *
+ * CrawlProgress progress = crawler.run(content -> mirror.save(content));
+ * }
+ * </pre>
+ */
+@Slf4j
+@Builder
+public class StatuteCorpusCrawler {
+
+  /** 법령 조회에 사용할 클라이언트 */
+  private final StatuteApiClient client;
+
+  /** 체크포인트 파일 경로 */
+  private final Path checkpointFile;
+
+  /** 목록 조회 조건 (page 외 조건 유지, 기본: 페이지당 100건) */
+  @Builder.Default
+  private final StatuteListRequest listRequest = StatuteListRequest.builder().display(100).build();
+
+  /** 동시에 조회할 최대 본문 수 */
+  @Builder.Default
+  private final int maxConcurrency = 4;
+
+  /** 본문을 이 개수만큼 처리할 때마다 체크포인트 저장 */
+  @Builder.Default
+  private final int checkpointEvery = 100;
+
+  /** 진행 상황 보고 간격 */
+  @Builder.Default
+  private final Duration reportInterval = Duration.ofSeconds(30);
+
+  /** 진행 상황 수신자 (null이면 로그만 남김) */
+  private final Consumer<CrawlProgress> progressListener;
+
+  /** 체크포인트 직렬화에 사용할 ObjectMapper (null이면 기본 설정) */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 크롤링 실행 (완료될 때까지 대기)
+   *
+   * @param handler 조회한 본문 처리 함수 (스레드 안전해야 함)
+   * @return 최종 진행 상황
+   * @throws CrawlException       체크포인트를 읽지 못했거나 목록 페이지 조회에 실패한 경우
+   * @throws InterruptedException 대기 중 인터럽트된 경우 (진행 중인 본문 조회가 끝난 뒤 체크포인트를 저장함)
+   */
+  public CrawlProgress run(Consumer<StatuteContentDto> handler) throws InterruptedException {
+    return new Run(handler).execute();
+  }
+
+  /**
+   * 저장된 체크포인트 읽기
+   *
+   * @return 체크포인트 (파일이 없으면 새 체크포인트)
+   * @throws CrawlException 체크포인트를 읽지 못한 경우
+   */
+  public StatuteCrawlCheckpoint loadCheckpoint() {
+    try {
+      return store().load().orElseGet(StatuteCrawlCheckpoint::new);
+    } catch (IOException e) {
+      throw new CrawlException("Failed to load crawl checkpoint: " + checkpointFile, e);
+    }
+  }
+
+  private JsonFileStore<StatuteCrawlCheckpoint> store() {
+    ObjectMapper mapper = objectMapper != null
+        ? objectMapper
+        : new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new JsonFileStore<>(checkpointFile, StatuteCrawlCheckpoint.class, mapper);
+  }
+
+  /** 크롤링 1회 실행 상태 */
+  private class Run {
+
+    private final Consumer<StatuteContentDto> handler;
+    private final JsonFileStore<StatuteCrawlCheckpoint> store = store();
+    private final StatuteCrawlCheckpoint checkpoint = loadCheckpoint();
+    private final Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong fetched = new AtomicLong();
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sinceSave = new AtomicInteger();
+    private final AtomicLong lastReportNanos = new AtomicLong(System.nanoTime());
+
+    Run(Consumer<StatuteContentDto> handler) {
+      this.handler = handler;
+    }
+
+    CrawlProgress execute() throws InterruptedException {
+      if (checkpoint.getStartedAt() == 0) {
+        checkpoint.setStartedAt(System.currentTimeMillis());
+      }
+
+      try {
+        ListApiResult<StatuteListDto> first = fetchPage(1);
+        synchronized (checkpoint) {
+          checkpoint.setTotalCount(first.totalCount());
+          checkpoint.setTotalPages(first.totalPages());
+        }
+        log.info("Statute crawl started: totalCount={}, totalPages={}, pagesDone={}, contentsDone={}, failures={}",
+            first.totalCount(), first.totalPages(), checkpoint.getPagesDone().size(),
+            checkpoint.getContentsDone().size(), checkpoint.getFailures().size());
+
+        retryFailures();
+
+        for (int page = 1; page <= first.totalPages(); page++) {
+          if (checkpoint.isPageDone(page)) {
+            continue;
+          }
+          processPage(page, page == 1 ? first : fetchPage(page));
+        }
+      } finally {
+        // 목록 조회 실패·인터럽트로 끝나더라도 진행 중인 본문 결과까지 기록한 뒤 저장
+        awaitInFlight();
+        save();
+      }
+
+      CrawlProgress progress = progress();
+      log.info("Statute crawl finished: {}", progress);
+      if (progressListener != null) {
+        progressListener.accept(progress);
+      }
+      return progress;
+    }
+
+    /** 진행 중인 본문 조회가 모두 끝날 때까지 대기 (각 조회는 HTTP 타임아웃으로 끝나므로 인터럽트를 미룸) */
+    private void awaitInFlight() {
+      final int all = Math.max(1, maxConcurrency);
+      permits.acquireUninterruptibly(all);
+      permits.release(all);
+    }
+
+    private ListApiResult<StatuteListDto> fetchPage(int page) {
+      ListApiResult<StatuteListDto> result = client.search(listRequest.withPage(page));
+      if (result.hasError()) {
+        throw new CrawlException("Failed to fetch statute list page " + page);
+      }
+      return result;
+    }
+
+    /** 이전 실행에서 실패한 본문 재조회 */
+    private void retryFailures() throws InterruptedException {
+      Map<String, StatuteCrawlCheckpoint.Failure> failures = checkpoint.failuresSnapshot();
+      if (!failures.isEmpty()) {
+        log.info("Retrying {} previously failed statute contents", failures.size());
+      }
+      for (Map.Entry<String, StatuteCrawlCheckpoint.Failure> entry : failures.entrySet()) {
+        StatuteCrawlCheckpoint.Failure failure = entry.getValue();
+        submitted.add(entry.getKey());
+        submit(entry.getKey(), failure.getMst(), failure.getEfYd(), failure.getLsNm(), () -> {});
+      }
+    }
+
+    /** 목록 페이지의 본문 조회 예약 (모든 본문이 끝나면 페이지 완료 기록) */
+    private void processPage(int page, ListApiResult<StatuteListDto> result) throws InterruptedException {
+      AtomicInteger remaining = new AtomicInteger(1);
+      Runnable onItemDone = () -> {
+        if (remaining.decrementAndGet() == 0) {
+          checkpoint.markPageDone(page);
+        }
+      };
+
+      for (StatuteListDto item : result.items()) {
+        String key = StatuteCrawlCheckpoint.key(item.getMst(), item.getEfYd());
+        // 실패 재조회 중이거나 앞 페이지에서 이미 예약한 본문은 다시 조회하지 않음
+        if (item.getMst() == null || checkpoint.isContentDone(key) || !submitted.add(key)) {
+          continue;
+        }
+        remaining.incrementAndGet();
+        submit(key, item.getMst(), item.getEfYd(), item.getLsNm(), onItemDone);
+      }
+      onItemDone.run();
+    }
+
+    private void submit(String key, Integer mst, Integer efYd, String lsNm, Runnable onDone)
+        throws InterruptedException {
+      permits.acquire();
+      CompletableFuture<ContentApiResult<StatuteContentDto>> future;
+      try {
+        future = client.getContentByEfYdAsync(EfYdLawContentRequest.builder().mst(mst).efYd(efYd).build());
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+      future.whenComplete((result, error) -> {
+        try {
+          String failure = error != null ? error.getMessage() : handle(result);
+          if (failure == null) {
+            checkpoint.markContentDone(key);
+            fetched.incrementAndGet();
+          } else {
+            log.warn("Failed to crawl statute content: key={}, lsNm={}, error={}", key, lsNm, failure);
+            checkpoint.markContentFailed(key, new StatuteCrawlCheckpoint.Failure(mst, efYd, lsNm, failure));
+          }
+          onDone.run();
+          if (sinceSave.incrementAndGet() >= checkpointEvery) {
+            sinceSave.set(0);
+            save();
+          }
+          maybeReport();
+        } finally {
+          permits.release();
+        }
+      });
+    }
+
+    /**
+     * 본문 결과 처리
+     *
+     * @return 실패 사유 (성공이면 null)
+     */
+    private String handle(ContentApiResult<StatuteContentDto> result) {
+      if (result.hasError()) {
+        return "content API error";
+      }
+      if (result.content().isEmpty()) {
+        return "empty content";
+      }
+      try {
+        handler.accept(result.content().get());
+        return null;
+      } catch (RuntimeException e) {
+        return "handler failed: " + e.getMessage();
+      }
+    }
+
+    private void save() {
+      synchronized (checkpoint) {
+        checkpoint.setUpdatedAt(System.currentTimeMillis());
+        try {
+          store.save(checkpoint);
+        } catch (IOException e) {
+          log.error("Failed to save crawl checkpoint: file={}, error={}", checkpointFile, e.getMessage());
+        }
+      }
+    }
+
+    private void maybeReport() {
+      long last = lastReportNanos.get();
+      long now = System.nanoTime();
+      if (now - last < reportInterval.toNanos() || !lastReportNanos.compareAndSet(last, now)) {
+        return;
+      }
+      CrawlProgress progress = progress();
+      log.info("Statute crawl progress: pages={}/{}, contents={}, failures={}, rate={}/s",
+          progress.pagesDone(), progress.totalPages(), progress.contentsDone(), progress.failures(),
+          String.format("%.1f", progress.contentsPerSecond()));
+      if (progressListener != null) {
+        progressListener.accept(progress);
+      }
+    }
+
+    private CrawlProgress progress() {
+      synchronized (checkpoint) {
+        return new CrawlProgress(
+            checkpoint.getPagesDone().size(),
+            checkpoint.getTotalPages(),
+            checkpoint.getContentsDone().size(),
+            checkpoint.getFailures().size(),
+            fetched.get(),
+            Duration.ofNanos(System.nanoTime() - startNanos));
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package kr.go.law.statute.crawler;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 법령 전체 크롤링 체크포인트
+ * <p>
+ * 완료한 목록 페이지, 완료한 본문({@code mst@efYd}), 실패한 본문을 기록합니다.
+ * {@link StatuteCorpusCrawler}가 JSON 파일로 저장하며, 변경과 저장은 이 객체를 잠금으로 사용합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StatuteCrawlCheckpoint {
+
+  /** 크롤링 시작 시각 (epoch millis) */
+  private long startedAt;
+  /** 마지막 저장 시각 (epoch millis) */
+  private long updatedAt;
+  /** 목록 전체 건수 */
+  private int totalCount;
+  /** 목록 전체 페이지 수 */
+  private int totalPages;
+  /** 완료한 목록 페이지 */
+  private SortedSet<Integer> pagesDone = new TreeSet<>();
+  /** 완료한 본문 키 ({@code mst@efYd}) */
+  private Set<String> contentsDone = new HashSet<>();
+  /** 실패한 본문 (키 → 실패 정보) */
+  private Map<String, Failure> failures = new TreeMap<>();
+
+  /**
+   * 본문 키 생성
+   *
+   * @param mst  법령일련번호
+   * @param efYd 시행일자
+   * @return {@code mst@efYd}
+   */
+  public static String key(Integer mst, Integer efYd) {
+    return mst + "@" + efYd;
+  }
+
+  synchronized boolean isContentDone(String key) {
+    return contentsDone.contains(key);
+  }
+
+  synchronized void markContentDone(String key) {
+    contentsDone.add(key);
+    failures.remove(key);
+  }
+
+  synchronized void markContentFailed(String key, Failure failure) {
+    failures.put(key, failure);
+  }
+
+  synchronized void markPageDone(int page) {
+    pagesDone.add(page);
+  }
+
+  synchronized boolean isPageDone(int page) {
+    return pagesDone.contains(page);
+  }
+
+  synchronized Map<String, Failure> failuresSnapshot() {
+    return new TreeMap<>(failures);
+  }
+
+  /**
+   * 본문 조회 실패 정보
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Failure {
+    /** 법령일련번호 */
+    private Integer mst;
+    /** 시행일자 */
+    private Integer efYd;
+    /** 법령명 */
+    private String lsNm;
+    /** 실패 사유 */
+    private String error;
+  }
+}
@@ -0,0 +1,182 @@
+package kr.go.law.statute.crawler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import kr.go.law.common.paging.Paging;
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.common.util.DateInts;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteHistoryDto;
+import kr.go.law.statute.request.StatuteHistoryRequest;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조문 개정 이력(lsJoHstInf) 기간 크롤러
+ * <p>
+ * lsJoHstInf API는 display를 지원하지 않아 페이지당 20건으로 고정되므로, 긴 기간을 한 번에 조회하면
+ * 수천 번의 순차 요청이 필요합니다. 이 크롤러는 기간을 하루(regDt) 단위 shard로 나누고,
+ * 각 shard 안의 페이지를 병렬로 조회한 뒤 날짜·페이지 순서대로 결과를 내보냅니다.
+ * 현재 shard를 소비하는 동안 다음 shardPrefetch개 shard를 미리 조회합니다.
+ * </p>
+ * <p>
+ * 중단 후 재개하려면 처리를 마친 마지막 shard의 regDt를 저장해 두었다가
+ * {@link #shardsAfter(int, int)}에 넘기세요.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * StatuteHistoryCrawler crawler = StatuteHistoryCrawler.builder()
+ *     .client(client.getStatute())
+ *     .maxConcurrency(8)
+ *     .build();
+ *
+ * try (Stream<StatuteHistoryShard> shards = crawler.shards(20240101, 20241231)) {
+ *   shards.forEach(shard -> {
+ *     save(shard.items());
+ *     checkpoint.save(shard.regDt());
+ *   });
+ * }
+ * }
+ * </pre>
+ */
+@Slf4j
+@Builder
+public class StatuteHistoryCrawler {
+
+  /** 조문 개정 이력 조회에 사용할 클라이언트 */
+  private final StatuteApiClient client;
+
+  /** shard 안에서 동시에 요청할 최대 페이지 수 */
+  @Builder.Default
+  private final int maxConcurrency = 4;
+
+  /** 현재 shard보다 앞서 조회해 둘 shard 수 */
+  @Builder.Default
+  private final int shardPrefetch = 1;
+
+  /** 날짜 외 조회 조건 (법령ID, 조문번호, 소관부처 등, null이면 조건 없음) */
+  private final StatuteHistoryRequest template;
+
+  /**
+   * 기간 내 하루 단위 shard Stream
+   *
+   * @param fromRegDt 시작 개정일 (YYYYMMDD, 포함)
+   * @param toRegDt   종료 개정일 (YYYYMMDD, 포함)
+   * @return shard Stream (날짜 순, 끝까지 소비하지 않으면 닫아야 함)
+   * @throws CrawlException 소비 중 shard 조회에 실패한 경우
+   */
+  public Stream<StatuteHistoryShard> shards(int fromRegDt, int toRegDt) {
+    ShardIterator iterator = new ShardIterator(fromRegDt, toRegDt);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * 처리를 마친 shard 다음 날부터 재개
+   *
+   * @param lastCompletedRegDt 처리를 마친 마지막 shard의 개정일 (YYYYMMDD)
+   * @param toRegDt            종료 개정일 (YYYYMMDD, 포함)
+   * @return shard Stream
+   */
+  public Stream<StatuteHistoryShard> shardsAfter(int lastCompletedRegDt, int toRegDt) {
+    return shards(DateInts.plusDays(lastCompletedRegDt, 1), toRegDt);
+  }
+
+  /**
+   * 기간 내 조문 개정 이력 Stream (날짜·페이지 순)
+   *
+   * @param fromRegDt 시작 개정일 (YYYYMMDD, 포함)
+   * @param toRegDt   종료 개정일 (YYYYMMDD, 포함)
+   * @return 개정 이력 Stream (끝까지 소비하지 않으면 닫아야 함)
+   * @throws CrawlException 소비 중 shard 조회에 실패한 경우
+   */
+  public Stream<StatuteHistoryDto> stream(int fromRegDt, int toRegDt) {
+    return shards(fromRegDt, toRegDt).flatMap(shard -> shard.items().stream());
+  }
+
+  /**
+   * 하루 shard 조회 (모든 페이지를 병렬 조회)
+   *
+   * @param regDt 개정일 (YYYYMMDD)
+   * @return shard 결과 Future (실패 시 에러 ListApiResult)
+   */
+  private CompletableFuture<ListApiResult<StatuteHistoryDto>> fetchShard(int regDt) {
+    StatuteHistoryRequest.StatuteHistoryRequestBuilder builder =
+        template != null ? template.toBuilder() : StatuteHistoryRequest.builder();
+    StatuteHistoryRequest request = builder
+        .page(1)
+        .regDt(regDt)
+        .fromRegDt(null)
+        .toRegDt(null)
+        .build();
+    return Paging.fanOut(request, client::searchHistoryAsync, maxConcurrency, null);
+  }
+
+  /** shard를 날짜 순으로 내보내며 다음 shard를 미리 조회하는 Iterator */
+  private class ShardIterator implements Iterator<StatuteHistoryShard> {
+
+    private final int toRegDt;
+    private final Deque<PendingShard> pending = new ArrayDeque<>();
+    private int nextRegDt;
+    private boolean closed;
+
+    /** 첫 shard 조회는 hasNext()/next()를 처음 호출할 때 시작 (Stream 생성만으로는 요청하지 않음) */
+    ShardIterator(int fromRegDt, int toRegDt) {
+      this.toRegDt = toRegDt;
+      this.nextRegDt = fromRegDt;
+    }
+
+    @Override
+    public boolean hasNext() {
+      fill(1);
+      return !closed && !pending.isEmpty();
+    }
+
+    @Override
+    public StatuteHistoryShard next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      PendingShard current = pending.poll();
+      fill(Math.max(1, shardPrefetch));
+
+      ListApiResult<StatuteHistoryDto> result = current.future().join();
+      if (result.hasError()) {
+        close();
+        throw new CrawlException("Failed to crawl statute history shard: regDt=" + current.regDt());
+      }
+      log.debug("Statute history shard completed: regDt={}, items={}", current.regDt(), result.items().size());
+      return new StatuteHistoryShard(current.regDt(), Math.max(0, result.totalCount()), result.items());
+    }
+
+    void close() {
+      closed = true;
+      PendingShard p;
+      while ((p = pending.poll()) != null) {
+        p.future().cancel(true);
+      }
+    }
+
+    private void fill(int count) {
+      while (!closed && pending.size() < count && nextRegDt <= toRegDt) {
+        int regDt = nextRegDt;
+        nextRegDt = DateInts.plusDays(regDt, 1);
+        pending.add(new PendingShard(regDt, fetchShard(regDt)));
+      }
+    }
+  }
+
+  /** 조회 중인 shard */
+  private record PendingShard(int regDt, CompletableFuture<ListApiResult<StatuteHistoryDto>> future) {}
+}
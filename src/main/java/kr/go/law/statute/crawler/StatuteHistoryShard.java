@@ -0,0 +1,15 @@
+package kr.go.law.statute.crawler;
+
+import java.util.List;
+
+import kr.go.law.statute.dto.StatuteHistoryDto;
+
+/**
+ * 하루(regDt) 단위 조문 개정 이력 조회 결과
+ *
+ * @param regDt      조문 개정일 (YYYYMMDD)
+ * @param totalCount 해당 일자의 전체 건수
+ * @param items      해당 일자의 개정 이력 (페이지 순서)
+ */
+public record StatuteHistoryShard(int regDt, int totalCount, List<StatuteHistoryDto> items) {
+}
@@ -0,0 +1,48 @@
+package kr.go.law.statute.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 법령 본문 구성 부분 (본문 조회 투영에 사용)
+ * <p>
+ * 본문 조회 시 필요한 부분만 지정하면 나머지 부분은 JSON 트리를 만들지 않고 건너뜁니다.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatuteSection {
+
+    /**
+     * 기본정보 (StatuteContentDto.basicInfo)
+     */
+    BASIC_INFO("기본정보"),
+
+    /**
+     * 조문 (StatuteContentDto.articles)
+     */
+    ARTICLES("조문"),
+
+    /**
+     * 부칙 (StatuteContentDto.addenda)
+     */
+    ADDENDA("부칙"),
+
+    /**
+     * 별표 (StatuteContentDto.appendices)
+     */
+    APPENDICES("별표"),
+
+    /**
+     * 개정문 (StatuteContentDto.amendment)
+     */
+    AMENDMENT("개정문"),
+
+    /**
+     * 제개정이유 (StatuteContentDto.rrClsReason)
+     */
+    RR_CLS_REASON("제개정이유");
+
+    /** 응답 JSON의 "법령" 하위 필드 이름 */
+    private final String fieldName;
+}
@@ -0,0 +1,70 @@
+package kr.go.law.statute.index;
+
+/**
+ * int 키 Open Addressing 해시맵 (박싱 없음)
+ * <p>
+ * 생성 시 예상 크기로 용량을 고정하고 선형 탐사로 충돌을 처리합니다.
+ * {@link StatuteDocument} 생성 중에만 값을 넣고, 이후에는 읽기 전용으로 사용합니다.
+ * </p>
+ *
+ * @param <V> 값 타입 (null 불가)
+ */
+final class IntObjectMap<V> {
+  private final int[] keys;
+  private final Object[] values;
+  private final int mask;
+  private int size;
+
+  /**
+   * @param expectedSize 넣을 최대 항목 수 (적재율이 0.5 이하가 되도록 용량을 정함)
+   */
+  IntObjectMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+    this.keys = new int[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * 키가 없을 때만 값을 저장
+   *
+   * @return 저장했으면 true, 이미 같은 키가 있으면 false
+   */
+  boolean putIfAbsent(int key, V value) {
+    int i = index(key);
+    while (values[i] != null) {
+      if (keys[i] == key) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = key;
+    values[i] = value;
+    size++;
+    return true;
+  }
+
+  /**
+   * @return 키에 해당하는 값 (없으면 null)
+   */
+  @SuppressWarnings("unchecked")
+  V get(int key) {
+    int i = index(key);
+    while (values[i] != null) {
+      if (keys[i] == key) {
+        return (V) values[i];
+      }
+      i = (i + 1) & mask;
+    }
+    return null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int index(int key) {
+    int h = key * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+}
@@ -0,0 +1,243 @@
+package kr.go.law.statute.index;
+
+import java.util.List;
+import java.util.Optional;
+
+import kr.go.law.common.dto.BaseDto;
+import kr.go.law.statute.dto.ArticleContentDto;
+import kr.go.law.statute.dto.Hang;
+import kr.go.law.statute.dto.Ho;
+import kr.go.law.statute.dto.Mok;
+import kr.go.law.statute.dto.StatuteContentDto;
+import lombok.Getter;
+
+/**
+ * 조·항·호·목 색인을 가진 법령 본문 읽기 전용 뷰
+ * <p>
+ * {@link StatuteContentDto}마다 한 번 만들어 두면, 조문(조문번호·가지번호), 항, 호, 목을 목록 순회 없이
+ * 상수 시간에 찾을 수 있습니다. 조문은 {@code 조문번호 * 100 + 가지번호}를 키로 하는 int 해시맵에,
+ * 항·호·목은 상위 단위마다 자식 색인으로 보관합니다.
+ * </p>
+ * <p>
+ * 조문여부가 "조문"인 조문단위만 색인하며(편장절 제목 등 "전문" 제외), 같은 키가 여러 번 나오면 처음 것을 사용합니다.
+ * 색인은 생성 시점의 DTO를 기준으로 하므로 생성 후 원본 DTO를 수정하지 않아야 합니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * StatuteDocument document = StatuteDocument.of(result.content().orElseThrow());
+ *
+ * Optional<ArticleContentDto> article = document.getArticle(750, 0);
+ * Optional<BaseDto> ho = document.resolve("제750조제2항제3호");
+ * }
+ * </pre>
+ */
+public final class StatuteDocument {
+  private static final String ARTICLE_TYPE = "조문";
+
+  /** 원본 법령 본문 */
+  @Getter
+  private final StatuteContentDto content;
+
+  private final IntObjectMap<ArticleNode> articles;
+
+  private StatuteDocument(StatuteContentDto content) {
+    this.content = content;
+    final List<ArticleContentDto> list = content.getArticles() != null ? content.getArticles() : List.of();
+    this.articles = new IntObjectMap<>(list.size());
+    for (final ArticleContentDto article : list) {
+      if (article != null && article.getNo() != null && ARTICLE_TYPE.equals(article.getType())) {
+        articles.putIfAbsent(key(article.getNo(), orZero(article.getBrNo())), new ArticleNode(article));
+      }
+    }
+  }
+
+  /**
+   * 법령 본문의 색인 뷰 생성 (조·항·호·목 수에 비례하는 시간이 한 번 걸림)
+   *
+   * @param content 법령 본문
+   * @return 색인 뷰
+   */
+  public static StatuteDocument of(StatuteContentDto content) {
+    return new StatuteDocument(content);
+  }
+
+  /**
+   * @return 색인된 조문 수
+   */
+  public int articleCount() {
+    return articles.size();
+  }
+
+  /**
+   * 조문 조회
+   *
+   * @param no   조문번호 (제N조의 N)
+   * @param brNo 조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 (없으면 empty)
+   */
+  public Optional<ArticleContentDto> getArticle(int no, int brNo) {
+    final ArticleNode node = articles.get(key(no, brNo));
+    return node != null ? Optional.of(node.article) : Optional.empty();
+  }
+
+  /**
+   * 참조 문자열이 가리키는 조·항·호·목 조회
+   *
+   * @param reference 참조 문자열 (예: "제750조제2항제3호")
+   * @return 가장 하위 단위의 DTO ({@link ArticleContentDto}, {@link Hang}, {@link Ho}, {@link Mok} 중 하나, 없거나 형식이
+   *         맞지 않으면 empty)
+   * @see StatuteReference#parse(String)
+   */
+  public Optional<BaseDto> resolve(String reference) {
+    return StatuteReference.parse(reference).flatMap(this::resolve);
+  }
+
+  /**
+   * 참조가 가리키는 조·항·호·목 조회
+   * <p>
+   * 항 번호 없이 호를 가리키면 항번호가 없는 항 아래에서 찾습니다.
+   * </p>
+   *
+   * @param reference 조문 참조
+   * @return 가장 하위 단위의 DTO ({@link ArticleContentDto}, {@link Hang}, {@link Ho}, {@link Mok} 중 하나, 없으면 empty)
+   */
+  public Optional<BaseDto> resolve(StatuteReference reference) {
+    final ArticleNode article = articles.get(key(reference.articleNo(), reference.articleBrNo()));
+    if (article == null) {
+      return Optional.empty();
+    }
+    if (reference.hangNo() == 0 && reference.hoNo() == 0) {
+      return Optional.of(article.article);
+    }
+
+    final HangNode hang = article.hangs.get(key(reference.hangNo(), 0));
+    if (hang == null) {
+      return Optional.empty();
+    }
+    if (reference.hoNo() == 0) {
+      return Optional.of(hang.hang);
+    }
+
+    final HoNode ho = hang.hos.get(key(reference.hoNo(), reference.hoBrNo()));
+    if (ho == null) {
+      return Optional.empty();
+    }
+    if (reference.mokNo() == '\0') {
+      return Optional.of(ho.ho);
+    }
+    return Optional.ofNullable(ho.moks.get(reference.mokNo()));
+  }
+
+  /** 조문 노드 (항번호 * 100 + 항가지번호 → 항) */
+  private static final class ArticleNode {
+    private final ArticleContentDto article;
+    private final IntObjectMap<HangNode> hangs;
+
+    private ArticleNode(ArticleContentDto article) {
+      this.article = article;
+      final List<Hang> list = article.getHang() != null ? article.getHang() : List.of();
+      this.hangs = new IntObjectMap<>(list.size());
+      for (final Hang hang : list) {
+        final int no = hangNumber(hang.getNo());
+        if (no >= 0) {
+          hangs.putIfAbsent(key(no, leadingInt(hang.getBrNo())), new HangNode(hang));
+        }
+      }
+    }
+  }
+
+  /** 항 노드 (호번호 * 100 + 호가지번호 → 호) */
+  private static final class HangNode {
+    private final Hang hang;
+    private final IntObjectMap<HoNode> hos;
+
+    private HangNode(Hang hang) {
+      this.hang = hang;
+      final List<Ho> list = hang.getHo() != null ? hang.getHo() : List.of();
+      this.hos = new IntObjectMap<>(list.size());
+      for (final Ho ho : list) {
+        final int no = leadingInt(ho.getNo());
+        if (no > 0) {
+          hos.putIfAbsent(key(no, hoBranch(ho)), new HoNode(ho));
+        }
+      }
+    }
+  }
+
+  /** 호 노드 (목 글자 → 목) */
+  private static final class HoNode {
+    private final Ho ho;
+    private final IntObjectMap<Mok> moks;
+
+    private HoNode(Ho ho) {
+      this.ho = ho;
+      final List<Mok> list = ho.getMok() != null ? ho.getMok() : List.of();
+      this.moks = new IntObjectMap<>(list.size());
+      for (final Mok mok : list) {
+        if (mok.getNo() != null && !mok.getNo().isEmpty()) {
+          moks.putIfAbsent(mok.getNo().charAt(0), mok);
+        }
+      }
+    }
+  }
+
+  private static int key(int no, int brNo) {
+    return no * 100 + brNo;
+  }
+
+  private static int orZero(Integer value) {
+    return value != null ? value : 0;
+  }
+
+  /**
+   * 항번호 변환 ("①" → 1, 번호 없는 항 → 0, 해석할 수 없으면 -1)
+   */
+  private static int hangNumber(String no) {
+    if (no == null || no.isBlank()) {
+      return 0;
+    }
+    final char c = no.strip().charAt(0);
+    if (c >= '①' && c <= '⑳') { // ①-⑳
+      return c - '①' + 1;
+    } else if (c >= '㉑' && c <= '㉟') { // ㉑-㉟
+      return c - '㉑' + 21;
+    } else if (c >= '㊱' && c <= '㊿') { // ㊱-㊿
+      return c - '㊱' + 36;
+    }
+    final int parsed = leadingInt(no);
+    return parsed > 0 ? parsed : -1;
+  }
+
+  /**
+   * 호가지번호 (호가지번호 필드가 없으면 "1의2." 형태의 호번호에서 추출)
+   */
+  private static int hoBranch(Ho ho) {
+    final int brNo = leadingInt(ho.getBrNo());
+    if (brNo > 0 || ho.getNo() == null) {
+      return brNo;
+    }
+    final int separator = ho.getNo().indexOf('의');
+    return separator >= 0 ? leadingInt(ho.getNo().substring(separator + 1)) : 0;
+  }
+
+  /**
+   * 문자열 앞부분의 숫자 ("3." → 3, 숫자가 없으면 0)
+   */
+  private static int leadingInt(String text) {
+    if (text == null) {
+      return 0;
+    }
+    int value = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        value = value * 10 + (c - '0');
+      } else if (!Character.isWhitespace(c) || value > 0) {
+        break;
+      }
+    }
+    return value;
+  }
+}
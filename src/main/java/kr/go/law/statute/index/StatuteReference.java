@@ -0,0 +1,88 @@
+package kr.go.law.statute.index;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 조문 참조 (제N조의M 제N항 제N호의M N목)
+ * <p>
+ * 생략된 단위는 0(목은 {@code '\0'})으로 표시합니다. 항 번호 없이 호를 가리키는 참조(예: "제5조제1호")는
+ * 항번호가 없는 항 아래의 호를 가리킵니다.
+ * </p>
+ *
+ * @param articleNo   조문번호
+ * @param articleBrNo 조문가지번호 (없으면 0)
+ * @param hangNo      항번호 (없으면 0)
+ * @param hoNo        호번호 (없으면 0)
+ * @param hoBrNo      호가지번호 (없으면 0)
+ * @param mokNo       목 글자 (예: '가', 없으면 '\0')
+ */
+public record StatuteReference(int articleNo, int articleBrNo, int hangNo, int hoNo, int hoBrNo, char mokNo) {
+
+  private static final Pattern PATTERN = Pattern.compile(
+      "제\\s*(\\d+)\\s*조(?:\\s*의\\s*(\\d+))?"
+          + "(?:\\s*제\\s*(\\d+)\\s*항)?"
+          + "(?:\\s*제\\s*(\\d+)\\s*호(?:\\s*의\\s*(\\d+))?)?"
+          + "(?:\\s*([가-힣])\\s*목)?");
+
+  /**
+   * 참조 문자열 파싱
+   *
+   * <pre>
+   * 사용 예시:
+   * {@code
+   * StatuteReference.parse("제750조제2항제3호");   // (750, 0, 2, 3, 0, '\0')
+   * StatuteReference.parse("제10조의2 제1항제4호가목"); // (10, 2, 1, 4, 0, '가')
+   * }
+   * </pre>
+   *
+   * @param reference 참조 문자열 (앞뒤 공백 허용, 단위 사이 공백 허용)
+   * @return 참조 (형식이 맞지 않으면 empty)
+   */
+  public static Optional<StatuteReference> parse(String reference) {
+    if (reference == null) {
+      return Optional.empty();
+    }
+    final Matcher m = PATTERN.matcher(reference.strip());
+    if (!m.matches()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new StatuteReference(
+          Integer.parseInt(m.group(1)),
+          intOrZero(m.group(2)),
+          intOrZero(m.group(3)),
+          intOrZero(m.group(4)),
+          intOrZero(m.group(5)),
+          m.group(6) != null ? m.group(6).charAt(0) : '\0'));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("제").append(articleNo).append('조');
+    if (articleBrNo > 0) {
+      sb.append('의').append(articleBrNo);
+    }
+    if (hangNo > 0) {
+      sb.append('제').append(hangNo).append('항');
+    }
+    if (hoNo > 0) {
+      sb.append('제').append(hoNo).append('호');
+      if (hoBrNo > 0) {
+        sb.append('의').append(hoBrNo);
+      }
+    }
+    if (mokNo != '\0') {
+      sb.append(mokNo).append('목');
+    }
+    return sb.toString();
+  }
+
+  private static int intOrZero(String digits) {
+    return digits != null ? Integer.parseInt(digits) : 0;
+  }
+}
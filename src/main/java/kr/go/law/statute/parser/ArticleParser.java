@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import kr.go.law.common.parser.BaseParser;
+import kr.go.law.common.parser.TypeMismatchException;
 import kr.go.law.statute.dto.ArticleContentDto;
 import kr.go.law.statute.dto.Hang;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,12 @@ public class ArticleParser extends BaseParser<ArticleContentDto> {
   private static final String TYPE = "조문여부";
   private static final String BR_NO = "조문가지번호";
 
+  // 본문 API 응답에서 조문 목록까지의 경로
+  private static final String ROOT_FIELD = "법령";
+  private static final String ARTICLES = "조문";
+  private static final String ARTICLE_UNIT = "조문단위";
+  private static final String ARTICLE_TYPE = "조문";
+
   private final HangParser hangParser;
 
   private static final Set<String> KNOWN_FIELDS = Set.of(
@@ -82,6 +89,41 @@ public class ArticleParser extends BaseParser<ArticleContentDto> {
         .build();
   }
 
+  /**
+   * 본문 API 응답(법령 → 조문 → 조문단위)에서 조문 하나만 파싱
+   * <p>
+   * 조문여부가 "조문"이고 조문번호·가지번호가 일치하는 조문단위만 파싱하며, 나머지 조문단위(편장절 제목 등)는 건너뜁니다.
+   * </p>
+   *
+   * @param response 본문 API 응답
+   * @param no       조문번호 (제N조의 N)
+   * @param brNo     조문가지번호 (제N조의M의 M, 없으면 0)
+   * @return 조문 (해당 조문이 없으면 null)
+   */
+  public ArticleContentDto parseArticle(final JsonNode response, final int no, final int brNo) {
+    if (response == null || !response.has(ROOT_FIELD)) {
+      log.warn("No data in response");
+      return null;
+    }
+
+    final ArrayNode units;
+    try {
+      units = normalizeToArray(response.get(ROOT_FIELD).path(ARTICLES), ARTICLE_UNIT);
+    } catch (TypeMismatchException e) {
+      log.warn("Invalid {} field in response: {}", ARTICLES, e.getMessage());
+      return null;
+    }
+    for (final JsonNode unit : units) {
+      final Integer unitBrNo = getInt(unit, BR_NO, null, true);
+      if (ARTICLE_TYPE.equals(getString(unit, TYPE, null))
+          && Integer.valueOf(no).equals(getInt(unit, NO, null))
+          && brNo == (unitBrNo != null ? unitBrNo : 0)) {
+        return parse(unit);
+      }
+    }
+    return null;
+  }
+
   private List<Hang> parseHang(final JsonNode node, BiConsumer<String, JsonNode> onTypeMismatch) {
     if (node == null || node.isMissingNode()) {
       return null;
@@ -1,7 +1,9 @@
 package kr.go.law.statute.parser;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,6 +14,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import kr.go.law.common.parser.BaseParser;
+import kr.go.law.common.parser.JsonProjection;
 import kr.go.law.common.parser.TypeMismatchException;
 import kr.go.law.statute.dto.Addendum;
 import kr.go.law.statute.dto.Appendix;
@@ -22,6 +25,7 @@ import kr.go.law.statute.dto.Knd;
 import kr.go.law.statute.dto.Org;
 import kr.go.law.statute.dto.StatuteBasicInfo;
 import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.enums.StatuteSection;
 import lombok.extern.slf4j.Slf4j;
 
 /** 법령 본문 API 응답 파서 */
@@ -126,6 +130,20 @@ public class StatuteContentParser extends BaseParser<StatuteContentDto> {
   /** Content API 응답 파싱 */
   @Override
   public StatuteContentDto parse(final JsonNode response) {
+    return parse(response, EnumSet.allOf(StatuteSection.class));
+  }
+
+  /**
+   * Content API 응답 중 지정한 부분만 파싱
+   * <p>
+   * 지정하지 않은 부분은 null로 두며, 응답에 없더라도 unexpected에 기록하지 않습니다.
+   * </p>
+   *
+   * @param response Content API 응답
+   * @param sections 파싱할 부분
+   * @return 법령 본문 (응답에 법령이 없으면 null)
+   */
+  public StatuteContentDto parse(final JsonNode response, final Set<StatuteSection> sections) {
     if (response != null && response.has(ROOT_FIELD)) {
       final JsonNode lawNode = response.get(ROOT_FIELD);
 
@@ -134,12 +152,18 @@ public class StatuteContentParser extends BaseParser<StatuteContentDto> {
       final BiConsumer<String, JsonNode> onTypeMismatch = createTypeMismatchRecorder(unexpected);
 
       return StatuteContentDto.builder()
-          .amendment(parseAmendment(lawNode, onTypeMismatch))
-          .appendices(parseAppendices(lawNode, onTypeMismatch))
-          .basicInfo(parseBasicInfo(lawNode, onTypeMismatch))
-          .addenda(parseAddenda(lawNode, onTypeMismatch))
-          .articles(parseArticles(lawNode, onTypeMismatch))
-          .rrClsReason(parseRrClsReason(lawNode, onTypeMismatch))
+          .amendment(sections.contains(StatuteSection.AMENDMENT)
+              ? parseAmendment(lawNode, onTypeMismatch) : null)
+          .appendices(sections.contains(StatuteSection.APPENDICES)
+              ? parseAppendices(lawNode, onTypeMismatch) : null)
+          .basicInfo(sections.contains(StatuteSection.BASIC_INFO)
+              ? parseBasicInfo(lawNode, onTypeMismatch) : null)
+          .addenda(sections.contains(StatuteSection.ADDENDA)
+              ? parseAddenda(lawNode, onTypeMismatch) : null)
+          .articles(sections.contains(StatuteSection.ARTICLES)
+              ? parseArticles(lawNode, onTypeMismatch) : null)
+          .rrClsReason(sections.contains(StatuteSection.RR_CLS_REASON)
+              ? parseRrClsReason(lawNode, onTypeMismatch) : null)
           .unexpected(unexpected)
           .build();
     } else {
@@ -149,6 +173,22 @@ public class StatuteContentParser extends BaseParser<StatuteContentDto> {
 
   }
 
+  /**
+   * 지정하지 않은 부분을 응답 JSON 트리에서 제외하는 투영
+   *
+   * @param sections 파싱할 부분
+   * @return 투영 (모든 부분을 지정하면 null)
+   */
+  public static JsonProjection projection(final Set<StatuteSection> sections) {
+    final Set<String> excluded = new HashSet<>();
+    for (final StatuteSection section : StatuteSection.values()) {
+      if (!sections.contains(section)) {
+        excluded.add(section.getFieldName());
+      }
+    }
+    return excluded.isEmpty() ? null : JsonProjection.excluding(List.of(ROOT_FIELD), excluded);
+  }
+
   /** 개정문 파싱 */
   private String parseAmendment(final JsonNode lawNode, final BiConsumer<String, JsonNode> onTypeMismatch) {
     if (lawNode != null && lawNode.has(AMENDMENT)) {
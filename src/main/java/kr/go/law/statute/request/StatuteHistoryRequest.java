@@ -35,7 +35,7 @@ import lombok.Getter;
  * }
  * </pre>
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class StatuteHistoryRequest implements PageableRequest {
 
@@ -113,6 +113,11 @@ public class StatuteHistoryRequest implements PageableRequest {
     return TARGET;
   }
 
+  @Override
+  public StatuteHistoryRequest withPage(int page) {
+    return toBuilder().page(page).build();
+  }
+
   @Override
   public Map<String, String> toQueryParameters() {
     Map<String, String> params = new LinkedHashMap<>();
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import kr.go.law.common.enums.SearchScope;
+import kr.go.law.common.request.DateRangeField;
 import kr.go.law.common.request.PageableRequest;
 import kr.go.law.statute.enums.StatuteSortOption;
 import kr.go.law.statute.enums.StatuteStatus;
@@ -33,12 +34,33 @@ import lombok.Getter;
  * }
  * </pre>
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class StatuteListRequest implements PageableRequest {
 
   private static final String TARGET = "eflaw";
 
+  /** 공포일자 범위 (promulgationDateFrom~promulgationDateTo), 날짜 범위 분할에 사용 */
+  public static final DateRangeField<StatuteListRequest> PROMULGATION_DATE = DateRangeField.of(
+      StatuteListRequest::getPromulgationDateFrom,
+      StatuteListRequest::getPromulgationDateTo,
+      (request, from, to) -> request.toBuilder()
+          .page(1)
+          .promulgationDate(null)
+          .promulgationDateFrom(from)
+          .promulgationDateTo(to)
+          .build());
+
+  /** 시행일자 범위 (effectiveDateFrom~effectiveDateTo), 날짜 범위 분할에 사용 */
+  public static final DateRangeField<StatuteListRequest> EFFECTIVE_DATE = DateRangeField.of(
+      StatuteListRequest::getEffectiveDateFrom,
+      StatuteListRequest::getEffectiveDateTo,
+      (request, from, to) -> request.toBuilder()
+          .page(1)
+          .effectiveDateFrom(from)
+          .effectiveDateTo(to)
+          .build());
+
   // ===== 페이지네이션 =====
 
   /** 페이지 번호 (1-based, API 기본값: 1) */
@@ -192,6 +214,11 @@ public class StatuteListRequest implements PageableRequest {
     return TARGET;
   }
 
+  @Override
+  public StatuteListRequest withPage(int page) {
+    return toBuilder().page(page).build();
+  }
+
   @Override
   public Map<String, String> toQueryParameters() {
     Map<String, String> params = new LinkedHashMap<>();
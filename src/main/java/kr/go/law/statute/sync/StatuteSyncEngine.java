@@ -0,0 +1,287 @@
+package kr.go.law.statute.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.common.store.JsonFileStore;
+import kr.go.law.common.util.DateInts;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.crawler.CrawlException;
+import kr.go.law.statute.crawler.StatuteHistoryCrawler;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.dto.StatuteHistoryDto;
+import kr.go.law.statute.request.EfYdLawContentRequest;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조문 개정 이력(lsJoHstInf) 기반 법령 증분 동기화
+ * <p>
+ * 마지막 동기화 일자부터 지정한 일자까지의 조문 개정 이력을 조회해 변경된 법령(법령ID별 최신 법령일련번호)을 찾고,
+ * 해당 법령의 본문만 다시 조회해 ADDED / CHANGED / REMOVED 이벤트로 전달합니다.
+ * 동기화 상태(마지막 동기화 일자, 반영한 법령ID → 법령일련번호)는 JSON 파일에 저장합니다.
+ * </p>
+ * <p>
+ * 마지막 동기화 일자 당일은 다음 동기화에서 다시 확인하며, 이미 반영한 법령일련번호는 건너뜁니다.
+ * 본문 조회에 하나라도 실패하면 마지막 동기화 일자를 갱신하지 않으므로 다음 실행에서 다시 시도합니다.
+ * 이벤트는 호출 스레드에서 순서대로 전달되며, listener가 예외를 던지면 상태를 저장하지 않습니다(at-least-once).
+ * 본문은 이력 순서대로 최대 maxConcurrency개까지만 앞서 조회하고 전달하는 즉시 놓으므로,
+ * 긴 기간이나 첫 동기화에서도 변경된 법령 본문 전체를 메모리에 보관하지 않습니다.
+ * </p>
+ *
+ * <pre>
+ * 사용 예시:
+ * {@code
+ * StatuteSyncEngine engine = StatuteSyncEngine.builder()
+ *     .client(client.getStatute())
+ *     .stateFile(Path.of("statute-sync.json"))
+ *     .initialSyncDate(20240101)
+ *     .build();
+ *
+ * StatuteSyncResult result = engine.sync(event -> mirror.apply(event));
+ * }
+ * </pre>
+ */
+@Slf4j
+@Builder
+public class StatuteSyncEngine {
+
+  /** 법령 조회에 사용할 클라이언트 */
+  private final StatuteApiClient client;
+
+  /** 동기화 상태 파일 경로 */
+  private final Path stateFile;
+
+  /** 상태 파일이 없을 때 확인을 시작할 조문 개정일 (YYYYMMDD, null이면 동기화 종료일) */
+  private final Integer initialSyncDate;
+
+  /** 이력 조회와 본문 조회에서 동시에 보낼 최대 요청 수 (전달 전 보관하는 본문 수의 상한) */
+  @Builder.Default
+  private final int maxConcurrency = 4;
+
+  /** 상태 직렬화에 사용할 ObjectMapper (null이면 기본 설정) */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 오늘까지 동기화
+   *
+   * @param listener 동기화 이벤트 수신자
+   * @return 동기화 결과
+   * @throws UncheckedIOException 상태 파일을 읽거나 쓰지 못한 경우
+   * @throws CrawlException       개정 이력을 조회하지 못한 경우
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public StatuteSyncResult sync(Consumer<StatuteSyncEvent> listener) throws InterruptedException {
+    return sync(DateInts.today(), listener);
+  }
+
+  /**
+   * 지정한 일자까지 동기화
+   *
+   * @param toRegDt  확인할 마지막 조문 개정일 (YYYYMMDD)
+   * @param listener 동기화 이벤트 수신자
+   * @return 동기화 결과
+   * @throws UncheckedIOException 상태 파일을 읽거나 쓰지 못한 경우
+   * @throws CrawlException       개정 이력을 조회하지 못한 경우
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public StatuteSyncResult sync(int toRegDt, Consumer<StatuteSyncEvent> listener) throws InterruptedException {
+    final StatuteSyncState state = loadState();
+    final int fromRegDt = state.getLastSyncDate() != null
+        ? state.getLastSyncDate()
+        : (initialSyncDate != null ? initialSyncDate : toRegDt);
+
+    Map<Integer, StatuteHistoryDto> changes = findChanges(fromRegDt, toRegDt);
+    log.info("Statute sync: {}~{}, {} statutes with revisions", fromRegDt, toRegDt, changes.size());
+
+    // 본문 조회와 이벤트 전달 (이력 순서, 전달하지 않은 본문은 최대 maxConcurrency개만 보관)
+    final int window = Math.max(1, maxConcurrency);
+    final Iterator<StatuteHistoryDto> remaining = changes.values().iterator();
+    final Deque<Pending> pending = new ArrayDeque<>();
+    int added = 0;
+    int changed = 0;
+    int removed = 0;
+    final List<Integer> failed = new ArrayList<>();
+    try {
+      while (true) {
+        while (pending.size() < window && remaining.hasNext()) {
+          Pending p = submit(remaining.next(), state);
+          if (p != null) {
+            pending.add(p);
+          }
+        }
+        Pending p = pending.poll();
+        if (p == null) {
+          break;
+        }
+
+        StatuteHistoryDto history = p.history();
+        StatuteContentDto content = null;
+        if (p.future() != null) {
+          content = await(p);
+          if (content == null) {
+            log.warn("Failed to fetch changed statute: lsId={}, mst={}, efYd={}",
+                history.getLsId(), history.getMst(), history.getEfYd());
+            failed.add(history.getMst());
+            continue;
+          }
+        }
+
+        listener.accept(new StatuteSyncEvent(p.type(), history.getLsId(), history.getMst(), history.getEfYd(),
+            history.getLsNm(), history, content));
+        switch (p.type()) {
+          case ADDED -> added++;
+          case CHANGED -> changed++;
+          case REMOVED -> removed++;
+        }
+        if (p.type() == StatuteSyncEvent.Type.REMOVED) {
+          state.getKnownMst().remove(history.getLsId());
+          state.getRemovedMst().put(history.getLsId(), history.getMst());
+        } else {
+          state.getKnownMst().put(history.getLsId(), history.getMst());
+          state.getRemovedMst().remove(history.getLsId());
+        }
+      }
+    } finally {
+      // listener 예외나 인터럽트로 중단되면 미리 시작한 본문 조회 취소
+      for (Pending p : pending) {
+        if (p.future() != null) {
+          p.future().cancel(true);
+        }
+      }
+    }
+
+    if (failed.isEmpty()) {
+      state.setLastSyncDate(toRegDt);
+    }
+    saveState(state);
+
+    StatuteSyncResult result = new StatuteSyncResult(fromRegDt, toRegDt, added, changed, removed, failed);
+    log.info("Statute sync finished: {}", result);
+    return result;
+  }
+
+  /**
+   * 변경 1건의 이벤트 종류를 정하고 본문 조회 시작
+   *
+   * @return 조회 중인 변경 (이미 반영한 법령일련번호이면 null)
+   */
+  private Pending submit(StatuteHistoryDto history, StatuteSyncState state) {
+    StatuteSyncEvent.Type type = classify(history, state.getKnownMst());
+    Map<Integer, Integer> synced = type == StatuteSyncEvent.Type.REMOVED
+        ? state.getRemovedMst()
+        : state.getKnownMst();
+    if (history.getMst().equals(synced.get(history.getLsId()))) {
+      return null;
+    }
+    if (type == StatuteSyncEvent.Type.REMOVED) {
+      return new Pending(type, history, null);
+    }
+    return new Pending(type, history, client.getContentByEfYdAsync(EfYdLawContentRequest.builder()
+        .mst(history.getMst())
+        .efYd(history.getEfYd())
+        .build()));
+  }
+
+  /**
+   * 본문 조회 완료 대기
+   *
+   * @return 본문 (조회에 실패했으면 null)
+   */
+  private static StatuteContentDto await(Pending p) throws InterruptedException {
+    try {
+      ContentApiResult<StatuteContentDto> result = p.future().get();
+      return result.hasError() ? null : result.content().orElse(null);
+    } catch (ExecutionException | CancellationException e) {
+      log.warn("Statute content request failed: mst={}, error={}", p.history().getMst(), e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * 저장된 동기화 상태 읽기
+   *
+   * @return 동기화 상태 (파일이 없으면 새 상태)
+   * @throws UncheckedIOException 상태 파일을 읽지 못한 경우
+   */
+  public StatuteSyncState loadState() {
+    try {
+      return store().load().orElseGet(StatuteSyncState::new);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load statute sync state: " + stateFile, e);
+    }
+  }
+
+  /**
+   * 기간 내 개정 이력에서 법령ID별 최신 이력 수집
+   */
+  private Map<Integer, StatuteHistoryDto> findChanges(int fromRegDt, int toRegDt) {
+    StatuteHistoryCrawler crawler = StatuteHistoryCrawler.builder()
+        .client(client)
+        .maxConcurrency(maxConcurrency)
+        .build();
+
+    Map<Integer, StatuteHistoryDto> latest = new LinkedHashMap<>();
+    try (Stream<StatuteHistoryDto> histories = crawler.stream(fromRegDt, toRegDt)) {
+      histories
+          .filter(h -> h.getLsId() != null && h.getMst() != null)
+          .forEach(h -> latest.merge(h.getLsId(), h, (a, b) -> b.getMst() > a.getMst() ? b : a));
+    }
+    return latest;
+  }
+
+  /**
+   * 제개정구분명과 동기화 상태로 이벤트 종류 결정
+   * <p>
+   * 반영한 적 없는 법령ID는 제개정구분과 관계없이 ADDED입니다(첫 동기화 포함).
+   * </p>
+   */
+  static StatuteSyncEvent.Type classify(StatuteHistoryDto history, Map<Integer, Integer> knownMst) {
+    String rrClsNm = history.getRrClsNm() != null ? history.getRrClsNm() : "";
+    if (rrClsNm.endsWith("폐지")) {
+      return StatuteSyncEvent.Type.REMOVED;
+    }
+    if (rrClsNm.endsWith("제정") || !knownMst.containsKey(history.getLsId())) {
+      return StatuteSyncEvent.Type.ADDED;
+    }
+    return StatuteSyncEvent.Type.CHANGED;
+  }
+
+  private void saveState(StatuteSyncState state) {
+    try {
+      store().save(state);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save statute sync state: " + stateFile, e);
+    }
+  }
+
+  private JsonFileStore<StatuteSyncState> store() {
+    ObjectMapper mapper = objectMapper != null
+        ? objectMapper
+        : new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new JsonFileStore<>(stateFile, StatuteSyncState.class, mapper);
+  }
+
+  /** 본문 조회 중인 변경 */
+  private record Pending(
+      StatuteSyncEvent.Type type,
+      StatuteHistoryDto history,
+      CompletableFuture<ContentApiResult<StatuteContentDto>> future) {}
+}
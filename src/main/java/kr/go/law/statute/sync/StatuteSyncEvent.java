@@ -0,0 +1,35 @@
+package kr.go.law.statute.sync;
+
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.dto.StatuteHistoryDto;
+
+/**
+ * 법령 증분 동기화 이벤트
+ *
+ * @param type    이벤트 종류
+ * @param lsId    법령ID
+ * @param mst     법령일련번호 (변경 후)
+ * @param efYd    시행일자
+ * @param lsNm    법령명
+ * @param history 변경을 감지한 조문 개정 이력
+ * @param content 다시 조회한 본문 (REMOVED이면 null)
+ */
+public record StatuteSyncEvent(
+    Type type,
+    Integer lsId,
+    Integer mst,
+    Integer efYd,
+    String lsNm,
+    StatuteHistoryDto history,
+    StatuteContentDto content) {
+
+  /** 이벤트 종류 */
+  public enum Type {
+    /** 새 법령 (제정 또는 처음 보는 법령ID) */
+    ADDED,
+    /** 기존 법령 개정 */
+    CHANGED,
+    /** 법령 폐지 */
+    REMOVED
+  }
+}
@@ -0,0 +1,31 @@
+package kr.go.law.statute.sync;
+
+import java.util.List;
+
+/**
+ * 법령 증분 동기화 결과
+ *
+ * @param fromRegDt 확인한 조문 개정일 시작 (YYYYMMDD)
+ * @param toRegDt   확인한 조문 개정일 종료 (YYYYMMDD)
+ * @param added     추가된 법령 수
+ * @param changed   변경된 법령 수
+ * @param removed   폐지된 법령 수
+ * @param failedMst 본문 조회에 실패한 법령일련번호 (비어 있지 않으면 lastSyncDate를 갱신하지 않음)
+ */
+public record StatuteSyncResult(
+    int fromRegDt,
+    int toRegDt,
+    int added,
+    int changed,
+    int removed,
+    List<Integer> failedMst) {
+
+  /**
+   * 모든 변경을 반영했는지 여부
+   *
+   * @return 실패가 없으면 true
+   */
+  public boolean isComplete() {
+    return failedMst.isEmpty();
+  }
+}
@@ -0,0 +1,29 @@
+package kr.go.law.statute.sync;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 법령 증분 동기화 상태
+ * <p>
+ * {@link StatuteSyncEngine}이 JSON 파일로 저장합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StatuteSyncState {
+
+  /** 마지막으로 동기화를 마친 조문 개정일 (YYYYMMDD, 다음 동기화는 이 날짜부터 다시 확인) */
+  private Integer lastSyncDate;
+
+  /** 동기화한 법령 (법령ID → 법령일련번호) */
+  private Map<Integer, Integer> knownMst = new HashMap<>();
+
+  /** 폐지를 반영한 법령 (법령ID → 폐지 법령일련번호) */
+  private Map<Integer, Integer> removedMst = new HashMap<>();
+}
@@ -0,0 +1,37 @@
+package kr.go.law.common.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link BulkExecutor}용 Executor 생성 (Java 21 구현)
+ * <p>
+ * 요청마다 가상 스레드 하나를 사용합니다. 동시 실행 수 제한은 {@link BulkExecutor}의 세마포어가 담당하므로
+ * 대기 중인 요청은 플랫폼 스레드를 점유하지 않습니다.
+ * </p>
+ */
+final class BulkThreads {
+
+  private BulkThreads() {
+  }
+
+  /**
+   * 대량 요청 실행용 Executor 생성
+   *
+   * @param maxConcurrency 최대 동시 실행 수 (가상 스레드 구현에서는 사용하지 않음)
+   * @return ExecutorService
+   */
+  static ExecutorService newExecutor(int maxConcurrency) {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("lawopendata-bulk-", 1).factory());
+  }
+
+  /**
+   * 가상 스레드 사용 여부
+   *
+   * @return Java 21 구현은 항상 true
+   */
+  static boolean isVirtual() {
+    return true;
+  }
+}
@@ -0,0 +1,79 @@
+package kr.go.law.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.common.response.ContentApiResult;
+
+class MemoryTierTest {
+
+  private static final ContentApiResult<String> RESULT = ContentApiResult.of(null, "content");
+
+  @Test
+  void put_evictsLeastRecentlyUsedByWeight() {
+    MemoryTier tier = new MemoryTier(300, null);
+    tier.put("a", RESULT, 100);
+    tier.put("b", RESULT, 100);
+    tier.put("c", RESULT, 100);
+    assertNotNull(tier.get("a")); // a를 최근 사용으로 갱신
+
+    tier.put("d", RESULT, 150);
+
+    assertNotNull(tier.get("a"));
+    assertNull(tier.get("b"));
+    assertNull(tier.get("c"));
+    assertNotNull(tier.get("d"));
+    assertEquals(250, tier.weightedSize());
+    assertEquals(2, tier.size());
+    assertEquals(2, tier.evictionCount());
+  }
+
+  @Test
+  void put_replacingAndRemovingKeepsWeightInSync() {
+    MemoryTier tier = new MemoryTier(1000, null);
+    tier.put("a", RESULT, 100);
+    tier.put("a", RESULT, 300);
+    assertEquals(300, tier.weightedSize());
+
+    assertFalse(tier.put("a", RESULT, 2000));
+    assertEquals(0, tier.weightedSize());
+    assertNull(tier.get("a"));
+
+    tier.put("b", RESULT, 400);
+    tier.remove("b");
+    assertEquals(0, tier.weightedSize());
+    assertEquals(0, tier.size());
+  }
+
+  @Test
+  void get_expiresAfterTtl() throws InterruptedException {
+    MemoryTier tier = new MemoryTier(1000, Duration.ofMillis(50));
+    tier.put("a", RESULT, 100);
+    assertNotNull(tier.get("a"));
+
+    Thread.sleep(100);
+
+    assertNull(tier.get("a"));
+    assertEquals(1, tier.expiredCount());
+    assertEquals(0, tier.weightedSize());
+  }
+
+  @Test
+  void put_remainingTtlShorterThanTierTtlWins() throws InterruptedException {
+    MemoryTier tier = new MemoryTier(1000, Duration.ofHours(1));
+    assertTrue(tier.put("a", RESULT, 100, Duration.ofMillis(50).toNanos()));
+    assertFalse(tier.put("b", RESULT, 100, 0));
+
+    Thread.sleep(100);
+
+    assertNull(tier.get("a"));
+    assertNull(tier.get("b"));
+  }
+}
@@ -0,0 +1,117 @@
+package kr.go.law.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.common.response.RawData;
+import kr.go.law.config.RawDataRetention;
+import kr.go.law.statute.dto.ArticleContentDto;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.enums.StatuteSection;
+
+class RetainedSizeEstimatorTest {
+
+  @Test
+  void estimate_sizesLatin1AndUtf16Strings() {
+    // String 24바이트 + byte[] (헤더 16 + 길이 × 1 또는 2, 8바이트 정렬)
+    assertEquals(24 + 32, RetainedSizeEstimator.estimate("abcdefghij"));
+    assertEquals(24 + 32, RetainedSizeEstimator.estimate("éééééééééé"));
+    assertEquals(24 + 40, RetainedSizeEstimator.estimate("가나다라마바사아자차"));
+    assertEquals(24 + 16, RetainedSizeEstimator.estimate(""));
+    assertEquals(0, RetainedSizeEstimator.estimate(null));
+  }
+
+  @Test
+  void estimate_countsSharedReferencesOnce() {
+    String value = "가".repeat(100);
+    long single = RetainedSizeEstimator.estimate(value);
+    // ArrayList 24바이트 + Object[] (헤더 16 + 참조 2 × 4)
+    long list = 24 + 24;
+
+    assertEquals(list + single, RetainedSizeEstimator.estimate(new ArrayList<>(List.of(value, value))));
+    assertEquals(list + 2 * single,
+        RetainedSizeEstimator.estimate(new ArrayList<>(List.of(value, new String(value)))));
+  }
+
+  @Test
+  void estimate_sharedConstantsCountAsZero() {
+    assertEquals(0, RetainedSizeEstimator.estimate(Boolean.TRUE));
+    assertEquals(0, RetainedSizeEstimator.estimate(StatuteSection.ARTICLES));
+    assertEquals(24 + 24,
+        RetainedSizeEstimator.estimate(new ArrayList<>(List.of(Boolean.FALSE, StatuteSection.ADDENDA))));
+    assertEquals(16, RetainedSizeEstimator.estimate(1000));
+    assertEquals(24, RetainedSizeEstimator.estimate(1000L));
+  }
+
+  @Test
+  void estimate_mapTableFollowsHashMapCapacity() {
+    assertEquals(0, RetainedSizeEstimator.mapTableSize(0));
+    // 16칸: 헤더 16 + 16 × 4
+    assertEquals(80, RetainedSizeEstimator.mapTableSize(1));
+    assertEquals(80, RetainedSizeEstimator.mapTableSize(12));
+    // 13번째 항목에서 32칸으로 확장
+    assertEquals(144, RetainedSizeEstimator.mapTableSize(13));
+    assertEquals(144, RetainedSizeEstimator.mapTableSize(24));
+    assertEquals(272, RetainedSizeEstimator.mapTableSize(25));
+
+    assertEquals(48, RetainedSizeEstimator.estimate(new HashMap<>()));
+    Map<String, Boolean> map = new HashMap<>();
+    for (int i = 0; i < 13; i++) {
+      map.put(String.format("k%02d", i), Boolean.TRUE);
+    }
+    // HashMap 48 + 버킷 배열 + 노드 32 × 13 + 키 문자열
+    assertEquals(48 + 144 + 13 * 32 + 13 * RetainedSizeEstimator.estimate("k00"),
+        RetainedSizeEstimator.estimate(map));
+  }
+
+  @Test
+  void estimate_rawDataByRetention() {
+    String json = "{\"법령\":{\"기본정보\":{}}}";
+    int utf8 = json.getBytes(StandardCharsets.UTF_8).length;
+
+    // 원문은 힙 밖에 있지만 캐시 예산에는 포함: RawData 16 + ByteBuffer 64 + 버퍼 크기
+    assertEquals(16 + 64 + utf8, RetainedSizeEstimator.estimate(RawData.retain(json, RawDataRetention.OFF_HEAP)));
+    assertEquals(16 + RetainedSizeEstimator.estimate(json),
+        RetainedSizeEstimator.estimate(RawData.retain(json, RawDataRetention.FULL)));
+    RawData compressed = RawData.retain(json, RawDataRetention.COMPRESSED);
+    assertEquals(16 + ((16 + compressed.retainedSize() + 7) & ~7),
+        RetainedSizeEstimator.estimate(compressed));
+  }
+
+  @Test
+  void estimate_nestedContentScalesWithArticles() {
+    long hundred = RetainedSizeEstimator.estimate(content(100));
+    long twoHundred = RetainedSizeEstimator.estimate(content(200));
+
+    // 조문 내용(한글 200자 = UTF-16 400바이트) 이상, 그 두 배 미만
+    assertTrue(twoHundred >= 200 * 400L, "estimate=" + twoHundred);
+    assertTrue(twoHundred < 2 * 200 * 400L, "estimate=" + twoHundred);
+    double ratio = (double) twoHundred / hundred;
+    assertTrue(ratio > 1.9 && ratio < 2.1, "ratio=" + ratio);
+  }
+
+  private static StatuteContentDto content(int articles) {
+    List<ArticleContentDto> list = new ArrayList<>();
+    for (int i = 1; i <= articles; i++) {
+      list.add(ArticleContentDto.builder()
+          .no(i)
+          .type("조문")
+          .title("제목" + i)
+          .content("내".repeat(200))
+          .unexpected(new HashMap<>())
+          .build());
+    }
+    return StatuteContentDto.builder()
+        .articles(list)
+        .unexpected(new HashMap<>())
+        .build();
+  }
+}
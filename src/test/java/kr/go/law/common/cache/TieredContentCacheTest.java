@@ -0,0 +1,153 @@
+package kr.go.law.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kr.go.law.common.response.ContentApiResult;
+
+class TieredContentCacheTest {
+
+  private static final String KEY = "StatuteContent|/DRF/lawService.do?MST=1";
+  private static final String RAW = "{\"법령\":{}}";
+
+  private static final Function<String, ContentApiResult<String>> PARSER =
+      raw -> ContentApiResult.of(null, raw);
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void get_promotesDiskHitToMemory() {
+    TieredContentCache cache = new TieredContentCache(1024 * 1024, Duration.ofHours(1), dir);
+    cache.put(KEY, ContentApiResult.of(null, RAW), () -> RAW);
+
+    // 메모리를 비운 새 인스턴스 (프로세스 재시작)
+    TieredContentCache restarted = new TieredContentCache(1024 * 1024, Duration.ofHours(1), dir);
+    ContentApiResult<String> fromDisk = restarted.get(KEY, PARSER);
+    assertEquals(RAW, fromDisk.content().orElseThrow());
+
+    ContentApiResult<String> fromMemory = restarted.get(KEY, raw -> fail("memory hit expected"));
+    assertSame(fromDisk, fromMemory);
+
+    CacheStats stats = restarted.stats();
+    assertEquals(1, stats.diskHitCount());
+    assertEquals(1, stats.hitCount());
+    assertEquals(1, stats.entryCount());
+  }
+
+  @Test
+  void get_promotedEntryKeepsRemainingDiskTtl() throws Exception {
+    Duration ttl = Duration.ofHours(1);
+    TieredContentCache cache = new TieredContentCache(1024 * 1024, ttl, dir);
+    Path file = new DiskTier(dir, ttl).fileOf(KEY);
+    Files.writeString(file, RAW, StandardCharsets.UTF_8);
+    // 디스크 항목은 약 150ms 후 만료
+    Files.setLastModifiedTime(file,
+        FileTime.fromMillis(System.currentTimeMillis() - ttl.toMillis() + 150));
+
+    assertNotNull(cache.get(KEY, PARSER));
+
+    Thread.sleep(300);
+
+    assertNull(cache.get(KEY, PARSER));
+    assertEquals(1, cache.stats().expiredCount());
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  void put_defaultWeigherEvictsByRetainedSize() {
+    long maxBytes = 100_000;
+    TieredContentCache cache = new TieredContentCache(maxBytes, Duration.ofHours(1), null);
+
+    // 한글 10,000자 본문은 UTF-16으로 20,000바이트 이상이므로 최대 4개만 남음
+    for (int i = 0; i < 10; i++) {
+      String body = "가".repeat(10_000);
+      cache.put(KEY + i, ContentApiResult.of(null, body), () -> body);
+    }
+
+    CacheStats stats = cache.stats();
+    assertTrue(stats.entryCount() <= 4, "entries=" + stats.entryCount());
+    assertEquals(10 - stats.entryCount(), stats.evictionCount());
+    assertTrue(stats.weightedSize() <= maxBytes);
+    assertTrue(stats.weightedSize() >= stats.entryCount() * 20_000);
+    assertNotNull(cache.get(KEY + 9, PARSER));
+    assertNull(cache.get(KEY + 0, PARSER));
+  }
+
+  @Test
+  void get_evictsCorruptDiskEntry() throws Exception {
+    TieredContentCache cache = new TieredContentCache(0, Duration.ofHours(1), dir);
+    cache.put(KEY, ContentApiResult.of(null, RAW), () -> RAW);
+    Path file = new DiskTier(dir, null).fileOf(KEY);
+    Files.writeString(file, "{corrupt", StandardCharsets.UTF_8);
+
+    assertNull(cache.get(KEY, raw -> null));
+
+    assertFalse(Files.exists(file));
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void put_memoryWeightIncludesKeyAndEntryOverhead() {
+    TieredContentCache cache = new TieredContentCache(1024, null, null, (result, raw) -> 100);
+    cache.put(KEY, ContentApiResult.of(null, RAW), () -> RAW);
+
+    long weight = cache.stats().weightedSize();
+    assertEquals(100 + RetainedSizeEstimator.estimate(KEY) + 64, weight);
+
+    cache.invalidate(KEY);
+    assertEquals(0, cache.stats().weightedSize());
+  }
+
+  @Test
+  void getAsync_memoryHitAndMissWithoutDiskCompleteInline() {
+    AtomicInteger tasks = new AtomicInteger();
+    Executor counting = command -> {
+      tasks.incrementAndGet();
+      command.run();
+    };
+    TieredContentCache cache = new TieredContentCache(1024 * 1024, null, null);
+
+    CompletableFuture<ContentApiResult<String>> miss = cache.getAsync(KEY, PARSER, counting);
+    assertTrue(miss.isDone());
+    assertNull(miss.join());
+
+    cache.put(KEY, ContentApiResult.of(null, RAW), () -> RAW);
+    CompletableFuture<ContentApiResult<String>> hit = cache.getAsync(KEY, PARSER, counting);
+    assertTrue(hit.isDone());
+    assertEquals(RAW, hit.join().content().orElseThrow());
+    assertEquals(0, tasks.get());
+  }
+
+  @Test
+  void getAsync_readsDiskOnExecutor() {
+    AtomicInteger tasks = new AtomicInteger();
+    Executor counting = command -> {
+      tasks.incrementAndGet();
+      command.run();
+    };
+    new TieredContentCache(1024 * 1024, null, dir).put(KEY, ContentApiResult.of(null, RAW), () -> RAW);
+    TieredContentCache cache = new TieredContentCache(1024 * 1024, null, dir);
+
+    assertEquals(RAW, cache.getAsync(KEY, PARSER, counting).join().content().orElseThrow());
+    assertEquals(1, tasks.get());
+  }
+}
@@ -0,0 +1,192 @@
+package kr.go.law.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.http.RateLimitExceededException;
+import kr.go.law.common.http.RateLimitInterceptor;
+import kr.go.law.common.http.RetryInterceptor;
+import kr.go.law.common.http.RetryPolicy;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.RateLimitMode;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class AsyncRetryTest {
+
+  private MockWebServer server;
+  private OkHttpClient okHttpClient;
+  private TestClient client;
+
+  /** executeRequestAsync 호출용 클라이언트 */
+  static class TestClient extends BaseApiClient {
+    TestClient(OkHttpClient client) {
+      super(LawOpenDataProperties.builder().oc("test").build(), new ObjectMapper(), client);
+    }
+
+    CompletableFuture<String> get(Request request) {
+      return executeRequestAsync(request);
+    }
+
+    <T> CompletableFuture<T> handle(Request request, ResponseHandler<T> handler) {
+      return executeResponseAsync(request, handler);
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+    okHttpClient = new OkHttpClient.Builder()
+        .addInterceptor(new RetryInterceptor(new RetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(5), null)))
+        .build();
+    client = new TestClient(okHttpClient);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void retries_doNotAccumulateCancelListeners() throws InterruptedException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("ok").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+    CompletableFuture<String> future = client.get(new Request.Builder().url(server.url("/")).build());
+    for (int i = 0; i < 4; i++) {
+      server.takeRequest(1, TimeUnit.SECONDS);
+    }
+
+    // 네 번째 시도 진행 중에도 취소 리스너는 하나
+    assertEquals(1, future.getNumberOfDependents());
+    assertEquals("ok", future.join());
+    assertEquals(4, server.getRequestCount());
+  }
+
+  @Test
+  void cancelDuringRetry_cancelsCurrentAttemptCall() throws InterruptedException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("late").setHeadersDelay(5, TimeUnit.SECONDS));
+
+    CompletableFuture<String> future = client.get(new Request.Builder().url(server.url("/")).build());
+    server.takeRequest(1, TimeUnit.SECONDS);
+    server.takeRequest(1, TimeUnit.SECONDS);
+    future.cancel(true);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (okHttpClient.dispatcher().runningCallsCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, okHttpClient.dispatcher().runningCallsCount());
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  void throwingHandler_completesFutureExceptionally() {
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    CompletableFuture<String> future = client.handle(new Request.Builder().url(server.url("/")).build(),
+        response -> {
+          throw new IllegalStateException("bad body");
+        });
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  @Test
+  void throwingHandlerAfterRetry_completesFutureExceptionally() {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    CompletableFuture<String> future = client.handle(new Request.Builder().url(server.url("/")).build(),
+        response -> {
+          throw new AssertionError("unexpected");
+        });
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(AssertionError.class, e.getCause());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  void rateLimitedAttempt_isDeferredWithoutOccupyingDispatcher() {
+    List<Long> started = new CopyOnWriteArrayList<>();
+    TestClient limited = rateLimitedClient(started, RateLimitMode.WAIT, Duration.ofSeconds(10));
+    server.enqueue(new MockResponse().setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    CompletableFuture<String> first = limited.get(new Request.Builder().url(server.url("/")).build());
+    CompletableFuture<String> second = limited.get(new Request.Builder().url(server.url("/")).build());
+
+    assertEquals("first", first.orTimeout(5, TimeUnit.SECONDS).join());
+    assertEquals("second", second.orTimeout(5, TimeUnit.SECONDS).join());
+    // 토큰을 기다리는 동안에는 Dispatcher에 넘기지 않으므로 두 번째 호출은 토큰 시점(약 200ms 뒤)에 시작
+    long gap = started.get(1) - started.get(0);
+    assertTrue(gap >= TimeUnit.MILLISECONDS.toNanos(150), "gap " + TimeUnit.NANOSECONDS.toMillis(gap) + "ms");
+  }
+
+  @Test
+  void cancelWhileRateLimited_neverSendsRequest() throws InterruptedException {
+    TestClient limited = rateLimitedClient(new CopyOnWriteArrayList<>(), RateLimitMode.WAIT, Duration.ofSeconds(10));
+    server.enqueue(new MockResponse().setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    assertEquals("first", limited.get(new Request.Builder().url(server.url("/")).build())
+        .orTimeout(5, TimeUnit.SECONDS).join());
+    CompletableFuture<String> deferred = limited.get(new Request.Builder().url(server.url("/")).build());
+    deferred.cancel(true);
+
+    Thread.sleep(400);
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void rateLimitExceeded_completesFutureExceptionally() {
+    TestClient limited = rateLimitedClient(new CopyOnWriteArrayList<>(), RateLimitMode.FAIL_FAST, null);
+    server.enqueue(new MockResponse().setBody("first"));
+
+    assertEquals("first", limited.get(new Request.Builder().url(server.url("/")).build())
+        .orTimeout(5, TimeUnit.SECONDS).join());
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> limited.get(new Request.Builder().url(server.url("/")).build()).orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(RateLimitExceededException.class, e.getCause());
+    assertEquals(1, server.getRequestCount());
+  }
+
+  /** 초당 5건(버스트 1)으로 제한하고, Dispatcher 스레드가 호출을 시작한 시각을 기록하는 클라이언트 */
+  private static TestClient rateLimitedClient(List<Long> started, RateLimitMode mode, Duration maxWait) {
+    return new TestClient(new OkHttpClient.Builder()
+        .addInterceptor(new RetryInterceptor(new RetryPolicy(2, Duration.ofMillis(1), Duration.ofMillis(5), null)))
+        .addInterceptor(chain -> {
+          started.add(System.nanoTime());
+          return chain.proceed(chain.request());
+        })
+        .addInterceptor(new RateLimitInterceptor(5, 1, Map.of(), mode, maxWait))
+        .build());
+  }
+}
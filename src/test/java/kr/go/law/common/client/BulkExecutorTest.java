@@ -0,0 +1,135 @@
+package kr.go.law.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BulkExecutorTest {
+
+  @Test
+  void submitAll_neverExceedsMaxConcurrency() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger peak = new AtomicInteger();
+    List<Integer> requests = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      requests.add(i);
+    }
+
+    try (BulkExecutor bulk = new BulkExecutor(3)) {
+      bulk.fetchAll(requests, request -> {
+        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(5);
+        running.decrementAndGet();
+        return request;
+      });
+    }
+
+    assertEquals(3, peak.get());
+  }
+
+  @Test
+  void fetchAll_keepsRequestOrder() {
+    List<Integer> requests = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      requests.add(i);
+    }
+
+    List<String> results;
+    try (BulkExecutor bulk = new BulkExecutor(4)) {
+      // 완료 순서가 요청 순서와 달라도 결과는 요청 순서
+      results = bulk.fetchAll(requests, request -> {
+        sleep(ThreadLocalRandom.current().nextInt(10));
+        return "r" + request;
+      });
+    }
+
+    assertEquals(requests.stream().map(request -> "r" + request).toList(), results);
+  }
+
+  @Test
+  void failingCall_surfacesThroughFuture() {
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    try (BulkExecutor bulk = new BulkExecutor(2)) {
+      CompletableFuture<String> future = bulk.submit(() -> {
+        throw failure;
+      });
+      CompletionException e = assertThrows(CompletionException.class, future::join);
+      assertSame(failure, e.getCause());
+
+      // 실패한 작업이 허가를 반납하므로 다음 작업도 실행됨
+      CompletionException all = assertThrows(CompletionException.class,
+          () -> bulk.fetchAll(List.of(1, 2, 3), request -> {
+            if (request == 2) {
+              throw failure;
+            }
+            return request;
+          }));
+      assertSame(failure, all.getCause());
+      assertEquals("ok", bulk.submit(() -> "ok").join());
+    }
+  }
+
+  @Test
+  void nestedSubmitJoin_runsInlineWithoutDeadlock() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(2);
+
+    try (BulkExecutor bulk = new BulkExecutor(2)) {
+      // 모든 허가를 차지한 작업이 같은 실행기의 작업을 기다림
+      List<CompletableFuture<String>> outer = List.of(
+          bulk.submit(() -> nested(bulk, started, "a")),
+          bulk.submit(() -> nested(bulk, started, "b")));
+
+      assertEquals("a-inner", outer.get(0).orTimeout(5, TimeUnit.SECONDS).join());
+      assertEquals("b-inner", outer.get(1).orTimeout(5, TimeUnit.SECONDS).join());
+
+      // 안쪽 작업의 예외도 Future로 전달
+      CompletableFuture<String> failing = bulk.submit(() -> bulk.<String>submit(() -> {
+        throw new IllegalStateException("inner");
+      }).join());
+      CompletionException e = assertThrows(CompletionException.class,
+          () -> failing.orTimeout(5, TimeUnit.SECONDS).join());
+      assertTrue(e.getMessage().contains("inner"), e.getMessage());
+      assertInstanceOf(IllegalStateException.class, rootCause(e));
+    }
+  }
+
+  private static String nested(BulkExecutor bulk, CountDownLatch started, String name) {
+    started.countDown();
+    try {
+      started.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return bulk.submit(() -> name + "-inner").join();
+  }
+
+  private static Throwable rootCause(Throwable e) {
+    Throwable cause = e;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
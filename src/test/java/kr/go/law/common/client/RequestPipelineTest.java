@@ -0,0 +1,132 @@
+package kr.go.law.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RequestPipelineTest {
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().toList();
+  }
+
+  @Test
+  void inputOrder_emitsInRequestOrderRegardlessOfCompletion() {
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    List<Integer> emitted = new ArrayList<>();
+
+    CompletableFuture<Void> done = RequestPipeline.run(range(4), 4, EmitOrder.INPUT_ORDER, request -> {
+      CompletableFuture<String> call = new CompletableFuture<>();
+      calls.add(call);
+      return call;
+    }, (request, result) -> emitted.add(request));
+
+    calls.get(3).complete("3");
+    calls.get(1).complete("1");
+    assertTrue(emitted.isEmpty());
+    calls.get(0).complete("0");
+    assertEquals(List.of(0, 1), emitted);
+    calls.get(2).complete("2");
+
+    done.join();
+    assertEquals(List.of(0, 1, 2, 3), emitted);
+  }
+
+  @Test
+  void completionOrder_emitsAsCompleted() {
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    List<Integer> emitted = new ArrayList<>();
+
+    CompletableFuture<Void> done = RequestPipeline.run(range(3), 3, EmitOrder.COMPLETION_ORDER, request -> {
+      CompletableFuture<String> call = new CompletableFuture<>();
+      calls.add(call);
+      return call;
+    }, (request, result) -> emitted.add(request));
+
+    calls.get(2).complete("2");
+    calls.get(0).complete("0");
+    calls.get(1).complete("1");
+
+    done.join();
+    assertEquals(List.of(2, 0, 1), emitted);
+  }
+
+  @Test
+  void completedFutures_doNotGrowStack() {
+    List<Integer> emitted = new ArrayList<>();
+
+    RequestPipeline.run(range(100_000), 4, EmitOrder.INPUT_ORDER,
+        request -> CompletableFuture.completedFuture(request), (request, result) -> emitted.add(result))
+        .orTimeout(30, TimeUnit.SECONDS)
+        .join();
+
+    assertEquals(100_000, emitted.size());
+    assertEquals(99_999, emitted.get(99_999));
+  }
+
+  @Test
+  void inputOrder_startsAtMostWindowAheadOfNextEmit() {
+    CompletableFuture<String> head = new CompletableFuture<>();
+    List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+
+    CompletableFuture<Void> done = RequestPipeline.run(range(10), 3, EmitOrder.INPUT_ORDER, request -> {
+      started.add(request);
+      return request == 0 ? head : CompletableFuture.completedFuture("r" + request);
+    }, (request, result) -> {
+    });
+
+    // 첫 요청이 끝나지 않으면 결과를 보관할 수 있는 window개까지만 시작
+    assertEquals(List.of(0, 1, 2), started);
+    assertFalse(done.isDone());
+
+    head.complete("r0");
+    done.join();
+    assertEquals(range(10), started);
+  }
+
+  @Test
+  void callbackError_completesDoneExceptionally() {
+    Error error = new Error("callback failed");
+    List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+
+    CompletableFuture<Void> done = RequestPipeline.run(range(5), 2, EmitOrder.COMPLETION_ORDER, request -> {
+      started.add(request);
+      return CompletableFuture.completedFuture("r" + request);
+    }, (request, result) -> {
+      throw error;
+    });
+
+    CompletionException thrown = assertThrows(CompletionException.class,
+        () -> done.orTimeout(5, TimeUnit.SECONDS).join());
+    assertSame(error, thrown.getCause());
+    assertEquals(List.of(0), started);
+  }
+
+  @Test
+  void failedCall_completesDoneExceptionally() {
+    IllegalStateException failure = new IllegalStateException("call failed");
+    CompletableFuture<String> pending = new CompletableFuture<>();
+
+    CompletableFuture<Void> done = RequestPipeline.run(range(3), 2, EmitOrder.INPUT_ORDER,
+        request -> request == 0 ? pending : CompletableFuture.completedFuture("r" + request),
+        (request, result) -> {
+        });
+    pending.completeExceptionally(failure);
+
+    CompletionException thrown = assertThrows(CompletionException.class,
+        () -> done.orTimeout(5, TimeUnit.SECONDS).join());
+    assertSame(failure, thrown.getCause());
+  }
+}
@@ -0,0 +1,141 @@
+package kr.go.law.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.request.StatuteContentRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight();
+
+  @Test
+  void concurrentCalls_shareOneSource() {
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> source = new CompletableFuture<>();
+
+    CompletableFuture<String> first = singleFlight.executeAsync("k", () -> {
+      calls.incrementAndGet();
+      return source;
+    });
+    CompletableFuture<String> second = singleFlight.executeAsync("k", () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture("other");
+    });
+
+    assertNotSame(first, second);
+    source.complete("ok");
+    assertEquals("ok", first.join());
+    assertEquals("ok", second.join());
+    assertEquals(1, calls.get());
+    assertEquals(0, singleFlight.size());
+  }
+
+  @Test
+  void cancellingOneSubscriber_keepsSharedCall() {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> leader = singleFlight.executeAsync("k", () -> source);
+    CompletableFuture<String> follower = singleFlight.executeAsync("k", () -> source);
+
+    leader.cancel(true);
+
+    assertFalse(source.isCancelled());
+    source.complete("ok");
+    assertEquals("ok", follower.join());
+  }
+
+  @Test
+  void cancellingAllSubscribers_cancelsSource() {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> leader = singleFlight.executeAsync("k", () -> source);
+    CompletableFuture<String> follower = singleFlight.executeAsync("k", () -> source);
+
+    follower.cancel(true);
+    assertFalse(source.isCancelled());
+    leader.cancel(true);
+
+    assertTrue(source.isCancelled());
+    assertEquals(0, singleFlight.size());
+
+    // 버려진 호출은 공유하지 않고 새로 시작
+    CompletableFuture<String> next = singleFlight.executeAsync("k", () -> CompletableFuture.completedFuture("new"));
+    assertEquals("new", next.join());
+  }
+
+  @Test
+  void syncWaiter_preventsCancellation() throws InterruptedException {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> leader = singleFlight.executeAsync("k", () -> source);
+
+    CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> singleFlight.execute("k", () -> "other"));
+    Thread.sleep(100);
+    leader.cancel(true);
+
+    assertFalse(source.isCancelled());
+    source.complete("ok");
+    assertEquals("ok", waiter.join());
+  }
+
+  @Test
+  void failedSource_failsAllSubscribersAndClearsKey() {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> leader = singleFlight.executeAsync("k", () -> source);
+    CompletableFuture<String> follower = singleFlight.executeAsync("k", () -> source);
+
+    source.completeExceptionally(new IllegalStateException("boom"));
+
+    assertTrue(leader.isCompletedExceptionally());
+    assertTrue(follower.isCompletedExceptionally());
+    assertEquals(0, singleFlight.size());
+  }
+
+  @Test
+  void cancellingAllCoalescedCallers_cancelsHttpCall() throws IOException, InterruptedException {
+    try (MockWebServer server = new MockWebServer()) {
+      server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(5, TimeUnit.SECONDS));
+      server.start();
+      OkHttpClient.Builder builder = new OkHttpClient.Builder();
+      builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+          .url(chain.request().url().newBuilder()
+              .scheme("http").host(server.getHostName()).port(server.getPort()).build())
+          .build()));
+      OkHttpClient okHttpClient = builder.build();
+      StatuteApiClient api = new StatuteApiClient(LawOpenDataProperties.builder().oc("test").build(),
+          new ObjectMapper(), okHttpClient);
+
+      StatuteContentRequest request = StatuteContentRequest.builder().mst(1).build();
+      CompletableFuture<ContentApiResult<StatuteContentDto>> first = api.getContentAsync(request);
+      CompletableFuture<ContentApiResult<StatuteContentDto>> second = api.getContentAsync(request);
+      server.takeRequest(1, TimeUnit.SECONDS);
+
+      first.cancel(true);
+      assertEquals(1, okHttpClient.dispatcher().runningCallsCount());
+      second.cancel(true);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+      while (okHttpClient.dispatcher().runningCallsCount() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(0, okHttpClient.dispatcher().runningCallsCount());
+      assertEquals(1, server.getRequestCount());
+    }
+  }
+}
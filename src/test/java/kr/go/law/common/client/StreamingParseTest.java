@@ -0,0 +1,111 @@
+package kr.go.law.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.ParseMode;
+import kr.go.law.statute.request.StatuteContentRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class StreamingParseTest {
+
+  private static final String BODY = "{\"법령\":{\"기본정보\":{\"법령명_한글\":\"민법\"}}}";
+
+  private MockWebServer server;
+  private ExecutorService parseExecutor;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+    parseExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-parse"));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    parseExecutor.shutdownNow();
+    server.shutdown();
+  }
+
+  @Test
+  void asyncStreaming_parsesOnParseExecutor() {
+    server.enqueue(new MockResponse().setBody(BODY));
+    ByteArrayOutputStream sinkBytes = new ByteArrayOutputStream();
+    LawOpenDataProperties properties = LawOpenDataProperties.builder()
+        .oc("test")
+        .parseMode(ParseMode.STREAMING)
+        .rawDataSink(url -> sinkBytes)
+        .build();
+    AtomicReference<String> parseThread = new AtomicReference<>();
+
+    ContentApiResult<String> result = new TestClient(properties, redirectTo())
+        .get(tree -> {
+          parseThread.set(Thread.currentThread().getName());
+          return tree.path("법령").path("기본정보").path("법령명_한글").asText();
+        }, parseExecutor)
+        .join();
+
+    assertEquals("민법", result.content().orElseThrow());
+    assertEquals("test-parse", parseThread.get());
+    assertNull(result.rawData());
+    assertEquals(BODY, sinkBytes.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void asyncStreaming_emptyBodyIsEmptyResult() {
+    server.enqueue(new MockResponse().setBody(""));
+    LawOpenDataProperties properties = LawOpenDataProperties.builder()
+        .oc("test")
+        .parseMode(ParseMode.STREAMING)
+        .build();
+
+    ContentApiResult<String> result = new TestClient(properties, redirectTo())
+        .get(tree -> tree.toString(), parseExecutor)
+        .join();
+
+    assertTrue(result.content().isEmpty());
+  }
+
+  /** executeContentApiAsync 호출용 클라이언트 */
+  static class TestClient extends BaseApiClient {
+    TestClient(LawOpenDataProperties properties, OkHttpClient client) {
+      super(properties, new ObjectMapper(), client);
+    }
+
+    CompletableFuture<ContentApiResult<String>> get(Function<JsonNode, String> parser, ExecutorService executor) {
+      return executeContentApiAsync(StatuteContentRequest.builder().mst(1).build(), "lawService.do", parser, "test",
+          executor);
+    }
+  }
+
+  /** API 호스트 대신 MockWebServer로 요청을 보내는 클라이언트 */
+  private OkHttpClient redirectTo() {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder()
+            .scheme("http").host(server.getHostName()).port(server.getPort()).build())
+        .build()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,128 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Request;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final Request REQUEST = new Request.Builder().url("http://example.com/").build();
+  private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 20, 0.5, 2.0);
+
+  /** 권한 획득 후 지정한 지연으로 성공 처리 */
+  private void succeed(AdaptiveConcurrencyLimiter.HostLimit host, long latencyNanos) throws IOException {
+    host.acquire(REQUEST, Long.MAX_VALUE, () -> false);
+    host.onSuccess(REQUEST, latencyNanos);
+  }
+
+  @Test
+  void latencySpike_decreasesLimitOnce() throws IOException {
+    AdaptiveConcurrencyLimiter.HostLimit host = limiter.hostLimit("a");
+    for (int i = 0; i < 5; i++) {
+      succeed(host, 10 * MS);
+    }
+    int before = host.getLimit();
+
+    succeed(host, 100 * MS);
+    succeed(host, 100 * MS);
+
+    // 감소 간격 안의 두 번째 급증은 다시 줄이지 않음
+    assertEquals((int) (before * 0.5), host.getLimit());
+  }
+
+  @Test
+  void sustainedSlowdown_movesBaselineInsteadOfLockingLimit() throws IOException {
+    AdaptiveConcurrencyLimiter.HostLimit host = limiter.hostLimit("a");
+    for (int i = 0; i < 5; i++) {
+      succeed(host, 10 * MS);
+    }
+    for (int i = 0; i < 50; i++) {
+      succeed(host, 100 * MS);
+    }
+
+    Duration baseline = host.getBaselineLatency();
+    assertTrue(baseline.toMillis() > 50, "baseline " + baseline);
+
+    // 새 지연 수준에서는 더 이상 급증으로 보지 않음
+    int limit = host.getLimit();
+    succeed(host, 100 * MS);
+    assertTrue(host.getLimit() >= limit);
+  }
+
+  @Test
+  void dropsBeforeBaseline_areRateLimitedByMinimumInterval() {
+    AdaptiveConcurrencyLimiter.HostLimit host = limiter.hostLimit("a");
+
+    host.onDropped(REQUEST, "test");
+    host.onDropped(REQUEST, "test");
+    host.onDropped(REQUEST, "test");
+
+    assertEquals(4, host.getLimit());
+  }
+
+  @Test
+  void limitsAreTrackedPerHost() throws IOException {
+    AdaptiveConcurrencyLimiter.HostLimit slow = limiter.hostLimit("nts");
+    slow.onDropped(REQUEST, "test");
+
+    assertEquals(4, limiter.getLimit("nts"));
+    assertEquals(8, limiter.getLimit("www.law.go.kr"));
+
+    AdaptiveConcurrencyLimiter small = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0);
+    small.hostLimit("nts").acquire(REQUEST, Long.MAX_VALUE, () -> false);
+    // 다른 호스트는 대기 없이 진행
+    small.hostLimit("www.law.go.kr").acquire(REQUEST, MS, () -> false);
+    assertEquals(1, small.getInFlight("www.law.go.kr"));
+  }
+
+  @Test
+  void acquire_timesOutWhenLimitIsFull() throws IOException {
+    AdaptiveConcurrencyLimiter.HostLimit host = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0).hostLimit("a");
+    host.acquire(REQUEST, Long.MAX_VALUE, () -> false);
+
+    long start = System.nanoTime();
+    assertThrows(InterruptedIOException.class, () -> host.acquire(REQUEST, 50 * MS, () -> false));
+    assertTrue(System.nanoTime() - start < 1000 * MS);
+  }
+
+  @Test
+  void acquire_stopsWhenCallIsCanceled() throws IOException {
+    AdaptiveConcurrencyLimiter.HostLimit host = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0).hostLimit("a");
+    host.acquire(REQUEST, Long.MAX_VALUE, () -> false);
+
+    IOException e = assertThrows(IOException.class, () -> host.acquire(REQUEST, Long.MAX_VALUE, () -> true));
+    assertTrue(e.getMessage().startsWith("Canceled"));
+    assertEquals(1, host.getInFlight());
+  }
+
+  @Test
+  void release_wakesWaiter() throws Exception {
+    AdaptiveConcurrencyLimiter.HostLimit host = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0).hostLimit("a");
+    host.acquire(REQUEST, Long.MAX_VALUE, () -> false);
+
+    Thread waiter = new Thread(() -> {
+      try {
+        host.acquire(REQUEST, Long.MAX_VALUE, () -> false);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    waiter.start();
+    Thread.sleep(20);
+    host.onSuccess(REQUEST, MS);
+    waiter.join(1000);
+
+    assertEquals(1, host.getInFlight());
+  }
+}
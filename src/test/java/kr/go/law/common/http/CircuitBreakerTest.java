@@ -0,0 +1,112 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+
+  @Test
+  void consecutiveFailures_openCircuit() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_DURATION, 1);
+
+    breaker.onFailure();
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void success_resetsFailureCount() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_DURATION, 1);
+
+    breaker.onFailure();
+    breaker.onFailure();
+    breaker.onSuccess();
+    breaker.onFailure();
+    breaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals(2, breaker.getConsecutiveFailures());
+  }
+
+  @Test
+  void openCircuit_failsFastWithoutCalling() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1), 1);
+    breaker.onFailure();
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(CircuitOpenException.class, () -> breaker.execute(() -> calls.incrementAndGet()));
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  void halfOpen_allowsLimitedTrialCalls() throws InterruptedException {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_DURATION, 2);
+    breaker.onFailure();
+    Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquirePermission());
+    assertTrue(breaker.tryAcquirePermission());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void halfOpenSuccess_closesCircuit() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_DURATION, 1);
+    breaker.onFailure();
+    Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+    assertEquals("ok", breaker.execute(() -> "ok"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals(0, breaker.getConsecutiveFailures());
+  }
+
+  @Test
+  void halfOpenFailure_reopensCircuit() throws InterruptedException {
+    CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_DURATION, 1);
+    breaker.onFailure();
+    breaker.onFailure();
+    breaker.onFailure();
+    Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+    assertThrows(IOException.class, () -> breaker.execute(() -> {
+      throw new IOException("boom");
+    }));
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void executeAsync_recordsOutcomeOnCompletion() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1), 1);
+    CompletableFuture<String> pending = new CompletableFuture<>();
+
+    CompletableFuture<String> result = breaker.executeAsync(() -> pending);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+    pending.completeExceptionally(new IOException("boom"));
+    assertThrows(CompletionException.class, result::join);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> breaker.executeAsync(() -> CompletableFuture.completedFuture("ok")).join());
+    assertInstanceOf(CircuitOpenException.class, e.getCause());
+  }
+}
@@ -0,0 +1,101 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class HostBulkheadTest {
+
+  private final HostBulkhead bulkhead = new HostBulkhead(2);
+
+  @Test
+  void executeAsync_queuesBeyondLimitWithoutThreads() {
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      CompletableFuture<String> call = new CompletableFuture<>();
+      calls.add(call);
+      results.add(bulkhead.executeAsync("a", () -> call));
+    }
+    assertEquals(0, bulkhead.getAvailablePermits("a"));
+
+    // 다른 호스트는 영향을 받지 않음
+    assertEquals("b", bulkhead.executeAsync("b", () -> CompletableFuture.completedFuture("b")).join());
+
+    // 먼저 들어온 순서대로 허가를 넘겨받음
+    calls.get(0).complete("0");
+    assertEquals("0", results.get(0).join());
+    assertFalse(results.get(3).isDone());
+    calls.forEach(call -> call.complete("done"));
+    results.forEach(CompletableFuture::join);
+    assertEquals(2, bulkhead.getAvailablePermits("a"));
+  }
+
+  @Test
+  void executeAsync_cancelledWaiterLeavesQueue() {
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    bulkhead.executeAsync("a", () -> first);
+    bulkhead.executeAsync("a", () -> second);
+
+    int[] started = new int[1];
+    CompletableFuture<String> waiting = bulkhead.executeAsync("a", () -> {
+      started[0]++;
+      return CompletableFuture.completedFuture("late");
+    });
+    waiting.cancel(true);
+
+    first.complete("1");
+    second.complete("2");
+    assertEquals(0, started[0]);
+    assertEquals(2, bulkhead.getAvailablePermits("a"));
+  }
+
+  @Test
+  void executeAsync_immediatelyFailingWaitersDoNotRecurse() {
+    HostBulkhead single = new HostBulkhead(1);
+    CompletableFuture<String> blocker = new CompletableFuture<>();
+    single.executeAsync("a", () -> blocker);
+
+    List<CompletableFuture<String>> waiters = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      waiters.add(single.executeAsync("a", () -> CompletableFuture.failedFuture(new IOException("open"))));
+    }
+    blocker.complete("ok");
+
+    assertTrue(waiters.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+    assertEquals(1, single.getAvailablePermits("a"));
+  }
+
+  @Test
+  void execute_syncCallerWaitsForAsyncPermit() throws Exception {
+    HostBulkhead single = new HostBulkhead(1);
+    CompletableFuture<String> async = new CompletableFuture<>();
+    single.executeAsync("a", () -> async);
+
+    CountDownLatch done = new CountDownLatch(1);
+    Thread sync = new Thread(() -> {
+      try {
+        single.execute("a", () -> "sync");
+        done.countDown();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    sync.start();
+
+    assertFalse(done.await(100, TimeUnit.MILLISECONDS));
+    async.complete("async");
+    assertTrue(done.await(1, TimeUnit.SECONDS));
+    assertEquals(1, single.getAvailablePermits("a"));
+  }
+}
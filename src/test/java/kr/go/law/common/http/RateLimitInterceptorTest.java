@@ -0,0 +1,117 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.config.RateLimitMode;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class RateLimitInterceptorTest {
+
+  private static final HttpUrl LIMITED = HttpUrl.get("http://limited.example.com/");
+
+  private MockWebServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void reserve_returnsWaitOnlyForLimitedHost() throws IOException {
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(0, 1, Map.of("limited.example.com", 10.0),
+        RateLimitMode.WAIT, Duration.ofSeconds(1));
+
+    assertEquals(0, interceptor.reserve(LIMITED));
+    long wait = interceptor.reserve(LIMITED);
+    assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(80) && wait <= TimeUnit.MILLISECONDS.toNanos(100), "wait " + wait);
+    // 제한이 없는 호스트는 대기하지 않음
+    assertEquals(0, interceptor.reserve(HttpUrl.get("http://other.example.com/")));
+  }
+
+  @Test
+  void reserve_throwsWhenWaitExceedsMaxOrFailFast() throws IOException {
+    RateLimitInterceptor wait = new RateLimitInterceptor(1, 1, Map.of(), RateLimitMode.WAIT, Duration.ofMillis(10));
+    wait.reserve(LIMITED);
+    assertThrows(RateLimitExceededException.class, () -> wait.reserve(LIMITED));
+
+    RateLimitInterceptor failFast = new RateLimitInterceptor(1, 1, Map.of(), RateLimitMode.FAIL_FAST, null);
+    assertEquals(0, failFast.reserve(LIMITED));
+    RateLimitExceededException e = assertThrows(RateLimitExceededException.class, () -> failFast.reserve(LIMITED));
+    assertEquals("limited.example.com", e.getHost());
+  }
+
+  @Test
+  void reservedRequest_doesNotConsumeTokenAgain() throws IOException {
+    OkHttpClient client = client(new RateLimitInterceptor(1, 1, Map.of(), RateLimitMode.FAIL_FAST, null));
+    server.enqueue(new MockResponse().setBody("a"));
+    server.enqueue(new MockResponse().setBody("b"));
+
+    Request reserved = new Request.Builder().url(server.url("/"))
+        .tag(RateLimitInterceptor.Reserved.class, RateLimitInterceptor.Reserved.INSTANCE)
+        .build();
+    try (Response response = client.newCall(reserved).execute()) {
+      assertEquals("a", response.body().string());
+    }
+    // 태그가 없는 요청은 아직 남아 있는 버스트 토큰을 사용
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+      assertEquals("b", response.body().string());
+    }
+  }
+
+  @Test
+  void waitingCall_stopsWhenCanceled() throws Exception {
+    OkHttpClient client = client(new RateLimitInterceptor(0.5, 1, Map.of(), RateLimitMode.WAIT, Duration.ofSeconds(10)));
+    server.enqueue(new MockResponse().setBody("first"));
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+      assertEquals("first", response.body().string());
+    }
+
+    // 다음 토큰은 약 2초 뒤: 대기 중 취소하면 바로 중단
+    Call waiting = client.newCall(new Request.Builder().url(server.url("/")).build());
+    CompletableFuture<Response> result = CompletableFuture.supplyAsync(() -> {
+      try {
+        return waiting.execute();
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    });
+    Thread.sleep(100);
+    long canceledAt = System.nanoTime();
+    waiting.cancel();
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> result.orTimeout(5, TimeUnit.SECONDS).join());
+    assertTrue(e.getCause() instanceof IOException, String.valueOf(e.getCause()));
+    assertTrue(System.nanoTime() - canceledAt < TimeUnit.MILLISECONDS.toNanos(500));
+    assertEquals(1, server.getRequestCount());
+  }
+
+  private static OkHttpClient client(RateLimitInterceptor interceptor) {
+    return new OkHttpClient.Builder().addInterceptor(interceptor).build();
+  }
+}
@@ -0,0 +1,61 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+  @Test
+  void withdraw_isLimitedByBalance() {
+    RetryBudget budget = new RetryBudget(0, 0, 2);
+
+    assertTrue(budget.tryWithdraw());
+    assertTrue(budget.tryWithdraw());
+    assertFalse(budget.tryWithdraw());
+  }
+
+  @Test
+  void requests_depositRatio() {
+    RetryBudget budget = new RetryBudget(0.5, 0, 2);
+    budget.tryWithdraw();
+    budget.tryWithdraw();
+
+    budget.onRequest();
+    assertFalse(budget.tryWithdraw());
+    budget.onRequest();
+    assertTrue(budget.tryWithdraw());
+  }
+
+  @Test
+  void balance_isCappedAtMax() {
+    RetryBudget budget = new RetryBudget(1, 0, 3);
+    for (int i = 0; i < 10; i++) {
+      budget.onRequest();
+    }
+    assertEquals(3, budget.getBalance(), 1e-9);
+  }
+
+  @Test
+  void emptyBudget_stopsPolicyRetries() {
+    RetryBudget budget = new RetryBudget(0, 0, 1);
+    RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(5), budget);
+
+    assertTrue(policy.nextDelay(1, 503, null) != null);
+    assertNull(policy.nextDelay(2, 503, null));
+  }
+
+  @Test
+  void policy_honorsRetryAfterAndMaxRetries() {
+    RetryPolicy policy = new RetryPolicy(2, Duration.ofMillis(1), Duration.ofSeconds(10), null);
+
+    assertEquals(Duration.ofSeconds(3), policy.nextDelay(1, 429, "3"));
+    assertEquals(Duration.ofSeconds(10), policy.nextDelay(1, 429, "60"));
+    assertNull(policy.nextDelay(3, 503, null));
+  }
+}
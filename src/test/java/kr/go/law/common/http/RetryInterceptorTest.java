@@ -0,0 +1,111 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.config.RateLimitMode;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.request.StatuteContentRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class RetryInterceptorTest {
+
+  private MockWebServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  /** 재시도 3회, 속도 제한 FAIL_FAST(버스트 1, 사실상 재충전 없음) */
+  private OkHttpClient failFastClient() {
+    return new OkHttpClient.Builder()
+        .addInterceptor(new RetryInterceptor(new RetryPolicy(3, Duration.ofMillis(500), Duration.ofSeconds(2), null)))
+        .addInterceptor(new RateLimitInterceptor(0.001, 1, Map.of(), RateLimitMode.FAIL_FAST, null))
+        .build();
+  }
+
+  @Test
+  void failFastRateLimit_isNotRetried() throws IOException {
+    server.enqueue(new MockResponse().setBody("ok"));
+    OkHttpClient client = failFastClient();
+    Request request = new Request.Builder().url(server.url("/")).build();
+
+    try (Response response = client.newCall(request).execute()) {
+      assertEquals(200, response.code());
+    }
+
+    long start = System.nanoTime();
+    assertThrows(RateLimitExceededException.class, () -> client.newCall(request).execute());
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    assertEquals(1, server.getRequestCount());
+    assertTrue(elapsedMs < 200, "FAIL_FAST waited " + elapsedMs + "ms");
+  }
+
+  @Test
+  void failFastRateLimit_isNotRetriedAsync() {
+    server.enqueue(new MockResponse().setBody("{\"법령\":{}}"));
+    StatuteApiClient api = new StatuteApiClient(LawOpenDataProperties.builder().oc("test").build(),
+        new ObjectMapper(), redirectTo(failFastClient()));
+
+    assertTrue(api.getContentAsync(StatuteContentRequest.builder().mst(1).build()).join().content().isPresent());
+
+    long start = System.nanoTime();
+    ContentApiResult<StatuteContentDto> limited = api.getContentAsync(StatuteContentRequest.builder().mst(2).build())
+        .join();
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    assertTrue(limited.hasError());
+    assertEquals(1, server.getRequestCount());
+    assertTrue(elapsedMs < 200, "FAIL_FAST waited " + elapsedMs + "ms");
+  }
+
+  @Test
+  void serverError_isRetried() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("ok"));
+    OkHttpClient client = new OkHttpClient.Builder()
+        .addInterceptor(new RetryInterceptor(new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), null)))
+        .build();
+
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+      assertEquals(200, response.code());
+    }
+    assertEquals(2, server.getRequestCount());
+  }
+
+  /** API 호스트 대신 MockWebServer로 요청을 보내는 클라이언트 */
+  private OkHttpClient redirectTo(OkHttpClient client) {
+    OkHttpClient.Builder builder = client.newBuilder();
+    builder.interceptors().add(0, chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder()
+            .scheme("http").host(server.getHostName()).port(server.getPort()).build())
+        .build()));
+    return builder.build();
+  }
+}
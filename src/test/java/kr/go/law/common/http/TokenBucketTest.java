@@ -0,0 +1,62 @@
+package kr.go.law.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  @Test
+  void tryAcquire_allowsBurstThenRejects() {
+    TokenBucket bucket = new TokenBucket(0.001, 2);
+
+    assertTrue(bucket.tryAcquire());
+    assertTrue(bucket.tryAcquire());
+    assertFalse(bucket.tryAcquire());
+  }
+
+  @Test
+  void reserve_returnsWaitForQueuedPermits() {
+    TokenBucket bucket = new TokenBucket(10, 1);
+
+    assertEquals(0, bucket.reserve(Long.MAX_VALUE));
+    long first = bucket.reserve(Long.MAX_VALUE);
+    long second = bucket.reserve(Long.MAX_VALUE);
+
+    // 초당 10개 → 다음 토큰은 약 100ms, 그다음은 약 200ms 뒤
+    assertTrue(first > TimeUnit.MILLISECONDS.toNanos(80) && first <= TimeUnit.MILLISECONDS.toNanos(100),
+        "first wait " + first);
+    assertTrue(second > TimeUnit.MILLISECONDS.toNanos(180) && second <= TimeUnit.MILLISECONDS.toNanos(200),
+        "second wait " + second);
+  }
+
+  @Test
+  void reserve_rejectsWaitOverMaxWithoutReserving() {
+    TokenBucket bucket = new TokenBucket(10, 1);
+    assertEquals(0, bucket.reserve(Long.MAX_VALUE));
+
+    assertEquals(-1, bucket.reserve(TimeUnit.MILLISECONDS.toNanos(10)));
+    // 거절된 예약은 토큰을 소비하지 않음
+    assertTrue(bucket.reserve(Long.MAX_VALUE) <= TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void refill_restoresTokensOverTime() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(100, 1);
+    assertTrue(bucket.tryAcquire());
+    assertFalse(bucket.tryAcquire());
+
+    Thread.sleep(30);
+    assertTrue(bucket.tryAcquire());
+  }
+
+  @Test
+  void nonPositiveRate_isRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+  }
+}
@@ -0,0 +1,277 @@
+package kr.go.law.common.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.common.util.DateInts;
+import kr.go.law.precedent.request.PrecedentListRequest;
+import kr.go.law.statute.request.StatuteListRequest;
+
+class DateRangePartitionerTest {
+
+  private static final StatuteListRequest REQUEST = StatuteListRequest.builder()
+      .page(1)
+      .display(2)
+      .promulgationDateFrom(20240101)
+      .promulgationDateTo(20240131)
+      .build();
+
+  /**
+   * 날짜(YYYYMMDD) 목록을 데이터로 쓰는 가짜 fetcher
+   * <p>
+   * 요청의 공포일자 범위에 들어가는 날짜를 항목으로, 그 개수를 totalCount로 돌려주며 display 단위로 페이지를 나눕니다.
+   * </p>
+   */
+  private static Function<StatuteListRequest, CompletableFuture<ListApiResult<Integer>>> fake(List<Integer> dates) {
+    return request -> CompletableFuture.supplyAsync(() -> pageOf(dates, request));
+  }
+
+  private static ListApiResult<Integer> pageOf(List<Integer> dates, StatuteListRequest request) {
+    List<Integer> matched = dates.stream()
+        .filter(d -> d >= request.getPromulgationDateFrom() && d <= request.getPromulgationDateTo())
+        .sorted()
+        .toList();
+    int display = request.getDisplay();
+    int from = Math.min(matched.size(), (request.getPage() - 1) * display);
+    return ListApiResult.of(null, matched.subList(from, Math.min(matched.size(), from + display)),
+        matched.size(), request.getPage(), display);
+  }
+
+  @Test
+  void plan_bisectsUntilEachPartitionFitsOrIsSingleDay() {
+    List<Integer> dates = new ArrayList<>(List.of(20240103, 20240110, 20240120, 20240128));
+    dates.addAll(List.of(20240115, 20240115, 20240115, 20240115, 20240115));
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(dates), StatuteListRequest.PROMULGATION_DATE, 2);
+
+    List<DatePartition<StatuteListRequest>> partitions = partitioner.plan(REQUEST)
+        .orTimeout(5, TimeUnit.SECONDS).join();
+
+    assertEquals(dates.size(), partitions.stream().mapToInt(DatePartition::totalCount).sum());
+    for (int i = 1; i < partitions.size(); i++) {
+      assertTrue(partitions.get(i - 1).to() < partitions.get(i).from());
+    }
+    DatePartition<StatuteListRequest> crowded = partitions.stream()
+        .filter(p -> p.totalCount() > 2)
+        .findFirst()
+        .orElseThrow();
+    assertEquals(20240115, crowded.from());
+    assertEquals(20240115, crowded.to());
+    assertEquals(5, crowded.totalCount());
+    assertEquals(20240115, crowded.request().getPromulgationDateFrom());
+    assertEquals(20240115, crowded.request().getPromulgationDateTo());
+  }
+
+  @Test
+  void plan_noItemsYieldsNoPartitions() {
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(List.of()), StatuteListRequest.PROMULGATION_DATE, 2);
+
+    assertTrue(partitioner.plan(REQUEST).orTimeout(5, TimeUnit.SECONDS).join().isEmpty());
+
+    ListApiResult<Integer> all = partitioner.planAndCrawl(REQUEST, 2, null).orTimeout(5, TimeUnit.SECONDS).join();
+    assertFalse(all.hasError());
+    assertTrue(all.items().isEmpty());
+    assertEquals(0, all.totalCount());
+  }
+
+  @Test
+  void plan_probeErrorFailsWithPageFetchException() {
+    List<Integer> dates = List.of(20240103, 20240110, 20240120, 20240128);
+    Function<StatuteListRequest, CompletableFuture<ListApiResult<Integer>>> fetcher = request ->
+        request.getPromulgationDateFrom() > 20240101
+            ? CompletableFuture.completedFuture(ListApiResult.error("{\"error\":true}"))
+            : fake(dates).apply(request);
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fetcher, StatuteListRequest.PROMULGATION_DATE, 1);
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> partitioner.plan(REQUEST).orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(PageFetchException.class, e.getCause());
+
+    ListApiResult<Integer> all = partitioner.planAndCrawl(REQUEST, 2, null).orTimeout(5, TimeUnit.SECONDS).join();
+    assertTrue(all.hasError());
+    assertEquals("{\"error\":true}", all.rawData());
+  }
+
+  @Test
+  void plan_throwingFetcherFailsFuture() {
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner = new DateRangePartitioner<>(
+        request -> {
+          throw new IllegalStateException("boom");
+        }, StatuteListRequest.PROMULGATION_DATE, 2);
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> partitioner.plan(REQUEST).orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  @Test
+  void planAndCrawl_joinsPartitionsInDateOrder() {
+    List<Integer> dates = List.of(20240128, 20240103, 20240120, 20240110, 20240115, 20240105, 20240125);
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(dates), StatuteListRequest.PROMULGATION_DATE, 2);
+
+    ListApiResult<Integer> all = partitioner.planAndCrawl(REQUEST, 3, null).orTimeout(5, TimeUnit.SECONDS).join();
+
+    assertFalse(all.hasError());
+    assertEquals(dates.stream().sorted().toList(), all.items());
+    assertEquals(dates.size(), all.totalCount());
+    assertFalse(all.hasNextPage());
+  }
+
+  @Test
+  void crawl_removesDuplicatesKeepingFirstInPartitionOrder() {
+    List<Integer> dates = List.of(20240103, 20240113, 20240123, 20240104);
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(dates), StatuteListRequest.PROMULGATION_DATE, 10);
+    List<DatePartition<StatuteListRequest>> partitions = List.of(
+        partition(20240101, 20240110, 2),
+        partition(20240111, 20240120, 1),
+        partition(20240121, 20240131, 1));
+
+    // 일(day)의 끝자리가 같으면 같은 항목으로 간주: 20240113, 20240123은 20240103의 중복
+    ListApiResult<Integer> all = partitioner.crawl(partitions, 3, item -> item % 10)
+        .orTimeout(5, TimeUnit.SECONDS).join();
+
+    assertEquals(List.of(20240103, 20240104), all.items());
+    assertEquals(4, all.totalCount());
+  }
+
+  @Test
+  void crawl_partitionFailureCompletesWithError() {
+    List<Integer> dates = List.of(20240103, 20240113, 20240123);
+    Function<StatuteListRequest, CompletableFuture<ListApiResult<Integer>>> fetcher = request ->
+        request.getPromulgationDateFrom() == 20240111
+            ? CompletableFuture.failedFuture(new IllegalStateException("boom"))
+            : fake(dates).apply(request);
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fetcher, StatuteListRequest.PROMULGATION_DATE, 10);
+
+    ListApiResult<Integer> all = partitioner.crawl(List.of(
+        partition(20240101, 20240110, 1),
+        partition(20240111, 20240120, 1),
+        partition(20240121, 20240131, 1)), 1, null)
+        .orTimeout(5, TimeUnit.SECONDS).join();
+
+    assertTrue(all.hasError());
+  }
+
+  @Test
+  void crawl_noPartitionsCompletesEmpty() {
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(List.of()), StatuteListRequest.PROMULGATION_DATE, 10);
+
+    ListApiResult<Integer> all = partitioner.crawl(List.of(), 4, null).join();
+
+    assertFalse(all.hasError());
+    assertTrue(all.items().isEmpty());
+    assertEquals(0, all.totalCount());
+  }
+
+  @Test
+  void crawl_callbackExceptionCompletesExceptionally() {
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner =
+        new DateRangePartitioner<>(fake(List.of(20240103)), StatuteListRequest.PROMULGATION_DATE, 10);
+
+    CompletableFuture<ListApiResult<Integer>> future = partitioner.crawl(
+        List.of(partition(20240101, 20240131, 1)), 1, item -> {
+          throw new IllegalStateException("bad key");
+        });
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  @Test
+  void crawl_nullItemsStillCompletes() {
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner = new DateRangePartitioner<>(
+        request -> CompletableFuture.supplyAsync(() -> ListApiResult.<Integer>of(null, null, 1, 1, 10)),
+        StatuteListRequest.PROMULGATION_DATE, 10);
+
+    CompletableFuture<ListApiResult<Integer>> future =
+        partitioner.crawl(List.of(partition(20240101, 20240131, 1)), 1, null);
+
+    assertTrue(future.orTimeout(5, TimeUnit.SECONDS).join().hasError());
+  }
+
+  @Test
+  void crawl_completedFuturesDoNotGrowStack() {
+    int days = 20_000;
+    List<DatePartition<StatuteListRequest>> partitions = IntStream.range(0, days)
+        .mapToObj(i -> DateInts.plusDays(19000101, i))
+        .map(day -> partition(day, day, 1))
+        .toList();
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner = new DateRangePartitioner<>(
+        request -> CompletableFuture.completedFuture(
+            ListApiResult.of(null, List.of(request.getPromulgationDateFrom()), 1, 1, 10)),
+        StatuteListRequest.PROMULGATION_DATE, 10);
+
+    ListApiResult<Integer> all = partitioner.crawl(partitions, 1, null).orTimeout(10, TimeUnit.SECONDS).join();
+
+    assertEquals(days, all.items().size());
+    assertEquals(DateInts.plusDays(19000101, days - 1), all.items().get(days - 1));
+  }
+
+  @Test
+  void dateRangeField_replacesRangeAndResetsPage() {
+    StatuteListRequest statute = REQUEST.toBuilder().page(7).promulgationDate(20240105).build();
+
+    StatuteListRequest ranged = StatuteListRequest.PROMULGATION_DATE.withRange(statute, 20240201, 20240210);
+    assertEquals(1, ranged.getPage());
+    assertNull(ranged.getPromulgationDate());
+    assertEquals(20240201, StatuteListRequest.PROMULGATION_DATE.from(ranged));
+    assertEquals(20240210, StatuteListRequest.PROMULGATION_DATE.to(ranged));
+    assertEquals(2, ranged.getDisplay());
+
+    StatuteListRequest effective = StatuteListRequest.EFFECTIVE_DATE.withRange(statute, 20240301, 20240331);
+    assertEquals(20240301, effective.getEffectiveDateFrom());
+    assertEquals(20240331, effective.getEffectiveDateTo());
+    assertEquals(20240101, effective.getPromulgationDateFrom());
+
+    PrecedentListRequest precedent = PrecedentListRequest.builder().page(3).decisionDate(20200101).build();
+    assertNull(PrecedentListRequest.DECISION_DATE.from(precedent));
+    PrecedentListRequest decided = PrecedentListRequest.DECISION_DATE.withRange(precedent, 20200101, 20201231);
+    assertEquals(1, decided.getPage());
+    assertNull(decided.getDecisionDate());
+    assertEquals(20200101, decided.getDecisionDateFrom());
+    assertEquals(20201231, decided.getDecisionDateTo());
+  }
+
+  @Test
+  void plan_openRangeUsesMinAndMaxDate() {
+    List<StatuteListRequest> probes = new ArrayList<>();
+    DateRangePartitioner<StatuteListRequest, Integer> partitioner = new DateRangePartitioner<>(
+        request -> {
+          probes.add(request);
+          return CompletableFuture.completedFuture(ListApiResult.<Integer>of(null, List.of(), 0, 1, 10));
+        }, StatuteListRequest.PROMULGATION_DATE, 10, 20200101, 20201231);
+
+    partitioner.plan(StatuteListRequest.builder().page(1).build()).join();
+
+    assertEquals(1, probes.size());
+    assertEquals(20200101, probes.get(0).getPromulgationDateFrom());
+    assertEquals(20201231, probes.get(0).getPromulgationDateTo());
+  }
+
+  private static DatePartition<StatuteListRequest> partition(int from, int to, int totalCount) {
+    return new DatePartition<>(StatuteListRequest.PROMULGATION_DATE.withRange(REQUEST, from, to), from, to,
+        totalCount);
+  }
+}
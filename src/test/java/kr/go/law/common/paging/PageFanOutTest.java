@@ -0,0 +1,99 @@
+package kr.go.law.common.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.statute.request.StatuteListRequest;
+
+class PageFanOutTest {
+
+  private static final StatuteListRequest FIRST = StatuteListRequest.builder().page(1).display(2).build();
+
+  /** 페이지 N에 (N*10, N*10+1) 항목을 돌려주는 결과 */
+  private static ListApiResult<Integer> page(int page, int display, int totalCount) {
+    return ListApiResult.of(null, List.of(page * 10, page * 10 + 1), totalCount, page, display);
+  }
+
+  @Test
+  void fanOut_joinsPagesInOrder() {
+    ListApiResult<Integer> result = Paging.fanOut(FIRST,
+        request -> CompletableFuture.supplyAsync(() -> page(request.getPage(), 2, 10)), 3, null)
+        .orTimeout(5, TimeUnit.SECONDS)
+        .join();
+
+    assertFalse(result.hasError());
+    assertEquals(List.of(10, 11, 20, 21, 30, 31, 40, 41, 50, 51), result.items());
+    assertEquals(5, result.page());
+  }
+
+  @Test
+  void fanOut_removesDuplicatesByKey() {
+    ListApiResult<Integer> result = Paging.fanOut(FIRST,
+        request -> CompletableFuture.completedFuture(page(request.getPage(), 2, 6)), 2, item -> item % 10)
+        .join();
+
+    assertEquals(List.of(10, 11), result.items());
+  }
+
+  @Test
+  void fanOut_completedFuturesDoNotGrowStack() {
+    int pages = 50_000;
+    ListApiResult<Integer> result = Paging.fanOut(StatuteListRequest.builder().page(1).display(1).build(),
+        request -> CompletableFuture.completedFuture(
+            ListApiResult.of(null, List.of(request.getPage()), pages, request.getPage(), 1)), 1, null)
+        .orTimeout(10, TimeUnit.SECONDS)
+        .join();
+
+    assertEquals(IntStream.rangeClosed(1, pages).boxed().toList(), result.items());
+  }
+
+  @Test
+  void fanOut_pageFailureCompletesWithError() {
+    ListApiResult<Integer> result = Paging.fanOut(FIRST,
+        request -> request.getPage() == 3
+            ? CompletableFuture.<ListApiResult<Integer>>failedFuture(new IllegalStateException("boom"))
+            : CompletableFuture.completedFuture(page(request.getPage(), 2, 10)), 2, null)
+        .orTimeout(5, TimeUnit.SECONDS)
+        .join();
+
+    assertTrue(result.hasError());
+  }
+
+  @Test
+  void fanOut_errorResultCompletesWithError() {
+    ListApiResult<Integer> result = Paging.fanOut(FIRST,
+        request -> CompletableFuture.supplyAsync(() -> request.getPage() == 2
+            ? ListApiResult.<Integer>error("{}")
+            : page(request.getPage(), 2, 10)), 2, null)
+        .orTimeout(5, TimeUnit.SECONDS)
+        .join();
+
+    assertTrue(result.hasError());
+    assertEquals("{}", result.rawData());
+  }
+
+  @Test
+  void fanOut_callbackExceptionCompletesExceptionally() {
+    CompletableFuture<ListApiResult<Integer>> future = Paging.fanOut(FIRST,
+        request -> CompletableFuture.supplyAsync(() -> page(request.getPage(), 2, 10)), 2,
+        item -> {
+          throw new IllegalStateException("bad key");
+        });
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+}
@@ -0,0 +1,173 @@
+package kr.go.law.common.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.statute.request.StatuteListRequest;
+
+class PageIteratorTest {
+
+  private static final StatuteListRequest FIRST = StatuteListRequest.builder().page(1).display(2).build();
+
+  /** 요청한 페이지를 기록하고, held 페이지는 완료하지 않은 Future로 돌려주는 fetcher */
+  private static class FakeFetcher implements Function<StatuteListRequest, CompletableFuture<ListApiResult<Integer>>> {
+
+    final List<Integer> requested = new CopyOnWriteArrayList<>();
+    final Map<Integer, CompletableFuture<ListApiResult<Integer>>> futures = new ConcurrentHashMap<>();
+    final Set<Integer> held = ConcurrentHashMap.newKeySet();
+    private final IntFunction<CompletableFuture<ListApiResult<Integer>>> responder;
+
+    FakeFetcher(IntFunction<CompletableFuture<ListApiResult<Integer>>> responder) {
+      this.responder = responder;
+    }
+
+    @Override
+    public CompletableFuture<ListApiResult<Integer>> apply(StatuteListRequest request) {
+      int page = request.getPage();
+      requested.add(page);
+      CompletableFuture<ListApiResult<Integer>> future =
+          held.contains(page) ? new CompletableFuture<>() : responder.apply(page);
+      futures.put(page, future);
+      return future;
+    }
+  }
+
+  /** 페이지 N에 (N*10, N*10+1) 항목을 돌려주는 결과 (페이지당 2건) */
+  private static CompletableFuture<ListApiResult<Integer>> page(int page, int totalCount) {
+    return CompletableFuture.completedFuture(
+        ListApiResult.of(null, List.of(page * 10, page * 10 + 1), totalCount, page, 2));
+  }
+
+  @Test
+  void next_keepsPrefetchPagesInFlight() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page(page, 10));
+    PageIterator<StatuteListRequest, Integer> iterator = Paging.iterator(FIRST, fetcher, 2);
+    // 생성 시 첫 페이지만 요청
+    assertEquals(List.of(1), fetcher.requested);
+
+    List<Integer> requestedAfterPage = new ArrayList<>();
+    while (iterator.hasNext()) {
+      iterator.next();
+      requestedAfterPage.add(fetcher.requested.size());
+    }
+
+    // k 페이지를 받은 뒤에는 k + prefetch 페이지까지 요청 (마지막 페이지 5를 넘지 않음)
+    assertEquals(List.of(3, 4, 5, 5, 5), requestedAfterPage);
+    assertEquals(List.of(1, 2, 3, 4, 5), fetcher.requested);
+  }
+
+  @Test
+  void next_withoutPrefetchRequestsOnDemand() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page(page, 6));
+    PageIterator<StatuteListRequest, Integer> iterator = Paging.iterator(FIRST, fetcher, 0);
+
+    assertEquals(1, iterator.next().page());
+    assertEquals(List.of(1), fetcher.requested);
+    assertTrue(iterator.hasNext());
+    assertEquals(2, iterator.next().page());
+    assertEquals(List.of(1, 2), fetcher.requested);
+  }
+
+  @Test
+  void items_stopsAtLastPageFromTotalCount() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page(page, 5));
+
+    List<Integer> items;
+    try (Stream<Integer> stream = Paging.items(FIRST, fetcher, 4)) {
+      items = stream.toList();
+    }
+
+    // totalCount 5 = 3페이지, 4페이지 이후는 요청하지 않음
+    assertEquals(List.of(10, 11, 20, 21, 30, 31), items);
+    assertEquals(List.of(1, 2, 3), fetcher.requested);
+  }
+
+  @Test
+  void items_stopsAtEmptyPageAndCancelsPrefetched() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page <= 2
+        ? page(page, 20)
+        : CompletableFuture.completedFuture(ListApiResult.of(null, List.of(), 20, page, 2)));
+    fetcher.held.add(4);
+
+    List<Integer> items;
+    try (Stream<Integer> stream = Paging.items(FIRST, fetcher, 2)) {
+      items = stream.toList();
+    }
+
+    assertEquals(List.of(10, 11, 20, 21), items);
+    assertEquals(List.of(1, 2, 3, 4), fetcher.requested);
+    assertTrue(fetcher.futures.get(4).isCancelled());
+  }
+
+  @Test
+  void next_errorResultThrowsWithPageNumber() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page == 2
+        ? CompletableFuture.completedFuture(ListApiResult.error("{\"error\":true}"))
+        : page(page, 10));
+    fetcher.held.add(3);
+    PageIterator<StatuteListRequest, Integer> iterator = Paging.iterator(FIRST, fetcher, 2);
+
+    iterator.next();
+    PageFetchException e = assertThrows(PageFetchException.class, iterator::next);
+
+    assertEquals(2, e.getPage());
+    assertEquals("{\"error\":true}", e.getRawData());
+    assertFalse(iterator.hasNext());
+    // 실패 후 미리 요청한 페이지는 취소
+    assertTrue(fetcher.futures.get(3).isCancelled());
+  }
+
+  @Test
+  void next_failedFutureThrowsWithPageNumberAndCause() {
+    IllegalStateException failure = new IllegalStateException("boom");
+    FakeFetcher fetcher = new FakeFetcher(page -> page == 3
+        ? CompletableFuture.failedFuture(failure)
+        : page(page, 10));
+
+    Iterator<ListApiResult<Integer>> iterator = Paging.pages(FIRST, fetcher, 1).iterator();
+    iterator.next();
+    iterator.next();
+    PageFetchException e = assertThrows(PageFetchException.class, iterator::next);
+
+    assertEquals(3, e.getPage());
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+    assertEquals("boom", e.getCause().getMessage());
+  }
+
+  @Test
+  void close_cancelsOutstandingPrefetches() {
+    FakeFetcher fetcher = new FakeFetcher(page -> page(page, 20));
+    fetcher.held.addAll(List.of(2, 3, 4));
+
+    Iterator<ListApiResult<Integer>> iterator;
+    try (Stream<ListApiResult<Integer>> pages = Paging.pages(FIRST, fetcher, 3)) {
+      iterator = pages.iterator();
+      assertEquals(1, iterator.next().page());
+      assertEquals(List.of(1, 2, 3, 4), fetcher.requested);
+    }
+
+    assertTrue(fetcher.futures.get(2).isCancelled());
+    assertTrue(fetcher.futures.get(3).isCancelled());
+    assertTrue(fetcher.futures.get(4).isCancelled());
+    assertFalse(iterator.hasNext());
+    assertEquals(List.of(1, 2, 3, 4), fetcher.requested);
+  }
+}
@@ -0,0 +1,111 @@
+package kr.go.law.common.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import kr.go.law.statute.enums.StatuteSection;
+import kr.go.law.statute.parser.StatuteContentParser;
+
+class JsonProjectionTest {
+
+  private static final String JSON = "{\"별표\":\"root\",\"법령\":{"
+      + "\"기본정보\":{\"법령명_한글\":\"민법\",\"별표\":\"nested\"},"
+      + "\"조문\":{\"조문단위\":[{\"조문번호\":\"1\",\"항\":[{\"항번호\":\"①\"}]}]},"
+      + "\"부칙\":{\"부칙단위\":[{\"부칙내용\":[[\"부칙\"]]}]},"
+      + "\"별표\":{\"별표단위\":[{\"별표내용\":[[\"별표\"]]}]},"
+      + "\"개정문\":null},\"기타\":[1,2]}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private JsonNode read(JsonProjection projection, String json) throws IOException {
+    return projection.read(objectMapper, objectMapper.createParser(json));
+  }
+
+  @Test
+  void read_skipsExcludedFieldsAtPathOnly() throws IOException {
+    JsonNode projected = read(JsonProjection.excluding(List.of("법령"), Set.of("별표", "부칙")), JSON);
+
+    ObjectNode expected = (ObjectNode) objectMapper.readTree(JSON);
+    ((ObjectNode) expected.get("법령")).remove(List.of("별표", "부칙"));
+    assertEquals(expected, projected);
+    // 다른 깊이의 같은 이름 필드는 유지
+    assertEquals("root", projected.get("별표").asText());
+    assertEquals("nested", projected.get("법령").get("기본정보").get("별표").asText());
+    assertTrue(projected.get("법령").get("개정문").isNull());
+  }
+
+  @Test
+  void read_emptyPathExcludesRootFields() throws IOException {
+    JsonNode projected = read(JsonProjection.excluding(List.of(), Set.of("법령")), JSON);
+
+    assertFalse(projected.has("법령"));
+    assertEquals(objectMapper.readTree("[1,2]"), projected.get("기타"));
+  }
+
+  @Test
+  void read_pathThatIsNotAnObjectIsReadAsIs() throws IOException {
+    String json = "{\"법령\":[{\"별표\":1}]}";
+
+    assertEquals(objectMapper.readTree(json), read(JsonProjection.excluding(List.of("법령"), Set.of("별표")), json));
+  }
+
+  @Test
+  void read_nonObjectOrEmptyBody() throws IOException {
+    JsonProjection projection = JsonProjection.excluding(List.of("법령"), Set.of("별표"));
+
+    assertNull(read(projection, ""));
+    assertEquals(objectMapper.readTree("[{\"별표\":1}]"), read(projection, "[{\"별표\":1}]"));
+  }
+
+  @Test
+  void read_closesParser() throws IOException {
+    JsonParser parser = objectMapper.createParser(JSON);
+
+    JsonProjection.excluding(List.of("법령"), Set.of("별표")).read(objectMapper, parser);
+
+    assertTrue(parser.isClosed());
+  }
+
+  @Test
+  void key_isIndependentOfExcludedOrder() {
+    JsonProjection a = JsonProjection.excluding(List.of("법령"), new LinkedHashSet<>(List.of("부칙", "별표")));
+    JsonProjection b = JsonProjection.excluding(List.of("법령"), new LinkedHashSet<>(List.of("별표", "부칙")));
+
+    assertEquals(a.key(), b.key());
+    assertEquals(a.key(), a.toString());
+    assertNotEquals(a.key(), JsonProjection.excluding(List.of(), Set.of("별표", "부칙")).key());
+  }
+
+  @Test
+  void statuteProjection_excludesUnrequestedSections() throws IOException {
+    assertNull(StatuteContentParser.projection(EnumSet.allOf(StatuteSection.class)));
+
+    JsonProjection projection = StatuteContentParser.projection(
+        EnumSet.of(StatuteSection.BASIC_INFO, StatuteSection.ARTICLES));
+    JsonNode law = read(projection, JSON).get("법령");
+
+    assertTrue(law.has("기본정보"));
+    assertTrue(law.has("조문"));
+    assertFalse(law.has("부칙"));
+    assertFalse(law.has("별표"));
+    assertFalse(law.has("개정문"));
+    assertEquals(projection.key(), StatuteContentParser.projection(
+        EnumSet.of(StatuteSection.ARTICLES, StatuteSection.BASIC_INFO)).key());
+  }
+}
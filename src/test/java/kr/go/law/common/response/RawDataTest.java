@@ -0,0 +1,54 @@
+package kr.go.law.common.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.config.RawDataRetention;
+
+class RawDataTest {
+
+  private static final String JSON = "{\"법령\":{\"기본정보\":{\"법령명_한글\":\"민법\"}}}";
+
+  @Test
+  void retain_roundTripsEveryRetention() {
+    for (RawDataRetention retention : RawDataRetention.values()) {
+      RawData raw = RawData.retain(JSON, retention);
+      if (retention == RawDataRetention.NONE) {
+        assertNull(raw);
+      } else {
+        assertEquals(JSON, raw.asString(), retention.name());
+        assertEquals(retention, raw.retention());
+      }
+    }
+  }
+
+  @Test
+  void equals_comparesStoredValueWithinRetention() {
+    for (RawDataRetention retention : new RawDataRetention[] {
+        RawDataRetention.FULL, RawDataRetention.COMPRESSED, RawDataRetention.OFF_HEAP }) {
+      RawData a = RawData.retain(JSON, retention);
+      RawData b = RawData.retain(JSON, retention);
+      assertEquals(a, b, retention.name());
+      assertEquals(a.hashCode(), b.hashCode(), retention.name());
+      assertNotEquals(a, RawData.retain(JSON + " ", retention), retention.name());
+    }
+    assertNotEquals(RawData.retain(JSON, RawDataRetention.FULL), RawData.retain(JSON, RawDataRetention.COMPRESSED));
+  }
+
+  @Test
+  void results_keepStringFactoriesAndAccessor() {
+    ContentApiResult<String> content = ContentApiResult.of(null, "본문");
+    ListApiResult<String> list = ListApiResult.of(null, List.of("a"), 1, 1, 20);
+
+    assertNull(content.rawData());
+    assertNull(list.rawData());
+    assertEquals(JSON, ContentApiResult.of(JSON, "본문").rawData());
+    assertEquals(JSON, ContentApiResult.retained(RawData.retain(JSON, RawDataRetention.COMPRESSED), "본문").rawData());
+    assertEquals(ContentApiResult.of(JSON, "본문"), ContentApiResult.of(JSON, "본문"));
+  }
+}
@@ -0,0 +1,162 @@
+package kr.go.law.precedent.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.http.CircuitBreaker;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.precedent.dto.PrecedentContentDto;
+import kr.go.law.precedent.dto.PrecedentListDto;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class PrecedentApiClientTest {
+
+  private static final String COMWEL_HOST = "sanjaecase.comwel.or.kr";
+  private static final String COMWEL_HTML = "<div class=\"info\"><ul><li class=\"item1\">판결 선고</li>"
+      + "<li class=\"item2\">2007. 04. 19</li></ul></div>";
+
+  private MockWebServer server;
+  private final AtomicInteger comwelCalls = new AtomicInteger();
+  /** COMWEL 응답 상태 코드 */
+  private volatile int comwelStatus = 200;
+  /** NTS·COMWEL 응답 지연 */
+  private volatile long slowHostDelayMillis;
+
+  private final AtomicInteger ntsInFlight = new AtomicInteger();
+  private final AtomicInteger ntsMaxInFlight = new AtomicInteger();
+  private final AtomicInteger comwelInFlight = new AtomicInteger();
+  private final AtomicInteger comwelMaxInFlight = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (request.getPath().contains("dataView")) {
+          comwelCalls.incrementAndGet();
+          slow(comwelInFlight, comwelMaxInFlight);
+          return new MockResponse().setResponseCode(comwelStatus).setBody(comwelStatus == 200 ? COMWEL_HTML : "");
+        }
+        if (request.getPath().contains("action.do")) {
+          slow(ntsInFlight, ntsMaxInFlight);
+          return new MockResponse().setBody("{\"status\":\"SUCCESS\",\"data\":{\"ASIQTB002PR01\":"
+              + "{\"dcmDVO\":{\"ntstDcmTtl\":\"국세 사건\",\"ntstDcmCntn\":\"본문\"}}}}");
+        }
+        String id = request.getRequestUrl().queryParameter("ID");
+        return new MockResponse().setBody("{\"PrecService\":{\"판례정보일련번호\":\"" + id
+            + "\",\"사건명\":\"사건" + id + "\",\"사건번호\":\"2005구단1603\",\"법원명\":\"창원지방법원\"}}");
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void getContent_comwelClientErrorDoesNotOpenCircuit() {
+    comwelStatus = 404;
+    PrecedentApiClient client = client(LawOpenDataProperties.builder().oc("test")
+        .circuitBreakerFailureThreshold(2));
+
+    for (int i = 1; i <= 4; i++) {
+      PrecedentContentDto dto = client.getContent(item(i)).content().orElseThrow();
+      assertNull(dto.getDecisionDate());
+    }
+
+    assertEquals(4, comwelCalls.get());
+    assertNotEquals(CircuitBreaker.State.OPEN, client.getCircuitBreakerStates().get(COMWEL_HOST));
+  }
+
+  @Test
+  void getContent_comwelMergeDoesNotMutateCachedContent() {
+    PrecedentApiClient client = client(LawOpenDataProperties.builder().oc("test")
+        .cacheMaxBytes(1024 * 1024));
+
+    PrecedentContentDto merged = client.getContent(item(1)).content().orElseThrow();
+    assertEquals(20070419, merged.getDecisionDate());
+
+    // 같은 본문을 COMWEL 보완 없이 조회하면 캐시된 원래 DTO가 그대로 반환됨
+    PrecedentContentDto cached = client.getContent(1, "대법원").content().orElseThrow();
+    assertNull(cached.getDecisionDate());
+    assertEquals(1, server.getRequestCount() - comwelCalls.get());
+  }
+
+  @Test
+  void getContents_slowHostQueuesWithoutBlockingOtherHosts() {
+    slowHostDelayMillis = 200;
+    PrecedentApiClient client = client(LawOpenDataProperties.builder().oc("test")
+        .maxConcurrentCallsPerHost(1));
+    List<PrecedentListDto> items = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      client.getRouteMemo().learn(i, PrecedentRouteMemo.Route.nts("doc-" + i));
+      items.add(PrecedentListDto.builder().precId(i).dataSource("국세법령정보시스템").build());
+    }
+    for (int i = 5; i <= 7; i++) {
+      items.add(item(i));
+    }
+    items.add(PrecedentListDto.builder().precId(8).dataSource("대법원").build());
+
+    List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    client.getContents(items, (item, result) -> {
+      assertFalse(result.hasError());
+      order.add(item.getPrecId());
+    }).join();
+
+    assertEquals(items.size(), order.size());
+    // 느린 NTS·COMWEL 호출이 대기열에 쌓여도 law.go.kr만 거치는 항목은 먼저 끝남
+    assertEquals(8, order.get(0));
+    assertEquals(1, ntsMaxInFlight.get());
+    assertEquals(1, comwelMaxInFlight.get());
+  }
+
+  private void slow(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(slowHostDelayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private static PrecedentListDto item(int precId) {
+    return PrecedentListDto.builder()
+        .precId(precId)
+        .dataSource("근로복지공단산재판례")
+        .caseNumber("2005구단1603")
+        .courtName("창원지방법원")
+        .build();
+  }
+
+  private PrecedentApiClient client(LawOpenDataProperties.LawOpenDataPropertiesBuilder properties) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder().scheme("http").host(server.getHostName())
+            .port(server.getPort()).build())
+        .build()));
+    return new PrecedentApiClient(properties.build(), new ObjectMapper(), builder.build());
+  }
+}
@@ -0,0 +1,59 @@
+package kr.go.law.precedent.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.precedent.api.PrecedentRouteMemo.Route;
+import kr.go.law.precedent.api.PrecedentRouteMemo.Source;
+
+class PrecedentRouteMemoTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void learn_sameTargetRefreshesLearnedAt() {
+    PrecedentRouteMemo memo = new PrecedentRouteMemo(null, Duration.ofHours(1), objectMapper);
+    long stale = System.currentTimeMillis() - Duration.ofMinutes(59).toMillis();
+    memo.learn(1, new Route(Source.NTS, "doc-1", stale));
+
+    memo.learn(1, Route.nts("doc-1"));
+
+    assertTrue(memo.get(1).orElseThrow().learnedAt() > stale);
+  }
+
+  @Test
+  void get_expiredRouteIsDropped() {
+    PrecedentRouteMemo memo = new PrecedentRouteMemo(null, Duration.ofHours(1), objectMapper);
+    memo.learn(1, new Route(Source.HTML, null, System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+
+    assertFalse(memo.get(1).isPresent());
+    assertEquals(0, memo.size());
+  }
+
+  @Test
+  void close_flushesPendingChanges() throws Exception {
+    Path file = dir.resolve("routes.json");
+    try (PrecedentRouteMemo memo = new PrecedentRouteMemo(file, null, objectMapper)) {
+      memo.learn(1, Route.html());
+      memo.learn(2, Route.nts("doc-2"));
+      assertFalse(Files.exists(file));
+    }
+
+    PrecedentRouteMemo reloaded = new PrecedentRouteMemo(file, null, objectMapper);
+    assertEquals(Source.HTML, reloaded.get(1).orElseThrow().source());
+    assertEquals("doc-2", reloaded.get(2).orElseThrow().ntstDcmId());
+  }
+}
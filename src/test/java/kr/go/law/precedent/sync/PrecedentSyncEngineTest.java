@@ -0,0 +1,200 @@
+package kr.go.law.precedent.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.util.DateInts;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.precedent.api.PrecedentApiClient;
+import kr.go.law.precedent.request.PrecedentListRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class PrecedentSyncEngineTest {
+
+  @TempDir
+  Path tempDir;
+
+  private MockWebServer server;
+  private final Map<String, AtomicInteger> contentCalls = new ConcurrentHashMap<>();
+  /** 페이지별 판례일련번호 (페이지당 2건) */
+  private volatile List<int[]> pages = List.of(new int[] { 1, 2 }, new int[] { 2, 3 });
+  /** 실패 응답할 목록 페이지 (0이면 없음) */
+  private volatile int failingPage;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (request.getRequestUrl().encodedPath().endsWith(LawOpenDataProperties.LIST_PATH)) {
+          String pageParam = request.getRequestUrl().queryParameter("page");
+          int page = pageParam != null ? Integer.parseInt(pageParam) : 1;
+          if (page == failingPage || page > pages.size()) {
+            return new MockResponse().setResponseCode(500);
+          }
+          return new MockResponse().setBody(listBody(pages.get(page - 1), pages.size() * 2));
+        }
+        String id = request.getRequestUrl().queryParameter("ID");
+        contentCalls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+        return new MockResponse().setBody(
+            "{\"PrecService\":{\"사건명\":\"사건" + id + "\",\"선고일자\":\"" + DateInts.today() + "\"}}");
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void sync_fetchesEachNewPrecedentOnce() {
+    PrecedentSyncEngine engine = engine(tempDir.resolve("state.json"));
+    List<Integer> events = new ArrayList<>();
+
+    PrecedentSyncResult first = engine.sync(event -> events.add(event.precId()));
+
+    assertFalse(first.hasError());
+    assertEquals(4, first.listed());
+    assertEquals(List.of(1, 2, 3), events);
+    assertEquals(1, contentCalls.get("2").get());
+
+    PrecedentSyncResult second = engine.sync(event -> events.add(event.precId()));
+    assertEquals(0, second.added());
+    assertEquals(3, events.size());
+  }
+
+  @Test
+  void listFailure_keepsDeliveredPrecedentsButNotWatermark() {
+    failingPage = 2;
+    PrecedentSyncEngine engine = engine(tempDir.resolve("state.json"));
+    List<Integer> events = new ArrayList<>();
+
+    PrecedentSyncResult result = engine.sync(event -> events.add(event.precId()));
+
+    assertTrue(result.hasError());
+    assertEquals(List.of(1, 2), events);
+    PrecedentSyncState state = engine.loadState();
+    assertNull(state.getDecisionDateWatermark());
+    assertEquals(Set.of(1, 2), state.getRecentPrecIds().keySet());
+
+    // 다음 실행은 전달한 판례를 건너뛰고 나머지만 전달
+    failingPage = 0;
+    PrecedentSyncResult retry = engine.sync(event -> events.add(event.precId()));
+    assertFalse(retry.hasError());
+    assertEquals(List.of(1, 2, 3), events);
+    assertEquals(DateInts.today(), engine.loadState().getDecisionDateWatermark());
+  }
+
+  @Test
+  void sync_deliversWhileListingWithinWindow() {
+    List<int[]> many = new ArrayList<>();
+    for (int page = 0; page < 10; page++) {
+      many.add(new int[] { page * 2 + 1, page * 2 + 2 });
+    }
+    pages = many;
+    int window = 2;
+    List<Integer> events = new ArrayList<>();
+    List<Integer> fetchedAtEvent = new ArrayList<>();
+
+    engine(tempDir.resolve("state.json"), window).sync(event -> {
+      events.add(event.precId());
+      fetchedAtEvent.add(contentCalls.values().stream().mapToInt(AtomicInteger::get).sum());
+    });
+
+    assertEquals(IntStream.rangeClosed(1, 20).boxed().toList(), events);
+    for (int i = 0; i < fetchedAtEvent.size(); i++) {
+      // i번째 이벤트 전달 시점에 시작한 본문 조회는 이미 전달한 i건 + window건 이하
+      assertTrue(fetchedAtEvent.get(i) <= i + window, "event " + i + ": " + fetchedAtEvent);
+    }
+  }
+
+  @Test
+  void unreadableState_throwsUncheckedIOException() throws IOException {
+    Path stateFile = Files.createDirectory(tempDir.resolve("state.json"));
+
+    assertThrows(UncheckedIOException.class, () -> engine(stateFile).sync(event -> { }));
+  }
+
+  @Test
+  void stateWithDroppedFields_stillLoads() throws IOException {
+    Path stateFile = tempDir.resolve("state.json");
+    Files.writeString(stateFile, "{\"decisionDateWatermark\":20240101,\"precIdWatermark\":9,"
+        + "\"recentPrecIds\":{\"9\":20240101},\"pendingPrecIds\":{}}");
+
+    PrecedentSyncState state = PrecedentSyncEngine.builder()
+        .stateFile(stateFile)
+        .objectMapper(new ObjectMapper())
+        .build()
+        .loadState();
+
+    assertEquals(20240101, state.getDecisionDateWatermark());
+    assertEquals(Map.of(9, 20240101), state.getRecentPrecIds());
+  }
+
+  private PrecedentSyncEngine engine(Path stateFile) {
+    return engine(stateFile, 4);
+  }
+
+  private PrecedentSyncEngine engine(Path stateFile, int maxConcurrency) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder()
+            .scheme("http").host(server.getHostName()).port(server.getPort()).build())
+        .build()));
+    PrecedentApiClient client = new PrecedentApiClient(
+        LawOpenDataProperties.builder().oc("test").requestCoalescing(false).build(),
+        new ObjectMapper(), builder.build());
+    return PrecedentSyncEngine.builder()
+        .client(client)
+        .stateFile(stateFile)
+        .listRequest(PrecedentListRequest.builder().display(2).build())
+        .maxConcurrency(maxConcurrency)
+        .build();
+  }
+
+  private static String listBody(int[] precIds, int totalCount) {
+    StringBuilder precs = new StringBuilder();
+    for (int precId : precIds) {
+      if (precs.length() > 0) {
+        precs.append(',');
+      }
+      precs.append("{\"판례일련번호\":\"").append(precId).append("\",\"사건명\":\"사건").append(precId)
+          .append("\",\"선고일자\":\"").append(dotted(DateInts.today())).append("\",\"데이터출처명\":\"대법원\"}");
+    }
+    return "{\"PrecSearch\":{\"totalCnt\":\"" + totalCount + "\",\"prec\":[" + precs + "]}}";
+  }
+
+  /** 목록 응답의 선고일자 형식 (yyyy.MM.dd) */
+  private static String dotted(int yyyymmdd) {
+    return String.format("%04d.%02d.%02d", yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100);
+  }
+}
@@ -1,11 +1,15 @@
 package kr.go.law.statute.api;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
@@ -229,6 +233,54 @@ class StatuteApiClientIntegrationTest {
     System.out.println("######## END 본문 테스트 (시행일자) ########");
   }
 
+  @Test
+  @Order(4)
+  void testContentAsync_withSampledKeys() {
+    ensureSamplesExist();
+
+    System.out.println("========== 법령 본문 비동기 테스트 (공포일자 기준) ==========\n");
+
+    ExecutorService parseExecutor = Executors.newFixedThreadPool(2);
+    try {
+      List<CompletableFuture<ContentApiResult<StatuteContentDto>>> futures = new ArrayList<>();
+      for (ContentSample sample : samples) {
+        StatuteContentRequest request = StatuteContentRequest.builder()
+            .mst(sample.mst())
+            .build();
+        futures.add(client.getContentAsync(request, parseExecutor));
+      }
+
+      int successCount = 0;
+      int errorCount = 0;
+      for (int i = 0; i < futures.size(); i++) {
+        ContentApiResult<StatuteContentDto> result = futures.get(i).join();
+        assertNotNull(result);
+        if (result.hasError()) {
+          System.out.printf("mst=%d -> API 에러 발생%n", samples.get(i).mst());
+          errorCount++;
+        } else if (result.content().isPresent()) {
+          successCount++;
+
+          // 같은 요청의 동기 조회 결과와 본문이 같아야 함
+          ContentApiResult<StatuteContentDto> syncResult = client.getContent(StatuteContentRequest.builder()
+              .mst(samples.get(i).mst())
+              .build());
+          if (!syncResult.hasError()) {
+            assertEquals(syncResult.content(), result.content(),
+                "async/sync content mismatch: mst=" + samples.get(i).mst());
+          }
+        }
+      }
+
+      System.out.printf("%n######## 본문 비동기 테스트 완료 ########%n");
+      System.out.printf("요청=%d, 성공=%d, API에러=%d%n", futures.size(), successCount, errorCount);
+      System.out.println("######## END 본문 비동기 테스트 ########");
+      assertTrue(successCount > 0, "no successful async content result");
+    } finally {
+      parseExecutor.shutdown();
+    }
+  }
+
   /** unexpected 필드 감지 및 수집 */
   private void checkUnexpectedFields(List<StatuteListDto> items) {
     for (StatuteListDto item : items) {
@@ -0,0 +1,143 @@
+package kr.go.law.statute.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ContentApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.dto.ArticleContentDto;
+import kr.go.law.statute.dto.StatuteContentDto;
+import kr.go.law.statute.request.StatuteContentRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class StatuteApiClientTest {
+
+  /** 편장 제목(전문), 제1조, 제1조의2, 제2조(가지번호 없음) 순의 조문단위 */
+  private static final String CONTENT_JSON = "{\"법령\":{\"조문\":{\"조문단위\":["
+      + unit("\"조문번호\":\"1\",\"조문여부\":\"전문\",\"조문내용\":\"제1장 총칙\"")
+      + "," + unit("\"조문번호\":\"1\",\"조문여부\":\"조문\",\"조문제목\":\"목적\",\"조문내용\":\"제1조(목적)\"")
+      + "," + unit("\"조문번호\":\"1\",\"조문가지번호\":\"2\",\"조문여부\":\"조문\",\"조문제목\":\"정의\","
+          + "\"조문내용\":\"제1조의2(정의)\"")
+      + "," + unit("\"조문번호\":\"2\",\"조문여부\":\"조문\",\"조문제목\":\"적용 범위\",\"조문내용\":\"제2조(적용 범위)\"")
+      + "]}}}";
+
+  private MockWebServer server;
+
+  private static String unit(String fields) {
+    return "{" + fields + ",\"조문키\":\"0001000\",\"조문시행일자\":\"20240101\",\"조문변경여부\":\"N\"}";
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse().setBody(CONTENT_JSON);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void getArticle_sendsJoAndSkipsHeadingUnits() throws InterruptedException {
+    ArticleContentDto article = client(LawOpenDataProperties.builder().oc("test"))
+        .getArticle(253527, 1, 0).content().orElseThrow();
+
+    assertEquals("제1조(목적)", article.getContent());
+    assertEquals("조문", article.getType());
+    RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+    assertEquals("000100", request.getRequestUrl().queryParameter("JO"));
+    assertEquals("253527", request.getRequestUrl().queryParameter("MST"));
+  }
+
+  @Test
+  void getArticle_matchesBranchNumber() throws InterruptedException {
+    StatuteApiClient client = client(LawOpenDataProperties.builder().oc("test"));
+
+    assertEquals("제1조의2(정의)", client.getArticle(1, 1, 2).content().orElseThrow().getContent());
+    assertEquals("000102", server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("JO"));
+    // 조문가지번호가 없는 조문단위는 가지번호 0으로 간주
+    assertEquals("제2조(적용 범위)", client.getArticle(1, 2, 0).content().orElseThrow().getContent());
+    assertTrue(client.getArticle(1, 2, 1).content().isEmpty());
+  }
+
+  @Test
+  void getArticle_missingArticleYieldsEmptyContent() {
+    ContentApiResult<ArticleContentDto> result = client(LawOpenDataProperties.builder().oc("test"))
+        .getArticle(1, 99, 0);
+
+    assertFalse(result.hasError());
+    assertTrue(result.content().isEmpty());
+  }
+
+  @Test
+  void getArticle_rejectsInvalidArticleNumber() {
+    StatuteApiClient client = client(LawOpenDataProperties.builder().oc("test"));
+
+    assertThrows(IllegalArgumentException.class, () -> client.getArticle(1, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> client.getArticle(1, 1, 100));
+    assertEquals(0, server.getRequestCount());
+  }
+
+  @Test
+  void getArticleByEfYdAsync_sendsEfYdAndJo() throws InterruptedException {
+    ArticleContentDto article = client(LawOpenDataProperties.builder().oc("test"))
+        .getArticleByEfYdAsync(1, 20240101, 1, 2)
+        .orTimeout(5, TimeUnit.SECONDS).join()
+        .content().orElseThrow();
+
+    assertEquals("제1조의2(정의)", article.getContent());
+    RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+    assertEquals("eflaw", request.getRequestUrl().queryParameter("target"));
+    assertEquals("20240101", request.getRequestUrl().queryParameter("efYd"));
+    assertEquals("000102", request.getRequestUrl().queryParameter("JO"));
+  }
+
+  @Test
+  void getArticle_cachedPerArticleAndSeparateFromContent() {
+    StatuteApiClient client = client(LawOpenDataProperties.builder().oc("test").cacheMaxBytes(1024 * 1024));
+    StatuteContentRequest sameUrl = StatuteContentRequest.builder().mst(1).jo(100).build();
+
+    assertEquals("제1조(목적)", client.getArticle(1, 1, 0).content().orElseThrow().getContent());
+    assertEquals("제1조의2(정의)", client.getArticle(1, 1, 2).content().orElseThrow().getContent());
+    // 요청 URL이 같아도 본문 조회 결과는 조문 캐시와 별도로 저장됨
+    ContentApiResult<StatuteContentDto> content = client.getContent(sameUrl);
+    assertFalse(content.hasError());
+    assertEquals(3, server.getRequestCount());
+
+    assertEquals("제1조(목적)", client.getArticle(1, 1, 0).content().orElseThrow().getContent());
+    assertEquals("제1조의2(정의)", client.getArticleAsync(1, 1, 2).join().content().orElseThrow().getContent());
+    assertFalse(client.getContent(sameUrl).hasError());
+    assertEquals(3, server.getRequestCount());
+  }
+
+  private StatuteApiClient client(LawOpenDataProperties.LawOpenDataPropertiesBuilder properties) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder().scheme("http").host(server.getHostName())
+            .port(server.getPort()).build())
+        .build()));
+    return new StatuteApiClient(properties.build(), new ObjectMapper(), builder.build());
+  }
+}
@@ -0,0 +1,151 @@
+package kr.go.law.statute.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.store.JsonFileStore;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.request.StatuteListRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class StatuteCorpusCrawlerTest {
+
+  private static final int EF_YD = 20240101;
+
+  @TempDir
+  Path tempDir;
+
+  private MockWebServer server;
+  private final Map<String, AtomicInteger> contentCalls = new ConcurrentHashMap<>();
+  /** 목록 페이지 수 (2페이지 이후는 실패 응답) */
+  private volatile int listPages = 2;
+  /** 본문 응답 지연 */
+  private volatile long contentDelayMillis;
+  /** 오류로 응답할 본문 MST */
+  private volatile String failingMst = "";
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (request.getRequestUrl().encodedPath().endsWith(LawOpenDataProperties.LIST_PATH)) {
+          int page = Integer.parseInt(request.getRequestUrl().queryParameter("page"));
+          if (page > listPages) {
+            return new MockResponse().setResponseCode(500);
+          }
+          // 페이지당 2건, 전체 2페이지 (1페이지: 1, 2 / 2페이지: 3, 4)
+          return new MockResponse().setBody(listBody(page * 2 - 1, page * 2));
+        }
+        String mst = request.getRequestUrl().queryParameter("MST");
+        contentCalls.computeIfAbsent(mst, k -> new AtomicInteger()).incrementAndGet();
+        if (mst.equals(failingMst)) {
+          return new MockResponse().setResponseCode(404);
+        }
+        return new MockResponse().setBody("{\"법령\":{}}")
+            .setBodyDelay(contentDelayMillis, TimeUnit.MILLISECONDS);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void previousFailure_isFetchedOnceEvenIfListedAgain() throws Exception {
+    // 재조회가 끝나기 전에 같은 본문이 있는 1페이지를 처리하도록 지연
+    contentDelayMillis = 200;
+    Path file = tempDir.resolve("checkpoint.json");
+    StatuteCrawlCheckpoint seed = new StatuteCrawlCheckpoint();
+    seed.markContentFailed(StatuteCrawlCheckpoint.key(1, EF_YD),
+        new StatuteCrawlCheckpoint.Failure(1, EF_YD, "법령1", "timeout"));
+    new JsonFileStore<>(file, StatuteCrawlCheckpoint.class, new ObjectMapper()).save(seed);
+
+    CrawlProgress progress = crawler(file).run(content -> {});
+
+    assertEquals(1, contentCalls.get("1").get());
+    assertEquals(4, progress.contentsDone());
+    assertEquals(0, progress.failures());
+    assertEquals(2, progress.pagesDone());
+  }
+
+  @Test
+  void fetchedThisRun_countsSuccessesOnly() throws Exception {
+    failingMst = "2";
+
+    CrawlProgress progress = crawler(tempDir.resolve("checkpoint.json")).run(content -> {});
+
+    assertEquals(3, progress.contentsDone());
+    assertEquals(1, progress.failures());
+    assertEquals(3, progress.fetchedThisRun());
+  }
+
+  @Test
+  void listFailure_savesInFlightContentsBeforeThrowing() {
+    listPages = 1;
+    contentDelayMillis = 300;
+    Path file = tempDir.resolve("checkpoint.json");
+    StatuteCorpusCrawler crawler = crawler(file);
+
+    assertThrows(CrawlException.class, () -> crawler.run(content -> {}));
+
+    StatuteCrawlCheckpoint saved = crawler.loadCheckpoint();
+    assertTrue(saved.getContentsDone().contains(StatuteCrawlCheckpoint.key(1, EF_YD)));
+    assertTrue(saved.getContentsDone().contains(StatuteCrawlCheckpoint.key(2, EF_YD)));
+    assertTrue(saved.getPagesDone().contains(1));
+  }
+
+  private StatuteCorpusCrawler crawler(Path checkpointFile) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder()
+            .scheme("http").host(server.getHostName()).port(server.getPort()).build())
+        .build()));
+    // 요청 병합이 중복 조회를 가리지 않도록 끔
+    StatuteApiClient client = new StatuteApiClient(
+        LawOpenDataProperties.builder().oc("test").requestCoalescing(false).build(),
+        new ObjectMapper(), builder.build());
+    return StatuteCorpusCrawler.builder()
+        .client(client)
+        .checkpointFile(checkpointFile)
+        .listRequest(StatuteListRequest.builder().display(2).build())
+        .maxConcurrency(4)
+        .build();
+  }
+
+  private static String listBody(int... msts) {
+    StringBuilder laws = new StringBuilder();
+    for (int mst : msts) {
+      if (laws.length() > 0) {
+        laws.append(',');
+      }
+      laws.append("{\"법령일련번호\":\"").append(mst).append("\",\"법령명한글\":\"법령").append(mst)
+          .append("\",\"시행일자\":\"").append(EF_YD).append("\"}");
+    }
+    return "{\"LawSearch\":{\"totalCnt\":\"4\",\"page\":\"1\",\"law\":[" + laws + "]}}";
+  }
+}
@@ -0,0 +1,175 @@
+package kr.go.law.statute.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.common.response.ListApiResult;
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteHistoryDto;
+import kr.go.law.statute.request.StatuteHistoryRequest;
+import okhttp3.OkHttpClient;
+
+class StatuteHistoryCrawlerTest {
+
+  /** 페이지당 항목 수 (lsJoHstInf 고정값) */
+  private static final int DISPLAY = 20;
+
+  /** 조회 요청을 기록하고 개정일별로 정해 둔 Future를 돌려주는 클라이언트 */
+  private static class FakeClient extends StatuteApiClient {
+
+    /** "regDt:page" 형식의 요청 기록 */
+    final List<String> requests = new CopyOnWriteArrayList<>();
+    /** 개정일 → 1페이지 응답 (없으면 항목 없는 응답) */
+    final Map<Integer, CompletableFuture<ListApiResult<StatuteHistoryDto>>> firstPages = new ConcurrentHashMap<>();
+    /** 개정일 → 전체 건수 (2페이지 이후 응답에 사용) */
+    final Map<Integer, Integer> totals = new ConcurrentHashMap<>();
+
+    FakeClient() {
+      super(LawOpenDataProperties.builder().oc("test").build(), new ObjectMapper(), new OkHttpClient());
+    }
+
+    @Override
+    public CompletableFuture<ListApiResult<StatuteHistoryDto>> searchHistoryAsync(StatuteHistoryRequest request) {
+      int regDt = request.getRegDt();
+      int page = request.getPage();
+      requests.add(regDt + ":" + page);
+      if (page == 1) {
+        return firstPages.getOrDefault(regDt, CompletableFuture.completedFuture(page(regDt, 1, 0)));
+      }
+      return CompletableFuture.completedFuture(page(regDt, page, totals.getOrDefault(regDt, 0)));
+    }
+
+    /** 개정일의 1페이지 응답을 totalCount 기준으로 지정 */
+    CompletableFuture<ListApiResult<StatuteHistoryDto>> respond(int regDt, int totalCount) {
+      totals.put(regDt, totalCount);
+      CompletableFuture<ListApiResult<StatuteHistoryDto>> future = new CompletableFuture<>();
+      firstPages.put(regDt, future);
+      return future;
+    }
+  }
+
+  /** 페이지 항목의 lsId는 regDt × 100 + 순번 */
+  private static ListApiResult<StatuteHistoryDto> page(int regDt, int page, int totalCount) {
+    List<StatuteHistoryDto> items = new ArrayList<>();
+    int from = (page - 1) * DISPLAY;
+    for (int i = from; i < Math.min(totalCount, from + DISPLAY); i++) {
+      items.add(StatuteHistoryDto.builder().lsId(regDt * 100 + i).build());
+    }
+    return ListApiResult.of(null, items, totalCount, page, DISPLAY);
+  }
+
+  private static StatuteHistoryCrawler crawler(FakeClient client, int shardPrefetch) {
+    return StatuteHistoryCrawler.builder()
+        .client(client)
+        .maxConcurrency(2)
+        .shardPrefetch(shardPrefetch)
+        .build();
+  }
+
+  @Test
+  void shards_requestsNothingUntilConsumed() {
+    FakeClient client = new FakeClient();
+
+    try (Stream<StatuteHistoryShard> shards = crawler(client, 1).shards(20240101, 20240103)) {
+      Iterator<StatuteHistoryShard> iterator = shards.iterator();
+      assertTrue(client.requests.isEmpty());
+
+      assertTrue(iterator.hasNext());
+      assertEquals("20240101:1", client.requests.get(0));
+    }
+  }
+
+  @Test
+  void shards_emittedInDateOrderAcrossMonthEnd() {
+    FakeClient client = new FakeClient();
+    CompletableFuture<ListApiResult<StatuteHistoryDto>> first = client.respond(20240131, 25);
+    // 다음 날 shard가 먼저 완료되어도 날짜 순으로 내보냄
+    client.respond(20240201, 1).complete(page(20240201, 1, 1));
+    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+        .execute(() -> first.complete(page(20240131, 1, 25)));
+
+    List<StatuteHistoryShard> shards;
+    try (Stream<StatuteHistoryShard> stream = crawler(client, 2).shards(20240130, 20240201)) {
+      shards = stream.toList();
+    }
+
+    assertEquals(List.of(20240130, 20240131, 20240201), shards.stream().map(StatuteHistoryShard::regDt).toList());
+    assertEquals(List.of(0, 25, 1), shards.stream().map(StatuteHistoryShard::totalCount).toList());
+    // shard 안의 페이지도 순서대로 합침
+    List<Integer> ids = shards.get(1).items().stream().map(StatuteHistoryDto::getLsId).toList();
+    assertEquals(25, ids.size());
+    assertEquals(2024013100, ids.get(0));
+    assertEquals(2024013124, ids.get(24));
+    assertTrue(client.requests.contains("20240131:2"));
+  }
+
+  @Test
+  void shardsAfter_resumesFromNextDay() {
+    FakeClient client = new FakeClient();
+
+    List<Integer> regDts;
+    try (Stream<StatuteHistoryShard> shards = crawler(client, 1).shardsAfter(20231231, 20240102)) {
+      regDts = shards.map(StatuteHistoryShard::regDt).toList();
+    }
+
+    assertEquals(List.of(20240101, 20240102), regDts);
+    assertFalse(client.requests.stream().anyMatch(r -> r.startsWith("20231231:")));
+  }
+
+  @Test
+  void failedShard_throwsAndCancelsPrefetchedShards() {
+    FakeClient client = new FakeClient();
+    client.respond(20240102, 0).complete(ListApiResult.error(null));
+    // 실패 시점에 조회 중인 shard (나중에 2페이지 분량으로 완료)
+    CompletableFuture<ListApiResult<StatuteHistoryDto>> prefetched = client.respond(20240103, 40);
+
+    Stream<StatuteHistoryShard> shards = crawler(client, 2).shards(20240101, 20240105);
+    Iterator<StatuteHistoryShard> iterator = shards.iterator();
+    assertEquals(20240101, iterator.next().regDt());
+
+    CrawlException e = assertThrows(CrawlException.class, iterator::next);
+    assertTrue(e.getMessage().contains("regDt=20240102"), e.getMessage());
+    assertFalse(iterator.hasNext());
+
+    // 취소된 shard는 1페이지가 완료되어도 나머지 페이지를 조회하지 않음
+    prefetched.complete(page(20240103, 1, 40));
+    assertTrue(client.requests.contains("20240103:1"));
+    assertFalse(client.requests.contains("20240103:2"));
+    assertFalse(client.requests.stream().anyMatch(r -> r.startsWith("20240105:")));
+    shards.close();
+  }
+
+  @Test
+  void close_cancelsPrefetchedShardsAndStopsIteration() {
+    FakeClient client = new FakeClient();
+    CompletableFuture<ListApiResult<StatuteHistoryDto>> prefetched = client.respond(20240102, 40);
+
+    Iterator<StatuteHistoryShard> iterator;
+    try (Stream<StatuteHistoryShard> shards = crawler(client, 1).shards(20240101, 20240110)) {
+      iterator = shards.iterator();
+      assertEquals(20240101, iterator.next().regDt());
+      assertEquals(List.of("20240101:1", "20240102:1"), client.requests);
+    }
+
+    assertFalse(iterator.hasNext());
+    prefetched.complete(page(20240102, 1, 40));
+    assertEquals(List.of("20240101:1", "20240102:1"), client.requests);
+  }
+}
@@ -0,0 +1,39 @@
+package kr.go.law.statute.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IntObjectMapTest {
+
+  @Test
+  void putIfAbsent_keepsFirstValue() {
+    IntObjectMap<String> map = new IntObjectMap<>(2);
+    assertTrue(map.putIfAbsent(0, "zero"));
+    assertTrue(map.putIfAbsent(75000, "first"));
+    assertFalse(map.putIfAbsent(75000, "second"));
+
+    assertEquals("zero", map.get(0));
+    assertEquals("first", map.get(75000));
+    assertNull(map.get(1));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void get_findsEveryKeyAtFullExpectedSize() {
+    int size = 1000;
+    IntObjectMap<Integer> map = new IntObjectMap<>(size);
+    for (int i = 0; i < size; i++) {
+      // 조문 키와 같은 형태 (조문번호 * 100 + 가지번호)
+      assertTrue(map.putIfAbsent(i * 100 + i % 3, i));
+    }
+    for (int i = 0; i < size; i++) {
+      assertEquals(i, map.get(i * 100 + i % 3));
+      assertNull(map.get(i * 100 + 50));
+    }
+    assertEquals(size, map.size());
+  }
+}
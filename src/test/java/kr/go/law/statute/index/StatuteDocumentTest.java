@@ -0,0 +1,85 @@
+package kr.go.law.statute.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kr.go.law.statute.dto.ArticleContentDto;
+import kr.go.law.statute.dto.Hang;
+import kr.go.law.statute.dto.Ho;
+import kr.go.law.statute.dto.Mok;
+import kr.go.law.statute.dto.StatuteContentDto;
+
+class StatuteDocumentTest {
+
+  private final Mok mokGa = Mok.builder().no("가.").content("가목").build();
+  private final Mok mokNa = Mok.builder().no("나.").content("나목").build();
+  private final Ho ho3 = Ho.builder().no("3.").content("제3호").mok(List.of(mokGa, mokNa)).build();
+  private final Ho ho1Branch2 = Ho.builder().no("1의2.").content("제1호의2").build();
+  private final Hang hang2 = Hang.builder().no("②").content("제2항").ho(List.of(ho1Branch2, ho3)).build();
+  private final Hang hang1 = Hang.builder().no("①").content("제1항").build();
+  private final ArticleContentDto article750 = article(750, null, "조문",
+      Hang.builder().no("①").content("제1항").build(), hang2);
+
+  private final Ho unnumberedHo1 = Ho.builder().no("1.").content("항 없는 제1호").build();
+  private final ArticleContentDto article10Branch2 = article(10, 2, "조문",
+      Hang.builder().content("본문").ho(List.of(unnumberedHo1)).build());
+
+  private final ArticleContentDto chapterTitle = article(1, null, "전문");
+  private final ArticleContentDto article1 = article(1, null, "조문", hang1);
+  private final ArticleContentDto duplicate1 = article(1, null, "조문");
+
+  private final StatuteDocument document = StatuteDocument.of(StatuteContentDto.builder()
+      .articles(List.of(chapterTitle, article1, article750, article10Branch2, duplicate1))
+      .build());
+
+  private static ArticleContentDto article(int no, Integer brNo, String type, Hang... hangs) {
+    return ArticleContentDto.builder().no(no).brNo(brNo).type(type).hang(List.of(hangs)).build();
+  }
+
+  @Test
+  void getArticle_indexesArticlesOnlyAndKeepsFirstDuplicate() {
+    assertEquals(3, document.articleCount());
+    assertSame(article1, document.getArticle(1, 0).orElseThrow());
+    assertSame(article750, document.getArticle(750, 0).orElseThrow());
+    assertSame(article10Branch2, document.getArticle(10, 2).orElseThrow());
+    assertTrue(document.getArticle(10, 0).isEmpty());
+    assertTrue(document.getArticle(2, 0).isEmpty());
+  }
+
+  @Test
+  void resolve_walksHangHoMok() {
+    assertSame(article750, document.resolve("제750조").orElseThrow());
+    assertSame(hang2, document.resolve("제750조제2항").orElseThrow());
+    assertSame(ho3, document.resolve("제750조제2항제3호").orElseThrow());
+    assertSame(ho1Branch2, document.resolve("제750조제2항제1호의2").orElseThrow());
+    assertSame(mokNa, document.resolve("제750조제2항제3호나목").orElseThrow());
+  }
+
+  @Test
+  void resolve_hoWithoutHangUsesUnnumberedHang() {
+    assertSame(unnumberedHo1, document.resolve("제10조의2제1호").orElseThrow());
+    assertSame(unnumberedHo1, document.resolve(new StatuteReference(10, 2, 0, 1, 0, '\0')).orElseThrow());
+  }
+
+  @Test
+  void resolve_missingOrMalformedReferenceIsEmpty() {
+    assertTrue(document.resolve("제750조제3항").isEmpty());
+    assertTrue(document.resolve("제750조제2항제9호").isEmpty());
+    assertTrue(document.resolve("제750조제2항제3호다목").isEmpty());
+    assertTrue(document.resolve("제750조제1호").isEmpty());
+    assertTrue(document.resolve("제751조").isEmpty());
+    assertTrue(document.resolve("750조").isEmpty());
+  }
+
+  @Test
+  void of_toleratesMissingArticles() {
+    StatuteDocument empty = StatuteDocument.of(StatuteContentDto.builder().build());
+    assertEquals(0, empty.articleCount());
+    assertTrue(empty.resolve("제1조").isEmpty());
+  }
+}
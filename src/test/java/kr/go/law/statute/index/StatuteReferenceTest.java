@@ -0,0 +1,39 @@
+package kr.go.law.statute.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StatuteReferenceTest {
+
+  @Test
+  void parse_readsEveryUnit() {
+    assertEquals(new StatuteReference(750, 0, 2, 3, 0, '\0'),
+        StatuteReference.parse("제750조제2항제3호").orElseThrow());
+    assertEquals(new StatuteReference(10, 2, 1, 4, 0, '가'),
+        StatuteReference.parse("제10조의2 제1항제4호가목").orElseThrow());
+    assertEquals(new StatuteReference(5, 0, 0, 1, 2, '\0'),
+        StatuteReference.parse("  제 5 조 제 1 호의 2 ").orElseThrow());
+    assertEquals(new StatuteReference(3, 0, 0, 0, 0, '\0'),
+        StatuteReference.parse("제3조").orElseThrow());
+  }
+
+  @Test
+  void parse_rejectsMalformedReference() {
+    assertTrue(StatuteReference.parse(null).isEmpty());
+    assertTrue(StatuteReference.parse("").isEmpty());
+    assertTrue(StatuteReference.parse("750조").isEmpty());
+    assertTrue(StatuteReference.parse("제750조 본문").isEmpty());
+    assertTrue(StatuteReference.parse("제99999999999조").isEmpty());
+  }
+
+  @Test
+  void toString_roundTrips() {
+    for (String reference : new String[] { "제750조제2항제3호", "제10조의2제1항제4호가목", "제5조제1호의2", "제3조" }) {
+      StatuteReference parsed = StatuteReference.parse(reference).orElseThrow();
+      assertEquals(reference, parsed.toString());
+      assertEquals(parsed, StatuteReference.parse(parsed.toString()).orElseThrow());
+    }
+  }
+}
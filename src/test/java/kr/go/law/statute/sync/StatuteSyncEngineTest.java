@@ -0,0 +1,210 @@
+package kr.go.law.statute.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.go.law.config.LawOpenDataProperties;
+import kr.go.law.statute.api.StatuteApiClient;
+import kr.go.law.statute.dto.StatuteHistoryDto;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class StatuteSyncEngineTest {
+
+  @TempDir
+  Path dir;
+
+  private MockWebServer server;
+  /** 개정일 → 조문 개정 이력 응답 항목 */
+  private final Map<String, List<String>> histories = new ConcurrentHashMap<>();
+  /** 본문 조회 실패로 응답할 법령일련번호 */
+  private final Set<String> failingMst = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger contentRequests = new AtomicInteger();
+
+  private static StatuteHistoryDto history(int lsId, String rrClsNm) {
+    return StatuteHistoryDto.builder().lsId(lsId).mst(lsId * 10).rrClsNm(rrClsNm).build();
+  }
+
+  /** 조문 개정 이력 응답의 법령 1건 */
+  private static String law(int lsId, int mst, String rrClsNm) {
+    return "{\"법령정보\":{\"법령ID\":\"" + lsId + "\",\"법령일련번호\":\"" + mst + "\",\"시행일자\":\"20240101\","
+        + "\"법령명한글\":\"법령" + lsId + "\",\"제개정구분명\":\"" + rrClsNm + "\"},\"조문정보\":{\"jo\":[]}}";
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        String target = request.getRequestUrl().queryParameter("target");
+        if ("lsJoHstInf".equals(target)) {
+          List<String> laws = histories.getOrDefault(request.getRequestUrl().queryParameter("regDt"), List.of());
+          return new MockResponse().setBody("{\"LawSearch\":{\"totalCnt\":\"" + laws.size() + "\",\"page\":\"1\","
+              + "\"law\":[" + String.join(",", laws) + "]}}");
+        }
+        contentRequests.incrementAndGet();
+        String mst = request.getRequestUrl().queryParameter("MST");
+        if (failingMst.contains(mst)) {
+          return new MockResponse().setResponseCode(500);
+        }
+        return new MockResponse().setBody("{\"법령\":{\"기본정보\":{\"법령ID\":\"1\",\"법령명_한글\":\"법령" + mst + "\"}}}");
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void unknownLsId_isAddedEvenWithEmptyState() {
+    assertEquals(StatuteSyncEvent.Type.ADDED, StatuteSyncEngine.classify(history(1, "일부개정"), Map.of()));
+    assertEquals(StatuteSyncEvent.Type.ADDED, StatuteSyncEngine.classify(history(1, "일부개정"), Map.of(2, 20)));
+  }
+
+  @Test
+  void knownLsId_isChanged() {
+    assertEquals(StatuteSyncEvent.Type.CHANGED, StatuteSyncEngine.classify(history(1, "일부개정"), Map.of(1, 5)));
+  }
+
+  @Test
+  void enactment_isAddedAndRepeal_isRemoved() {
+    assertEquals(StatuteSyncEvent.Type.ADDED, StatuteSyncEngine.classify(history(1, "제정"), Map.of(1, 5)));
+    assertEquals(StatuteSyncEvent.Type.REMOVED, StatuteSyncEngine.classify(history(1, "폐지"), Map.of(1, 5)));
+    assertEquals(StatuteSyncEvent.Type.REMOVED, StatuteSyncEngine.classify(history(1, "타법폐지"), Map.of()));
+  }
+
+  @Test
+  void sync_skipsSyncedMstAndRecordsRemoval() throws InterruptedException {
+    StatuteSyncEngine engine = engine(4);
+    StatuteSyncState initial = new StatuteSyncState();
+    initial.setLastSyncDate(20240101);
+    initial.getKnownMst().putAll(Map.of(100, 1001, 200, 2000, 300, 3000));
+    saveState(initial);
+
+    histories.put("20240101", List.of(law(100, 1001, "일부개정"), law(200, 2001, "일부개정")));
+    histories.put("20240102", List.of(law(300, 3001, "폐지"), law(400, 4001, "제정")));
+
+    List<StatuteSyncEvent> events = new ArrayList<>();
+    StatuteSyncResult result = engine.sync(20240102, events::add);
+
+    // 이미 반영한 lsId 100(mst 1001)은 본문을 조회하지 않음
+    assertEquals(List.of(200, 300, 400), events.stream().map(StatuteSyncEvent::lsId).toList());
+    assertEquals(List.of(StatuteSyncEvent.Type.CHANGED, StatuteSyncEvent.Type.REMOVED, StatuteSyncEvent.Type.ADDED),
+        events.stream().map(StatuteSyncEvent::type).toList());
+    assertNull(events.get(1).content());
+    assertEquals(2, contentRequests.get());
+    assertEquals(1, result.changed());
+    assertEquals(1, result.removed());
+    assertEquals(1, result.added());
+    assertTrue(result.isComplete());
+
+    StatuteSyncState state = engine.loadState();
+    assertEquals(20240102, state.getLastSyncDate());
+    assertFalse(state.getKnownMst().containsKey(300));
+    assertEquals(3001, state.getRemovedMst().get(300));
+    assertEquals(2001, state.getKnownMst().get(200));
+    assertEquals(4001, state.getKnownMst().get(400));
+
+    // 같은 기간을 다시 확인해도 반영한 변경(폐지 포함)은 건너뜀
+    events.clear();
+    StatuteSyncResult again = engine.sync(20240102, events::add);
+    assertTrue(events.isEmpty());
+    assertEquals(2, contentRequests.get());
+    assertEquals(0, again.added() + again.changed() + again.removed());
+  }
+
+  @Test
+  void sync_failedFetchKeepsLastSyncDate() throws InterruptedException {
+    StatuteSyncEngine engine = engine(2);
+    StatuteSyncState initial = new StatuteSyncState();
+    initial.setLastSyncDate(20240101);
+    saveState(initial);
+    histories.put("20240101", List.of(law(100, 1001, "제정"), law(200, 2001, "제정"), law(300, 3001, "제정")));
+    failingMst.add("2001");
+
+    List<Integer> delivered = new ArrayList<>();
+    StatuteSyncResult result = engine.sync(20240102, event -> delivered.add(event.lsId()));
+
+    assertEquals(List.of(100, 300), delivered);
+    assertEquals(List.of(2001), result.failedMst());
+    assertFalse(result.isComplete());
+    StatuteSyncState state = engine.loadState();
+    assertEquals(20240101, state.getLastSyncDate());
+    assertEquals(Map.of(100, 1001, 300, 3001), state.getKnownMst());
+
+    // 다음 실행에서 실패한 법령만 다시 조회
+    failingMst.clear();
+    delivered.clear();
+    assertTrue(engine.sync(20240102, event -> delivered.add(event.lsId())).isComplete());
+    assertEquals(List.of(200), delivered);
+    assertEquals(20240102, engine.loadState().getLastSyncDate());
+  }
+
+  @Test
+  void sync_keepsAtMostWindowBodiesAhead() throws InterruptedException {
+    int window = 2;
+    StatuteSyncEngine engine = engine(window);
+    List<String> laws = new ArrayList<>();
+    for (int lsId = 1; lsId <= 8; lsId++) {
+      laws.add(law(lsId, lsId * 10, "제정"));
+    }
+    histories.put("20240101", laws);
+
+    List<Integer> requestedAtEvent = new ArrayList<>();
+    engine.sync(20240101, event -> requestedAtEvent.add(contentRequests.get()));
+
+    assertEquals(8, requestedAtEvent.size());
+    for (int i = 0; i < requestedAtEvent.size(); i++) {
+      // i번째 이벤트 전달 시점에 시작한 본문 조회는 이미 전달한 i건 + window건 이하
+      assertTrue(requestedAtEvent.get(i) <= i + window, "event " + i + ": " + requestedAtEvent);
+    }
+  }
+
+  private StatuteSyncEngine engine(int maxConcurrency) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    builder.interceptors().add(chain -> chain.proceed(chain.request().newBuilder()
+        .url(chain.request().url().newBuilder().scheme("http").host(server.getHostName())
+            .port(server.getPort()).build())
+        .build()));
+    StatuteApiClient client = new StatuteApiClient(LawOpenDataProperties.builder().oc("test").build(),
+        new ObjectMapper(), builder.build());
+    return StatuteSyncEngine.builder()
+        .client(client)
+        .stateFile(dir.resolve("statute-sync.json"))
+        .maxConcurrency(maxConcurrency)
+        .build();
+  }
+
+  private void saveState(StatuteSyncState state) {
+    try {
+      new ObjectMapper().writeValue(dir.resolve("statute-sync.json").toFile(), state);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}